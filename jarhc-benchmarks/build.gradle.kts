@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    java
+}
+
+// project settings ------------------------------------------------------------
+
+description = "JarHC Benchmarks"
+
+// special settings for IntelliJ IDEA
+idea {
+    module {
+        sourceDirs = mutableSetOf(
+            file("src/main/java")
+        )
+        isDownloadJavadoc = true
+        isDownloadSources = true
+    }
+}
+
+// configuration properties ----------------------------------------------------
+
+// regular expression to select benchmarks (default: all benchmarks)
+// command line option: -Pjmh.include=ClassDefLoaderBenchmark
+val jmhInclude = providers.gradleProperty("jmh.include").getOrElse(".*")
+
+// additional JMH command line options
+// command line option: -Pjmh.args="-f 1 -wi 2 -i 3"
+val jmhArgs = providers.gradleProperty("jmh.args").getOrElse("")
+
+// constants -------------------------------------------------------------------
+
+// JMH results (JSON format)
+val jmhResultsPath: String = "${layout.buildDirectory.get()}/reports/jmh/results.json"
+
+// dependencies ----------------------------------------------------------------
+
+dependencies {
+
+    implementation(project(":jarhc"))
+    implementation(libs.asm)
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+    runtimeOnly(libs.slf4j.simple)
+
+}
+
+// plugin configurations -------------------------------------------------------
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(11))
+    }
+}
+
+// tasks -----------------------------------------------------------------------
+
+tasks {
+
+    register("jmh", type = JavaExec::class) {
+        group = "verification"
+        description = "Runs the JMH benchmarks and writes the results to build/reports/jmh/results.json."
+
+        // never consider benchmark results to be up-to-date
+        outputs.upToDateWhen { false }
+
+        mainClass.set("org.openjdk.jmh.Main")
+        classpath = sourceSets["main"].runtimeClasspath
+
+        // run benchmarks with the same Java version as the tests
+        javaLauncher.set(javaToolchains.launcherFor(java.toolchain))
+
+        doFirst {
+            file(jmhResultsPath).parentFile.mkdirs()
+        }
+
+        // arguments: <benchmarks> -rf json -rff <results file> [additional options]
+        args(jmhInclude, "-rf", "json", "-rff", jmhResultsPath)
+        if (jmhArgs.isNotBlank()) {
+            args(jmhArgs.trim().split(Regex("\\s+")))
+        }
+    }
+
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "ASCII"
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jarhc.analyzer.Analyzer;
+import org.jarhc.analyzer.AnalyzerRegistry;
+import org.jarhc.model.Classpath;
+import org.jarhc.report.ReportSection;
+import org.jarhc.utils.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of {@link Analyzer#analyze(Classpath)} for every analyzer.
+ * <p>
+ * Analyzers cache information in the classpath (for example, resolved
+ * fields and methods). To measure a cold analysis like in a normal scan,
+ * a new classpath is loaded before every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyzerBenchmark {
+
+	/**
+	 * Analyzer code (see {@link AnalyzerRegistry}).
+	 */
+	@Param({ "jf", "v", "d", "dc", "bc", "bl", "jm", "m", "ob", "jr" })
+	private String code;
+
+	private File directory;
+	private List<File> files;
+	private Analyzer analyzer;
+	private Classpath classpath;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = BenchmarkData.createTempDirectory();
+		files = BenchmarkData.createJarFiles(directory);
+		AnalyzerRegistry registry = new AnalyzerRegistry(BenchmarkData.createInjector());
+		analyzer = registry.createAnalyzer(code);
+	}
+
+	@Setup(Level.Invocation)
+	public void loadClasspath() {
+		classpath = BenchmarkData.loadClasspath(files);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		FileUtils.delete(directory);
+	}
+
+	@Benchmark
+	public ReportSection analyze() {
+		return analyzer.analyze(classpath);
+	}
+
+}
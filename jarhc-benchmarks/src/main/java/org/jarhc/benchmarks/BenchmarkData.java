@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import org.jarhc.app.Options;
+import org.jarhc.artifacts.Artifact;
+import org.jarhc.artifacts.ArtifactVersion;
+import org.jarhc.artifacts.Repository;
+import org.jarhc.artifacts.VulnerabilityFinder;
+import org.jarhc.env.DefaultJavaRuntime;
+import org.jarhc.env.JavaRuntime;
+import org.jarhc.inject.Injector;
+import org.jarhc.loader.LoaderBuilder;
+import org.jarhc.model.Classpath;
+import org.jarhc.pom.Dependency;
+import org.jarhc.utils.FileUtils;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Test data for benchmarks.
+ * <p>
+ * All JAR files and class files are generated with ASM, so that benchmarks
+ * do not depend on network access or on the content of a local Maven
+ * repository. The generated classes extend each other, implement a JDK
+ * interface, and access fields and methods of classes in another JAR file.
+ * A few references are intentionally broken and one class is packaged in
+ * both JAR files, so that most analyzers find something to report.
+ */
+final class BenchmarkData {
+
+	/**
+	 * Number of classes in every generated JAR file.
+	 */
+	static final int CLASS_COUNT = 200;
+
+	private static final String LIBRARY_PACKAGE = "org/example/lib";
+	private static final String APPLICATION_PACKAGE = "org/example/app";
+
+	/**
+	 * Every n-th class contains a reference to a method which does not exist.
+	 */
+	private static final int BROKEN_REFERENCE_INTERVAL = 50;
+
+	/**
+	 * Java runtime shared by all benchmarks (like in a normal scan,
+	 * class definitions of the Java runtime are loaded only once).
+	 */
+	private static final JavaRuntime javaRuntime = new DefaultJavaRuntime(LoggerFactory.getLogger(DefaultJavaRuntime.class));
+
+	private BenchmarkData() {
+		throw new IllegalStateException("utility class");
+	}
+
+	static JavaRuntime getJavaRuntime() {
+		return javaRuntime;
+	}
+
+	/**
+	 * Create a new temporary directory.
+	 *
+	 * @return Temporary directory
+	 */
+	static File createTempDirectory() {
+		File directory = new File(FileUtils.createTempDirectory("jarhc-benchmarks-"));
+		if (!directory.mkdirs()) {
+			throw new IllegalStateException("Unable to create directory: " + directory.getAbsolutePath());
+		}
+		return directory;
+	}
+
+	/**
+	 * Create a library JAR file and an application JAR file
+	 * (depending on the library) in the given directory.
+	 *
+	 * @param directory Target directory
+	 * @return JAR files
+	 * @throws IOException If a JAR file cannot be written.
+	 */
+	static List<File> createJarFiles(File directory) throws IOException {
+
+		File libraryJarFile = new File(directory, "library.jar");
+		Map<String, byte[]> libraryClassFiles = createClassFiles(LIBRARY_PACKAGE, null);
+		writeJarFile(libraryJarFile, "org.example.lib", libraryClassFiles);
+
+		// application classes use library classes,
+		// and the first library class is also packaged in the application JAR file
+		File applicationJarFile = new File(directory, "application.jar");
+		Map<String, byte[]> applicationClassFiles = createClassFiles(APPLICATION_PACKAGE, LIBRARY_PACKAGE);
+		String duplicateClassName = LIBRARY_PACKAGE + "/C0";
+		applicationClassFiles.put(duplicateClassName, libraryClassFiles.get(duplicateClassName));
+		writeJarFile(applicationJarFile, "org.example.app", applicationClassFiles);
+
+		return List.of(libraryJarFile, applicationJarFile);
+	}
+
+	/**
+	 * Load a classpath with the given JAR files.
+	 *
+	 * @param files JAR files
+	 * @return Classpath
+	 */
+	static Classpath loadClasspath(List<File> files) {
+		return LoaderBuilder.create()
+				.withParentClassLoader(javaRuntime)
+				.buildClasspathLoader()
+				.load(files);
+	}
+
+	/**
+	 * Create an injector with bindings for all dependencies of analyzers and
+	 * report formats. Artifacts and vulnerabilities are never found, so that
+	 * no network access is needed.
+	 *
+	 * @return Injector
+	 */
+	static Injector createInjector() {
+		Injector injector = new Injector();
+		injector.addBinding(Options.class, new Options());
+		injector.addBinding(JavaRuntime.class, javaRuntime);
+		injector.addBinding(Repository.class, new OfflineRepository());
+		injector.addBinding(VulnerabilityFinder.class, artifact -> Collections.emptyList());
+		return injector;
+	}
+
+	/**
+	 * Create class files for a JAR file.
+	 *
+	 * @param packageName           Package name (internal format)
+	 * @param dependencyPackageName Package name of used classes in another JAR file,
+	 *                              or <code>null</code> if classes use only JDK classes.
+	 * @return Class files, by class name (internal format)
+	 */
+	static Map<String, byte[]> createClassFiles(String packageName, String dependencyPackageName) {
+		Map<String, byte[]> classFiles = new LinkedHashMap<>();
+		for (int i = 0; i < CLASS_COUNT; i++) {
+			String className = packageName + "/C" + i;
+			String superName = i == 0 ? "java/lang/Object" : packageName + "/C" + (i - 1);
+			String dependencyClassName = dependencyPackageName != null ? dependencyPackageName + "/C" + i : null;
+			boolean brokenReference = dependencyPackageName != null && i % BROKEN_REFERENCE_INTERVAL == 0;
+			classFiles.put(className, createClassFile(className, superName, dependencyClassName, brokenReference));
+		}
+		return classFiles;
+	}
+
+	private static byte[] createClassFile(String className, String superName, String dependencyClassName, boolean brokenReference) {
+
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V11, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, className, null, superName, new String[] { "java/lang/Runnable" });
+		writer.visitField(Opcodes.ACC_PRIVATE, "value", "I", null, null).visitEnd();
+		writer.visitField(Opcodes.ACC_PROTECTED, "name", "Ljava/lang/String;", null, null).visitEnd();
+		writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "items", "Ljava/util/List;", null, null).visitEnd();
+
+		// constructor
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		method.visitCode();
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false);
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		// static method: public static int compute(int)
+		method = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "compute", "(I)I", null, null);
+		method.visitCode();
+		method.visitVarInsn(Opcodes.ILOAD, 0);
+		method.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "abs", "(I)I", false);
+		method.visitInsn(Opcodes.IRETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		// instance method: public void run()
+		method = writer.visitMethod(Opcodes.ACC_PUBLIC, "run", "()V", null, null);
+		method.visitCode();
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitFieldInsn(Opcodes.GETFIELD, className, "name", "Ljava/lang/String;");
+		method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "length", "()I", false);
+		method.visitMethodInsn(Opcodes.INVOKESTATIC, className, "compute", "(I)I", false);
+		method.visitFieldInsn(Opcodes.PUTFIELD, className, "value", "I");
+		method.visitFieldInsn(Opcodes.GETSTATIC, className, "items", "Ljava/util/List;");
+		method.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "size", "()I", true);
+		method.visitInsn(Opcodes.POP);
+		if (dependencyClassName != null) {
+			method.visitTypeInsn(Opcodes.NEW, dependencyClassName);
+			method.visitInsn(Opcodes.DUP);
+			method.visitMethodInsn(Opcodes.INVOKESPECIAL, dependencyClassName, "<init>", "()V", false);
+			method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, dependencyClassName, "run", "()V", false);
+			method.visitFieldInsn(Opcodes.GETSTATIC, dependencyClassName, "items", "Ljava/util/List;");
+			method.visitInsn(Opcodes.POP);
+			method.visitIntInsn(Opcodes.BIPUSH, 42);
+			method.visitMethodInsn(Opcodes.INVOKESTATIC, dependencyClassName, "compute", "(I)I", false);
+			method.visitInsn(Opcodes.POP);
+			if (brokenReference) {
+				method.visitMethodInsn(Opcodes.INVOKESTATIC, dependencyClassName, "missing", "()V", false);
+			}
+		}
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	private static void writeJarFile(File file, String moduleName, Map<String, byte[]> classFiles) throws IOException {
+
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Automatic-Module-Name", moduleName);
+
+		try (JarOutputStream stream = new JarOutputStream(new FileOutputStream(file), manifest)) {
+			for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+				stream.putNextEntry(new JarEntry(entry.getKey() + ".class"));
+				stream.write(entry.getValue());
+				stream.closeEntry();
+			}
+		}
+	}
+
+	/**
+	 * Repository without any artifacts.
+	 */
+	private static class OfflineRepository implements Repository {
+
+		@Override
+		public List<Artifact> findArtifacts(String checksum) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Optional<InputStream> downloadArtifact(Artifact artifact) {
+			return Optional.empty();
+		}
+
+		@Override
+		public List<ArtifactVersion> getVersions(String groupId, String artifactId) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<Dependency> getDependencies(Artifact artifact) {
+			return Collections.emptyList();
+		}
+
+	}
+
+}
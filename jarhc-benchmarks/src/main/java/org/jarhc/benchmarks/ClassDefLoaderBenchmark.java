@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jarhc.loader.ClassDefLoader;
+import org.jarhc.loader.LoaderBuilder;
+import org.jarhc.model.ClassDef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the number of class files parsed by {@link ClassDefLoader} per millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassDefLoaderBenchmark {
+
+	@Param({ "true", "false" })
+	private boolean scanForReferences;
+
+	/**
+	 * Create record components, fields, and methods on first use
+	 * (ignored if classes are scanned for references).
+	 */
+	@Param({ "false", "true" })
+	private boolean lazyMemberDefs;
+
+	private byte[][] classFiles;
+	private ClassDefLoader loader;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		Map<String, byte[]> data = BenchmarkData.createClassFiles("org/example/app", "org/example/lib");
+		classFiles = data.values().toArray(new byte[0][]);
+		loader = LoaderBuilder.create().scanForReferences(scanForReferences).lazyMemberDefs(lazyMemberDefs).buildClassDefLoader();
+	}
+
+	@Benchmark
+	public ClassDef load() {
+		byte[] data = classFiles[index];
+		index = (index + 1) % classFiles.length;
+		return loader.load(data);
+	}
+
+}
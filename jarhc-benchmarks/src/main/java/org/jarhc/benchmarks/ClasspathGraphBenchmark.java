@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.jarhc.java.ClassLoaderStrategy;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.ClassRef;
+import org.jarhc.model.Classpath;
+import org.jarhc.model.ClasspathGraph;
+import org.jarhc.model.JarFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to build a {@link ClasspathGraph} and to query the
+ * transitive dependencies and cycles of all JAR files in a classpath.
+ * The classpath is built in memory with 20 classes per JAR file, and every
+ * class references 5 random classes in the same or in other JAR files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClasspathGraphBenchmark {
+
+	private static final int CLASSES_PER_JAR = 20;
+	private static final int REFERENCES_PER_CLASS = 5;
+
+	/**
+	 * Number of JAR files in the classpath.
+	 */
+	@Param({ "100", "1000" })
+	private int jars;
+
+	private Classpath classpath;
+	private ClasspathGraph graph;
+
+	@Setup
+	public void setUp() {
+
+		Random random = new Random(42);
+		List<JarFile> jarFiles = new ArrayList<>(jars);
+		for (int j = 0; j < jars; j++) {
+			JarFile.Builder builder = JarFile.withName("lib-" + j + ".jar");
+			for (int c = 0; c < CLASSES_PER_JAR; c++) {
+				ClassDef classDef = ClassDef.forClassName("org.example.lib" + j + ".Class" + c);
+				for (int r = 0; r < REFERENCES_PER_CLASS; r++) {
+					// prefer references to classes in the same or in nearby JAR files
+					int target = r == 0 ? random.nextInt(jars) : Math.max(0, j - random.nextInt(10));
+					classDef.addClassRef(new ClassRef("org.example.lib" + target + ".Class" + random.nextInt(CLASSES_PER_JAR)));
+				}
+				builder.withClassDef(classDef);
+			}
+			jarFiles.add(builder.build());
+		}
+		classpath = new Classpath(jarFiles, null, ClassLoaderStrategy.ParentLast);
+		graph = new ClasspathGraph(classpath);
+	}
+
+	@Benchmark
+	public ClasspathGraph build() {
+		return new ClasspathGraph(classpath);
+	}
+
+	@Benchmark
+	public int transitiveUses() {
+		int count = 0;
+		for (JarFile jarFile : classpath.getJarFiles()) {
+			count += graph.getTransitiveUses(jarFile).size();
+		}
+		return count;
+	}
+
+	@Benchmark
+	public List<List<JarFile>> cycles() {
+		return graph.getCycles();
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jarhc.utils.DiffUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of {@link DiffUtils#diff(List, List)} for two lists of
+ * report lines with a few changed, deleted, and inserted lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiffBenchmark {
+
+	/**
+	 * Number of lines in every list.
+	 */
+	@Param({ "1000", "10000", "100000" })
+	private int lines;
+
+	private List<String> lines1;
+	private List<String> lines2;
+
+	@Setup
+	public void setUp() {
+
+		lines1 = new ArrayList<>(lines);
+		lines2 = new ArrayList<>(lines);
+		for (int i = 0; i < lines; i++) {
+			String line = "org.jarhc.benchmark:lib-" + i + ":1.0." + (i % 10) + " (runtime)";
+			lines1.add(line);
+			if (i % 100 == 10) {
+				// changed version
+				lines2.add("org.jarhc.benchmark:lib-" + i + ":2.0.0 (runtime)");
+			} else if (i % 100 == 50) {
+				// deleted line
+				continue;
+			} else {
+				lines2.add(line);
+			}
+			if (i % 100 == 90) {
+				// inserted line
+				lines2.add("org.jarhc.benchmark:new-" + i + ":1.0.0 (compile)");
+			}
+		}
+	}
+
+	@Benchmark
+	public List<String> diff() {
+		return DiffUtils.diff(lines1, lines2);
+	}
+
+}
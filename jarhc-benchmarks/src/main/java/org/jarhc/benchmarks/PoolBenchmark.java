@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.benchmarks;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.jarhc.utils.Pool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures borrowing and returning objects from a {@link Pool}
+ * shared by one or more threads (lock contention).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PoolBenchmark {
+
+	private final Pool<Set<String>> pool = new Pool<>(HashSet::new, Set::clear);
+
+	@Benchmark
+	@Threads(1)
+	public Set<String> borrowAndReturn_1Thread() {
+		return borrowAndReturn();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Set<String> borrowAndReturn_4Threads() {
+		return borrowAndReturn();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Set<String> borrowAndReturn_maxThreads() {
+		return borrowAndReturn();
+	}
+
+	private Set<String> borrowAndReturn() {
+		Set<String> set = pool.doBorrow();
+		set.add("java.lang.Object");
+		pool.doReturn(set);
+		return set;
+	}
+
+}
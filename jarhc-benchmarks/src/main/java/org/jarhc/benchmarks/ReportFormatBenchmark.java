@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jarhc.analyzer.Analysis;
+import org.jarhc.analyzer.Analyzer;
+import org.jarhc.analyzer.AnalyzerRegistry;
+import org.jarhc.inject.Injector;
+import org.jarhc.model.Classpath;
+import org.jarhc.report.Report;
+import org.jarhc.report.ReportFormat;
+import org.jarhc.report.ReportFormatFactory;
+import org.jarhc.utils.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of {@link ReportFormat#format(Report)} for every report format,
+ * using a report with the results of all analyzers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportFormatBenchmark {
+
+	/**
+	 * Report format (see {@link ReportFormatFactory}).
+	 */
+	@Param({ "text", "list", "html", "json" })
+	private String format;
+
+	private ReportFormat reportFormat;
+	private Report report;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		// load classpath
+		File directory = BenchmarkData.createTempDirectory();
+		Classpath classpath;
+		try {
+			List<File> files = BenchmarkData.createJarFiles(directory);
+			classpath = BenchmarkData.loadClasspath(files);
+		} finally {
+			FileUtils.delete(directory);
+		}
+
+		// run all analyzers
+		Injector injector = BenchmarkData.createInjector();
+		AnalyzerRegistry registry = new AnalyzerRegistry(injector);
+		Analyzer[] analyzers = registry.getCodes().stream().map(registry::createAnalyzer).toArray(Analyzer[]::new);
+		report = new Report();
+		report.setTitle("JarHC Benchmark");
+		new Analysis(analyzers).run(classpath, report);
+
+		reportFormat = new ReportFormatFactory(injector).getReportFormat(format);
+	}
+
+	@Benchmark
+	public String format() {
+		return reportFormat.format(report);
+	}
+
+}
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Properties;
 import java.util.logging.Level;
+import org.jarhc.analyzer.IncrementalStateStore;
 import org.jarhc.app.Application;
 import org.jarhc.app.CollectionManager;
 import org.jarhc.app.CollectionManagerImpl;
@@ -31,15 +32,19 @@ import org.jarhc.app.Options.Command;
 import org.jarhc.app.PropertiesManager;
 import org.jarhc.app.PropertiesManagerImpl;
 import org.jarhc.artifacts.ArtifactFinder;
+import org.jarhc.artifacts.CacheFile;
+import org.jarhc.artifacts.CacheFileArtifactFinder;
+import org.jarhc.artifacts.CacheFileVulnerabilityFinder;
 import org.jarhc.artifacts.DepsDevApiArtifactFinder;
 import org.jarhc.artifacts.DepsDevApiVulnerabilityFinder;
-import org.jarhc.artifacts.DiskCacheArtifactFinder;
-import org.jarhc.artifacts.DiskCacheVulnerabilityFinder;
 import org.jarhc.artifacts.MavenRepository;
 import org.jarhc.artifacts.MemoryCacheArtifactFinder;
 import org.jarhc.artifacts.MemoryCacheVulnerabilityFinder;
+import org.jarhc.artifacts.MetadataCacheRepository;
 import org.jarhc.artifacts.Repository;
 import org.jarhc.artifacts.VulnerabilityFinder;
+import org.jarhc.env.RuntimeIndexStore;
+import org.jarhc.loader.JarFileCache;
 import org.jarhc.utils.FileUtils;
 import org.jarhc.utils.JarHcException;
 import org.slf4j.Logger;
@@ -89,11 +94,19 @@ public class Main {
 			// prepare vulnerability finder
 			VulnerabilityFinder vulnerabilityFinder = createVulnerabilityFinder(options);
 
+			// prepare cache for scanned JAR files
+			JarFileCache jarFileCache = createJarFileCache(options);
+
 			// create and run application
 			Logger logger = LoggerFactory.getLogger(Application.class);
 			Application application = new Application(logger);
 			application.setRepository(repository);
 			application.setVulnerabilityFinder(vulnerabilityFinder);
+			application.setJarFileCache(jarFileCache);
+			if (options.isIncremental()) {
+				application.setIncrementalStateStore(createIncrementalStateStore(options));
+			}
+			application.setRuntimeIndexStore(createRuntimeIndexStore(options));
 			exitCode = application.run(options);
 
 		} else if (command == Command.DIFF) {
@@ -195,12 +208,16 @@ public class Main {
 
 		File cacheDir = new File(dataPath, "checksums");
 		ArtifactFinder apiArtifactFinder = new DepsDevApiArtifactFinder();
-		ArtifactFinder diskCacheArtifactFinder = new DiskCacheArtifactFinder(cacheDir, apiArtifactFinder);
-		ArtifactFinder artifactFinder = new MemoryCacheArtifactFinder(diskCacheArtifactFinder);
+		CacheFile cacheFile = new CacheFile(new File(dataPath, "checksums.cache"));
+		ArtifactFinder cacheFileArtifactFinder = new CacheFileArtifactFinder(cacheFile, cacheDir, apiArtifactFinder, options.isOffline(), options.getArtifactsTtlMillis(), options.getArtifactsNegativeTtlMillis(), LoggerFactory.getLogger(CacheFileArtifactFinder.class));
+		ArtifactFinder artifactFinder = new MemoryCacheArtifactFinder(cacheFileArtifactFinder);
 
 		int javaVersion = options.getRelease();
 		Logger mavenRepositoryLogger = LoggerFactory.getLogger(MavenRepository.class);
-		return new MavenRepository(javaVersion, options, dataPath, artifactFinder, mavenRepositoryLogger);
+		Repository mavenRepository = new MavenRepository(javaVersion, options, dataPath, artifactFinder, mavenRepositoryLogger);
+
+		CacheFile metadataCacheFile = new CacheFile(new File(dataPath, "metadata.cache"));
+		return new MetadataCacheRepository(mavenRepository, metadataCacheFile, options.isOffline());
 	}
 
 	private static VulnerabilityFinder createVulnerabilityFinder(Options options) {
@@ -209,8 +226,33 @@ public class Main {
 
 		File cacheDir = new File(dataPath, "vulnerabilities");
 		VulnerabilityFinder apiFinder = new DepsDevApiVulnerabilityFinder();
-		VulnerabilityFinder diskCacheFinder = new DiskCacheVulnerabilityFinder(cacheDir, apiFinder);
-		return new MemoryCacheVulnerabilityFinder(diskCacheFinder);
+		CacheFile cacheFile = new CacheFile(new File(dataPath, "vulnerabilities.cache"));
+		VulnerabilityFinder cacheFileFinder = new CacheFileVulnerabilityFinder(cacheFile, cacheDir, apiFinder, options.isOffline(), options.getVulnerabilitiesTtlMillis(), options.getVulnerabilitiesNegativeTtlMillis(), LoggerFactory.getLogger(CacheFileVulnerabilityFinder.class));
+		return new MemoryCacheVulnerabilityFinder(cacheFileFinder);
+	}
+
+	private static JarFileCache createJarFileCache(Options options) {
+
+		String dataPath = options.getDataPath();
+
+		File cacheDir = new File(dataPath, "jarfiles");
+		return new JarFileCache(cacheDir, JarFileCache.DEFAULT_MAX_SIZE);
+	}
+
+	private static IncrementalStateStore createIncrementalStateStore(Options options) {
+
+		String dataPath = options.getDataPath();
+
+		File stateDir = new File(dataPath, "incremental");
+		return new IncrementalStateStore(stateDir);
+	}
+
+	private static RuntimeIndexStore createRuntimeIndexStore(Options options) {
+
+		String dataPath = options.getDataPath();
+
+		File indexDir = new File(dataPath, "runtime");
+		return new RuntimeIndexStore(indexDir);
 	}
 
 	private static void resolveDataPath(Options options) {
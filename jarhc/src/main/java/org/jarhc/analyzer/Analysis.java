@@ -18,9 +18,9 @@ package org.jarhc.analyzer;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import org.jarhc.model.Classpath;
+import org.jarhc.report.OrderedSections;
 import org.jarhc.report.ReportContainer;
 import org.jarhc.report.ReportSection;
 
@@ -33,17 +33,26 @@ public class Analysis {
 	}
 
 	public void run(Classpath classpath, ReportContainer report) {
+		run(classpath, report, null);
+	}
 
-		// run all analyzers in parallel
-		Map<Analyzer, ReportSection> sections = new ConcurrentHashMap<>();
-		analyzers.parallelStream().forEach(analyzer -> {
-			ReportSection section = analyzer.analyze(classpath);
-			sections.put(analyzer, section);
+	public void run(Classpath classpath, ReportContainer report, IncrementalScan scan) {
+
+		// run all analyzers in parallel,
+		// and add every section to the report as soon as all sections before it are complete
+		// (in the order of the analyzers)
+		OrderedSections sections = new OrderedSections(report, analyzers.size());
+		IntStream.range(0, analyzers.size()).parallel().forEach(index -> {
+			Analyzer analyzer = analyzers.get(index);
+			ReportSection section;
+			if (scan != null && analyzer instanceof IncrementalAnalyzer) {
+				section = ((IncrementalAnalyzer) analyzer).analyze(classpath, scan);
+			} else {
+				section = analyzer.analyze(classpath);
+			}
+			sections.set(index, section);
 		});
 
-		// add all sections to the report (in the order of the analyzers)
-		analyzers.stream().map(sections::get).forEach(report::addSection);
-
 	}
 
 }
@@ -51,7 +51,7 @@ import org.jarhc.utils.Pool;
 import org.jarhc.utils.StringUtils;
 
 @SuppressWarnings("UnnecessaryUnicodeEscape")
-public class BinaryCompatibilityAnalyzer implements Analyzer {
+public class BinaryCompatibilityAnalyzer implements IncrementalAnalyzer {
 
 	// object pools
 	private final Pool<List<MethodDef>> arrayListPool = new Pool<>(ArrayList::new, List::clear);
@@ -75,15 +75,30 @@ public class BinaryCompatibilityAnalyzer implements Analyzer {
 
 	@Override
 	public ReportSection analyze(Classpath classpath) {
+		return analyze(classpath, null);
+	}
+
+	@Override
+	public ReportSection analyze(Classpath classpath, IncrementalScan scan) {
 
-		ReportTable table = buildTable(classpath);
+		ReportTable table = buildTable(classpath, scan);
 
 		ReportSection section = new ReportSection("Binary Compatibility", "Compatibility issues between JAR files.");
 		section.addTable(table);
 		return section;
 	}
 
-	private ReportTable buildTable(Classpath classpath) {
+	/**
+	 * Get the name under which issues of this analyzer are stored in an incremental state.
+	 * The name includes all settings which have an influence on the issues.
+	 */
+	private String getStateName() {
+		return "BinaryCompatibility:" + ignoreMissingAnnotations + ":" + reportOwnerClassNotFound;
+	}
+
+	private ReportTable buildTable(Classpath classpath, IncrementalScan scan) {
+
+		String stateName = getStateName();
 
 		ReportTable table = new ReportTable("Artifact", "Issues");
 
@@ -101,7 +116,20 @@ public class BinaryCompatibilityAnalyzer implements Analyzer {
 
 			// for every class definition ...
 			List<ClassDef> classDefs = jarFile.getClassDefs();
-			classDefs.parallelStream().forEach(classDef -> collectClassIssues(classDef, classpath, accessCheck, jarIssues));
+			classDefs.parallelStream().forEach(classDef -> {
+				String issue;
+				if (scan != null && scan.isReusable(stateName, classDef)) {
+					issue = scan.getPreviousIssue(stateName, classDef);
+				} else {
+					issue = collectClassIssues(classDef, classpath, accessCheck);
+				}
+				if (scan != null) {
+					scan.putIssue(stateName, classDef, issue);
+				}
+				if (issue != null) {
+					jarIssues.add(issue);
+				}
+			});
 
 			if (!jarIssues.isEmpty()) {
 				String lines = joinLines(jarIssues).trim();
@@ -109,6 +137,10 @@ public class BinaryCompatibilityAnalyzer implements Analyzer {
 			}
 		}
 
+		if (scan != null) {
+			scan.setCompleted(stateName);
+		}
+
 		return table;
 	}
 
@@ -192,7 +224,7 @@ public class BinaryCompatibilityAnalyzer implements Analyzer {
 		linkedHashSetPool.doReturn(issues);
 	}
 
-	private void collectClassIssues(ClassDef classDef, Classpath classpath, AccessCheck accessCheck, Set<String> jarIssues) {
+	private String collectClassIssues(ClassDef classDef, Classpath classpath, AccessCheck accessCheck) {
 
 		// issues found in class definition (in order of appearance)
 		Set<String> classIssues = linkedHashSetPool.doBorrow();
@@ -206,12 +238,13 @@ public class BinaryCompatibilityAnalyzer implements Analyzer {
 		validateFieldRefs(classDef, classpath, accessCheck, classIssues);
 		validateAnnotationRefs(classDef, classpath, accessCheck, classIssues);
 
+		String issue = null;
 		if (!classIssues.isEmpty()) {
-			String issue = createParentIssue("" + code(classDef.getClassName()), classIssues);
-			jarIssues.add(issue);
+			issue = createParentIssue("" + code(classDef.getClassName()), classIssues);
 		}
 
 		linkedHashSetPool.doReturn(classIssues);
+		return issue;
 	}
 
 	private void validateClassFile(ClassDef classDef, Set<String> classIssues) {
@@ -22,7 +22,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
@@ -44,17 +47,37 @@ import org.jarhc.report.ReportTable;
 import org.jarhc.utils.JavaUtils;
 import org.jarhc.utils.Markdown;
 import org.jarhc.utils.ResourceUtils;
-import org.jarhc.utils.StringPattern;
+import org.jarhc.utils.StringPatternMatcher;
 import org.jarhc.utils.StringUtils;
 import org.slf4j.Logger;
 
-public class BlacklistAnalyzer implements Analyzer {
+public class BlacklistAnalyzer implements IncrementalAnalyzer {
 
-	private final List<ClassPattern> classPatterns = new ArrayList<>();
-	private final List<MethodPattern> methodPatterns = new ArrayList<>();
-	private final List<FieldPattern> fieldPatterns = new ArrayList<>();
-	private final List<StringPattern> annotationPatterns = new ArrayList<>();
-	private final List<StringPattern> resourcePatterns = new ArrayList<>();
+	/**
+	 * Name under which issues of this analyzer are stored in an incremental state.
+	 */
+	private static final String STATE_NAME = "Blacklist";
+
+	// patterns are compiled into lookup maps and matchers,
+	// so that the time to check a reference does not depend on the number of patterns
+
+	/**
+	 * Names of blacklisted classes.
+	 */
+	private final Set<String> classPatterns = new HashSet<>();
+
+	/**
+	 * Method patterns by method owner (<code>null</code> for any owner).
+	 */
+	private final Map<String, List<MethodPattern>> methodPatterns = new HashMap<>();
+
+	/**
+	 * Field patterns by field owner (<code>null</code> for any owner).
+	 */
+	private final Map<String, List<FieldPattern>> fieldPatterns = new HashMap<>();
+
+	private StringPatternMatcher annotationPatterns = new StringPatternMatcher(List.of(), false);
+	private StringPatternMatcher resourcePatterns = new StringPatternMatcher(List.of(), true);
 
 	public BlacklistAnalyzer(Logger logger) {
 
@@ -73,42 +96,50 @@ public class BlacklistAnalyzer implements Analyzer {
 		// read lines from configuration resource
 		List<String> lines = ResourceUtils.getResourceAsLines(resource, "UTF-8");
 
+		List<String> annotations = new ArrayList<>();
+		List<String> paths = new ArrayList<>();
 		for (String line : lines) {
 			if (line.startsWith("#")) continue; // ignore comments
 			if (line.trim().isEmpty()) continue; // ignore empty lines
 
 			if (line.startsWith("@")) {
 				String annotation = line.substring(1);
-				StringPattern pattern = new StringPattern(annotation, false);
-				annotationPatterns.add(pattern);
+				annotations.add(annotation);
 			} else if (line.startsWith("resource:")) {
 				String path = line.substring(9);
-				StringPattern pattern = new StringPattern(path, true);
-				resourcePatterns.add(pattern);
+				paths.add(path);
 			} else if (line.contains("(")) {
 				MethodPattern pattern = new MethodPattern(line);
-				methodPatterns.add(pattern);
+				methodPatterns.computeIfAbsent(pattern.methodOwner, owner -> new ArrayList<>()).add(pattern);
 			} else if (line.contains(" ")) {
 				FieldPattern pattern = new FieldPattern(line);
-				fieldPatterns.add(pattern);
+				fieldPatterns.computeIfAbsent(pattern.fieldOwner, owner -> new ArrayList<>()).add(pattern);
 			} else {
-				ClassPattern pattern = new ClassPattern(line);
-				classPatterns.add(pattern);
+				// TODO: support wildcard only for short class name
+				classPatterns.add(line);
 			}
 		}
+
+		annotationPatterns = new StringPatternMatcher(annotations, false);
+		resourcePatterns = new StringPatternMatcher(paths, true);
 	}
 
 	@Override
 	public ReportSection analyze(Classpath classpath) {
+		return analyze(classpath, null);
+	}
+
+	@Override
+	public ReportSection analyze(Classpath classpath, IncrementalScan scan) {
 
-		ReportTable table = buildTable(classpath);
+		ReportTable table = buildTable(classpath, scan);
 
 		ReportSection section = new ReportSection("Blacklist", "Use of dangerous, unsafe, unstable, or deprecated classes and methods.");
 		section.addTable(table);
 		return section;
 	}
 
-	private ReportTable buildTable(Classpath classpath) {
+	private ReportTable buildTable(Classpath classpath, IncrementalScan scan) {
 
 		ReportTable table = new ReportTable("Artifact", "Issues");
 
@@ -117,7 +148,7 @@ public class BlacklistAnalyzer implements Analyzer {
 
 			Set<String> jarIssues = Collections.synchronizedSet(new TreeSet<>(TextComparator.INSTANCE));
 
-			validateClassDefs(jarFile, classpath, jarIssues);
+			validateClassDefs(jarFile, classpath, scan, jarIssues);
 			validateResources(jarFile, jarIssues);
 
 			if (!jarIssues.isEmpty()) {
@@ -127,28 +158,45 @@ public class BlacklistAnalyzer implements Analyzer {
 
 		}
 
+		if (scan != null) {
+			scan.setCompleted(STATE_NAME);
+		}
+
 		return table;
 	}
 
-	private void validateClassDefs(JarFile jarFile, final Classpath classpath, final Set<String> jarIssues) {
+	private void validateClassDefs(JarFile jarFile, final Classpath classpath, final IncrementalScan scan, final Set<String> jarIssues) {
 
 		List<ClassDef> classDefs = jarFile.getClassDefs();
-		classDefs.parallelStream().forEach(classDef -> validateClassDef(classDef, classpath, jarIssues));
+		classDefs.parallelStream().forEach(classDef -> {
+			String issue;
+			if (scan != null && scan.isReusable(STATE_NAME, classDef)) {
+				issue = scan.getPreviousIssue(STATE_NAME, classDef);
+			} else {
+				issue = validateClassDef(classDef, classpath);
+			}
+			if (scan != null) {
+				scan.putIssue(STATE_NAME, classDef, issue);
+			}
+			if (issue != null) {
+				jarIssues.add(issue);
+			}
+		});
 
 	}
 
-	private void validateClassDef(ClassDef classDef, Classpath classpath, Set<String> jarIssues) {
+	private String validateClassDef(ClassDef classDef, Classpath classpath) {
 
 		Set<String> classIssues = new TreeSet<>(TextComparator.INSTANCE);
 
 		validateClassDef(classDef, classIssues);
 		validateAnnotations(classDef, classpath, classIssues);
 
-		if (!classIssues.isEmpty()) {
-			String issue = createJarIssue(classDef, classIssues);
-			jarIssues.add(issue);
+		if (classIssues.isEmpty()) {
+			return null;
 		}
 
+		return createJarIssue(classDef, classIssues);
 	}
 
 	private void validateClassDef(ClassDef classDef, Set<String> classIssues) {
@@ -171,14 +219,8 @@ public class BlacklistAnalyzer implements Analyzer {
 		//noinspection ForLoopReplaceableByForEach (performance)
 		for (int i = 0; i < classRefs.size(); i++) {
 			ClassRef classRef = classRefs.get(i);
-
-			//noinspection ForLoopReplaceableByForEach (performance)
-			for (int j = 0; j < classPatterns.size(); j++) {
-				ClassPattern pattern = classPatterns.get(j);
-				if (pattern.matches(classRef)) {
-					classIssues.add(code(classRef.getDisplayName()));
-					break;
-				}
+			if (classPatterns.contains(classRef.getClassName())) {
+				classIssues.add(code(classRef.getDisplayName()));
 			}
 		}
 
@@ -190,14 +232,8 @@ public class BlacklistAnalyzer implements Analyzer {
 		//noinspection ForLoopReplaceableByForEach (performance)
 		for (int i = 0; i < fieldRefs.size(); i++) {
 			FieldRef fieldRef = fieldRefs.get(i);
-
-			//noinspection ForLoopReplaceableByForEach (performance)
-			for (int j = 0; j < fieldPatterns.size(); j++) {
-				FieldPattern pattern = fieldPatterns.get(j);
-				if (pattern.matches(fieldRef)) {
-					classIssues.add(code(fieldRef.getDisplayName()));
-					break;
-				}
+			if (matches(fieldPatterns.get(fieldRef.getFieldOwner()), fieldRef) || matches(fieldPatterns.get(null), fieldRef)) {
+				classIssues.add(code(fieldRef.getDisplayName()));
 			}
 		}
 
@@ -209,17 +245,33 @@ public class BlacklistAnalyzer implements Analyzer {
 		//noinspection ForLoopReplaceableByForEach (performance)
 		for (int i = 0; i < methodRefs.size(); i++) {
 			MethodRef methodRef = methodRefs.get(i);
+			if (matches(methodPatterns.get(methodRef.getMethodOwner()), methodRef) || matches(methodPatterns.get(null), methodRef)) {
+				classIssues.add(code(methodRef.getDisplayName()));
+			}
+		}
+
+	}
 
-			//noinspection ForLoopReplaceableByForEach (performance)
-			for (int j = 0; j < methodPatterns.size(); j++) {
-				MethodPattern pattern = methodPatterns.get(j);
-				if (pattern.matches(methodRef)) {
-					classIssues.add(code(methodRef.getDisplayName()));
-					break;
-				}
+	private static boolean matches(List<FieldPattern> patterns, FieldRef fieldRef) {
+		if (patterns == null) return false;
+		//noinspection ForLoopReplaceableByForEach (performance)
+		for (int i = 0; i < patterns.size(); i++) {
+			if (patterns.get(i).matches(fieldRef)) {
+				return true;
 			}
 		}
+		return false;
+	}
 
+	private static boolean matches(List<MethodPattern> patterns, MethodRef methodRef) {
+		if (patterns == null) return false;
+		//noinspection ForLoopReplaceableByForEach (performance)
+		for (int i = 0; i < patterns.size(); i++) {
+			if (patterns.get(i).matches(methodRef)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private String createJarIssue(ClassDef classDef, Set<String> classIssues) {
@@ -335,14 +387,7 @@ public class BlacklistAnalyzer implements Analyzer {
 	}
 
 	private boolean isUnstableAnnotation(String annotationClassName) {
-		//noinspection ForLoopReplaceableByForEach (performance)
-		for (int i = 0; i < annotationPatterns.size(); i++) {
-			StringPattern pattern = annotationPatterns.get(i);
-			if (pattern.matches(annotationClassName)) {
-				return true;
-			}
-		}
-		return false;
+		return annotationPatterns.matches(annotationClassName);
 	}
 
 	private String createClassIssue(String annotationClassName, Def def) {
@@ -364,33 +409,13 @@ public class BlacklistAnalyzer implements Analyzer {
 			String name = resourceDef.getPath();
 
 			// check if resource matches any pattern ...
-			//noinspection ForLoopReplaceableByForEach (performance)
-			for (int j = 0; j < resourcePatterns.size(); j++) {
-				StringPattern pattern = resourcePatterns.get(j);
-				if (pattern.matches(name)) {
-					jarIssues.add(code(name));
-					break;
-				}
+			if (resourcePatterns.matches(name)) {
+				jarIssues.add(code(name));
 			}
 		}
 
 	}
 
-	private static class ClassPattern {
-
-		private final String className;
-
-		public ClassPattern(String pattern) {
-			this.className = pattern;
-		}
-
-		public boolean matches(ClassRef classRef) {
-			// TODO: support wildcard only for short class name
-			return className.equals(classRef.getClassName());
-		}
-
-	}
-
 	private static class FieldPattern {
 
 		private final String fieldOwner;
@@ -20,9 +20,7 @@ import static org.jarhc.utils.StringUtils.joinLines;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -30,20 +28,15 @@ import org.jarhc.artifacts.Artifact;
 import org.jarhc.artifacts.ArtifactVersion;
 import org.jarhc.artifacts.Repository;
 import org.jarhc.artifacts.RepositoryException;
-import org.jarhc.model.AnnotationRef;
-import org.jarhc.model.ClassDef;
-import org.jarhc.model.ClassRef;
 import org.jarhc.model.Classpath;
-import org.jarhc.model.FieldDef;
+import org.jarhc.model.ClasspathGraph;
 import org.jarhc.model.JarFile;
-import org.jarhc.model.MethodDef;
 import org.jarhc.pom.Dependency;
 import org.jarhc.pom.Scope;
 import org.jarhc.pom.SmartDependencyComparator;
 import org.jarhc.report.ReportSection;
 import org.jarhc.report.ReportTable;
 import org.jarhc.utils.Markdown;
-import org.jarhc.utils.MultiMap;
 import org.jarhc.utils.StringUtils;
 import org.slf4j.Logger;
 
@@ -70,25 +63,22 @@ public class DependenciesAnalyzer implements Analyzer {
 
 	private ReportTable buildTable(Classpath classpath) {
 
-		MultiMap<String, String> usesMap = calculateArtifactDependencies(classpath);
-
-		// calculate "used by" dependencies
-		MultiMap<String, String> usedByMap = usesMap.invert();
+		// calculate "uses" and "used by" dependencies
+		ClasspathGraph graph = new ClasspathGraph(classpath);
 
 		ReportTable table = new ReportTable("Artifact", "Uses", "Used by", "Maven coordinates", "Updates", "Direct dependencies");
 
 		// for every JAR file ...
 		List<JarFile> jarFiles = classpath.getJarFiles();
 		jarFiles.parallelStream()
-				.map(jarFile -> buildRow(jarFile, usesMap, usedByMap, classpath))
+				.map(jarFile -> buildRow(jarFile, graph, classpath))
 				.forEachOrdered(table::addRow);
 
 		return table;
 	}
 
-	private String[] buildRow(JarFile jarFile, MultiMap<String, String> usesMap, MultiMap<String, String> usedByMap, Classpath classpath) {
+	private String[] buildRow(JarFile jarFile, ClasspathGraph graph, Classpath classpath) {
 
-		String uuid = jarFile.getUUID();
 		String displayName = jarFile.getDisplayName();
 		String coordinates = getCoordinates(jarFile);
 
@@ -98,22 +88,20 @@ public class DependenciesAnalyzer implements Analyzer {
 		String updatesInfo = Markdown.UNKNOWN;
 		String dependenciesInfo = Markdown.UNKNOWN;
 
-		Set<String> targetUUIDs = usesMap.getValues(uuid);
-		if (targetUUIDs != null) {
+		List<JarFile> targetJarFiles = graph.getUses(jarFile);
+		if (!targetJarFiles.isEmpty()) {
 			List<String> targetArtifactNames =
-					targetUUIDs.stream()
-							.map(classpath::getJarFileByUUID)
+					targetJarFiles.stream()
 							.map(JarFile::getDisplayName)
 							.sorted()
 							.collect(Collectors.toList());
 			uses = joinLines(targetArtifactNames);
 		}
 
-		Set<String> sourceUUIDs = usedByMap.getValues(uuid);
-		if (sourceUUIDs != null) {
+		List<JarFile> sourceJarFiles = graph.getUsedBy(jarFile);
+		if (!sourceJarFiles.isEmpty()) {
 			List<String> sourceArtifactNames =
-					sourceUUIDs.stream()
-							.map(classpath::getJarFileByUUID)
+					sourceJarFiles.stream()
 							.map(JarFile::getDisplayName)
 							.sorted()
 							.collect(Collectors.toList());
@@ -312,117 +300,4 @@ public class DependenciesAnalyzer implements Analyzer {
 		return artifacts.get(0).toCoordinates();
 	}
 
-	// JAR dependencies (uses, used by) -------------------------------------------------------
-
-	private MultiMap<String, String> calculateArtifactDependencies(Classpath classpath) {
-
-		// map from source artifact name to target artifact names
-		MultiMap<String, String> dependencies = new MultiMap<>();
-
-		// for every JAR file ...
-		List<JarFile> jarFiles = classpath.getJarFiles();
-		for (JarFile jarFile : jarFiles) {
-			String sourceUUID = jarFile.getUUID();
-
-			// collect all references to other classes
-			Set<String> classNames = new HashSet<>();
-
-			// for every class definition ...
-			List<ClassDef> classDefs = jarFile.getClassDefs();
-			for (ClassDef classDef : classDefs) {
-				collectUsedClasses(classDef, classNames);
-			}
-
-			// for every class name ...
-			for (String className : classNames) {
-
-				// get target class definitions
-				List<ClassDef> targetClassDefs = classpath.getClassDefs(className);
-				if (targetClassDefs == null) {
-					// ignore unknown class
-					continue;
-				}
-
-				// for every class definition ...
-				//noinspection ForLoopReplaceableByForEach (performance)
-				for (int i = 0; i < targetClassDefs.size(); i++) {
-					ClassDef targetClassDef = targetClassDefs.get(i);
-
-					// get JAR file
-					JarFile targetJarFile = targetClassDef.getJarFile();
-					if (targetJarFile == jarFile) {
-						// ignore references to classes in same JAR file
-						continue;
-					}
-
-					// add dependency
-					String targetUUID = targetJarFile.getUUID();
-					dependencies.add(sourceUUID, targetUUID);
-				}
-
-			}
-		}
-
-		return dependencies;
-	}
-
-	/**
-	 * Collect all classes used by a given class definition.
-	 *
-	 * @param classDef   Class definition.
-	 * @param classNames Set of class names.
-	 */
-	private void collectUsedClasses(ClassDef classDef, Set<String> classNames) {
-
-		// add all class references
-		// this SHOULD include the super class and all interfaces,
-		// classes used as field types, return types, parameter types,
-		// thrown exceptions, local variables, etc.
-		List<ClassRef> classRefs = classDef.getClassRefs();
-		//noinspection ForLoopReplaceableByForEach (performance)
-		for (int i = 0; i < classRefs.size(); i++) {
-			ClassRef classRef = classRefs.get(i);
-			String className = classRef.getClassName();
-			classNames.add(className);
-		}
-
-		// add all class names of annotations on the class
-		List<AnnotationRef> annotationRefs = classDef.getAnnotationRefs();
-		//noinspection ForLoopReplaceableByForEach (performance)
-		for (int i = 0; i < annotationRefs.size(); i++) {
-			AnnotationRef annotationRef = annotationRefs.get(i);
-			String className = annotationRef.getClassName();
-			classNames.add(className);
-		}
-
-		// add all class names of annotations on fields
-		List<FieldDef> fieldDefs = classDef.getFieldDefs();
-		//noinspection ForLoopReplaceableByForEach (performance)
-		for (int i = 0; i < fieldDefs.size(); i++) {
-			FieldDef fieldDef = fieldDefs.get(i);
-			List<AnnotationRef> refs = fieldDef.getAnnotationRefs();
-			//noinspection ForLoopReplaceableByForEach (performance)
-			for (int j = 0; j < refs.size(); j++) {
-				AnnotationRef annotationRef = refs.get(j);
-				String className = annotationRef.getClassName();
-				classNames.add(className);
-			}
-		}
-
-		// add all class names of annotations on methods
-		List<MethodDef> methodDefs = classDef.getMethodDefs();
-		//noinspection ForLoopReplaceableByForEach (performance)
-		for (int i = 0; i < methodDefs.size(); i++) {
-			MethodDef methodDef = methodDefs.get(i);
-			List<AnnotationRef> refs = methodDef.getAnnotationRefs();
-			//noinspection ForLoopReplaceableByForEach (performance)
-			for (int j = 0; j < refs.size(); j++) {
-				AnnotationRef annotationRef = refs.get(j);
-				String className = annotationRef.getClassName();
-				classNames.add(className);
-			}
-		}
-
-	}
-
 }
@@ -22,14 +22,19 @@ import static org.jarhc.utils.Markdown.code;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jarhc.app.Options;
 import org.jarhc.java.ClassLoader;
+import org.jarhc.model.ApiFingerprint;
 import org.jarhc.model.ClassDef;
 import org.jarhc.model.Classpath;
 import org.jarhc.model.JarFile;
@@ -64,33 +69,38 @@ public class DuplicateClassesAnalyzer implements Analyzer {
 	private ReportTable buildTable(Classpath classpath) {
 
 		ClassLoader parentClassLoader = classpath.getParent();
-
-		// map from class name to class definitions
-		Map<String, List<ClassDef>> duplicateClasses = new TreeMap<>();
-
-		// map from resource path to resource definitions
-		Map<String, List<ResourceDef>> duplicateResources = new TreeMap<>();
-
-		// TODO: parallel execution
-
-		// for every JAR file ...
 		List<JarFile> jarFiles = classpath.getJarFiles();
-		for (JarFile jarFile : jarFiles) {
-			collectDuplicateClasses(jarFile, duplicateClasses);
-			collectDuplicateResources(jarFile, duplicateResources);
+
+		// map from class name to first class definition,
+		// and map from class name to class definitions (only duplicates)
+		Map<String, ClassDef> classDefs = new ConcurrentHashMap<>();
+		Map<String, List<ClassDef>> duplicateClasses = new ConcurrentHashMap<>();
+
+		// map from resource path to first resource definition,
+		// and map from resource path to resource definitions (only duplicates)
+		Map<String, ResourceDef> resourceDefs = new ConcurrentHashMap<>();
+		Map<String, List<ResourceDef>> duplicateResources = new ConcurrentHashMap<>();
+
+		// for every JAR file (in parallel) ...
+		jarFiles.parallelStream().forEach(jarFile -> {
+			collectDuplicateClasses(jarFile, classDefs, duplicateClasses);
+			collectDuplicateResources(jarFile, resourceDefs, duplicateResources);
+		});
+
+		// sort duplicates in classpath order
+		Map<JarFile, Integer> positions = new IdentityHashMap<>();
+		for (int i = 0; i < jarFiles.size(); i++) {
+			positions.put(jarFiles.get(i), i);
 		}
+		duplicateClasses.values().forEach(list -> list.sort(Comparator.comparing(classDef -> positions.get(classDef.getJarFile()))));
+		duplicateResources.values().forEach(list -> list.sort(Comparator.comparing(resourceDef -> positions.get(resourceDef.getJarFile()))));
 
 		if (parentClassLoader != null) {
-			// find shadowed classes
-			collectShadowedClasses(duplicateClasses, parentClassLoader);
-
-			// TODO: search for shadowed resources
+			// find shadowed classes and resources
+			addShadowedDefs(classDefs, duplicateClasses, parentClassLoader::getClassDef);
+			addShadowedDefs(resourceDefs, duplicateResources, parentClassLoader::getResourceDef);
 		}
 
-		// remove classes and resources found only once
-		duplicateClasses.values().removeIf(c -> c.size() < 2);
-		duplicateResources.values().removeIf(r -> r.size() < 2);
-
 		// create table
 		ReportTable table = new ReportTable("Class/Resource", "Sources", "Similarity");
 		buildDuplicateClassesRows(duplicateClasses, table);
@@ -98,59 +108,81 @@ public class DuplicateClassesAnalyzer implements Analyzer {
 		return table;
 	}
 
-	private void collectDuplicateClasses(JarFile jarFile, Map<String, List<ClassDef>> duplicateClasses) {
+	private void collectDuplicateClasses(JarFile jarFile, Map<String, ClassDef> classDefs, Map<String, List<ClassDef>> duplicateClasses) {
 
 		// for every class definition ...
-		List<ClassDef> classDefs = jarFile.getClassDefs();
-		for (ClassDef classDef : classDefs) {
+		for (ClassDef classDef : jarFile.getClassDefs()) {
 
 			String className = classDef.getClassName();
 			if (className.equals("module-info")) continue;
 
-			// remember class definitions for class name
-			List<ClassDef> list = duplicateClasses.computeIfAbsent(className, k -> new ArrayList<>());
-			list.add(classDef);
-
+			// remember class definition for class name
+			collectDuplicate(className, classDef, classDefs, duplicateClasses);
 		}
 	}
 
-	private void collectDuplicateResources(JarFile jarFile, Map<String, List<ResourceDef>> duplicateResources) {
+	private void collectDuplicateResources(JarFile jarFile, Map<String, ResourceDef> resourceDefs, Map<String, List<ResourceDef>> duplicateResources) {
 
 		// for every resource definition ...
-		List<ResourceDef> resourceDefs = jarFile.getResourceDefs();
-		for (ResourceDef resourceDef : resourceDefs) {
+		for (ResourceDef resourceDef : jarFile.getResourceDefs()) {
 
 			String path = resourceDef.getPath();
 
-			// remember resources for resource path
-			List<ResourceDef> list = duplicateResources.computeIfAbsent(path, k -> new ArrayList<>());
-			list.add(resourceDef);
-
+			// remember resource definition for resource path
+			collectDuplicate(path, resourceDef, resourceDefs, duplicateResources);
 		}
 	}
 
-	private void collectShadowedClasses(Map<String, List<ClassDef>> duplicateClasses, ClassLoader parentClassLoader) {
-
-		// for every class ...
-		for (Map.Entry<String, List<ClassDef>> entry : duplicateClasses.entrySet()) {
-			String className = entry.getKey();
-			List<ClassDef> classDefs = entry.getValue();
-
-			// check if class shadows provided class or JRE class
-			ClassDef classDef = parentClassLoader.getClassDef(className);
-			if (classDef != null) {
-				classDefs.add(classDef);
-			}
+	/**
+	 * Remember the given definition as first definition for the given name.
+	 * If another definition has been found before, both definitions are added
+	 * to the map of duplicates.
+	 *
+	 * @param name       Class name or resource path
+	 * @param def        Class or resource definition
+	 * @param defs       Map with first definition for every name
+	 * @param duplicates Map with all definitions for duplicate names
+	 * @param <T>        Type of definition
+	 */
+	private static <T> void collectDuplicate(String name, T def, Map<String, T> defs, Map<String, List<T>> duplicates) {
+		T firstDef = defs.putIfAbsent(name, def);
+		if (firstDef != null) {
+			duplicates.compute(name, (key, list) -> {
+				if (list == null) {
+					list = new ArrayList<>(3);
+					list.add(firstDef);
+				}
+				list.add(def);
+				return list;
+			});
 		}
+	}
 
+	/**
+	 * Check for every name if a definition is also found in the parent class
+	 * loader (provided classes and resources, or JRE classes), and if yes,
+	 * add it to the map of duplicates. Lookups are run in parallel.
+	 *
+	 * @param defs       Map with first definition for every name
+	 * @param duplicates Map with all definitions for duplicate names
+	 * @param lookup     Lookup in parent class loader
+	 * @param <T>        Type of definition
+	 */
+	private static <T> void addShadowedDefs(Map<String, T> defs, Map<String, List<T>> duplicates, Function<String, T> lookup) {
+		defs.keySet().parallelStream().forEach(name -> {
+			T parentDef = lookup.apply(name);
+			if (parentDef != null) {
+				collectDuplicate(name, parentDef, defs, duplicates);
+			}
+		});
 	}
 
 	private void buildDuplicateClassesRows(Map<String, List<ClassDef>> duplicateClasses, ReportTable table) {
 
-		// for every duplicate class ...
-		for (Map.Entry<String, List<ClassDef>> entry : duplicateClasses.entrySet()) {
-			String className = entry.getKey();
-			List<ClassDef> classDefs = entry.getValue();
+		// for every duplicate class (sorted by class name) ...
+		List<String> classNames = duplicateClasses.keySet().stream().sorted().collect(Collectors.toList());
+		List<String[]> rows = classNames.parallelStream().map(className -> {
+			List<ClassDef> classDefs = duplicateClasses.get(className);
 
 			// get JAR file or class loader (sorted by name)
 			String sources = getClassSources(classDefs);
@@ -159,19 +191,21 @@ public class DuplicateClassesAnalyzer implements Analyzer {
 			String similarity = getClassSimilarity(classDefs);
 
 			if (ignoreExactCopy && similarity.equals(EXACT_COPY)) {
-				continue;
+				return null;
 			}
 
-			table.addRow(code(className), sources, similarity);
-		}
+			return new String[] { code(className), sources, similarity };
+		}).collect(Collectors.toList());
+
+		rows.stream().filter(Objects::nonNull).forEach(table::addRow);
 	}
 
 	private void buildDuplicateResourcesRows(Map<String, List<ResourceDef>> duplicateResources, ReportTable table) {
 
-		// for every duplicate resource ...
-		for (Map.Entry<String, List<ResourceDef>> entry : duplicateResources.entrySet()) {
-			String resourcePath = entry.getKey();
-			List<ResourceDef> resourceDefs = entry.getValue();
+		// for every duplicate resource (sorted by resource path) ...
+		List<String> resourcePaths = duplicateResources.keySet().stream().sorted().collect(Collectors.toList());
+		for (String resourcePath : resourcePaths) {
+			List<ResourceDef> resourceDefs = duplicateResources.get(resourcePath);
 
 			// get JAR file or class loader (sorted by name)
 			String sources = getResourceSources(resourceDefs);
@@ -212,9 +246,13 @@ public class DuplicateClassesAnalyzer implements Analyzer {
 	}
 
 	private String getResourceSources(List<ResourceDef> resourceDefs) {
+
+		// add class loader if resource is shadowing a provided resource
+		boolean shadowed = resourceDefs.stream().map(r -> r.getJarFile().getClassLoader()).distinct().count() > 1;
+
 		return resourceDefs.stream()
 				.map(ResourceDef::getJarFile) // get JAR file
-				.map(JarFile::getDisplayName) // get artifact name
+				.map(jarFile -> shadowed ? jarFile.getDisplayName() + " (" + jarFile.getClassLoader() + ")" : jarFile.getDisplayName()) // get artifact name
 				.sorted(String.CASE_INSENSITIVE_ORDER) // sort case-insensitive
 				.collect(StringUtils.joinLines());
 	}
@@ -240,12 +278,12 @@ public class DuplicateClassesAnalyzer implements Analyzer {
 		}
 
 		StringBuilder result = new StringBuilder(DIFFERENT_API);
-		List<String[]> apis = classDefs.stream().map(def -> def.getApiDescription().split("\n")).collect(Collectors.toList());
+		List<ApiFingerprint> apis = classDefs.stream().map(ClassDef::getApiFingerprint).collect(Collectors.toList());
 		for (int i = 1; i < apis.size(); i++) {
-			String[] apis1 = apis.get(0);
-			String[] apis2 = apis.get(i);
-			long diff = calculateApiDiff(apis1, apis2);
-			int total = Math.max(apis1.length, apis2.length);
+			ApiFingerprint api1 = apis.get(0);
+			ApiFingerprint api2 = apis.get(i);
+			long diff = calculateApiDiff(api1, api2);
+			int total = Math.max(api1.getSize(), api2.getSize());
 
 			BigDecimal similarity = BigDecimal.valueOf(100).subtract(
 					BigDecimal.valueOf(100 * diff).divide(BigDecimal.valueOf(total), RoundingMode.CEILING)
@@ -319,4 +357,109 @@ public class DuplicateClassesAnalyzer implements Analyzer {
 		return line1[len2];
 	}
 
+	/**
+	 * Calculates the edit distance (Levenshtein distance) between the lines of
+	 * two API descriptions, using their fingerprints.
+	 * <p>
+	 * Lines shared by both APIs are found with a merge of the sorted line
+	 * hashes. They appear in the same order in both descriptions, because
+	 * record components, fields, and methods are sorted. The edit distance is
+	 * then the minimum over all chains of shared lines kept as matches, where
+	 * every gap between two matches costs the larger number of lines in this
+	 * gap on both sides. The result is the same as the one of
+	 * {@link #calculateApiDiff(String[], String[])}, but the time is
+	 * <i>O(n log n)</i> instead of <i>O(n * m)</i>.
+	 *
+	 * @param api1 Fingerprint of first API
+	 * @param api2 Fingerprint of second API
+	 * @return Edit distance
+	 */
+	public static int calculateApiDiff(ApiFingerprint api1, ApiFingerprint api2) {
+
+		int len1 = api1.getSize();
+		int len2 = api2.getSize();
+		if (api1.getChecksum().equals(api2.getChecksum())) {
+			return 0;
+		}
+
+		// find shared lines (merge of sorted hashes)
+		long[] hashes1 = api1.getMemberHashes();
+		long[] hashes2 = api2.getMemberHashes();
+		long[] matches = new long[min(len1, len2)];
+		int count = 0;
+		for (int i = 0, j = 0; i < len1 && j < len2; ) {
+			int cmp = Long.compare(hashes1[i], hashes2[j]);
+			if (cmp < 0) {
+				i++;
+			} else if (cmp > 0) {
+				j++;
+			} else {
+				// remember line numbers of both lines
+				matches[count++] = (long) api1.getMemberPositions()[i] << 32 | api2.getMemberPositions()[j];
+				i++;
+				j++;
+			}
+		}
+
+		// sort shared lines by line number in first API
+		Arrays.sort(matches, 0, count);
+
+		// diagonal (x - y) of a match is stored at index x - y + len2 + 1
+		// tree 1: minimum of (distance - y) for all previous matches on this or a higher diagonal
+		// tree 2: minimum of (distance - x) for all previous matches on a lower diagonal
+		int size = len1 + len2 + 3;
+		int[] tree1 = new int[size + 1];
+		int[] tree2 = new int[size + 1];
+		Arrays.fill(tree1, Integer.MAX_VALUE);
+		Arrays.fill(tree2, Integer.MAX_VALUE);
+
+		// start at virtual match (-1, -1) with distance 0
+		updateMin(tree1, size - (len2 + 1), 1);
+		updateMin(tree2, len2 + 2, 1);
+
+		int lastY = -1;
+		for (int k = 0; k <= count; k++) {
+
+			// end at virtual match (len1, len2)
+			int x = k < count ? (int) (matches[k] >>> 32) : len1;
+			int y = k < count ? (int) matches[k] : len2;
+			if (y <= lastY) {
+				continue; // ignore match crossing a previous match (duplicate line or hash collision)
+			}
+			lastY = y;
+
+			int index = x - y + len2 + 2;
+			int distance = Math.min(
+					add(y, queryMin(tree1, size + 1 - index)),
+					add(x, queryMin(tree2, index - 1))
+			) - 1;
+
+			if (k == count) {
+				return distance;
+			}
+			updateMin(tree1, size + 1 - index, distance - y);
+			updateMin(tree2, index, distance - x);
+		}
+
+		throw new IllegalStateException(); // not reachable
+	}
+
+	private static int add(int value, int min) {
+		return min == Integer.MAX_VALUE ? Integer.MAX_VALUE : value + min;
+	}
+
+	private static void updateMin(int[] tree, int index, int value) {
+		for (int i = index; i < tree.length; i += i & -i) {
+			if (value < tree[i]) tree[i] = value;
+		}
+	}
+
+	private static int queryMin(int[] tree, int index) {
+		int min = Integer.MAX_VALUE;
+		for (int i = index; i > 0; i -= i & -i) {
+			if (tree[i] < min) min = tree[i];
+		}
+		return min;
+	}
+
 }
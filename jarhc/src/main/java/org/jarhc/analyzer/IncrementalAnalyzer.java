@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.analyzer;
+
+import org.jarhc.model.Classpath;
+import org.jarhc.report.ReportSection;
+
+/**
+ * Analyzer which can reuse the results of a previous scan for classes
+ * which are not affected by changes in the classpath.
+ */
+public interface IncrementalAnalyzer extends Analyzer {
+
+	/**
+	 * Analyze the given classpath. Issues of classes which are not affected
+	 * by changes since the previous scan are taken from the previous scan.
+	 * Issues of all classes are recorded in the given incremental scan.
+	 *
+	 * @param classpath Classpath
+	 * @param scan      Incremental scan, or <code>null</code> to analyze all classes.
+	 * @return Report section
+	 */
+	ReportSection analyze(Classpath classpath, IncrementalScan scan);
+
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.analyzer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jarhc.env.ClasspathJavaRuntime;
+import org.jarhc.env.JavaRuntime;
+import org.jarhc.java.ClassLoader;
+import org.jarhc.model.AnnotationRef;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.ClassRef;
+import org.jarhc.model.Classpath;
+import org.jarhc.model.Def;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.FieldRef;
+import org.jarhc.model.JarFile;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.MethodRef;
+import org.jarhc.utils.JavaUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Incremental scan of a classpath, based on the state of a previous scan.
+ * <p>
+ * A class has to be analyzed again if its JAR file has changed, or if it
+ * depends on a class which has been added, changed, or removed. A class
+ * depends on all classes it references, and on all superclasses and
+ * interfaces of these classes. All other classes are not affected, and
+ * their issues are taken from the previous scan.
+ * <p>
+ * If there is no previous state, or the previous state has been created
+ * with different settings or for a different environment (Java runtime,
+ * provided JAR files), all classes are analyzed.
+ * <p>
+ * The state of this scan is collected while the classpath is analyzed
+ * (see {@link #getState()}). This class is thread-safe.
+ */
+public class IncrementalScan {
+
+	private final IncrementalState previousState;
+	private final IncrementalState state;
+
+	/**
+	 * Keys of JAR files in the classpath.
+	 * JAR files without checksum are always analyzed and have no key.
+	 */
+	private final Map<JarFile, String> jarKeys = new IdentityHashMap<>();
+
+	/**
+	 * Classes in unchanged JAR files which have to be analyzed again.
+	 */
+	private final Set<ClassDef> affectedClassDefs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private final int changedJarFiles;
+	private final int totalClasses;
+	private final Logger logger;
+
+	/**
+	 * Create a new incremental scan.
+	 *
+	 * @param classpath     Classpath
+	 * @param previousState State of previous scan, or <code>null</code> if there is no previous scan.
+	 * @param settings      Settings which have an influence on the loaded classes (e.g., the Java release).
+	 */
+	public IncrementalScan(Classpath classpath, IncrementalState previousState, String settings) {
+		this(classpath, previousState, settings, LoggerFactory.getLogger(IncrementalScan.class));
+	}
+
+	public IncrementalScan(Classpath classpath, IncrementalState previousState, String settings, Logger logger) {
+		if (classpath == null) throw new IllegalArgumentException("classpath");
+		if (settings == null) throw new IllegalArgumentException("settings");
+		this.logger = logger;
+
+		String fingerprint = settings + "\n" + getEnvironment(classpath);
+		this.state = new IncrementalState(fingerprint);
+
+		// assign keys to JAR files, and register JAR files in new state
+		List<JarFile> jarFiles = classpath.getJarFiles();
+		Map<String, Integer> occurrences = new HashMap<>();
+		int classes = 0;
+		for (JarFile jarFile : jarFiles) {
+			List<ClassDef> classDefs = jarFile.getClassDefs();
+			classes += classDefs.size();
+			String checksum = jarFile.getChecksum();
+			if (checksum == null) continue;
+			// note: the same JAR file may be present multiple times
+			int occurrence = occurrences.merge(checksum, 1, Integer::sum);
+			String jarKey = checksum + "#" + occurrence;
+			jarKeys.put(jarFile, jarKey);
+			List<String> classNames = classDefs.stream().map(ClassDef::getClassName).collect(Collectors.toList());
+			state.addJarFile(jarKey, classNames);
+		}
+		this.totalClasses = classes;
+
+		if (isCompatible(previousState, fingerprint, jarFiles)) {
+			this.previousState = previousState;
+			this.changedJarFiles = findAffectedClassDefs(classpath);
+		} else {
+			this.previousState = null;
+			this.changedJarFiles = jarFiles.size();
+		}
+	}
+
+	private boolean isCompatible(IncrementalState previousState, String fingerprint, List<JarFile> jarFiles) {
+		if (previousState == null) return false;
+		if (!previousState.getFingerprint().equals(fingerprint)) return false;
+
+		// unchanged JAR files must have the same order as in the previous scan
+		// (classes in a JAR file may hide classes in a later JAR file)
+		List<String> previousJarKeys = previousState.getJarKeys();
+		List<String> currentJarKeys = new ArrayList<>(jarFiles.size());
+		for (JarFile jarFile : jarFiles) {
+			String jarKey = jarKeys.get(jarFile);
+			if (jarKey != null && previousJarKeys.contains(jarKey)) {
+				currentJarKeys.add(jarKey);
+			}
+		}
+		previousJarKeys.retainAll(currentJarKeys);
+		return previousJarKeys.equals(currentJarKeys);
+	}
+
+	/**
+	 * Find all classes in unchanged JAR files which are affected by
+	 * changed, added, or removed JAR files.
+	 *
+	 * @param classpath Classpath
+	 * @return Number of added, changed, and removed JAR files.
+	 */
+	private int findAffectedClassDefs(Classpath classpath) {
+
+		// collect names of classes in added or changed JAR files
+		Set<String> changedClassNames = new HashSet<>();
+		int changes = 0;
+		for (JarFile jarFile : classpath.getJarFiles()) {
+			if (!isUnchanged(jarFile)) {
+				jarFile.getClassDefs().forEach(classDef -> changedClassNames.add(classDef.getClassName()));
+				changes++;
+			}
+		}
+
+		// collect names of classes in removed or changed JAR files
+		for (String jarKey : previousState.getJarKeys()) {
+			if (!state.containsJarFile(jarKey)) {
+				changedClassNames.addAll(previousState.getClassNames(jarKey));
+				changes++;
+			}
+		}
+
+		if (changedClassNames.isEmpty()) {
+			return changes;
+		}
+
+		// note: a missing class is resolved by package (e.g., "Package not found")
+		Set<String> changedPackageNames = changedClassNames.stream().map(JavaUtils::getPackageName).collect(Collectors.toSet());
+
+		// add all subclasses and implementations of changed classes
+		// (inherited members of a class depend on its superclasses and interfaces)
+		Set<String> hierarchyClassNames = getSubtypeClosure(classpath, changedClassNames);
+
+		// find classes in unchanged JAR files depending on a changed class
+		for (JarFile jarFile : classpath.getJarFiles()) {
+			if (!isUnchanged(jarFile)) continue;
+			for (ClassDef classDef : jarFile.getClassDefs()) {
+				if (dependsOn(classDef, hierarchyClassNames, changedPackageNames)) {
+					affectedClassDefs.add(classDef);
+				}
+			}
+		}
+
+		return changes;
+	}
+
+	private static Set<String> getSubtypeClosure(Classpath classpath, Set<String> classNames) {
+
+		// build reverse index: superclass or interface name -> names of subtypes
+		Map<String, List<String>> subtypes = new HashMap<>();
+		for (JarFile jarFile : classpath.getJarFiles()) {
+			for (ClassDef classDef : jarFile.getClassDefs()) {
+				String className = classDef.getClassName();
+				String superName = classDef.getSuperName();
+				if (superName != null) {
+					subtypes.computeIfAbsent(superName, k -> new ArrayList<>()).add(className);
+				}
+				for (String interfaceName : classDef.getInterfaceNames()) {
+					subtypes.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(className);
+				}
+			}
+		}
+
+		Set<String> result = new HashSet<>(classNames);
+		Deque<String> queue = new ArrayDeque<>(classNames);
+		while (!queue.isEmpty()) {
+			String className = queue.poll();
+			for (String subtype : subtypes.getOrDefault(className, Collections.emptyList())) {
+				if (result.add(subtype)) {
+					queue.add(subtype);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static boolean dependsOn(ClassDef classDef, Set<String> classNames, Set<String> packageNames) {
+
+		if (classNames.contains(classDef.getClassName())) return true;
+
+		for (String permittedSubclassName : classDef.getPermittedSubclassNames()) {
+			if (classNames.contains(permittedSubclassName)) return true;
+		}
+		for (ClassRef classRef : classDef.getClassRefs()) {
+			if (dependsOn(classRef.getClassName(), classNames, packageNames)) return true;
+		}
+		for (FieldRef fieldRef : classDef.getFieldRefs()) {
+			if (dependsOn(fieldRef.getFieldOwner(), classNames, packageNames)) return true;
+		}
+		for (MethodRef methodRef : classDef.getMethodRefs()) {
+			if (dependsOn(methodRef.getMethodOwner(), classNames, packageNames)) return true;
+		}
+
+		// annotations (usually also present as class references)
+		if (dependsOnAnnotations(classDef, classNames, packageNames)) return true;
+		for (FieldDef fieldDef : classDef.getFieldDefs()) {
+			if (dependsOnAnnotations(fieldDef, classNames, packageNames)) return true;
+		}
+		for (MethodDef methodDef : classDef.getMethodDefs()) {
+			if (dependsOnAnnotations(methodDef, classNames, packageNames)) return true;
+		}
+		for (Def recordComponentDef : classDef.getRecordComponentDefs()) {
+			if (dependsOnAnnotations(recordComponentDef, classNames, packageNames)) return true;
+		}
+
+		return false;
+	}
+
+	private static boolean dependsOnAnnotations(Def def, Set<String> classNames, Set<String> packageNames) {
+		for (AnnotationRef annotationRef : def.getAnnotationRefs()) {
+			if (dependsOn(annotationRef.getClassName(), classNames, packageNames)) return true;
+		}
+		return false;
+	}
+
+	private static boolean dependsOn(String className, Set<String> classNames, Set<String> packageNames) {
+		if (classNames.contains(className)) return true;
+		return packageNames.contains(JavaUtils.getPackageName(className));
+	}
+
+	private boolean isUnchanged(JarFile jarFile) {
+		String jarKey = jarKeys.get(jarFile);
+		return jarKey != null && previousState != null && previousState.containsJarFile(jarKey);
+	}
+
+	/**
+	 * Get the environment of the classpath: parent class loaders,
+	 * the JAR files loaded by them, and the Java runtime.
+	 */
+	private static String getEnvironment(Classpath classpath) {
+		StringBuilder buffer = new StringBuilder();
+		ClassLoader parent = classpath.getParent();
+		while (parent != null) {
+			buffer.append(parent.getName()).append('\n');
+			if (parent instanceof Classpath) {
+				appendJarFiles(((Classpath) parent).getJarFiles(), buffer);
+			}
+			if (parent instanceof JavaRuntime) {
+				JavaRuntime javaRuntime = (JavaRuntime) parent;
+				buffer.append(javaRuntime.getJavaVendor()).append('\n');
+				buffer.append(javaRuntime.getJavaVersion()).append('\n');
+				buffer.append(javaRuntime.getJavaHome()).append('\n');
+			}
+			if (parent instanceof ClasspathJavaRuntime) {
+				appendJarFiles(((ClasspathJavaRuntime) parent).getClasspath().getJarFiles(), buffer);
+			}
+			parent = parent.getParent();
+		}
+		return buffer.toString();
+	}
+
+	private static void appendJarFiles(List<JarFile> jarFiles, StringBuilder buffer) {
+		for (JarFile jarFile : jarFiles) {
+			buffer.append(jarFile.getFileName()).append(':').append(jarFile.getChecksum()).append('\n');
+		}
+	}
+
+	/**
+	 * Check if the issues found by the given analyzer in the given class
+	 * can be taken from the previous scan.
+	 *
+	 * @param analyzerName Name of analyzer (including all settings of the analyzer)
+	 * @param classDef     Class definition
+	 * @return <code>true</code> if the previous issues can be reused, <code>false</code> if the class has to be analyzed.
+	 */
+	public boolean isReusable(String analyzerName, ClassDef classDef) {
+		if (previousState == null) return false;
+		if (!previousState.hasAnalyzer(analyzerName)) return false;
+		if (!isUnchanged(classDef.getJarFile())) return false;
+		return !affectedClassDefs.contains(classDef);
+	}
+
+	/**
+	 * Get the issue found by the given analyzer in the given class in the previous scan.
+	 *
+	 * @param analyzerName Name of analyzer
+	 * @param classDef     Class definition
+	 * @return Issue, or <code>null</code> if no issue has been found.
+	 */
+	public String getPreviousIssue(String analyzerName, ClassDef classDef) {
+		if (previousState == null) return null;
+		String jarKey = jarKeys.get(classDef.getJarFile());
+		if (jarKey == null) return null;
+		return previousState.getIssue(jarKey, analyzerName, classDef.getClassName());
+	}
+
+	/**
+	 * Record the issue found by the given analyzer in the given class.
+	 *
+	 * @param analyzerName Name of analyzer
+	 * @param classDef     Class definition
+	 * @param issue        Issue, or <code>null</code> if no issue has been found.
+	 */
+	public void putIssue(String analyzerName, ClassDef classDef, String issue) {
+		if (issue == null) return;
+		String jarKey = jarKeys.get(classDef.getJarFile());
+		if (jarKey == null) return;
+		state.putIssue(jarKey, analyzerName, classDef.getClassName(), issue);
+	}
+
+	/**
+	 * Mark the given analyzer as completed.
+	 * Issues of an analyzer are only reused if the analyzer has completed the previous scan.
+	 *
+	 * @param analyzerName Name of analyzer
+	 */
+	public void setCompleted(String analyzerName) {
+		state.addAnalyzer(analyzerName);
+	}
+
+	/**
+	 * Get the state of this scan.
+	 *
+	 * @return State
+	 */
+	public IncrementalState getState() {
+		return state;
+	}
+
+	/**
+	 * Check if this scan is based on the state of a previous scan.
+	 *
+	 * @return <code>true</code> if this is an incremental scan, <code>false</code> if all classes are analyzed.
+	 */
+	public boolean isIncremental() {
+		return previousState != null;
+	}
+
+	/**
+	 * Get the number of added, changed, and removed JAR files.
+	 * A changed JAR file is counted twice (as removed and added).
+	 *
+	 * @return Number of JAR files
+	 */
+	public int getChangedJarFiles() {
+		return changedJarFiles;
+	}
+
+	public int getAffectedClasses() {
+		return affectedClassDefs.size();
+	}
+
+	/**
+	 * Log the number of changed JAR files and affected classes (debug level).
+	 */
+	public void logStatistics() {
+		if (logger.isDebugEnabled()) {
+			if (previousState == null) {
+				logger.debug("Incremental scan: no previous state, {} classes analyzed", totalClasses);
+			} else {
+				logger.debug("Incremental scan: {} changed JAR files, {} affected classes in unchanged JAR files, {} classes total", changedJarFiles, affectedClassDefs.size(), totalClasses);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.analyzer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of a scan which are kept for an incremental scan of the same classpath.
+ * <p>
+ * For every JAR file, the state contains the names of all classes, and the
+ * issues found by incremental analyzers in every class. JAR files are
+ * identified by their SHA-1 checksum.
+ * <p>
+ * Recording issues is thread-safe.
+ */
+public class IncrementalState {
+
+	/**
+	 * Magic number at the beginning of a state file.
+	 */
+	private static final int MAGIC = 0x4A484349; // "JHCI"
+
+	/**
+	 * Format version. Increment when the format changes.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Settings and environment of the scan.
+	 * Results can only be reused if the fingerprint is the same.
+	 */
+	private final String fingerprint;
+
+	/**
+	 * Names of analyzers which have completed the analysis of all classes.
+	 */
+	private final Set<String> analyzers = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * State of JAR files, in classpath order.
+	 */
+	private final Map<String, JarState> jarStates = new LinkedHashMap<>();
+
+	public IncrementalState(String fingerprint) {
+		if (fingerprint == null) throw new IllegalArgumentException("fingerprint");
+		this.fingerprint = fingerprint;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	boolean hasAnalyzer(String analyzerName) {
+		return analyzers.contains(analyzerName);
+	}
+
+	void addAnalyzer(String analyzerName) {
+		analyzers.add(analyzerName);
+	}
+
+	List<String> getJarKeys() {
+		return new ArrayList<>(jarStates.keySet());
+	}
+
+	boolean containsJarFile(String jarKey) {
+		return jarStates.containsKey(jarKey);
+	}
+
+	List<String> getClassNames(String jarKey) {
+		JarState jarState = jarStates.get(jarKey);
+		if (jarState == null) return Collections.emptyList();
+		return jarState.classNames;
+	}
+
+	void addJarFile(String jarKey, List<String> classNames) {
+		jarStates.put(jarKey, new JarState(classNames));
+	}
+
+	/**
+	 * Get the issue found by the given analyzer in the given class.
+	 *
+	 * @param jarKey       Key of JAR file
+	 * @param analyzerName Analyzer name
+	 * @param className    Class name
+	 * @return Issue, or <code>null</code> if no issue has been found.
+	 */
+	String getIssue(String jarKey, String analyzerName, String className) {
+		JarState jarState = jarStates.get(jarKey);
+		if (jarState == null) return null;
+		Map<String, String> issues = jarState.issues.get(analyzerName);
+		if (issues == null) return null;
+		return issues.get(className);
+	}
+
+	void putIssue(String jarKey, String analyzerName, String className, String issue) {
+		JarState jarState = jarStates.get(jarKey);
+		if (jarState == null) throw new IllegalArgumentException("jarKey");
+		jarState.issues.computeIfAbsent(analyzerName, k -> new ConcurrentHashMap<>()).put(className, issue);
+	}
+
+	// -----------------------------------------------------------------------------------------------------
+	// serialization
+
+	/**
+	 * Write this state to the given output stream.
+	 *
+	 * @param stream Output stream
+	 * @throws IOException If the data cannot be written.
+	 */
+	public void write(OutputStream stream) throws IOException {
+		DataOutputStream output = new DataOutputStream(stream);
+		output.writeInt(MAGIC);
+		output.writeInt(FORMAT_VERSION);
+		writeString(output, fingerprint);
+		writeStrings(output, new TreeSet<>(analyzers));
+		output.writeInt(jarStates.size());
+		for (Map.Entry<String, JarState> entry : jarStates.entrySet()) {
+			writeString(output, entry.getKey());
+			JarState jarState = entry.getValue();
+			writeStrings(output, jarState.classNames);
+			Map<String, Map<String, String>> issues = new TreeMap<>(jarState.issues);
+			output.writeInt(issues.size());
+			for (Map.Entry<String, Map<String, String>> analyzerEntry : issues.entrySet()) {
+				writeString(output, analyzerEntry.getKey());
+				Map<String, String> classIssues = new TreeMap<>(analyzerEntry.getValue());
+				output.writeInt(classIssues.size());
+				for (Map.Entry<String, String> issueEntry : classIssues.entrySet()) {
+					writeString(output, issueEntry.getKey());
+					writeString(output, issueEntry.getValue());
+				}
+			}
+		}
+		output.flush();
+	}
+
+	/**
+	 * Read a state from the given input stream.
+	 *
+	 * @param stream Input stream
+	 * @return State
+	 * @throws IOException If the data cannot be read, or has been written with a different format version.
+	 */
+	public static IncrementalState read(InputStream stream) throws IOException {
+		DataInputStream input = new DataInputStream(stream);
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("Unknown file format.");
+		}
+		int version = input.readInt();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported format version: " + version);
+		}
+		IncrementalState state = new IncrementalState(readString(input));
+		state.analyzers.addAll(readStrings(input));
+		int jarCount = readCount(input);
+		for (int i = 0; i < jarCount; i++) {
+			String jarKey = readString(input);
+			JarState jarState = new JarState(readStrings(input));
+			int analyzerCount = readCount(input);
+			for (int j = 0; j < analyzerCount; j++) {
+				String analyzerName = readString(input);
+				int issueCount = readCount(input);
+				Map<String, String> classIssues = new ConcurrentHashMap<>(issueCount);
+				for (int k = 0; k < issueCount; k++) {
+					String className = readString(input);
+					classIssues.put(className, readString(input));
+				}
+				jarState.issues.put(analyzerName, classIssues);
+			}
+			state.jarStates.put(jarKey, jarState);
+		}
+		return state;
+	}
+
+	private static void writeStrings(DataOutputStream output, Collection<String> values) throws IOException {
+		output.writeInt(values.size());
+		for (String value : values) {
+			writeString(output, value);
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		// note: DataOutputStream.writeUTF() is limited to 64 KB
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static List<String> readStrings(DataInputStream input) throws IOException {
+		int count = readCount(input);
+		List<String> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(readString(input));
+		}
+		return values;
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		int length = readCount(input);
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int readCount(DataInputStream input) throws IOException {
+		int count = input.readInt();
+		if (count < 0) {
+			throw new IOException("Invalid count: " + count);
+		}
+		return count;
+	}
+
+	private static class JarState {
+
+		private final List<String> classNames;
+
+		/**
+		 * Issues by analyzer name and class name.
+		 * Classes without issues are not included.
+		 */
+		private final Map<String, Map<String, String>> issues = new ConcurrentHashMap<>();
+
+		private JarState(List<String> classNames) {
+			this.classNames = classNames;
+		}
+
+	}
+
+}
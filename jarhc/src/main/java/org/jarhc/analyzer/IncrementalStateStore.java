@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.analyzer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.jarhc.utils.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Directory with the states of previous scans, one file per scanned classpath.
+ * <p>
+ * States are written to a temporary file first and then moved to their
+ * final location, so that a state file is never read while it is written.
+ */
+public class IncrementalStateStore {
+
+	private static final String FILE_EXTENSION = ".bin";
+
+	private final File stateDir;
+	private final Logger logger;
+
+	public IncrementalStateStore(File stateDir) {
+		this(stateDir, LoggerFactory.getLogger(IncrementalStateStore.class));
+	}
+
+	public IncrementalStateStore(File stateDir, Logger logger) {
+		if (stateDir == null) throw new IllegalArgumentException("stateDir");
+		this.stateDir = stateDir;
+		this.logger = logger;
+	}
+
+	/**
+	 * Load the state of the previous scan of a classpath.
+	 *
+	 * @param scope Name of the scanned classpath (e.g., the name of the scanned application)
+	 * @return State, or <code>null</code> if no state has been found.
+	 */
+	public IncrementalState load(String scope) {
+
+		File stateFile = getStateFile(scope);
+		if (!stateFile.isFile()) {
+			return null;
+		}
+
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(stateFile))) {
+			return IncrementalState.read(stream);
+		} catch (IOException e) {
+			// state is corrupt or has been written by a different version
+			logger.debug("Failed to read state: {}", stateFile.getAbsolutePath(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Save the state of a scan of a classpath.
+	 * Errors are logged, but not reported to the caller.
+	 *
+	 * @param scope Name of the scanned classpath (e.g., the name of the scanned application)
+	 * @param state State
+	 */
+	public void save(String scope, IncrementalState state) {
+
+		File stateFile = getStateFile(scope);
+
+		try {
+			Files.createDirectories(stateDir.toPath());
+
+			// write state into a temporary file
+			File tempFile = File.createTempFile("state", ".tmp", stateDir);
+			try {
+				try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+					state.write(stream);
+				}
+
+				// replace state file with temporary file
+				try {
+					Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(tempFile.toPath());
+			}
+
+		} catch (IOException e) {
+			logger.warn("Failed to write state: {}", stateFile.getAbsolutePath(), e);
+		}
+	}
+
+	private File getStateFile(String scope) {
+		String fileName = DigestUtils.sha1Hex(scope) + FILE_EXTENSION;
+		return new File(stateDir, fileName);
+	}
+
+}
@@ -66,9 +66,6 @@ public class JarFilesAnalyzer implements Analyzer {
 		// map from JAR file UUID to package names
 		Map<String, List<String>> uuidToPackages = buildPackagesMap(classpath);
 
-		// map from package name to JAR file UUID
-		Map<String, List<String>> packageToUUIDs = invert(uuidToPackages);
-
 		// list of all JAR file UUIDs
 		List<String> uuids = new ArrayList<>(uuidToPackages.keySet());
 
@@ -92,7 +89,7 @@ public class JarFilesAnalyzer implements Analyzer {
 			String packagesInfo = StringUtils.joinLines(getPackageGroups(packageNames, uuidToPackages, uuid, uuids));
 			String checksum = getChecksumInfo(jarFile);
 			String coordinates = getCoordinates(jarFile);
-			List<String> issues = findIssues(packageNames, packageToUUIDs);
+			List<String> issues = findIssues(packageNames, classpath);
 
 			table.addRow(displayName, version, source, formatFileSize(fileSize), multiReleaseInfo, javaVersionInfo, String.valueOf(resourceCount), packagesInfo, checksum, coordinates, StringUtils.joinLines(issues));
 
@@ -230,34 +227,13 @@ public class JarFilesAnalyzer implements Analyzer {
 		return uuidToPackages;
 	}
 
-	/**
-	 * Invert the given multi-value map.
-	 *
-	 * @param map Map to invert
-	 * @return Inverted map
-	 */
-	private static Map<String, List<String>> invert(Map<String, List<String>> map) {
-		Map<String, List<String>> result = new HashMap<>(map.size());
-		for (Map.Entry<String, List<String>> entry : map.entrySet()) {
-			String key = entry.getKey();
-			List<String> values = entry.getValue();
-			for (String value : values) {
-				List<String> list = result.computeIfAbsent(value, k -> new ArrayList<>(2));
-				if (!list.contains(key)) {
-					list.add(key);
-				}
-			}
-		}
-		return result;
-	}
-
-	private static List<String> findIssues(List<String> packageNames, Map<String, List<String>> packageToUUIDs) {
+	private static List<String> findIssues(List<String> packageNames, Classpath classpath) {
 		List<String> issues = new ArrayList<>();
 
 		// check if any package is found in more than one JAR file
 		for (String packageName : packageNames) {
-			List<String> uuids = packageToUUIDs.get(packageName);
-			if (uuids.size() > 1) {
+			List<JarFile> jarFiles = classpath.getJarFilesByPackageName(packageName);
+			if (jarFiles.size() > 1) {
 				issues.add("Split Package: " + code(packageName));
 			}
 		}
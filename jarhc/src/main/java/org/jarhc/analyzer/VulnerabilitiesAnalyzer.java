@@ -16,11 +16,16 @@
 
 package org.jarhc.analyzer;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -53,12 +58,23 @@ public class VulnerabilitiesAnalyzer implements Analyzer {
 	// descriptions longer than this are truncated (with a "more" indicator appended)
 	private static final int MAX_DESCRIPTION_LENGTH = 128;
 
+	// maximum number of vulnerability lookups executed at the same time
+	private static final int DEFAULT_MAX_CONCURRENT_LOOKUPS = 16;
+
 	private final VulnerabilityFinder vulnerabilityFinder;
+	private final int maxConcurrentLookups;
 	private final Logger logger;
 
 	public VulnerabilitiesAnalyzer(VulnerabilityFinder vulnerabilityFinder, Logger logger) {
+		this(vulnerabilityFinder, DEFAULT_MAX_CONCURRENT_LOOKUPS, logger);
+	}
+
+	// visible for testing
+	VulnerabilitiesAnalyzer(VulnerabilityFinder vulnerabilityFinder, int maxConcurrentLookups, Logger logger) {
 		if (vulnerabilityFinder == null) throw new IllegalArgumentException("vulnerabilityFinder");
+		if (maxConcurrentLookups < 1) throw new IllegalArgumentException("maxConcurrentLookups < 1");
 		this.vulnerabilityFinder = vulnerabilityFinder;
+		this.maxConcurrentLookups = maxConcurrentLookups;
 		this.logger = logger;
 	}
 
@@ -97,20 +113,30 @@ public class VulnerabilitiesAnalyzer implements Analyzer {
 
 	private Map<Vulnerability, TreeSet<String>> collectVulnerabilities(Classpath classpath) {
 
-		// Use a map keyed by Vulnerability (equals/hashCode are based on advisoryId)
-		// so identical advisories merge independent of object identity.
-		Map<Vulnerability, TreeSet<String>> result = new LinkedHashMap<>();
-
+		// find artifacts of all JAR files (in classpath order)
 		List<JarFile> jarFiles = classpath.getJarFiles();
+		Map<JarFile, Artifact> artifacts = new LinkedHashMap<>();
 		for (JarFile jarFile : jarFiles) {
-
 			Artifact artifact = getArtifact(jarFile);
 			if (artifact == null) {
 				// coordinates unknown (or lookup failed): cannot query vulnerabilities
 				continue;
 			}
+			artifacts.put(jarFile, artifact);
+		}
+
+		// look up vulnerabilities of every distinct artifact only once
+		Map<String, List<Vulnerability>> vulnerabilitiesByCoordinates = findVulnerabilities(artifacts.values());
 
-			List<Vulnerability> vulnerabilities = findVulnerabilities(artifact);
+		// Use a map keyed by Vulnerability (equals/hashCode are based on advisoryId)
+		// so identical advisories merge independent of object identity.
+		// Results are merged in classpath order, independent of the order
+		// in which the lookups have completed.
+		Map<Vulnerability, TreeSet<String>> result = new LinkedHashMap<>();
+		for (Map.Entry<JarFile, Artifact> entry : artifacts.entrySet()) {
+			JarFile jarFile = entry.getKey();
+			Artifact artifact = entry.getValue();
+			List<Vulnerability> vulnerabilities = vulnerabilitiesByCoordinates.get(artifact.toCoordinates());
 			for (Vulnerability vulnerability : vulnerabilities) {
 				result.computeIfAbsent(vulnerability, v -> new TreeSet<>(StringUtils.SMART_ORDER))
 						.add(jarFile.getDisplayName());
@@ -120,6 +146,45 @@ public class VulnerabilitiesAnalyzer implements Analyzer {
 		return result;
 	}
 
+	/**
+	 * Look up the vulnerabilities for the given artifacts. Lookups for
+	 * different artifacts are executed concurrently, with at most
+	 * {@link #maxConcurrentLookups} lookups in flight.
+	 *
+	 * @param artifacts Artifacts (may contain duplicates)
+	 * @return Map with vulnerabilities per artifact coordinates
+	 */
+	private Map<String, List<Vulnerability>> findVulnerabilities(Collection<Artifact> artifacts) {
+
+		Map<String, Artifact> distinctArtifacts = new LinkedHashMap<>();
+		for (Artifact artifact : artifacts) {
+			distinctArtifacts.putIfAbsent(artifact.toCoordinates(), artifact);
+		}
+
+		Map<String, List<Vulnerability>> result = new HashMap<>();
+		int threads = Math.min(distinctArtifacts.size(), maxConcurrentLookups);
+		if (threads <= 1) {
+			// no need for additional threads
+			distinctArtifacts.forEach((coordinates, artifact) -> result.put(coordinates, findVulnerabilities(artifact)));
+			return result;
+		}
+
+		// lookups mostly wait for network or disk I/O
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "jarhc-vulnerability-finder");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Map<String, CompletableFuture<List<Vulnerability>>> futures = new LinkedHashMap<>();
+			distinctArtifacts.forEach((coordinates, artifact) -> futures.put(coordinates, CompletableFuture.supplyAsync(() -> findVulnerabilities(artifact), executor)));
+			futures.forEach((coordinates, future) -> result.put(coordinates, future.join()));
+		} finally {
+			executor.shutdown();
+		}
+		return result;
+	}
+
 	/**
 	 * Look up the vulnerabilities for the given artifact, returning an empty list
 	 * if the lookup fails.
@@ -21,34 +21,50 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 import org.jarhc.analyzer.Analysis;
 import org.jarhc.analyzer.Analyzer;
 import org.jarhc.analyzer.AnalyzerDescription;
 import org.jarhc.analyzer.AnalyzerRegistry;
+import org.jarhc.analyzer.IncrementalScan;
+import org.jarhc.analyzer.IncrementalState;
+import org.jarhc.analyzer.IncrementalStateStore;
 import org.jarhc.artifacts.Artifact;
 import org.jarhc.artifacts.Repository;
 import org.jarhc.artifacts.VulnerabilityFinder;
 import org.jarhc.env.ClasspathJavaRuntime;
 import org.jarhc.env.DefaultJavaRuntime;
+import org.jarhc.env.IndexedJavaRuntime;
 import org.jarhc.env.JavaRuntime;
+import org.jarhc.env.RuntimeIndex;
+import org.jarhc.env.RuntimeIndexStore;
 import org.jarhc.inject.Injector;
 import org.jarhc.java.ClassLoader;
 import org.jarhc.loader.ClasspathLoader;
+import org.jarhc.loader.JarFileCache;
 import org.jarhc.loader.LoaderBuilder;
 import org.jarhc.model.Classpath;
+import org.jarhc.model.JarFile;
+import org.jarhc.report.OrderedSections;
 import org.jarhc.report.Report;
+import org.jarhc.report.ReportContainer;
 import org.jarhc.report.ReportFormat;
 import org.jarhc.report.ReportFormatFactory;
+import org.jarhc.report.ReportPipeline;
 import org.jarhc.report.ReportSection;
-import org.jarhc.report.ReportTable;
+import org.jarhc.report.ReportSink;
+import org.jarhc.report.StreamingReportFormat;
 import org.jarhc.report.writer.ReportWriter;
 import org.jarhc.report.writer.impl.FileReportWriter;
 import org.jarhc.report.writer.impl.StreamReportWriter;
 import org.jarhc.utils.JarHcException;
 import org.jarhc.utils.StringUtils;
+import org.jarhc.utils.SymbolTable;
 import org.jarhc.utils.VersionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,7 +78,11 @@ public class Application {
 	private PrintStream out = System.out;
 	private Repository repository;
 	private VulnerabilityFinder vulnerabilityFinder;
+	private JarFileCache jarFileCache;
+	private IncrementalStateStore incrementalStateStore;
+	private RuntimeIndexStore runtimeIndexStore;
 	private Supplier<JavaRuntime> javaRuntimeFactory;
+	private ArtifactDownloader artifactDownloader = new ArtifactDownloader();
 	private final Logger logger;
 
 	public Application(Logger logger) {
@@ -85,10 +105,26 @@ public class Application {
 		this.vulnerabilityFinder = vulnerabilityFinder;
 	}
 
+	public void setJarFileCache(JarFileCache jarFileCache) {
+		this.jarFileCache = jarFileCache;
+	}
+
+	public void setIncrementalStateStore(IncrementalStateStore incrementalStateStore) {
+		this.incrementalStateStore = incrementalStateStore;
+	}
+
+	public void setRuntimeIndexStore(RuntimeIndexStore runtimeIndexStore) {
+		this.runtimeIndexStore = runtimeIndexStore;
+	}
+
 	public void setJavaRuntimeFactory(Supplier<JavaRuntime> javaRuntimeFactory) {
 		this.javaRuntimeFactory = javaRuntimeFactory;
 	}
 
+	public void setArtifactDownloader(ArtifactDownloader artifactDownloader) {
+		this.artifactDownloader = artifactDownloader;
+	}
+
 	@SuppressWarnings({
 			"java:S3776", // Cognitive Complexity of methods should not be too high
 			"java:S6541" // Methods should not perform too many tasks (aka Brain method)
@@ -115,31 +151,29 @@ public class Application {
 		List<JarSource> providedJarSources = loadJarSources(providedJarPaths);
 		List<JarSource> classpathJarSources = loadJarSources(classpathJarPaths);
 
-		out.println("Scan JAR files ...");
-
-		JavaRuntime javaRuntime = createJavaRuntime(options, runtimeJarSources);
-		ClassLoader parentClassLoader = createClassLoader(options, javaRuntime, providedJarSources);
-
-		List<Classpath> classpaths = new ArrayList<>();
-		if (options.isIsolatedScan()) {
+		// download artifacts in the order in which they are scanned,
+		// JAR files are scanned as soon as their artifact is available
+		List<JarSource> jarSources = new ArrayList<>(runtimeJarSources);
+		jarSources.addAll(providedJarSources);
+		jarSources.addAll(classpathJarSources);
+		if (jarSources.stream().anyMatch(ArtifactSource.class::isInstance)) {
+			logger.debug("Download artifacts ...");
+			artifactDownloader.startDownloads(jarSources);
+		}
 
-			// create isolated classpath for every JAR file
-			for (JarSource source : classpathJarSources) {
-				Classpath classpath = createClasspath(options, List.of(source), parentClassLoader);
-				classpaths.add(classpath);
+		out.println("Scan JAR files ...");
 
-				// set title for classpath based on artifact
-				classpath.setTitle(source.getName());
-			}
+		// share names and descriptors between all JAR files of this scan
+		SymbolTable symbolTable = new SymbolTable();
 
-			// sort classpaths by title to get a consistent order
-			classpaths.sort(Comparator.comparing(Classpath::getTitle, StringUtils.SMART_ORDER));
+		JavaRuntime javaRuntime = createJavaRuntime(options, runtimeJarSources, symbolTable);
+		ClassLoader parentClassLoader = createClassLoader(options, javaRuntime, providedJarSources, symbolTable);
 
-		} else {
+		Classpath classpath = null;
+		if (!options.isIsolatedScan()) {
 
 			// create a single classpath for all JAR files
-			Classpath classpath = createClasspath(options, classpathJarSources, parentClassLoader);
-			classpaths.add(classpath);
+			classpath = createClasspath(options, classpathJarSources, parentClassLoader, symbolTable);
 		}
 
 		out.println("Analyze classpath ...");
@@ -175,83 +209,232 @@ public class Application {
 		// prepare a new analysis
 		Analysis analysis = new Analysis(analyzers.toArray(new Analyzer[0]));
 
-		// run analysis
-		if (options.isIsolatedScan()) {
-			for (Classpath classpath : classpaths) {
+		// set report title
+		report.setTitle(options.getReportTitle());
+
+		// get report files (default to STDOUT)
+		List<String> reportFiles = options.getReportFiles();
+		if (reportFiles.isEmpty()) {
+			reportFiles.add("STDOUT");
+		}
+
+		out.println("Create report ...");
+		out.println();
+
+		// sections are passed on to the report formats as soon as they are complete:
+		// formats which support it write every section immediately,
+		// all other formats are written from the complete report after the analysis
+		ReportPipeline pipeline = new ReportPipeline(report, options.isSkipEmpty());
+		List<ReportFormat> formats = new ArrayList<>(reportFiles.size());
+		List<ReportWriter> writers = new ArrayList<>(reportFiles.size());
+		try {
+			try {
+
+				// for every report file ...
+				for (String reportFile : reportFiles) {
+
+					// create report format and writer
+					ReportFormat format = createReportFormat(reportFile, injector);
+					ReportWriter writer = createReportWriter(reportFile);
+					formats.add(format);
+					writers.add(writer);
+
+					if (format instanceof StreamingReportFormat) {
+						ReportSink sink = ((StreamingReportFormat) format).start(report, writer);
+						pipeline.addSink(sink);
+					} else {
+						pipeline.setKeepSections(true);
+					}
+				}
+
+				// run analysis
+				// note: parallel streams used by loaders and analyzers run in the same thread pool
+				ForkJoinPool pool = new ForkJoinPool(options.getParallelism());
+				try {
+					if (options.isIsolatedScan()) {
+						runIsolatedScans(analysis, classpathJarSources, parentClassLoader, symbolTable, pipeline, options, pool);
+					} else {
+						// analyze classpath
+						Classpath singleClasspath = classpath;
+						await(pool.submit(() -> runAnalysis(analysis, singleClasspath, pipeline, options)));
+						classpath.getResolutionCache().logStatistics();
+					}
+				} finally {
+					pool.shutdown();
+				}
+
+				if (jarFileCache != null) {
+					jarFileCache.logStatistics();
+				}
+
+				if (logger.isDebugEnabled()) {
+					time = System.nanoTime() - time;
+					logger.debug("Time: {} ms", time / 1000 / 1000);
+				}
+
+				// complete all reports
+				try {
+					pipeline.finish();
+					for (int i = 0; i < formats.size(); i++) {
+						ReportFormat format = formats.get(i);
+						if (!(format instanceof StreamingReportFormat)) {
+							format.format(report, writers.get(i));
+						}
+					}
+				} catch (Exception e) {
+					logger.error("Internal error while generating report.", e);
+					return 2;
+				}
+
+			} finally {
+				closeAll(writers);
+			}
+		} catch (IOException e) {
+			logger.error("I/O error while writing report.", e);
+			return 2;
+		}
 
-				// create a new section for every classpath
-				String sectionTitle = classpath.getTitle();
-				ReportSection section = new ReportSection(sectionTitle, "");
-				report.addSection(section);
+		return 0;
+	}
 
-				// analyze classpath
-				analysis.run(classpath, section);
+	private void runIsolatedScans(Analysis analysis, List<JarSource> classpathJarSources, ClassLoader parentClassLoader, SymbolTable symbolTable, ReportContainer report, Options options, ForkJoinPool pool) {
+
+		// sort JAR files by name to get a consistent order of report sections
+		List<JarSource> sources = new ArrayList<>(classpathJarSources);
+		sources.sort(Comparator.comparing(JarSource::getName, StringUtils.SMART_ORDER));
+
+		// create and analyze an isolated classpath for every JAR file
+		// note: a worker thread which waits for nested tasks can start to analyze another classpath,
+		// so the number of classpaths kept in memory at the same time is limited by permits,
+		// which are acquired in this thread (not in a worker thread) to avoid deadlocks
+		Semaphore permits = new Semaphore(pool.getParallelism());
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(sources.size());
+
+		// sections are added to the report in a fixed order, independent of the order in which classpaths are analyzed,
+		// and every section is added as soon as it and all sections before it are complete
+		OrderedSections sections = new OrderedSections(report, sources.size());
+		for (int i = 0; i < sources.size(); i++) {
+			JarSource source = sources.get(i);
+			int index = i;
+
+			// create a new section for every classpath
+			ReportSection section = new ReportSection(source.getName(), "");
+
+			acquire(permits);
+			ForkJoinTask<?> task;
+			try {
+				task = pool.submit(() -> {
+					try {
+						Classpath classpath = createClasspath(options, List.of(source), parentClassLoader, symbolTable);
+
+						// set title for classpath based on artifact
+						classpath.setTitle(source.getName());
+
+						// analyze classpath
+						runAnalysis(analysis, classpath, section, options);
+						classpath.getResolutionCache().logStatistics();
+						sections.set(index, section);
+					} finally {
+						permits.release();
+					}
+				});
+			} catch (RuntimeException e) {
+				permits.release();
+				throw e;
 			}
-		} else {
-			// analyze classpath
-			Classpath classpath = classpaths.get(0);
-			analysis.run(classpath, report);
+			tasks.add(task);
 		}
 
-		if (logger.isDebugEnabled()) {
-			time = System.nanoTime() - time;
-			logger.debug("Time: {} ms", time / 1000 / 1000);
+		// wait for all classpaths to be analyzed
+		for (ForkJoinTask<?> task : tasks) {
+			await(task);
 		}
+	}
 
-		out.println("Create report ...");
-		out.println();
+	private static void closeAll(List<ReportWriter> writers) throws IOException {
+		IOException exception = null;
+		for (ReportWriter writer : writers) {
+			try {
+				writer.close();
+			} catch (IOException e) {
+				if (exception == null) {
+					exception = e;
+				}
+			}
+		}
+		if (exception != null) {
+			throw exception;
+		}
+	}
 
-		if (options.isSkipEmpty()) {
-			// remove empty report sections
-			report.removeEmptySections();
+	private static void acquire(Semaphore permits) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JarHcException("Analysis has been interrupted.", e);
 		}
+	}
 
-		// sort rows in all tables
-		LinkedList<ReportSection> queue = new LinkedList<>(report.getSections());
-		while (!queue.isEmpty()) {
-			ReportSection section = queue.poll();
-			for (Object item : section.getContent()) {
-				if (item instanceof ReportSection) {
-					ReportSection subsection = (ReportSection) item;
-					queue.add(subsection);
-				} else if (item instanceof ReportTable) {
-					ReportTable table = (ReportTable) item;
-					table.sortRows();
-				}
+	private static void await(ForkJoinTask<?> task) {
+		try {
+			task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JarHcException("Analysis has been interrupted.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
 			}
+			throw new JarHcException("Analysis failed.", cause);
 		}
+	}
 
-		// set report title
-		report.setTitle(options.getReportTitle());
+	private void runAnalysis(Analysis analysis, Classpath classpath, ReportContainer report, Options options) {
 
-		// get report files (default to STDOUT)
-		List<String> reportFiles = options.getReportFiles();
-		if (reportFiles.isEmpty()) {
-			reportFiles.add("STDOUT");
+		if (incrementalStateStore == null) {
+			analysis.run(classpath, report);
+			return;
 		}
 
-		// for every report file ...
-		for (String reportFile : reportFiles) {
+		// load state of previous scan of the same classpath
+		String scope = getIncrementalScope(classpath, options);
+		IncrementalState previousState = incrementalStateStore.load(scope);
 
-			// create report format
-			ReportFormat format = createReportFormat(reportFile, injector);
+		// settings which have an influence on the loaded classes
+		String settings = VersionUtils.getVersion() + "\n" + options.getRelease() + "\n" + options.getClassLoaderStrategy();
 
-			// create report writer
-			try (ReportWriter writer = createReportWriter(reportFile)) {
+		IncrementalScan scan = new IncrementalScan(classpath, previousState, settings);
+		scan.logStatistics();
+		analysis.run(classpath, report, scan);
 
-				// print report
-				format.format(report, writer);
+		// save state for next scan
+		incrementalStateStore.save(scope, scan.getState());
+	}
 
-			} catch (IOException e) {
-				logger.error("I/O error while writing report.", e);
-				return 2;
-			} catch (Exception e) {
-				logger.error("Internal error while generating report.", e);
-				return 2;
+	/**
+	 * Get the scope of the incremental state of the given classpath.
+	 * <p>
+	 * The scope does not depend on paths or file names of JAR files,
+	 * so that the state is also found if a JAR file has been renamed
+	 * or updated to another version. JAR files are matched by checksum
+	 * (see {@link IncrementalScan}).
+	 */
+	private static String getIncrementalScope(Classpath classpath, Options options) {
+		String scope = options.getIncrementalScope();
+		if (options.isIsolatedScan()) {
+			// one state per artifact (independent of its version)
+			List<JarFile> jarFiles = classpath.getJarFiles();
+			if (jarFiles.isEmpty()) {
+				return scope + "\n" + classpath.getTitle();
 			}
+			JarFile jarFile = jarFiles.get(0);
+			return scope + "\n" + jarFile.getArtifactGroupId() + ":" + jarFile.getArtifactName();
 		}
-
-		return 0;
+		return scope;
 	}
 
 	private List<JarSource> loadJarSources(List<String> paths) {
@@ -277,20 +460,40 @@ public class Application {
 		return sources;
 	}
 
-	private Classpath createClasspath(Options options, List<JarSource> classpathJarFiles, ClassLoader parentClassLoader) {
+	private Classpath createClasspath(Options options, List<JarSource> classpathJarFiles, ClassLoader parentClassLoader, SymbolTable symbolTable) {
 		// load classpath JAR files
 		ClasspathLoader loader = LoaderBuilder.create()
 				.forRelease(options.getRelease())
 				.withParentClassLoader(parentClassLoader)
 				.withClassLoaderStrategy(options.getClassLoaderStrategy())
 				.withRepository(repository)
+				.withJarFileCache(jarFileCache)
+				.withSymbolTable(symbolTable)
 				.buildClasspathLoader();
 		return loader.load(classpathJarFiles);
 	}
 
-	private JavaRuntime createJavaRuntime(Options options, List<JarSource> runtimeJarFiles) {
+	private JavaRuntime createJavaRuntime(Options options, List<JarSource> runtimeJarFiles, SymbolTable symbolTable) {
 
 		if (runtimeJarFiles.isEmpty()) {
+
+			String javaHome = options.getJavaHome();
+			if (runtimeIndexStore != null) {
+				// create Java runtime based on index of runtime image
+				File javaHomeDir = new File(javaHome != null ? javaHome : System.getProperty("java.home"));
+				try {
+					RuntimeIndex runtimeIndex = runtimeIndexStore.getRuntimeIndex(javaHomeDir);
+					return new IndexedJavaRuntime(runtimeIndex);
+				} catch (IOException e) {
+					if (javaHome != null) {
+						throw new JarHcException("Failed to load Java runtime: " + javaHome, e);
+					}
+					logger.warn("Failed to load runtime index: {}", javaHomeDir.getAbsolutePath(), e);
+				}
+			} else if (javaHome != null) {
+				throw new JarHcException("Java runtime index store not configured.");
+			}
+
 			// create default Java runtime
 			return javaRuntimeFactory.get();
 		}
@@ -300,6 +503,9 @@ public class Application {
 				.forClassLoader("Runtime")
 				.forRelease(options.getRelease())
 				.scanForReferences(false)
+				.lazyMemberDefs(true)
+				.withJarFileCache(jarFileCache)
+				.withSymbolTable(symbolTable)
 				.buildClasspathLoader();
 		Classpath runtimeClasspath = loader.load(runtimeJarFiles);
 
@@ -307,7 +513,7 @@ public class Application {
 		return new ClasspathJavaRuntime(runtimeClasspath);
 	}
 
-	private ClassLoader createClassLoader(Options options, JavaRuntime javaRuntime, List<JarSource> providedJarFiles) {
+	private ClassLoader createClassLoader(Options options, JavaRuntime javaRuntime, List<JarSource> providedJarFiles, SymbolTable symbolTable) {
 
 		if (providedJarFiles.isEmpty()) {
 			// use original Java runtime
@@ -319,9 +525,12 @@ public class Application {
 				.forClassLoader("Provided")
 				.forRelease(options.getRelease())
 				.scanForReferences(false)
+				.lazyMemberDefs(true)
 				.withParentClassLoader(javaRuntime)
 				.withClassLoaderStrategy(options.getClassLoaderStrategy())
 				.withRepository(repository)
+				.withJarFileCache(jarFileCache)
+				.withSymbolTable(symbolTable)
 				.buildClasspathLoader();
 		return loader.load(providedJarFiles);
 	}
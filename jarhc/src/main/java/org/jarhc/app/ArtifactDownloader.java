@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Downloads all artifacts given by Maven coordinates concurrently, before the
+ * JAR files are scanned.
+ * <p>
+ * Downloads run in a dedicated thread pool and do not block the threads
+ * which parse the JAR files. A JAR file can be parsed as soon as its
+ * artifact has been downloaded, while other artifacts are still downloading.
+ */
+public class ArtifactDownloader {
+
+	/**
+	 * Default maximum number of artifacts downloaded at the same time.
+	 */
+	public static final int DEFAULT_MAX_DOWNLOADS = 8;
+
+	private final int maxDownloads;
+	private final Logger logger;
+
+	public ArtifactDownloader() {
+		this(DEFAULT_MAX_DOWNLOADS, LoggerFactory.getLogger(ArtifactDownloader.class));
+	}
+
+	public ArtifactDownloader(int maxDownloads, Logger logger) {
+		if (maxDownloads < 1) throw new IllegalArgumentException("maxDownloads < 1");
+		this.maxDownloads = maxDownloads;
+		this.logger = logger;
+	}
+
+	/**
+	 * Start to download the artifacts of all {@link ArtifactSource}s in the
+	 * given list. Other sources are ignored. This method does not wait until
+	 * the downloads have finished.
+	 *
+	 * @param sources JAR sources
+	 * @return Future completed when all downloads have finished
+	 */
+	public CompletableFuture<Void> startDownloads(List<JarSource> sources) {
+		if (sources == null) throw new IllegalArgumentException("sources");
+
+		List<ArtifactSource> artifactSources = new ArrayList<>();
+		for (JarSource source : sources) {
+			if (source instanceof ArtifactSource) {
+				artifactSources.add((ArtifactSource) source);
+			}
+		}
+
+		int total = artifactSources.size();
+		if (total == 0) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		// downloads mostly wait for network or disk I/O
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(total, maxDownloads), runnable -> {
+			Thread thread = new Thread(runnable, "jarhc-artifact-downloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		AtomicInteger count = new AtomicInteger();
+		List<CompletableFuture<?>> futures = new ArrayList<>(total);
+		try {
+			for (ArtifactSource source : artifactSources) {
+				CompletableFuture<?> future = source.startDownload(executor).whenComplete((result, exception) -> {
+					// report progress
+					if (logger.isDebugEnabled()) {
+						String status = exception != null ? "failed" : "finished";
+						logger.debug("Download {}: {} ({}/{})", status, source.getCoordinates(), count.incrementAndGet(), total);
+					}
+				});
+				futures.add(future);
+			}
+		} finally {
+			// threads terminate after all downloads have finished
+			executor.shutdown();
+		}
+
+		// note: errors are reported when the JAR files are loaded
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null);
+	}
+
+}
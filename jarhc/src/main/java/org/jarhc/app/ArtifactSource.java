@@ -18,6 +18,12 @@ package org.jarhc.app;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import org.jarhc.artifacts.Artifact;
 import org.jarhc.artifacts.Repository;
 import org.jarhc.artifacts.RepositoryException;
@@ -27,6 +33,10 @@ public class ArtifactSource implements JarSource {
 	private final String coordinates;
 	private final Repository repository;
 
+	// download started in advance (see ArtifactDownloader),
+	// handed over to the first caller of getInputStream()
+	private CompletableFuture<Optional<InputStream>> download;
+
 	public ArtifactSource(String coordinates, Repository repository) {
 		if (coordinates == null) throw new IllegalArgumentException("coordinates");
 		this.coordinates = coordinates;
@@ -49,14 +59,55 @@ public class ArtifactSource implements JarSource {
 		return artifact.getFileName();
 	}
 
+	/**
+	 * Start to download the artifact in the background.
+	 * The downloaded artifact is returned by the next call to
+	 * {@link #getInputStream()}.
+	 *
+	 * @param executor Executor used to download the artifact
+	 * @return Future completed when the download has finished (successfully or not)
+	 */
+	synchronized CompletableFuture<?> startDownload(Executor executor) {
+		if (download == null) {
+			Artifact artifact = new Artifact(coordinates);
+			download = CompletableFuture.supplyAsync(() -> {
+				try {
+					return repository.downloadArtifact(artifact);
+				} catch (RepositoryException e) {
+					throw new CompletionException(e);
+				}
+			}, executor);
+		}
+		return download;
+	}
+
 	@Override
 	public InputStream getInputStream() throws IOException {
-		Artifact artifact = new Artifact(coordinates);
+
+		// take over download started in advance (if any)
+		CompletableFuture<Optional<InputStream>> future;
+		synchronized (this) {
+			future = download;
+			download = null;
+		}
+
+		Optional<InputStream> stream;
 		try {
-			return repository.downloadArtifact(artifact).orElseThrow(() -> new IOException("Artifact not found: " + coordinates));
+			if (future != null) {
+				stream = future.get();
+			} else {
+				stream = repository.downloadArtifact(new Artifact(coordinates));
+			}
 		} catch (RepositoryException e) {
 			throw new IOException(e);
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Download interrupted: " + coordinates);
 		}
+
+		return stream.orElseThrow(() -> new IOException("Artifact not found: " + coordinates));
 	}
 
 	@Override
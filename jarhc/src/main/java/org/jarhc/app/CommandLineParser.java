@@ -48,6 +48,7 @@ import org.jarhc.utils.VersionUtils;
 public class CommandLineParser {
 
 	private static final Pattern ENV_VAR_PATTERN = Pattern.compile("\\$\\{([^}]+)}");
+	private static final Pattern TTL_PATTERN = Pattern.compile("(\\d{1,9})([mhd])");
 
 	private static final List<String> DEPRECATED_OPTIONS = Arrays.asList("-h", "-v", "-r", "-cp", "-s", "-t", "-o");
 
@@ -89,8 +90,10 @@ public class CommandLineParser {
 		optionParsers.put("--classpath", this::parseClasspath);
 		optionParsers.put("--provided", this::parseProvided);
 		optionParsers.put("--runtime", this::parseRuntime);
+		optionParsers.put("--java-home", this::parseJavaHome);
 		optionParsers.put("--strategy", this::parseStrategy);
 		optionParsers.put("--isolated-scan", (args, options) -> options.setIsolatedScan(true));
+		optionParsers.put("--parallelism", this::parseParallelism);
 		optionParsers.put("--skip-empty", (args, options) -> options.setSkipEmpty(true));
 		optionParsers.put("--ignore-missing-annotations", (args, options) -> options.setIgnoreMissingAnnotations(true));
 		optionParsers.put("--ignore-exact-copy", (args, options) -> options.setIgnoreExactCopy(true));
@@ -98,6 +101,13 @@ public class CommandLineParser {
 		optionParsers.put("--repository-username", this::parseRepositoryUsername);
 		optionParsers.put("--repository-password", this::parseRepositoryPassword);
 		optionParsers.put("--data", this::parseData);
+		optionParsers.put("--incremental", (args, options) -> options.setIncremental(true));
+		optionParsers.put("--incremental-scope", this::parseIncrementalScope);
+		optionParsers.put("--offline", (args, options) -> options.setOffline(true));
+		optionParsers.put("--artifacts-ttl", (args, options) -> options.setArtifactsTtlMillis(parseTtl(args)));
+		optionParsers.put("--artifacts-negative-ttl", (args, options) -> options.setArtifactsNegativeTtlMillis(parseTtl(args)));
+		optionParsers.put("--vulnerabilities-ttl", (args, options) -> options.setVulnerabilitiesTtlMillis(parseTtl(args)));
+		optionParsers.put("--vulnerabilities-negative-ttl", (args, options) -> options.setVulnerabilitiesNegativeTtlMillis(parseTtl(args)));
 
 		// diff options
 		optionParsers.put("--diff", this::parseDiff);
@@ -215,6 +225,46 @@ public class CommandLineParser {
 		options.setRelease(release);
 	}
 
+	private void parseParallelism(Iterator<String> args, Options options) throws CommandLineException {
+		if (!args.hasNext()) throw handleError(-30, "Parallelism not specified.");
+
+		String value = args.next();
+		int parallelism;
+		try {
+			parallelism = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw handleError(-31, "Parallelism '" + value + "' is not valid.");
+		}
+		if (parallelism < 1) {
+			throw handleError(-32, "Parallelism " + parallelism + " is not supported.");
+		}
+		options.setParallelism(parallelism);
+	}
+
+	private long parseTtl(Iterator<String> args) throws CommandLineException {
+		if (!args.hasNext()) throw handleError(-35, "Time-to-live not specified.");
+
+		String value = args.next();
+		if (value.equals("unlimited")) {
+			return Long.MAX_VALUE;
+		}
+
+		Matcher matcher = TTL_PATTERN.matcher(value);
+		if (!matcher.matches()) {
+			throw handleError(-36, "Time-to-live '" + value + "' is not valid.");
+		}
+
+		long amount = Long.parseLong(matcher.group(1));
+		switch (matcher.group(2)) {
+			case "m":
+				return amount * 60 * 1000;
+			case "h":
+				return amount * 60 * 60 * 1000;
+			default:
+				return amount * 24 * 60 * 60 * 1000;
+		}
+	}
+
 	private void parseClasspath(Iterator<String> args, Options options) throws CommandLineException {
 		if (!args.hasNext()) throw handleError(-10, "Classpath not specified.");
 
@@ -236,6 +286,21 @@ public class CommandLineParser {
 		addSources(values, options::addRuntimeJarPath);
 	}
 
+	private void parseJavaHome(Iterator<String> args, Options options) throws CommandLineException {
+		if (!args.hasNext()) throw handleError(-33, "Java home not specified.");
+
+		String path = args.next();
+
+		// check if Java installation contains a runtime image (Java 9 or greater)
+		File modulesFile = new File(path, "lib/modules");
+		if (!modulesFile.isFile()) {
+			String errorMessage = String.format("Java runtime image not found: %s", path);
+			throw handleError(-34, errorMessage);
+		}
+
+		options.setJavaHome(path);
+	}
+
 	private void parseStrategy(Iterator<String> args, Options options) throws CommandLineException {
 		if (!args.hasNext()) throw handleError(-12, "Class loader strategy not specified.");
 
@@ -315,6 +380,13 @@ public class CommandLineParser {
 		options.setDataPath(value);
 	}
 
+	private void parseIncrementalScope(Iterator<String> args, Options options) throws CommandLineException {
+		if (!args.hasNext()) throw handleError(-37, "Incremental scope not specified.");
+
+		String value = args.next();
+		options.setIncrementalScope(value);
+	}
+
 	private void addSources(String values, Consumer<String> classpath) throws CommandLineException {
 		for (String value : values.split(",")) {
 			value = value.trim();
@@ -19,6 +19,8 @@ package org.jarhc.app;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import org.jarhc.artifacts.CacheFileArtifactFinder;
+import org.jarhc.artifacts.CacheFileVulnerabilityFinder;
 import org.jarhc.artifacts.MavenRepository;
 import org.jarhc.java.ClassLoaderStrategy;
 import org.jarhc.utils.JavaUtils;
@@ -32,6 +34,7 @@ public class Options implements MavenRepository.Settings {
 	private static final String REPOSITORY_PASSWORD = "repository.password";
 
 	private static final String DEFAULT_TITLE = "JAR Health Check Report";
+	private static final String DEFAULT_INCREMENTAL_SCOPE = "default";
 
 	private final Command command;
 
@@ -44,8 +47,10 @@ public class Options implements MavenRepository.Settings {
 	private final List<String> classpathJarPaths = new ArrayList<>();
 	private final List<String> providedJarPaths = new ArrayList<>();
 	private final List<String> runtimeJarPaths = new ArrayList<>();
+	private String javaHome = null; // Java runtime used to run JarHC
 	private ClassLoaderStrategy classLoaderStrategy = ClassLoaderStrategy.ParentLast;
 	private boolean isolatedScan = false;
+	private int parallelism = Runtime.getRuntime().availableProcessors();
 	private boolean ignoreMissingAnnotations = false;
 	private boolean ignoreExactCopy = false;
 	private String repositoryUrl = System.getProperty("jarhc." + REPOSITORY_URL, MAVEN_CENTRAL_URL);
@@ -53,6 +58,13 @@ public class Options implements MavenRepository.Settings {
 	private String repositoryPassword = System.getProperty("jarhc." + REPOSITORY_PASSWORD);
 	private boolean skipEmpty = false;
 	private String dataPath = null;
+	private boolean incremental = false;
+	private String incrementalScope = DEFAULT_INCREMENTAL_SCOPE;
+	private boolean offline = false;
+	private long artifactsTtlMillis = CacheFileArtifactFinder.DEFAULT_POSITIVE_TTL_MILLIS;
+	private long artifactsNegativeTtlMillis = CacheFileArtifactFinder.DEFAULT_NEGATIVE_TTL_MILLIS;
+	private long vulnerabilitiesTtlMillis = CacheFileVulnerabilityFinder.DEFAULT_POSITIVE_TTL_MILLIS;
+	private long vulnerabilitiesNegativeTtlMillis = CacheFileVulnerabilityFinder.DEFAULT_NEGATIVE_TTL_MILLIS;
 
 	// diff options
 	private String input1 = null;
@@ -125,6 +137,14 @@ public class Options implements MavenRepository.Settings {
 		this.classLoaderStrategy = classLoaderStrategy;
 	}
 
+	public String getJavaHome() {
+		return javaHome;
+	}
+
+	public void setJavaHome(String javaHome) {
+		this.javaHome = javaHome;
+	}
+
 	public boolean isIsolatedScan() {
 		return isolatedScan;
 	}
@@ -133,6 +153,15 @@ public class Options implements MavenRepository.Settings {
 		this.isolatedScan = isolatedScan;
 	}
 
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) throw new IllegalArgumentException("parallelism < 1");
+		this.parallelism = parallelism;
+	}
+
 	public boolean isIgnoreMissingAnnotations() {
 		return ignoreMissingAnnotations;
 	}
@@ -213,6 +242,67 @@ public class Options implements MavenRepository.Settings {
 		this.dataPath = dataPath;
 	}
 
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	public String getIncrementalScope() {
+		return incrementalScope;
+	}
+
+	public void setIncrementalScope(String incrementalScope) {
+		if (incrementalScope == null) throw new IllegalArgumentException("incrementalScope");
+		this.incrementalScope = incrementalScope;
+	}
+
+	public boolean isOffline() {
+		return offline;
+	}
+
+	public void setOffline(boolean offline) {
+		this.offline = offline;
+	}
+
+	public long getArtifactsTtlMillis() {
+		return artifactsTtlMillis;
+	}
+
+	public void setArtifactsTtlMillis(long artifactsTtlMillis) {
+		if (artifactsTtlMillis < 0) throw new IllegalArgumentException("artifactsTtlMillis < 0");
+		this.artifactsTtlMillis = artifactsTtlMillis;
+	}
+
+	public long getArtifactsNegativeTtlMillis() {
+		return artifactsNegativeTtlMillis;
+	}
+
+	public void setArtifactsNegativeTtlMillis(long artifactsNegativeTtlMillis) {
+		if (artifactsNegativeTtlMillis < 0) throw new IllegalArgumentException("artifactsNegativeTtlMillis < 0");
+		this.artifactsNegativeTtlMillis = artifactsNegativeTtlMillis;
+	}
+
+	public long getVulnerabilitiesTtlMillis() {
+		return vulnerabilitiesTtlMillis;
+	}
+
+	public void setVulnerabilitiesTtlMillis(long vulnerabilitiesTtlMillis) {
+		if (vulnerabilitiesTtlMillis < 0) throw new IllegalArgumentException("vulnerabilitiesTtlMillis < 0");
+		this.vulnerabilitiesTtlMillis = vulnerabilitiesTtlMillis;
+	}
+
+	public long getVulnerabilitiesNegativeTtlMillis() {
+		return vulnerabilitiesNegativeTtlMillis;
+	}
+
+	public void setVulnerabilitiesNegativeTtlMillis(long vulnerabilitiesNegativeTtlMillis) {
+		if (vulnerabilitiesNegativeTtlMillis < 0) throw new IllegalArgumentException("vulnerabilitiesNegativeTtlMillis < 0");
+		this.vulnerabilitiesNegativeTtlMillis = vulnerabilitiesNegativeTtlMillis;
+	}
+
 	//-------------------------------------------------------------------------
 
 	public String getInput1() {
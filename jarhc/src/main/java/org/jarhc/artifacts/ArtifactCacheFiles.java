@@ -32,15 +32,39 @@ final class ArtifactCacheFiles {
 
 	static List<Artifact> readArtifactsFromFile(File cacheFile) {
 
-		String[] lines;
+		String text;
 		try {
-			lines = FileUtils.readFileToString(cacheFile).split("\n");
+			text = FileUtils.readFileToString(cacheFile);
 		} catch (IOException e) {
 			throw new JarHcException(e);
 		}
 
+		return parseArtifacts(text);
+	}
+
+	static void writeArtifactsToFile(List<Artifact> artifacts, File cacheFile) {
+		String lines = formatArtifacts(artifacts);
+		try {
+			FileUtils.writeStringToFile(lines, cacheFile);
+		} catch (IOException e) {
+			throw new JarHcException(e);
+		}
+	}
+
+	/**
+	 * Parse a list of artifacts, one artifact per line.
+	 *
+	 * @param text Artifact coordinates, or an empty string for an empty list
+	 * @return List of artifacts
+	 */
+	static List<Artifact> parseArtifacts(String text) {
+
 		List<Artifact> artifacts = new ArrayList<>();
-		for (String coordinates : lines) {
+		if (text.isEmpty()) {
+			return artifacts;
+		}
+
+		for (String coordinates : text.split("\n")) {
 			if (Artifact.validateCoordinates(coordinates)) {
 				artifacts.add(new Artifact(coordinates));
 			} else {
@@ -51,12 +75,8 @@ final class ArtifactCacheFiles {
 		return artifacts;
 	}
 
-	static void writeArtifactsToFile(List<Artifact> artifacts, File cacheFile) {
-		String lines = artifacts.stream().map(Artifact::toString).collect(Collectors.joining("\n"));
-		try {
-			FileUtils.writeStringToFile(lines, cacheFile);
-		} catch (IOException e) {
-			throw new JarHcException(e);
-		}
+	static String formatArtifacts(List<Artifact> artifacts) {
+		return artifacts.stream().map(Artifact::toString).collect(Collectors.joining("\n"));
 	}
+
 }
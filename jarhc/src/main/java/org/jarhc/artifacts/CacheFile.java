@@ -0,0 +1,478 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disk cache for lookup results, stored in a single file.
+ * <p>
+ * The file is a log of records which are only appended, never modified in
+ * place. Every record contains a key, a value, and an expiry timestamp, and
+ * is protected by a CRC-32 checksum. The last record for a key wins. An
+ * in-memory hash index maps every key to the position of its last record,
+ * so values are only read from disk when they are requested.
+ * <p>
+ * Multiple processes can share the same file. Records are appended while
+ * holding an exclusive lock on the file, and records appended by other
+ * processes are added to the index when a key is not found. A record which
+ * has not been written completely (for example, because a process has been
+ * killed) is ignored and overwritten by the next record.
+ * <p>
+ * If more than half of the file is used by outdated or expired records, the
+ * remaining records are written into a new file which then replaces the old
+ * one (compaction). Other processes notice this by a flag in the header of
+ * the old file, and open the new file.
+ * <p>
+ * This class is thread-safe. Use only one instance per file and process.
+ */
+public class CacheFile implements Closeable {
+
+	private static final int MAGIC = 0x4A484343; // "JHCC"
+	private static final int FORMAT_VERSION = 1;
+
+	// header: magic number, format version, state
+	private static final int HEADER_SIZE = 12;
+	private static final int STATE_POSITION = 8;
+	private static final int STATE_ACTIVE = 0;
+	private static final int STATE_OBSOLETE = 1;
+
+	// record: length of payload, CRC-32 of payload, payload
+	private static final int RECORD_HEADER_SIZE = 8;
+	private static final int MAX_PAYLOAD_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Files smaller than this size are never compacted (1 MB).
+	 */
+	private static final long MIN_COMPACTION_SIZE = 1024 * 1024L;
+
+	private final File file;
+	private final Logger logger;
+
+	private FileChannel channel;
+
+	// index of the last record for every key
+	private final Map<String, Record> index = new HashMap<>();
+
+	// end of the last valid record in the file
+	private long endPosition;
+
+	// total size of all records in the index
+	private long indexSize;
+
+	// total size of all records in the index which had expired when the file was opened
+	private long expiredSize;
+
+	public CacheFile(File file) {
+		this(file, LoggerFactory.getLogger(CacheFile.class));
+	}
+
+	public CacheFile(File file, Logger logger) {
+		if (file == null) throw new IllegalArgumentException("file");
+		this.file = file;
+		this.logger = logger;
+	}
+
+	/**
+	 * Get the last entry stored for the given key.
+	 * The entry is returned also if it has expired.
+	 *
+	 * @param key Key
+	 * @return Entry, or <code>null</code> if no entry has been found.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized Entry get(String key) throws IOException {
+		if (key == null) throw new IllegalArgumentException("key");
+
+		open();
+
+		Record record = index.get(key);
+		if (record == null) {
+			// entry may have been added by another process
+			if (isObsolete()) {
+				reopen();
+			} else {
+				refresh();
+			}
+			record = index.get(key);
+			if (record == null) {
+				return null;
+			}
+		}
+
+		ByteBuffer payload = ByteBuffer.allocate(record.size - RECORD_HEADER_SIZE);
+		readFully(channel, payload, record.position + RECORD_HEADER_SIZE);
+		payload.flip();
+		return readEntry(payload);
+	}
+
+	/**
+	 * Store an entry for the given key.
+	 *
+	 * @param key     Key
+	 * @param value   Value
+	 * @param expires Time when the entry expires (in milliseconds since the epoch)
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized void put(String key, String value, long expires) throws IOException {
+		if (key == null) throw new IllegalArgumentException("key");
+		if (value == null) throw new IllegalArgumentException("value");
+
+		ByteBuffer record = createRecord(new Entry(key, value, expires));
+
+		while (true) {
+			open();
+			boolean obsolete;
+			try (FileLock lock = channel.lock()) {
+				obsolete = isObsolete();
+				if (!obsolete) {
+					// add records written by other processes,
+					// and append new record after the last valid record
+					refresh();
+					writeFully(channel, record, endPosition);
+					refresh();
+				}
+			}
+			if (!obsolete) break;
+			reopen();
+		}
+
+		// compact file if more than half of it is used by outdated or expired records
+		// (estimate, records which expire after the file has been opened are not counted)
+		long fileSize = endPosition - HEADER_SIZE;
+		if (fileSize > MIN_COMPACTION_SIZE && indexSize - expiredSize < fileSize / 2) {
+			compact();
+		}
+	}
+
+	/**
+	 * Remove outdated and expired records from the file.
+	 *
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized void compact() throws IOException {
+
+		open();
+
+		try (FileLock lock = channel.lock()) {
+			// note: file may have already been compacted by another process
+			if (!isObsolete()) {
+				refresh();
+				writeCompactedFile();
+
+				// tell other processes to open the new file
+				ByteBuffer state = ByteBuffer.allocate(4).putInt(0, STATE_OBSOLETE);
+				writeFully(channel, state, STATE_POSITION);
+			}
+		}
+
+		reopen();
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Cache file compacted: {} ({} entries, {} bytes)", file.getAbsolutePath(), index.size(), endPosition);
+		}
+	}
+
+	private void writeCompactedFile() throws IOException {
+
+		// copy all valid records in their original order
+		long now = System.currentTimeMillis();
+		List<Record> records = new ArrayList<>(index.values());
+		records.sort(Comparator.comparingLong(record -> record.position));
+
+		File tempFile = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+		try {
+			try (FileChannel tempChannel = FileChannel.open(tempFile.toPath(), WRITE)) {
+				writeFully(tempChannel, createHeader(), 0);
+				long position = HEADER_SIZE;
+				for (Record record : records) {
+					if (record.expires <= now) continue;
+					ByteBuffer data = ByteBuffer.allocate(record.size);
+					readFully(channel, data, record.position);
+					data.flip();
+					writeFully(tempChannel, data, position);
+					position += record.size;
+				}
+				tempChannel.force(true);
+			}
+
+			// replace file with temporary file
+			try {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile.toPath());
+		}
+	}
+
+	/**
+	 * Get the number of keys in the file.
+	 *
+	 * @return Number of keys
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized int size() throws IOException {
+		open();
+		refresh();
+		return index.size();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	private void open() throws IOException {
+		if (channel != null) return;
+
+		File directory = file.getAbsoluteFile().getParentFile();
+		Files.createDirectories(directory.toPath());
+		channel = FileChannel.open(file.toPath(), READ, WRITE, CREATE);
+		index.clear();
+		endPosition = HEADER_SIZE;
+		indexSize = 0;
+		expiredSize = 0;
+
+		if (!hasValidHeader()) {
+			try (FileLock lock = channel.lock()) {
+				if (!hasValidHeader()) {
+					// new file, or file written by a different version
+					channel.truncate(0);
+					writeFully(channel, createHeader(), 0);
+				}
+			}
+		}
+
+		refresh();
+
+		long now = System.currentTimeMillis();
+		for (Record record : index.values()) {
+			if (record.expires <= now) {
+				expiredSize += record.size;
+			}
+		}
+	}
+
+	private void reopen() throws IOException {
+		close();
+		open();
+	}
+
+	private boolean hasValidHeader() throws IOException {
+		if (channel.size() < HEADER_SIZE) {
+			return false;
+		}
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		readFully(channel, header, 0);
+		return header.getInt(0) == MAGIC && header.getInt(4) == FORMAT_VERSION;
+	}
+
+	private boolean isObsolete() throws IOException {
+		ByteBuffer state = ByteBuffer.allocate(4);
+		readFully(channel, state, STATE_POSITION);
+		return state.getInt(0) == STATE_OBSOLETE;
+	}
+
+	/**
+	 * Add all valid records after the current end position to the index.
+	 */
+	private void refresh() throws IOException {
+
+		long size = channel.size();
+		if (size <= endPosition) {
+			return;
+		}
+
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, endPosition, size - endPosition);
+		CRC32 crc = new CRC32();
+		while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+			int start = buffer.position();
+			int length = buffer.getInt(start);
+			int checksum = buffer.getInt(start + 4);
+			if (length <= 0 || length > MAX_PAYLOAD_SIZE || length > buffer.remaining() - RECORD_HEADER_SIZE) {
+				// incomplete record
+				break;
+			}
+
+			ByteBuffer payload = buffer.duplicate();
+			payload.position(start + RECORD_HEADER_SIZE).limit(start + RECORD_HEADER_SIZE + length);
+			crc.reset();
+			crc.update(payload.duplicate());
+			if ((int) crc.getValue() != checksum) {
+				// incomplete or corrupt record
+				break;
+			}
+
+			Entry entry = readEntry(payload);
+			Record record = new Record(endPosition, RECORD_HEADER_SIZE + length, entry.expires);
+			Record oldRecord = index.put(entry.key, record);
+			indexSize += record.size - (oldRecord != null ? oldRecord.size : 0);
+
+			endPosition += record.size;
+			buffer.position(start + record.size);
+		}
+	}
+
+	private static ByteBuffer createHeader() {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(STATE_ACTIVE);
+		header.flip();
+		return header;
+	}
+
+	private static ByteBuffer createRecord(Entry entry) {
+
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		try (DataOutputStream stream = new DataOutputStream(data)) {
+			stream.writeLong(entry.expires);
+			byte[] key = entry.key.getBytes(StandardCharsets.UTF_8);
+			stream.writeInt(key.length);
+			stream.write(key);
+			byte[] value = entry.value.getBytes(StandardCharsets.UTF_8);
+			stream.writeInt(value.length);
+			stream.write(value);
+		} catch (IOException e) {
+			throw new AssertionError(e); // should never happen
+		}
+
+		byte[] payload = data.toByteArray();
+		if (payload.length > MAX_PAYLOAD_SIZE) {
+			throw new IllegalArgumentException("Entry too large: " + entry.key);
+		}
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+		record.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+		record.flip();
+		return record;
+	}
+
+	private static Entry readEntry(ByteBuffer payload) {
+		long expires = payload.getLong();
+		String key = readString(payload);
+		String value = readString(payload);
+		return new Entry(key, value, expires);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int count = channel.read(buffer, position);
+			if (count < 0) throw new EOFException();
+			position += count;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * Position, size, and expiry timestamp of a record.
+	 */
+	private static final class Record {
+
+		private final long position;
+		private final int size;
+		private final long expires;
+
+		private Record(long position, int size, long expires) {
+			this.position = position;
+			this.size = size;
+			this.expires = expires;
+		}
+
+	}
+
+	/**
+	 * Entry stored in a cache file.
+	 */
+	public static final class Entry {
+
+		private final String key;
+		private final String value;
+		private final long expires;
+
+		private Entry(String key, String value, long expires) {
+			this.key = key;
+			this.value = value;
+			this.expires = expires;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		public String getValue() {
+			return value;
+		}
+
+		/**
+		 * Get the time when this entry expires.
+		 *
+		 * @return Expiry timestamp (in milliseconds since the epoch)
+		 */
+		public long getExpires() {
+			return expires;
+		}
+
+		public boolean isExpired() {
+			return expires <= System.currentTimeMillis();
+		}
+
+	}
+
+}
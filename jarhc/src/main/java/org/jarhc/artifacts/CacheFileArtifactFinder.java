@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link ArtifactFinder} that caches the results in a
+ * single {@link CacheFile}, including empty results.
+ * <p>
+ * The artifacts with a given checksum never change, so found artifacts do not
+ * expire by default. Empty results expire after
+ * {@value #DEFAULT_NEGATIVE_TTL_MILLIS} ms by default, so that artifacts which
+ * are published later are eventually found.
+ * <p>
+ * Entries of the previous disk cache with one file per checksum (see
+ * {@link DiskCacheArtifactFinder}) are copied into the cache file when they are
+ * requested for the first time.
+ * <p>
+ * In offline mode, cached entries are used even if they have expired, and
+ * the delegate artifact finder is never called.
+ */
+public class CacheFileArtifactFinder implements ArtifactFinder {
+
+	/**
+	 * Default time-to-live for found artifacts: unlimited.
+	 */
+	public static final long DEFAULT_POSITIVE_TTL_MILLIS = Long.MAX_VALUE;
+
+	/**
+	 * Default time-to-live for empty results: 1 day.
+	 */
+	public static final long DEFAULT_NEGATIVE_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+
+	private final CacheFile cacheFile;
+	private final File legacyCacheDir;
+	private final ArtifactFinder delegate;
+	private final boolean offline;
+	private final long positiveTtlMillis;
+	private final long negativeTtlMillis;
+	private final Logger logger;
+
+	/**
+	 * Create a new artifact finder.
+	 *
+	 * @param cacheFile      Cache file
+	 * @param legacyCacheDir Directory with one file per checksum (may be <code>null</code>)
+	 * @param delegate       Artifact finder used if an artifact is not found in the cache
+	 */
+	public CacheFileArtifactFinder(CacheFile cacheFile, File legacyCacheDir, ArtifactFinder delegate) {
+		this(cacheFile, legacyCacheDir, delegate, false);
+	}
+
+	/**
+	 * Create a new artifact finder.
+	 *
+	 * @param cacheFile      Cache file
+	 * @param legacyCacheDir Directory with one file per checksum (may be <code>null</code>)
+	 * @param delegate       Artifact finder used if an artifact is not found in the cache
+	 * @param offline        <code>true</code> to use expired entries and to never call the delegate
+	 */
+	public CacheFileArtifactFinder(CacheFile cacheFile, File legacyCacheDir, ArtifactFinder delegate, boolean offline) {
+		this(cacheFile, legacyCacheDir, delegate, offline, DEFAULT_POSITIVE_TTL_MILLIS, DEFAULT_NEGATIVE_TTL_MILLIS, LoggerFactory.getLogger(CacheFileArtifactFinder.class));
+	}
+
+	public CacheFileArtifactFinder(CacheFile cacheFile, File legacyCacheDir, ArtifactFinder delegate, boolean offline, long positiveTtlMillis, long negativeTtlMillis, Logger logger) {
+		if (cacheFile == null) throw new IllegalArgumentException("cacheFile");
+		if (delegate == null) throw new IllegalArgumentException("delegate");
+		if (positiveTtlMillis < 0) throw new IllegalArgumentException("positiveTtlMillis < 0");
+		if (negativeTtlMillis < 0) throw new IllegalArgumentException("negativeTtlMillis < 0");
+		this.cacheFile = cacheFile;
+		this.legacyCacheDir = legacyCacheDir;
+		this.delegate = delegate;
+		this.offline = offline;
+		this.positiveTtlMillis = positiveTtlMillis;
+		this.negativeTtlMillis = negativeTtlMillis;
+		this.logger = logger;
+	}
+
+	@Override
+	public List<Artifact> findArtifacts(String checksum) throws RepositoryException {
+
+		ArtifactFinder.validateChecksum(checksum);
+
+		CacheFile.Entry entry = getEntry(checksum);
+		if (entry != null) {
+			if (!entry.isExpired() || offline) {
+				List<Artifact> artifacts = ArtifactCacheFiles.parseArtifacts(entry.getValue());
+				logger.debug("Artifact found: {} -> {} (cache file)", checksum, artifacts);
+				return artifacts;
+			}
+			logger.debug("Artifact cache expired: {}", checksum);
+		} else if (legacyCacheDir != null) {
+			File legacyCacheFile = new File(legacyCacheDir, checksum + ".txt");
+			if (legacyCacheFile.isFile()) {
+				List<Artifact> artifacts = ArtifactCacheFiles.readArtifactsFromFile(legacyCacheFile);
+				putEntry(checksum, artifacts, legacyCacheFile.lastModified());
+				logger.debug("Artifact found: {} -> {} (disk cache)", checksum, artifacts);
+				return artifacts;
+			}
+		}
+
+		if (offline) {
+			logger.debug("Artifact not found: {} (offline)", checksum);
+			return new ArrayList<>();
+		}
+
+		List<Artifact> artifacts = delegate.findArtifacts(checksum);
+		putEntry(checksum, artifacts, System.currentTimeMillis());
+		return artifacts;
+	}
+
+	private CacheFile.Entry getEntry(String checksum) {
+		try {
+			return cacheFile.get(checksum);
+		} catch (IOException e) {
+			logger.warn("Failed to read cache entry: {}", checksum, e);
+			return null;
+		}
+	}
+
+	private void putEntry(String checksum, List<Artifact> artifacts, long timestamp) {
+		long ttl = artifacts.isEmpty() ? negativeTtlMillis : positiveTtlMillis;
+		long expires = ttl > Long.MAX_VALUE - timestamp ? Long.MAX_VALUE : timestamp + ttl;
+		try {
+			cacheFile.put(checksum, ArtifactCacheFiles.formatArtifacts(artifacts), expires);
+		} catch (IOException e) {
+			logger.warn("Failed to write cache entry: {}", checksum, e);
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link VulnerabilityFinder} that caches the results in a
+ * single {@link CacheFile}, including empty results.
+ * <p>
+ * Like in {@link DiskCacheVulnerabilityFinder}, entries expire after a limited
+ * time, so that newly disclosed vulnerabilities and updated advisory details
+ * are picked up. Results with and without vulnerabilities can have different
+ * time-to-live values.
+ * <p>
+ * Entries of the previous disk cache with one file per artifact are copied
+ * into the cache file when they are requested for the first time, unless
+ * they have expired.
+ * <p>
+ * In offline mode, cached entries are used even if they have expired, and
+ * the delegate vulnerability finder is never called.
+ */
+public class CacheFileVulnerabilityFinder implements VulnerabilityFinder {
+
+	/**
+	 * Default time-to-live for results with vulnerabilities: 1 hour.
+	 */
+	public static final long DEFAULT_POSITIVE_TTL_MILLIS = DiskCacheVulnerabilityFinder.DEFAULT_TTL_MILLIS;
+
+	/**
+	 * Default time-to-live for results without vulnerabilities: 1 hour.
+	 */
+	public static final long DEFAULT_NEGATIVE_TTL_MILLIS = DiskCacheVulnerabilityFinder.DEFAULT_TTL_MILLIS;
+
+	private final CacheFile cacheFile;
+	private final File legacyCacheDir;
+	private final VulnerabilityFinder delegate;
+	private final boolean offline;
+	private final long positiveTtlMillis;
+	private final long negativeTtlMillis;
+	private final Logger logger;
+
+	/**
+	 * Create a new vulnerability finder.
+	 *
+	 * @param cacheFile      Cache file
+	 * @param legacyCacheDir Directory with one file per artifact (may be <code>null</code>)
+	 * @param delegate       Vulnerability finder used if an artifact is not found in the cache
+	 */
+	public CacheFileVulnerabilityFinder(CacheFile cacheFile, File legacyCacheDir, VulnerabilityFinder delegate) {
+		this(cacheFile, legacyCacheDir, delegate, false);
+	}
+
+	/**
+	 * Create a new vulnerability finder.
+	 *
+	 * @param cacheFile      Cache file
+	 * @param legacyCacheDir Directory with one file per artifact (may be <code>null</code>)
+	 * @param delegate       Vulnerability finder used if an artifact is not found in the cache
+	 * @param offline        <code>true</code> to use expired entries and to never call the delegate
+	 */
+	public CacheFileVulnerabilityFinder(CacheFile cacheFile, File legacyCacheDir, VulnerabilityFinder delegate, boolean offline) {
+		this(cacheFile, legacyCacheDir, delegate, offline, DEFAULT_POSITIVE_TTL_MILLIS, DEFAULT_NEGATIVE_TTL_MILLIS, LoggerFactory.getLogger(CacheFileVulnerabilityFinder.class));
+	}
+
+	public CacheFileVulnerabilityFinder(CacheFile cacheFile, File legacyCacheDir, VulnerabilityFinder delegate, boolean offline, long positiveTtlMillis, long negativeTtlMillis, Logger logger) {
+		if (cacheFile == null) throw new IllegalArgumentException("cacheFile");
+		if (delegate == null) throw new IllegalArgumentException("delegate");
+		if (positiveTtlMillis < 0) throw new IllegalArgumentException("positiveTtlMillis < 0");
+		if (negativeTtlMillis < 0) throw new IllegalArgumentException("negativeTtlMillis < 0");
+		this.cacheFile = cacheFile;
+		this.legacyCacheDir = legacyCacheDir;
+		this.delegate = delegate;
+		this.offline = offline;
+		this.positiveTtlMillis = positiveTtlMillis;
+		this.negativeTtlMillis = negativeTtlMillis;
+		this.logger = logger;
+	}
+
+	@Override
+	public List<Vulnerability> findVulnerabilities(Artifact artifact) throws RepositoryException {
+		if (artifact == null) throw new IllegalArgumentException("artifact");
+
+		String coordinates = artifact.toCoordinates();
+
+		CacheFile.Entry entry = getEntry(coordinates);
+		if (entry != null) {
+			if (!entry.isExpired() || offline) {
+				List<Vulnerability> vulnerabilities = VulnerabilityCacheFiles.parseJSON(entry.getValue());
+				logger.debug("Vulnerabilities found: {} -> {} (cache file)", coordinates, vulnerabilities);
+				return vulnerabilities;
+			}
+			logger.debug("Vulnerabilities cache expired: {}", coordinates);
+		} else if (legacyCacheDir != null) {
+			File legacyCacheFile = getLegacyCacheFile(artifact);
+			if (legacyCacheFile.isFile()) {
+				List<Vulnerability> vulnerabilities = VulnerabilityCacheFiles.readFromFile(legacyCacheFile);
+				long expires = getExpires(vulnerabilities, legacyCacheFile.lastModified());
+				if (expires > System.currentTimeMillis() || offline) {
+					putEntry(coordinates, vulnerabilities, expires);
+					logger.debug("Vulnerabilities found: {} -> {} (disk cache)", coordinates, vulnerabilities);
+					return vulnerabilities;
+				}
+			}
+		}
+
+		if (offline) {
+			logger.debug("Vulnerabilities not found: {} (offline)", coordinates);
+			return new ArrayList<>();
+		}
+
+		List<Vulnerability> vulnerabilities = delegate.findVulnerabilities(artifact);
+		putEntry(coordinates, vulnerabilities, getExpires(vulnerabilities, System.currentTimeMillis()));
+		return vulnerabilities;
+	}
+
+	private long getExpires(List<Vulnerability> vulnerabilities, long timestamp) {
+		long ttl = vulnerabilities.isEmpty() ? negativeTtlMillis : positiveTtlMillis;
+		return ttl > Long.MAX_VALUE - timestamp ? Long.MAX_VALUE : timestamp + ttl;
+	}
+
+	private CacheFile.Entry getEntry(String coordinates) {
+		try {
+			return cacheFile.get(coordinates);
+		} catch (IOException e) {
+			logger.warn("Failed to read cache entry: {}", coordinates, e);
+			return null;
+		}
+	}
+
+	private void putEntry(String coordinates, List<Vulnerability> vulnerabilities, long expires) {
+		try {
+			cacheFile.put(coordinates, VulnerabilityCacheFiles.formatJSON(vulnerabilities), expires);
+		} catch (IOException e) {
+			logger.warn("Failed to write cache entry: {}", coordinates, e);
+		}
+	}
+
+	private File getLegacyCacheFile(Artifact artifact) {
+		String groupId = artifact.getGroupId();
+		String artifactId = artifact.getArtifactId();
+		String version = artifact.getVersion();
+		if (groupId.contains("..") || artifactId.contains("..") || version.contains("..")) {
+			throw new IllegalArgumentException("Invalid artifact coordinates: " + artifact.toCoordinates());
+		}
+		File groupDir = new File(legacyCacheDir, groupId);
+		File artifactDir = new File(groupDir, artifactId);
+		return new File(artifactDir, version + ".json");
+	}
+
+}
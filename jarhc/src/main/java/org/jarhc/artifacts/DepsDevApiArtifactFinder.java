@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -70,6 +72,18 @@ public class DepsDevApiArtifactFinder implements ArtifactFinder {
 
 	@Override
 	public List<Artifact> findArtifacts(String checksum) throws RepositoryException {
+		return DepsDevApiClient.await(findArtifactsAsync(checksum));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #findArtifacts(String)}.
+	 *
+	 * @param checksum SHA-1 checksum
+	 * @return Future for the list of artifacts, completed exceptionally with a
+	 * {@link RepositoryException} if an unexpected exception occurs.
+	 * @throws IllegalArgumentException If the checksum is not valid.
+	 */
+	public CompletableFuture<List<Artifact>> findArtifactsAsync(String checksum) {
 
 		ArtifactFinder.validateChecksum(checksum);
 
@@ -85,10 +99,21 @@ public class DepsDevApiArtifactFinder implements ArtifactFinder {
 		try {
 			url = new URL(settings.getBaseUrl() + String.format(QUERY_PATH, hashValue));
 		} catch (MalformedURLException e) {
-			throw new RepositoryException("Malformed URL for checksum: " + checksum, e);
+			return CompletableFuture.failedFuture(new RepositoryException("Malformed URL for checksum: " + checksum, e));
 		}
 
-		Optional<String> text = client.downloadText(url);
+		long startTime = time;
+		return client.downloadTextAsync(url).thenApply(text -> {
+			try {
+				return parseResponse(checksum, url, text, startTime);
+			} catch (RepositoryException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	private List<Artifact> parseResponse(String checksum, URL url, Optional<String> text, long time) throws RepositoryException {
+
 		if (text.isEmpty()) {
 			// artifact not found (API responded with HTTP 404)
 			if (logger.isDebugEnabled()) {
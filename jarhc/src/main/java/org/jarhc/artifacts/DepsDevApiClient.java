@@ -17,14 +17,29 @@
 package org.jarhc.artifacts;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.UnresolvedAddressException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import org.jarhc.utils.IOUtils;
 import org.slf4j.Logger;
 
 /**
@@ -35,17 +50,43 @@ import org.slf4j.Logger;
  * into a {@link RepositoryException}. Used by both {@link DepsDevApiArtifactFinder}
  * and {@link DepsDevApiVulnerabilityFinder}, which build the request URLs and parse
  * the JSON responses.
+ * <p>
+ * Requests are sent asynchronously with a {@link HttpClient}, which keeps
+ * connections open and uses HTTP/2 if the server supports it. The number of
+ * in-flight requests is limited (see {@link DepsDevApiSettings#getMaxRequests()}),
+ * requests answered with HTTP 429 or a 5xx server error are retried with an
+ * increasing delay, and concurrent requests for the same URL share a single
+ * HTTP request.
+ * <p>
+ * This class is thread-safe.
  */
 class DepsDevApiClient {
 
+	// upper limit for the delay between two retries (in milliseconds)
+	private static final long MAX_RETRY_DELAY = 60 * 1000L;
+
 	private final Logger logger;
 	private final DepsDevApiSettings settings;
+	private final HttpClient httpClient;
+
+	// permits for in-flight requests (null = no limit)
+	private final Semaphore permits;
+	private final Queue<Runnable> pendingRequests = new ConcurrentLinkedQueue<>();
+
+	// requests which have been sent but not completed yet
+	private final Map<URI, CompletableFuture<Optional<String>>> runningRequests = new ConcurrentHashMap<>();
 
 	private final AtomicBoolean statusInfoLogged = new AtomicBoolean(false);
 
 	DepsDevApiClient(Logger logger, DepsDevApiSettings settings) {
 		this.logger = logger;
 		this.settings = settings;
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.build();
+		int maxRequests = settings.getMaxRequests();
+		this.permits = maxRequests > 0 ? new Semaphore(maxRequests) : null;
 	}
 
 	/**
@@ -56,58 +97,217 @@ class DepsDevApiClient {
 	 * @throws RepositoryException If an unexpected I/O error occurs.
 	 */
 	Optional<String> downloadText(URL url) throws RepositoryException {
+		return await(downloadTextAsync(url));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #downloadText(URL)}.
+	 * <p>
+	 * If a request for the same URL is already running, no new request is sent.
+	 * Instead, the returned future is completed with the result of the running
+	 * request.
+	 *
+	 * @param url URL
+	 * @return Future for the response body, completed exceptionally with a
+	 * {@link RepositoryException} if an unexpected I/O error occurs.
+	 */
+	CompletableFuture<Optional<String>> downloadTextAsync(URL url) {
+
+		HttpRequest request;
 		try {
-			Optional<byte[]> data = downloadFile(url);
-			return data.map(bytes -> new String(bytes, StandardCharsets.UTF_8));
-		} catch (IOException e) {
-			// log information about deps.dev status once
-			if (statusInfoLogged.compareAndSet(false, true)) {
-				logger.warn("Problem with api.deps.dev. Visit https://deps.dev to check the status of the deps.dev API.");
+			request = createRequest(url);
+		} catch (URISyntaxException e) {
+			return CompletableFuture.failedFuture(new RepositoryException("Malformed URL: " + url, e));
+		} catch (IllegalArgumentException e) {
+			// unsupported URL scheme or invalid HTTP header
+			return CompletableFuture.failedFuture(e);
+		}
+
+		// coalesce concurrent requests for the same URL
+		URI uri = request.uri();
+		CompletableFuture<Optional<String>> future = new CompletableFuture<>();
+		CompletableFuture<Optional<String>> runningFuture = runningRequests.putIfAbsent(uri, future);
+		if (runningFuture != null) {
+			return runningFuture.copy();
+		}
+
+		schedule(() -> {
+			CompletableFuture<HttpResponse<String>> response;
+			try {
+				response = send(request, 0);
+			} catch (RuntimeException e) {
+				response = CompletableFuture.failedFuture(e);
 			}
-			throw new RepositoryException("Unexpected I/O error for URL: " + url, e);
+			response.whenComplete((result, error) -> {
+				// later requests for the same URL are sent again
+				runningRequests.remove(uri, future);
+				release();
+				complete(future, url, result, error);
+			});
+		});
+
+		// return a copy so that callers can not complete the shared future
+		return future.copy();
+	}
+
+	private HttpRequest createRequest(URL url) throws URISyntaxException {
+
+		// get connection settings
+		int timeout = settings.getTimeout();
+		Map<String, String> headers = settings.getHeaders();
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder(url.toURI()).GET();
+		for (Map.Entry<String, String> header : headers.entrySet()) {
+			builder.header(header.getKey(), header.getValue());
 		}
+		if (timeout > 0) {
+			builder.timeout(Duration.ofSeconds(timeout));
+		}
+		return builder.build();
 	}
 
-	private Optional<byte[]> downloadFile(URL url) throws IOException {
+	private CompletableFuture<HttpResponse<String>> send(HttpRequest request, int retry) {
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+				.thenCompose(response -> {
+					int status = response.statusCode();
+					if (retry >= settings.getRetries() || !isRetryable(status)) {
+						return CompletableFuture.completedFuture(response);
+					}
 
-		HttpURLConnection connection = null;
-		try {
+					// wait and send the same request again
+					long delay = getRetryDelay(response, retry);
+					if (logger.isDebugEnabled()) {
+						logger.debug("Retry in {} ms (status code: {}): {}", delay, status, request.uri());
+					}
+					Executor executor = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS);
+					return CompletableFuture.runAsync(() -> {
+					}, executor).thenCompose(v -> send(request, retry + 1));
+				});
+	}
 
-			// get connection settings
-			int timeout = settings.getTimeout() * 1000;
-			Map<String, String> headers = settings.getHeaders();
+	private static boolean isRetryable(int status) {
+		// too many requests or server error
+		return status == 429 || status >= 500 && status < 600;
+	}
 
-			// prepare connection
-			connection = (HttpURLConnection) url.openConnection();
-			connection.setRequestMethod("GET");
-			for (Map.Entry<String, String> header : headers.entrySet()) {
-				connection.setRequestProperty(header.getKey(), header.getValue());
+	private long getRetryDelay(HttpResponse<String> response, int retry) {
+
+		// use delay requested by server (in seconds)
+		Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+		if (retryAfter.isPresent()) {
+			try {
+				long seconds = Long.parseLong(retryAfter.get().trim());
+				return Math.min(Math.max(seconds, 0) * 1000, MAX_RETRY_DELAY);
+			} catch (NumberFormatException e) {
+				// ignore HTTP dates and invalid values
 			}
-			connection.setConnectTimeout(timeout);
-			connection.setReadTimeout(timeout);
-			connection.setDoOutput(false);
-			connection.setDoInput(true);
-
-			// get response
-			int status = connection.getResponseCode();
-			if (status == 404) {
+		}
+
+		// exponential backoff
+		long delay = Math.max(settings.getRetryDelay(), 0);
+		return Math.min(delay << Math.min(retry, 16), MAX_RETRY_DELAY);
+	}
+
+	private void complete(CompletableFuture<Optional<String>> future, URL url, HttpResponse<String> response, Throwable error) {
+
+		if (error == null) {
+			int status = response.statusCode();
+			if (status == 200) {
+				future.complete(Optional.of(response.body()));
+				return;
+			} else if (status == 404) {
 				// not found (no results match the query)
-				return Optional.empty();
-			} else if (status != 200) {
-				throw new IOException("Unexpected status code '" + status + "' for URL: " + url);
+				future.complete(Optional.empty());
+				return;
 			}
+			error = new IOException("Unexpected status code '" + status + "' for URL: " + url);
+		}
 
-			try (InputStream stream = connection.getInputStream()) {
-				byte[] data = IOUtils.toByteArray(stream);
-				return Optional.of(data);
+		if (error instanceof CompletionException && error.getCause() != null) {
+			error = error.getCause();
+		}
+
+		if (error instanceof IOException) {
+			// log information about deps.dev status once
+			if (statusInfoLogged.compareAndSet(false, true)) {
+				logger.warn("Problem with api.deps.dev. Visit https://deps.dev to check the status of the deps.dev API.");
 			}
+			IOException exception = toUnknownHostException((IOException) error, url);
+			future.completeExceptionally(new RepositoryException("Unexpected I/O error for URL: " + url, exception));
+		} else {
+			future.completeExceptionally(error);
+		}
+	}
+
+	/**
+	 * Report an unresolved host name as {@link UnknownHostException}, like
+	 * {@link java.net.HttpURLConnection} does.
+	 */
+	private static IOException toUnknownHostException(IOException exception, URL url) {
+		if (exception instanceof ConnectException && exception.getCause() instanceof UnresolvedAddressException) {
+			UnknownHostException unknownHostException = new UnknownHostException(url.getHost());
+			unknownHostException.initCause(exception);
+			return unknownHostException;
+		}
+		return exception;
+	}
+
+	// in-flight request limit ---------------------------------------------------
+
+	private void schedule(Runnable request) {
+		if (permits == null) {
+			request.run();
+			return;
+		}
+		pendingRequests.add(request);
+		startPendingRequests();
+	}
+
+	private void release() {
+		if (permits == null) {
+			return;
+		}
+		permits.release();
+		startPendingRequests();
+	}
 
-		} finally {
-			if (connection != null) {
-				connection.disconnect();
+	private void startPendingRequests() {
+		while (!pendingRequests.isEmpty() && permits.tryAcquire()) {
+			Runnable request = pendingRequests.poll();
+			if (request == null) {
+				// request has been started by another thread
+				permits.release();
+				break;
 			}
+			request.run();
 		}
+	}
 
+	/**
+	 * Wait for the result of the given future.
+	 *
+	 * @param future Future
+	 * @param <T>    Type of result
+	 * @return Result
+	 * @throws RepositoryException If the future has been completed with a {@link RepositoryException}.
+	 */
+	static <T> T await(CompletableFuture<T> future) throws RepositoryException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RepositoryException("Interrupted while waiting for deps.dev API.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RepositoryException) {
+				throw (RepositoryException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RepositoryException("Unexpected error: " + cause, cause);
+		}
 	}
 
 }
@@ -32,11 +32,17 @@ public class DepsDevApiSettings {
 
 	private static final String DEFAULT_BASE_URL = "https://api.deps.dev/v3";
 	private static final int DEFAULT_TIMEOUT = 30;
+	private static final int DEFAULT_MAX_REQUESTS = 8;
+	private static final int DEFAULT_RETRIES = 3;
+	private static final int DEFAULT_RETRY_DELAY = 500;
 	private static final String DEFAULT_USER_AGENT = "Mozilla/5.0 (X11; Ubuntu; Linux x86_64; rv:129.0) Gecko/20100101 Firefox/129.0";
 
 	private final String baseUrl;
 	private final int timeout;
 	private final Map<String, String> headers;
+	private final int maxRequests;
+	private final int retries;
+	private final int retryDelay;
 
 	/**
 	 * Read settings from Java System Properties.
@@ -64,6 +70,11 @@ public class DepsDevApiSettings {
 
 		int timeout = Integer.parseInt(properties.getProperty("jarhc.depsdev.timeout", String.valueOf(DEFAULT_TIMEOUT)));
 
+		// limits for concurrent requests and retries after HTTP 429 or 5xx
+		int maxRequests = Integer.parseInt(properties.getProperty("jarhc.depsdev.max-requests", String.valueOf(DEFAULT_MAX_REQUESTS)));
+		int retries = Integer.parseInt(properties.getProperty("jarhc.depsdev.retries", String.valueOf(DEFAULT_RETRIES)));
+		int retryDelay = Integer.parseInt(properties.getProperty("jarhc.depsdev.retry-delay", String.valueOf(DEFAULT_RETRY_DELAY)));
+
 		Map<String, String> headers = new HashMap<>();
 		headers.put("User-Agent", properties.getProperty("jarhc.depsdev.headers.User-Agent", DEFAULT_USER_AGENT));
 
@@ -76,13 +87,20 @@ public class DepsDevApiSettings {
 			}
 		}
 
-		return new DepsDevApiSettings(baseUrl, timeout, headers);
+		return new DepsDevApiSettings(baseUrl, timeout, headers, maxRequests, retries, retryDelay);
 	}
 
 	public DepsDevApiSettings(String baseUrl, int timeout, Map<String, String> headers) {
+		this(baseUrl, timeout, headers, DEFAULT_MAX_REQUESTS, DEFAULT_RETRIES, DEFAULT_RETRY_DELAY);
+	}
+
+	public DepsDevApiSettings(String baseUrl, int timeout, Map<String, String> headers, int maxRequests, int retries, int retryDelay) {
 		this.baseUrl = baseUrl;
 		this.timeout = timeout;
 		this.headers = headers;
+		this.maxRequests = maxRequests;
+		this.retries = retries;
+		this.retryDelay = retryDelay;
 	}
 
 	/**
@@ -103,4 +121,34 @@ public class DepsDevApiSettings {
 		return headers;
 	}
 
+	/**
+	 * Get the maximum number of requests sent to the deps.dev API at the same
+	 * time. A value of 0 or less means that the number of requests is not limited.
+	 *
+	 * @return Maximum number of in-flight requests.
+	 */
+	public int getMaxRequests() {
+		return maxRequests;
+	}
+
+	/**
+	 * Get the number of times a request is retried if the deps.dev API responds
+	 * with HTTP 429 (too many requests) or a 5xx server error.
+	 *
+	 * @return Number of retries.
+	 */
+	public int getRetries() {
+		return retries;
+	}
+
+	/**
+	 * Get the delay in milliseconds before the first retry. The delay is doubled
+	 * for every further retry, unless the API sends a "Retry-After" header.
+	 *
+	 * @return Retry delay in milliseconds.
+	 */
+	public int getRetryDelay() {
+		return retryDelay;
+	}
+
 }
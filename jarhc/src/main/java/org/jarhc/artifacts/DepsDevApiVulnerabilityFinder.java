@@ -23,7 +23,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -63,7 +64,9 @@ public class DepsDevApiVulnerabilityFinder implements VulnerabilityFinder {
 
 	// in-memory cache for advisory details, de-duplicating shared advisories
 	// across multiple artifacts within a single run
-	private final Map<String, Vulnerability> advisoryCache = new ConcurrentHashMap<>();
+	// (advisories are added as soon as the request has been sent, so that
+	// concurrent lookups for different artifacts wait for the same response)
+	private final Map<String, CompletableFuture<Vulnerability>> advisoryCache = new ConcurrentHashMap<>();
 
 	public DepsDevApiVulnerabilityFinder() {
 		this(LoggerFactory.getLogger(DepsDevApiVulnerabilityFinder.class), DepsDevApiSettings.fromSystemProperties());
@@ -78,72 +81,127 @@ public class DepsDevApiVulnerabilityFinder implements VulnerabilityFinder {
 
 	@Override
 	public List<Vulnerability> findVulnerabilities(Artifact artifact) throws RepositoryException {
+		return DepsDevApiClient.await(findVulnerabilitiesAsync(artifact));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #findVulnerabilities(Artifact)}.
+	 * <p>
+	 * The details of all advisories affecting the artifact are requested
+	 * concurrently.
+	 *
+	 * @param artifact Artifact (with Maven coordinates)
+	 * @return Future for the list of vulnerabilities, completed exceptionally
+	 * with a {@link RepositoryException} if an unexpected exception occurs.
+	 */
+	public CompletableFuture<List<Vulnerability>> findVulnerabilitiesAsync(Artifact artifact) {
 		if (artifact == null) throw new IllegalArgumentException("artifact");
 
 		// step 1: get the advisory IDs affecting this version
-		List<String> advisoryIds = findAdvisoryIds(artifact);
-
 		// step 2: resolve the details of each advisory (de-duplicated)
-		List<Vulnerability> vulnerabilities = new ArrayList<>(advisoryIds.size());
-		for (String advisoryId : advisoryIds) {
-			Vulnerability vulnerability = getAdvisory(advisoryId);
-			if (vulnerability != null) {
-				vulnerabilities.add(vulnerability);
-			}
-		}
-		return vulnerabilities;
+		return findAdvisoryIds(artifact).thenCompose(this::getAdvisories);
 	}
 
-	private List<String> findAdvisoryIds(Artifact artifact) throws RepositoryException {
+	private CompletableFuture<List<String>> findAdvisoryIds(Artifact artifact) {
 
 		// deps.dev expects the Maven name as "groupId:artifactId"
 		String name = artifact.getGroupId() + ":" + artifact.getArtifactId();
 		String version = artifact.getVersion();
-		URL url = createUrl(settings.getBaseUrl() + VERSION_PATH, encode(name), encode(version));
+		URL url;
+		try {
+			url = createUrl(settings.getBaseUrl() + VERSION_PATH, encode(name), encode(version));
+		} catch (RepositoryException e) {
+			return CompletableFuture.failedFuture(e);
+		}
 
-		Optional<String> text = client.downloadText(url);
-		if (text.isEmpty()) {
-			// version not found (API responded with HTTP 404)
-			if (logger.isDebugEnabled()) {
-				logger.debug("Artifact not found: {}", artifact.toCoordinates());
+		return client.downloadTextAsync(url).thenApply(text -> {
+			if (text.isEmpty()) {
+				// version not found (API responded with HTTP 404)
+				if (logger.isDebugEnabled()) {
+					logger.debug("Artifact not found: {}", artifact.toCoordinates());
+				}
+				return List.of();
 			}
-			return List.of();
-		}
 
-		JSONObject json = parseJson(text.get(), url);
-		if (!json.has("advisoryKeys")) {
-			return List.of();
-		}
+			JSONObject json = parseJson(text.get(), url);
+			if (!json.has("advisoryKeys")) {
+				return List.of();
+			}
 
-		JSONArray advisoryKeys = json.getJSONArray("advisoryKeys");
-		List<String> advisoryIds = new ArrayList<>(advisoryKeys.length());
-		for (int i = 0; i < advisoryKeys.length(); i++) {
-			JSONObject advisoryKey = advisoryKeys.getJSONObject(i);
-			advisoryIds.add(advisoryKey.getString("id"));
+			JSONArray advisoryKeys = json.getJSONArray("advisoryKeys");
+			List<String> advisoryIds = new ArrayList<>(advisoryKeys.length());
+			for (int i = 0; i < advisoryKeys.length(); i++) {
+				JSONObject advisoryKey = advisoryKeys.getJSONObject(i);
+				advisoryIds.add(advisoryKey.getString("id"));
+			}
+			return advisoryIds;
+		});
+	}
+
+	private CompletableFuture<List<Vulnerability>> getAdvisories(List<String> advisoryIds) {
+
+		List<CompletableFuture<Vulnerability>> futures = new ArrayList<>(advisoryIds.size());
+		for (String advisoryId : advisoryIds) {
+			futures.add(getAdvisory(advisoryId));
 		}
-		return advisoryIds;
+
+		// collect vulnerabilities in the order of the advisory IDs
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+			List<Vulnerability> vulnerabilities = new ArrayList<>(futures.size());
+			for (CompletableFuture<Vulnerability> future : futures) {
+				Vulnerability vulnerability = future.join();
+				if (vulnerability != null) {
+					vulnerabilities.add(vulnerability);
+				}
+			}
+			return vulnerabilities;
+		});
 	}
 
-	private Vulnerability getAdvisory(String advisoryId) throws RepositoryException {
+	private CompletableFuture<Vulnerability> getAdvisory(String advisoryId) {
 
 		// check in-memory cache first (de-duplicate shared advisories)
-		Vulnerability cached = advisoryCache.get(advisoryId);
-		if (cached != null) {
-			return cached;
+		CompletableFuture<Vulnerability> future = advisoryCache.get(advisoryId);
+		if (future == null) {
+			CompletableFuture<Vulnerability> newFuture = new CompletableFuture<>();
+			future = advisoryCache.putIfAbsent(advisoryId, newFuture);
+			if (future == null) {
+				future = newFuture;
+				requestAdvisory(advisoryId).whenComplete((vulnerability, exception) -> {
+					if (exception != null) {
+						// do not cache errors
+						advisoryCache.remove(advisoryId, newFuture);
+						newFuture.completeExceptionally(exception);
+					} else {
+						newFuture.complete(vulnerability);
+					}
+				});
+			}
 		}
 
-		URL url = createUrl(settings.getBaseUrl() + ADVISORY_PATH, encode(advisoryId));
-		Optional<String> text = client.downloadText(url);
-		if (text.isEmpty()) {
-			// advisory not found (API responded with HTTP 404)
-			logger.warn("Advisory not found: {}", advisoryId);
-			return null;
+		// note: callers must not be able to complete the cached future
+		return future.copy();
+	}
+
+	private CompletableFuture<Vulnerability> requestAdvisory(String advisoryId) {
+
+		URL url;
+		try {
+			url = createUrl(settings.getBaseUrl() + ADVISORY_PATH, encode(advisoryId));
+		} catch (RepositoryException e) {
+			return CompletableFuture.failedFuture(e);
 		}
 
-		JSONObject json = parseJson(text.get(), url);
-		Vulnerability vulnerability = parseAdvisory(advisoryId, json);
-		advisoryCache.put(advisoryId, vulnerability);
-		return vulnerability;
+		return client.downloadTextAsync(url).thenApply(text -> {
+			if (text.isEmpty()) {
+				// advisory not found (API responded with HTTP 404)
+				logger.warn("Advisory not found: {}", advisoryId);
+				return null;
+			}
+
+			JSONObject json = parseJson(text.get(), url);
+			return parseAdvisory(advisoryId, json);
+		});
 	}
 
 	private static Vulnerability parseAdvisory(String advisoryId, JSONObject json) {
@@ -186,11 +244,12 @@ public class DepsDevApiVulnerabilityFinder implements VulnerabilityFinder {
 		}
 	}
 
-	private JSONObject parseJson(String text, URL url) throws RepositoryException {
+	private JSONObject parseJson(String text, URL url) {
 		try {
 			return new JSONObject(text);
 		} catch (JSONException e) {
-			throw new RepositoryException("JSON parser error for URL: " + url, e);
+			// unwrapped by DepsDevApiClient.await()
+			throw new CompletionException(new RepositoryException("JSON parser error for URL: " + url, e));
 		}
 	}
 
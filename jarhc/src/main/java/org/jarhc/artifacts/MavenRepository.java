@@ -101,7 +101,7 @@ public class MavenRepository implements Repository {
 		this.artifactFinder = artifactFinder;
 		this.logger = logger;
 		this.repoSystem = newRepositorySystem();
-		this.session = newSession(repoSystem, javaVersion, dataPath);
+		this.session = newSession(repoSystem, javaVersion, dataPath, settings.isOffline());
 	}
 
 	@Override
@@ -233,8 +233,9 @@ public class MavenRepository implements Repository {
 		return repositorySystemSupplier.get();
 	}
 
-	private static RepositorySystemSession newSession(RepositorySystem repoSystem, int javaVersion, String dataPath) {
+	private static RepositorySystemSession newSession(RepositorySystem repoSystem, int javaVersion, String dataPath, boolean offline) {
 		DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
+		session.setOffline(offline);
 
 		if (dataPath != null) {
 			File basedir = new File(dataPath, "maven");
@@ -336,6 +337,17 @@ public class MavenRepository implements Repository {
 		 */
 		String getRepositoryPassword();
 
+		/**
+		 * Check if the Maven repository must not be accessed over the network.
+		 * In offline mode, only artifacts and metadata found in the local
+		 * repository are used.
+		 *
+		 * @return <code>true</code> if offline mode is enabled.
+		 */
+		default boolean isOffline() {
+			return false;
+		}
+
 	}
 
 }
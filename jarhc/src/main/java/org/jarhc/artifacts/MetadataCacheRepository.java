@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.jarhc.pom.Dependency;
+import org.jarhc.pom.Scope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link Repository} that caches the list of versions and
+ * the list of direct dependencies of an artifact in a {@link CacheFile}.
+ * All other requests are passed on to the delegate repository.
+ * <p>
+ * New versions are released regularly, so version lists expire after
+ * {@value #DEFAULT_VERSIONS_TTL_MILLIS} ms by default. The dependencies of a
+ * released artifact do not change, so dependency lists expire only after
+ * {@value #DEFAULT_DEPENDENCIES_TTL_MILLIS} ms by default.
+ * <p>
+ * In offline mode, cached entries are used even if they have expired.
+ * Results of the delegate repository are not written to the cache, because
+ * an offline repository finds only the metadata available locally.
+ */
+public class MetadataCacheRepository implements Repository {
+
+	/**
+	 * Default time-to-live for version lists: 1 day.
+	 */
+	public static final long DEFAULT_VERSIONS_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * Default time-to-live for dependency lists: 30 days.
+	 */
+	public static final long DEFAULT_DEPENDENCIES_TTL_MILLIS = 30 * 24 * 60 * 60 * 1000L;
+
+	// prefixes for cache keys
+	private static final String VERSIONS = "versions:";
+	private static final String DEPENDENCIES = "dependencies:";
+
+	private static final String OPTIONAL = "optional";
+
+	private final Repository delegate;
+	private final CacheFile cacheFile;
+	private final boolean offline;
+	private final long versionsTtlMillis;
+	private final long dependenciesTtlMillis;
+	private final Logger logger;
+
+	/**
+	 * Create a new repository.
+	 *
+	 * @param delegate  Repository used if metadata is not found in the cache
+	 * @param cacheFile Cache file
+	 * @param offline   <code>true</code> to use expired entries and to not cache new results
+	 */
+	public MetadataCacheRepository(Repository delegate, CacheFile cacheFile, boolean offline) {
+		this(delegate, cacheFile, offline, DEFAULT_VERSIONS_TTL_MILLIS, DEFAULT_DEPENDENCIES_TTL_MILLIS, LoggerFactory.getLogger(MetadataCacheRepository.class));
+	}
+
+	public MetadataCacheRepository(Repository delegate, CacheFile cacheFile, boolean offline, long versionsTtlMillis, long dependenciesTtlMillis, Logger logger) {
+		if (delegate == null) throw new IllegalArgumentException("delegate");
+		if (cacheFile == null) throw new IllegalArgumentException("cacheFile");
+		if (versionsTtlMillis < 0) throw new IllegalArgumentException("versionsTtlMillis < 0");
+		if (dependenciesTtlMillis < 0) throw new IllegalArgumentException("dependenciesTtlMillis < 0");
+		this.delegate = delegate;
+		this.cacheFile = cacheFile;
+		this.offline = offline;
+		this.versionsTtlMillis = versionsTtlMillis;
+		this.dependenciesTtlMillis = dependenciesTtlMillis;
+		this.logger = logger;
+	}
+
+	@Override
+	public List<Artifact> findArtifacts(String checksum) throws RepositoryException {
+		return delegate.findArtifacts(checksum);
+	}
+
+	@Override
+	public Optional<InputStream> downloadArtifact(Artifact artifact) throws RepositoryException {
+		return delegate.downloadArtifact(artifact);
+	}
+
+	@Override
+	public List<ArtifactVersion> getVersions(String groupId, String artifactId) throws RepositoryException {
+
+		String key = VERSIONS + groupId + ":" + artifactId;
+		String value = getValue(key);
+		if (value != null) {
+			return parseVersions(value);
+		}
+
+		List<ArtifactVersion> versions = delegate.getVersions(groupId, artifactId);
+		if (!offline) {
+			putValue(key, formatVersions(versions), versionsTtlMillis);
+		}
+		return versions;
+	}
+
+	@Override
+	public List<Dependency> getDependencies(Artifact artifact) throws RepositoryException {
+
+		String key = DEPENDENCIES + artifact.toCoordinates();
+		String value = getValue(key);
+		if (value != null) {
+			return parseDependencies(value);
+		}
+
+		List<Dependency> dependencies = delegate.getDependencies(artifact);
+		if (!offline) {
+			putValue(key, formatDependencies(dependencies), dependenciesTtlMillis);
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Get the cached value for the given key.
+	 *
+	 * @param key Key
+	 * @return Value, or <code>null</code> if the value is not cached or has expired.
+	 */
+	private String getValue(String key) {
+
+		CacheFile.Entry entry;
+		try {
+			entry = cacheFile.get(key);
+		} catch (IOException e) {
+			logger.warn("Failed to read cache entry: {}", key, e);
+			return null;
+		}
+
+		if (entry == null) {
+			return null;
+		} else if (entry.isExpired() && !offline) {
+			logger.debug("Metadata cache expired: {}", key);
+			return null;
+		}
+
+		logger.debug("Metadata found: {} (cache file)", key);
+		return entry.getValue();
+	}
+
+	private void putValue(String key, String value, long ttl) {
+		long timestamp = System.currentTimeMillis();
+		long expires = ttl > Long.MAX_VALUE - timestamp ? Long.MAX_VALUE : timestamp + ttl;
+		try {
+			cacheFile.put(key, value, expires);
+		} catch (IOException e) {
+			logger.warn("Failed to write cache entry: {}", key, e);
+		}
+	}
+
+	// format: one version per line
+	static String formatVersions(List<ArtifactVersion> versions) {
+		StringBuilder buffer = new StringBuilder();
+		for (ArtifactVersion version : versions) {
+			if (buffer.length() > 0) buffer.append('\n');
+			buffer.append(version);
+		}
+		return buffer.toString();
+	}
+
+	static List<ArtifactVersion> parseVersions(String value) {
+		List<ArtifactVersion> versions = new ArrayList<>();
+		if (value.isEmpty()) return versions;
+		for (String line : value.split("\n")) {
+			versions.add(ArtifactVersion.of(line));
+		}
+		return versions;
+	}
+
+	// format: one dependency per line, "<coordinates> <scope> [optional]"
+	static String formatDependencies(List<Dependency> dependencies) {
+		StringBuilder buffer = new StringBuilder();
+		for (Dependency dependency : dependencies) {
+			if (buffer.length() > 0) buffer.append('\n');
+			buffer.append(dependency.getGroupId()).append(':').append(dependency.getArtifactId()).append(':').append(dependency.getVersion());
+			buffer.append(' ').append(dependency.getScope().name());
+			if (dependency.isOptional()) {
+				buffer.append(' ').append(OPTIONAL);
+			}
+		}
+		return buffer.toString();
+	}
+
+	static List<Dependency> parseDependencies(String value) {
+		// note: returned list must be mutable (see DependenciesAnalyzer)
+		List<Dependency> dependencies = new ArrayList<>();
+		if (value.isEmpty()) return dependencies;
+		for (String line : value.split("\n")) {
+			String[] parts = line.split(" ");
+			Scope scope = Scope.valueOf(parts[1]);
+			boolean optional = parts.length > 2 && parts[2].equals(OPTIONAL);
+			dependencies.add(new Dependency(parts[0], scope, optional));
+		}
+		return dependencies;
+	}
+
+}
@@ -51,6 +51,24 @@ final class VulnerabilityCacheFiles {
 			throw new JarHcException(e);
 		}
 
+		return parseJSON(text);
+	}
+
+	static void writeToFile(List<Vulnerability> vulnerabilities, File cacheFile) {
+		try {
+			FileUtils.writeStringToFile(toJSON(vulnerabilities).toString(2), cacheFile);
+		} catch (IOException e) {
+			throw new JarHcException(e);
+		}
+	}
+
+	/**
+	 * Parse a list of vulnerabilities from a JSON array.
+	 *
+	 * @param text JSON array
+	 * @return List of vulnerabilities
+	 */
+	static List<Vulnerability> parseJSON(String text) {
 		JSONArray array = new JSONArray(text);
 		List<Vulnerability> vulnerabilities = new ArrayList<>(array.length());
 		for (int i = 0; i < array.length(); i++) {
@@ -59,16 +77,22 @@ final class VulnerabilityCacheFiles {
 		return vulnerabilities;
 	}
 
-	static void writeToFile(List<Vulnerability> vulnerabilities, File cacheFile) {
+	/**
+	 * Format a list of vulnerabilities as compact JSON array.
+	 *
+	 * @param vulnerabilities List of vulnerabilities
+	 * @return JSON array
+	 */
+	static String formatJSON(List<Vulnerability> vulnerabilities) {
+		return toJSON(vulnerabilities).toString();
+	}
+
+	private static JSONArray toJSON(List<Vulnerability> vulnerabilities) {
 		JSONArray array = new JSONArray();
 		for (Vulnerability vulnerability : vulnerabilities) {
 			array.put(toJSON(vulnerability));
 		}
-		try {
-			FileUtils.writeStringToFile(array.toString(2), cacheFile);
-		} catch (IOException e) {
-			throw new JarHcException(e);
-		}
+		return array;
 	}
 
 	private static JSONObject toJSON(Vulnerability vulnerability) {
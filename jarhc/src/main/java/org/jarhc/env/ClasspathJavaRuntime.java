@@ -20,6 +20,7 @@ import java.util.function.Predicate;
 import org.jarhc.model.ClassDef;
 import org.jarhc.model.Classpath;
 import org.jarhc.model.JarFile;
+import org.jarhc.model.ResourceDef;
 import org.jarhc.utils.Markdown;
 
 public class ClasspathJavaRuntime extends JavaRuntime {
@@ -30,6 +31,10 @@ public class ClasspathJavaRuntime extends JavaRuntime {
 		this.classpath = classpath;
 	}
 
+	public Classpath getClasspath() {
+		return classpath;
+	}
+
 	@Override
 	public String getName() {
 		return Markdown.UNKNOWN; // TODO: can we get this from the runtime classes somehow?
@@ -65,4 +70,9 @@ public class ClasspathJavaRuntime extends JavaRuntime {
 		return classpath.getClassDef(className);
 	}
 
+	@Override
+	protected ResourceDef findResourceDef(String path) {
+		return classpath.getResourceDef(path);
+	}
+
 }
@@ -105,8 +105,7 @@ public class DefaultJavaRuntime extends JavaRuntime {
 
 	@Override
 	protected boolean findPackage(String packageName) {
-		// TODO: implement
-		return false;
+		return moduleSystemRuntime.containsPackage(packageName);
 	}
 
 	@Override
@@ -150,11 +149,9 @@ public class DefaultJavaRuntime extends JavaRuntime {
 
 			ClassDef classDef = loader.load(stream);
 
-			// try to find module of class
+			// find module of class (without loading the class)
 			ModuleInfo moduleInfo = moduleSystemRuntime.findModuleInfo(className);
-			if (moduleInfo != null) {
-				classDef.setModuleInfo(moduleInfo);
-			}
+			classDef.setModuleInfo(moduleInfo);
 
 			return classDef;
 
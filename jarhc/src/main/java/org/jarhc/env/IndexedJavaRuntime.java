@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.JarFile;
+
+/**
+ * Implementation of {@link JavaRuntime} based on a {@link RuntimeIndex}.
+ * <p>
+ * In contrast to {@link DefaultJavaRuntime}, this implementation does not
+ * load or parse any Java runtime class at runtime, and the Java runtime
+ * does not have to be the one used to run JarHC.
+ */
+public class IndexedJavaRuntime extends JavaRuntime {
+
+	private final RuntimeIndex runtimeIndex;
+
+	/**
+	 * Cache for class definitions. May contain "negative results" in the form of null values.
+	 */
+	private final Map<String, ClassDef> classDefs = new ConcurrentHashMap<>();
+
+	/**
+	 * Negative cache value if class has not been found.
+	 */
+	private static final ClassDef CLASS_NOT_FOUND = new ClassDef("ClassNotFound");
+
+	public IndexedJavaRuntime(RuntimeIndex runtimeIndex) {
+		if (runtimeIndex == null) throw new IllegalArgumentException("runtimeIndex");
+		this.runtimeIndex = runtimeIndex;
+	}
+
+	@Override
+	public String getName() {
+		return runtimeIndex.getName();
+	}
+
+	@Override
+	public String getJavaVersion() {
+		return runtimeIndex.getJavaVersion();
+	}
+
+	@Override
+	public String getJavaVendor() {
+		return runtimeIndex.getJavaVendor();
+	}
+
+	@Override
+	public String getJavaHome() {
+		String value = System.getProperty("jarhc.javahome.override");
+		if (value != null) {
+			return value;
+		}
+		return runtimeIndex.getJavaHome();
+	}
+
+	@Override
+	public JarFile findJarFile(Predicate<JarFile> predicate) {
+		return null;
+	}
+
+	@Override
+	protected boolean findPackage(String packageName) {
+		return runtimeIndex.containsPackage(packageName);
+	}
+
+	@Override
+	protected ClassDef findClassDef(String className) {
+		ClassDef classDef = classDefs.computeIfAbsent(className, name -> {
+			ClassDef result = runtimeIndex.findClassDef(name);
+			return result != null ? result : CLASS_NOT_FOUND;
+		});
+		return classDef == CLASS_NOT_FOUND ? null : classDef;
+	}
+
+}
@@ -17,88 +17,110 @@
 package org.jarhc.env;
 
 import java.lang.module.ModuleDescriptor;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import org.jarhc.model.ModuleInfo;
+import org.jarhc.utils.JavaUtils;
 import org.slf4j.Logger;
 
+/**
+ * Index of the modules of the Java runtime used to run JarHC, and of the
+ * packages in these modules.
+ * <p>
+ * The index is created once from the module descriptors of the boot layer.
+ * No class is loaded or initialized to find the module of a class.
+ * The index is never modified after it has been created, so lookups do not
+ * need any synchronization.
+ */
 class ModuleSystemRuntime {
 
-	private final ClassLoader classLoader;
-	private final Logger logger;
-
 	/**
-	 * Cache for module infos.
+	 * Module infos by package name.
 	 */
-	private final Map<String, ModuleInfo> moduleInfos = new ConcurrentHashMap<>();
+	private final Map<String, ModuleInfo> packageModules = new HashMap<>();
 
 	ModuleSystemRuntime(ClassLoader classLoader, Logger logger) {
-		this.classLoader = classLoader;
-		this.logger = logger;
-	}
-
-	@SuppressWarnings("java:S1181") // Throwable and Error should not be caught
-	public ModuleInfo findModuleInfo(String className) {
-
-		// try to load class
-		Class<?> cls;
-		try {
-			cls = classLoader.loadClass(className);
-		} catch (Throwable t) {
-			logger.warn("Unable to load module information for class: {}", className, t);
-			return ModuleInfo.UNNAMED;
-		}
-
-		// get module
-		Module module = cls.getModule();
 
-		// get module name
-		String moduleName = module.getName();
+		for (Module module : ModuleLayer.boot().modules()) {
 
-		synchronized (moduleInfos) {
+			// ignore modules which are not visible to the given class loader
+			if (!isVisible(module, classLoader)) {
+				continue;
+			}
 
-			// check if module has already been loaded
-			ModuleInfo moduleInfo = moduleInfos.get(moduleName);
-			if (moduleInfo != null) {
-				return moduleInfo;
+			ModuleInfo moduleInfo = createModuleInfo(module.getDescriptor());
+			for (String packageName : moduleInfo.getPackages()) {
+				packageModules.put(packageName, moduleInfo);
 			}
 
-			moduleInfo = new ModuleInfo();
-			moduleInfo.setModuleName(moduleName);
+			logger.trace("Module information loaded: {}", moduleInfo);
+		}
+	}
+
+	/**
+	 * Find the module of the given class.
+	 *
+	 * @param className Class name
+	 * @return Module info, or {@link ModuleInfo#UNNAMED} if the package of the class is not part of a module.
+	 */
+	public ModuleInfo findModuleInfo(String className) {
+		String packageName = JavaUtils.getPackageName(className);
+		return packageModules.getOrDefault(packageName, ModuleInfo.UNNAMED);
+	}
 
-			// get module descriptor
-			ModuleDescriptor descriptor = module.getDescriptor();
+	/**
+	 * Check if the given package is part of a module.
+	 *
+	 * @param packageName Package name
+	 * @return <code>true</code> if the package has been found, <code>false</code> otherwise.
+	 */
+	public boolean containsPackage(String packageName) {
+		return packageModules.containsKey(packageName);
+	}
 
-			// get list of packages
-			Set<String> packages = module.getPackages();
-			for (String packageName : packages) {
-				moduleInfo.addPackage(packageName);
+	/**
+	 * Check if the classes of the given module can be loaded with the given
+	 * class loader (module defined to the class loader or one of its parents).
+	 */
+	private static boolean isVisible(Module module, ClassLoader classLoader) {
+		ClassLoader moduleClassLoader = module.getClassLoader();
+		if (moduleClassLoader == null) {
+			// module defined to bootstrap class loader
+			return true;
+		}
+		for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+			if (loader == moduleClassLoader) {
+				return true;
 			}
+		}
+		return false;
+	}
 
-			// load list of required modules
-			for (ModuleDescriptor.Requires requires : descriptor.requires()) {
-				moduleInfo.addRequires(requires.name());
-			}
+	private static ModuleInfo createModuleInfo(ModuleDescriptor descriptor) {
 
-			// load list of exports packages
-			for (ModuleDescriptor.Exports exports : descriptor.exports()) {
-				moduleInfo.addExports(exports.source(), exports.targets().toArray(new String[0]));
-			}
+		ModuleInfo moduleInfo = ModuleInfo.forModuleName(descriptor.name());
 
-			// load list of opens packages
-			for (ModuleDescriptor.Opens opens : descriptor.opens()) {
-				moduleInfo.addOpens(opens.source(), opens.targets().toArray(new String[0]));
-			}
+		// get list of packages
+		for (String packageName : descriptor.packages()) {
+			moduleInfo.addPackage(packageName);
+		}
 
-			logger.trace("Module information loaded: {}", moduleInfo);
+		// load list of required modules
+		for (ModuleDescriptor.Requires requires : descriptor.requires()) {
+			moduleInfo.addRequires(requires.name());
+		}
 
-			// add module info to cache
-			moduleInfos.put(moduleName, moduleInfo);
+		// load list of exports packages
+		for (ModuleDescriptor.Exports exports : descriptor.exports()) {
+			moduleInfo.addExports(exports.source(), exports.targets().toArray(new String[0]));
+		}
 
-			return moduleInfo;
+		// load list of opens packages
+		for (ModuleDescriptor.Opens opens : descriptor.opens()) {
+			moduleInfo.addOpens(opens.source(), opens.targets().toArray(new String[0]));
 		}
 
+		return moduleInfo;
 	}
 
 }
@@ -0,0 +1,601 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jarhc.model.AnnotationRef;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.Def;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.ModuleInfo;
+import org.jarhc.model.RecordComponentDef;
+
+/**
+ * Snapshot of all class definitions and module descriptors of a Java runtime.
+ * <p>
+ * The index is stored in a binary file which is memory-mapped when it is
+ * opened. Class definitions are decoded only when they are looked up.
+ * Class definitions in the index do not contain references to other classes,
+ * fields, or methods.
+ * <p>
+ * File layout:
+ * <pre>
+ * header: magic number, format version, runtime name, version, vendor, home,
+ *         number and offset of strings, modules, and classes
+ * tables: offsets of strings, offsets of modules,
+ *         name and offset of classes (sorted by class name)
+ * data:   strings, modules, classes
+ * </pre>
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see RuntimeIndexBuilder
+ */
+public final class RuntimeIndex {
+
+	/**
+	 * Magic number at the beginning of every index file ("JHCR").
+	 */
+	static final int MAGIC = 0x4A484352;
+
+	/**
+	 * Version of the binary format.
+	 * Must be incremented whenever the format or the indexed data changes.
+	 */
+	static final int FORMAT_VERSION = 1;
+
+	private static final int HEADER_SIZE = 48;
+
+	private static final AnnotationRef.Target[] TARGETS = AnnotationRef.Target.values();
+
+	/**
+	 * Index data. Only absolute get methods are used on this buffer,
+	 * or the buffer is duplicated, so that it can be shared by all threads.
+	 */
+	private final ByteBuffer buffer;
+
+	private final int stringCount;
+	private final int stringTableOffset;
+	private final int classCount;
+	private final int classTableOffset;
+
+	/**
+	 * Decoded strings. Strings are immutable, so a string written by one
+	 * thread can safely be read by another thread (or decoded again).
+	 */
+	private final String[] strings;
+
+	private final String name;
+	private final String javaVersion;
+	private final String javaVendor;
+	private final String javaHome;
+
+	private final ModuleInfo[] moduleInfos;
+	private final Set<String> packageNames = new HashSet<>();
+
+	RuntimeIndex(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Unknown file format.");
+		}
+		int version = buffer.getInt(4);
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported format version: " + version);
+		}
+
+		stringCount = buffer.getInt(24);
+		stringTableOffset = buffer.getInt(28);
+		int moduleCount = buffer.getInt(32);
+		int moduleTableOffset = buffer.getInt(36);
+		classCount = buffer.getInt(40);
+		classTableOffset = buffer.getInt(44);
+		checkTable(stringTableOffset, stringCount, 4);
+		checkTable(moduleTableOffset, moduleCount, 4);
+		checkTable(classTableOffset, classCount, 8);
+
+		strings = new String[stringCount];
+		name = getString(buffer.getInt(8));
+		javaVersion = getString(buffer.getInt(12));
+		javaVendor = getString(buffer.getInt(16));
+		javaHome = getString(buffer.getInt(20));
+
+		// decode all modules (a Java runtime contains less than 100 modules)
+		moduleInfos = new ModuleInfo[moduleCount];
+		for (int i = 0; i < moduleCount; i++) {
+			ByteBuffer data = getData(buffer.getInt(moduleTableOffset + i * 4));
+			ModuleInfo moduleInfo = readModuleInfo(data);
+			moduleInfos[i] = moduleInfo;
+			packageNames.addAll(moduleInfo.getPackages());
+		}
+	}
+
+	/**
+	 * Open the index stored in the given file.
+	 *
+	 * @param file Index file
+	 * @return Runtime index
+	 * @throws IOException If the file cannot be read, or has been written with a different format version.
+	 */
+	public static RuntimeIndex open(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			// note: mapping stays valid after the channel has been closed
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new RuntimeIndex(buffer);
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getJavaVersion() {
+		return javaVersion;
+	}
+
+	public String getJavaVendor() {
+		return javaVendor;
+	}
+
+	public String getJavaHome() {
+		return javaHome;
+	}
+
+	public int getClassCount() {
+		return classCount;
+	}
+
+	public List<ModuleInfo> getModuleInfos() {
+		return List.of(moduleInfos);
+	}
+
+	public boolean containsPackage(String packageName) {
+		return packageNames.contains(packageName);
+	}
+
+	/**
+	 * Find and decode the class definition for the given class.
+	 * Every call returns a new class definition.
+	 *
+	 * @param className Class name
+	 * @return Class definition, or <code>null</code> if the class is not part of the index.
+	 */
+	public ClassDef findClassDef(String className) {
+
+		// binary search in table of class names
+		int low = 0;
+		int high = classCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int position = classTableOffset + mid * 8;
+			String value = getString(buffer.getInt(position));
+			int result = value.compareTo(className);
+			if (result < 0) {
+				low = mid + 1;
+			} else if (result > 0) {
+				high = mid - 1;
+			} else {
+				ByteBuffer data = getData(buffer.getInt(position + 4));
+				return readClassDef(data);
+			}
+		}
+
+		// class not found
+		return null;
+	}
+
+	private void checkTable(int offset, int count, int entrySize) throws IOException {
+		if (count < 0 || offset < HEADER_SIZE || (long) offset + (long) count * entrySize > buffer.limit()) {
+			throw new IOException("Invalid table offset: " + offset);
+		}
+	}
+
+	private ByteBuffer getData(int offset) {
+		ByteBuffer data = buffer.duplicate();
+		data.position(offset);
+		return data;
+	}
+
+	private String getString(int index) {
+		if (index < 0) {
+			return null;
+		}
+		String value = strings[index];
+		if (value == null) {
+			ByteBuffer data = getData(buffer.getInt(stringTableOffset + index * 4));
+			int length = readCount(data);
+			byte[] bytes = new byte[length];
+			data.get(bytes);
+			value = new String(bytes, StandardCharsets.UTF_8);
+			strings[index] = value;
+		}
+		return value;
+	}
+
+	private ModuleInfo readModuleInfo(ByteBuffer data) {
+		ModuleInfo moduleInfo = ModuleInfo.forModuleName(readString(data));
+		readStrings(data).forEach(moduleInfo::addPackage);
+		readStrings(data).forEach(moduleInfo::addRequires);
+		int exports = readCount(data);
+		for (int i = 0; i < exports; i++) {
+			String packageName = readString(data);
+			moduleInfo.addExports(packageName, readTargets(data));
+		}
+		int opens = readCount(data);
+		for (int i = 0; i < opens; i++) {
+			String packageName = readString(data);
+			moduleInfo.addOpens(packageName, readTargets(data));
+		}
+		return moduleInfo;
+	}
+
+	private ClassDef readClassDef(ByteBuffer data) {
+		int module = readCount(data);
+		ClassDef classDef = new ClassDef(readString(data));
+		classDef.setAccess(readCount(data));
+		classDef.setSuperName(readString(data));
+		classDef.addInterfaceNames(readStrings(data));
+		classDef.addPermittedSubclassNames(readStrings(data));
+		classDef.setMajorClassVersion(readCount(data));
+		classDef.setMinorClassVersion(readCount(data));
+		classDef.setClassLoader(readString(data));
+		classDef.setClassFileChecksum(readString(data));
+		readAnnotationRefs(data, classDef);
+
+		int recordComponentDefs = readCount(data);
+		for (int i = 0; i < recordComponentDefs; i++) {
+			RecordComponentDef recordComponentDef = new RecordComponentDef(readString(data), readString(data));
+			recordComponentDef.setAccess(readCount(data));
+			readAnnotationRefs(data, recordComponentDef);
+			classDef.addRecordComponentDef(recordComponentDef);
+		}
+
+		int fieldDefs = readCount(data);
+		for (int i = 0; i < fieldDefs; i++) {
+			FieldDef fieldDef = new FieldDef(readCount(data), readString(data), readString(data));
+			readAnnotationRefs(data, fieldDef);
+			classDef.addFieldDef(fieldDef);
+		}
+
+		int methodDefs = readCount(data);
+		for (int i = 0; i < methodDefs; i++) {
+			MethodDef methodDef = new MethodDef(readCount(data), readString(data), readString(data));
+			readAnnotationRefs(data, methodDef);
+			classDef.addMethodDef(methodDef);
+		}
+
+		// module 0 = unnamed module
+		if (module > 0) {
+			classDef.setModuleInfo(moduleInfos[module - 1]);
+		}
+
+		return classDef;
+	}
+
+	private void readAnnotationRefs(ByteBuffer data, Def def) {
+		int count = readCount(data);
+		for (int i = 0; i < count; i++) {
+			String className = readString(data);
+			def.addAnnotationRef(new AnnotationRef(className, TARGETS[readCount(data)]));
+		}
+	}
+
+	/**
+	 * Read a list of module names, or <code>null</code> for "all modules".
+	 * Encoding: 0 = <code>null</code>, n = list with n-1 module names.
+	 */
+	@SuppressWarnings("java:S1168") // Empty arrays and collections should be returned instead of null
+	private String[] readTargets(ByteBuffer data) {
+		int count = readCount(data);
+		if (count == 0) {
+			return null;
+		}
+		String[] targets = new String[count - 1];
+		for (int i = 0; i < targets.length; i++) {
+			targets[i] = readString(data);
+		}
+		return targets;
+	}
+
+	private List<String> readStrings(ByteBuffer data) {
+		int count = readCount(data);
+		List<String> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(readString(data));
+		}
+		return values;
+	}
+
+	/**
+	 * Read a string reference.
+	 * Encoding: 0 = <code>null</code>, n = (n-1)th string in table.
+	 */
+	private String readString(ByteBuffer data) {
+		return getString(readCount(data) - 1);
+	}
+
+	private static int readCount(ByteBuffer data) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = data.get() & 0xFF;
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalStateException("Invalid number encoding.");
+	}
+
+	/**
+	 * Collects class definitions and module descriptors of a Java runtime,
+	 * and writes them in the binary format of a {@link RuntimeIndex}.
+	 */
+	static final class Writer {
+
+		private final Map<String, Integer> stringIndexes = new HashMap<>();
+		private final List<String> strings = new ArrayList<>();
+		private final Map<ModuleInfo, Integer> moduleIndexes = new IdentityHashMap<>();
+		private final List<ModuleInfo> moduleInfos = new ArrayList<>();
+		private final List<ClassDef> classDefs = new ArrayList<>();
+
+		private String name;
+		private String javaVersion;
+		private String javaVendor;
+		private String javaHome;
+
+		void setRuntime(String name, String javaVersion, String javaVendor, String javaHome) {
+			this.name = name;
+			this.javaVersion = javaVersion;
+			this.javaVendor = javaVendor;
+			this.javaHome = javaHome;
+		}
+
+		void addModuleInfo(ModuleInfo moduleInfo) {
+			moduleIndexes.put(moduleInfo, moduleInfos.size());
+			moduleInfos.add(moduleInfo);
+		}
+
+		/**
+		 * Add a class definition. The module info of the class definition
+		 * must be the unnamed module or a module added with {@link #addModuleInfo(ModuleInfo)}.
+		 *
+		 * @param classDef Class definition
+		 */
+		void addClassDef(ClassDef classDef) {
+			classDefs.add(classDef);
+		}
+
+		int getClassCount() {
+			return classDefs.size();
+		}
+
+		int getModuleCount() {
+			return moduleInfos.size();
+		}
+
+		void write(OutputStream stream) throws IOException {
+
+			int nameIndex = addString(name);
+			int javaVersionIndex = addString(javaVersion);
+			int javaVendorIndex = addString(javaVendor);
+			int javaHomeIndex = addString(javaHome);
+
+			// encode modules
+			ByteArrayOutputStream moduleData = new ByteArrayOutputStream();
+			DataOutputStream moduleStream = new DataOutputStream(moduleData);
+			int[] moduleOffsets = new int[moduleInfos.size()];
+			for (int i = 0; i < moduleInfos.size(); i++) {
+				moduleOffsets[i] = moduleData.size();
+				writeModuleInfo(moduleInfos.get(i), moduleStream);
+			}
+
+			// encode classes, sorted by class name
+			classDefs.sort(Comparator.comparing(ClassDef::getClassName));
+			ByteArrayOutputStream classData = new ByteArrayOutputStream();
+			DataOutputStream classStream = new DataOutputStream(classData);
+			int[] classNames = new int[classDefs.size()];
+			int[] classOffsets = new int[classDefs.size()];
+			for (int i = 0; i < classDefs.size(); i++) {
+				ClassDef classDef = classDefs.get(i);
+				classNames[i] = addString(classDef.getClassName());
+				classOffsets[i] = classData.size();
+				writeClassDef(classDef, classStream);
+			}
+
+			// encode strings (after all strings have been collected)
+			ByteArrayOutputStream stringData = new ByteArrayOutputStream();
+			DataOutputStream stringStream = new DataOutputStream(stringData);
+			int[] stringOffsets = new int[strings.size()];
+			for (int i = 0; i < strings.size(); i++) {
+				stringOffsets[i] = stringData.size();
+				byte[] bytes = strings.get(i).getBytes(StandardCharsets.UTF_8);
+				writeCount(bytes.length, stringStream);
+				stringStream.write(bytes);
+			}
+
+			// calculate positions of tables and data
+			int stringTableOffset = HEADER_SIZE;
+			int moduleTableOffset = stringTableOffset + stringOffsets.length * 4;
+			int classTableOffset = moduleTableOffset + moduleOffsets.length * 4;
+			int stringDataOffset = classTableOffset + classOffsets.length * 8;
+			int moduleDataOffset = stringDataOffset + stringData.size();
+			int classDataOffset = moduleDataOffset + moduleData.size();
+
+			DataOutputStream out = new DataOutputStream(stream);
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(nameIndex);
+			out.writeInt(javaVersionIndex);
+			out.writeInt(javaVendorIndex);
+			out.writeInt(javaHomeIndex);
+			out.writeInt(stringOffsets.length);
+			out.writeInt(stringTableOffset);
+			out.writeInt(moduleOffsets.length);
+			out.writeInt(moduleTableOffset);
+			out.writeInt(classOffsets.length);
+			out.writeInt(classTableOffset);
+			for (int offset : stringOffsets) {
+				out.writeInt(stringDataOffset + offset);
+			}
+			for (int offset : moduleOffsets) {
+				out.writeInt(moduleDataOffset + offset);
+			}
+			for (int i = 0; i < classOffsets.length; i++) {
+				out.writeInt(classNames[i]);
+				out.writeInt(classDataOffset + classOffsets[i]);
+			}
+			stringData.writeTo(out);
+			moduleData.writeTo(out);
+			classData.writeTo(out);
+			out.flush();
+		}
+
+		private void writeModuleInfo(ModuleInfo moduleInfo, DataOutputStream out) throws IOException {
+			writeString(moduleInfo.getModuleName(), out);
+			writeStrings(moduleInfo.getPackages(), out);
+			writeStrings(moduleInfo.getRequires(), out);
+
+			List<String> exports = moduleInfo.getExports();
+			writeCount(exports.size(), out);
+			for (String packageName : exports) {
+				writeString(packageName, out);
+				writeTargets(moduleInfo.getExportsTargets(packageName), out);
+			}
+
+			List<String> opens = moduleInfo.getOpens();
+			writeCount(opens.size(), out);
+			for (String packageName : opens) {
+				writeString(packageName, out);
+				writeTargets(moduleInfo.getOpensTargets(packageName), out);
+			}
+		}
+
+		private void writeClassDef(ClassDef classDef, DataOutputStream out) throws IOException {
+			Integer module = moduleIndexes.get(classDef.getModuleInfo());
+			writeCount(module == null ? 0 : module + 1, out);
+			writeString(classDef.getClassName(), out);
+			writeCount(classDef.getAccess(), out);
+			writeString(classDef.getSuperName(), out);
+			writeStrings(classDef.getInterfaceNames(), out);
+			writeStrings(classDef.getPermittedSubclassNames(), out);
+			writeCount(classDef.getMajorClassVersion(), out);
+			writeCount(classDef.getMinorClassVersion(), out);
+			writeString(classDef.getClassLoader(), out);
+			writeString(classDef.getClassFileChecksum(), out);
+			writeAnnotationRefs(classDef, out);
+
+			List<RecordComponentDef> recordComponentDefs = classDef.getRecordComponentDefs();
+			writeCount(recordComponentDefs.size(), out);
+			for (RecordComponentDef recordComponentDef : recordComponentDefs) {
+				writeString(recordComponentDef.getName(), out);
+				writeString(recordComponentDef.getType(), out);
+				writeCount(recordComponentDef.getAccess(), out);
+				writeAnnotationRefs(recordComponentDef, out);
+			}
+
+			List<FieldDef> fieldDefs = classDef.getFieldDefs();
+			writeCount(fieldDefs.size(), out);
+			for (FieldDef fieldDef : fieldDefs) {
+				writeCount(fieldDef.getAccess(), out);
+				writeString(fieldDef.getFieldName(), out);
+				writeString(fieldDef.getFieldType(), out);
+				writeAnnotationRefs(fieldDef, out);
+			}
+
+			List<MethodDef> methodDefs = classDef.getMethodDefs();
+			writeCount(methodDefs.size(), out);
+			for (MethodDef methodDef : methodDefs) {
+				writeCount(methodDef.getAccess(), out);
+				writeString(methodDef.getMethodName(), out);
+				writeString(methodDef.getMethodDescriptor(), out);
+				writeAnnotationRefs(methodDef, out);
+			}
+		}
+
+		private void writeAnnotationRefs(Def def, DataOutputStream out) throws IOException {
+			List<AnnotationRef> annotationRefs = def.getAnnotationRefs();
+			writeCount(annotationRefs.size(), out);
+			for (AnnotationRef annotationRef : annotationRefs) {
+				writeString(annotationRef.getClassName(), out);
+				writeCount(annotationRef.getTarget().ordinal(), out);
+			}
+		}
+
+		private void writeTargets(Collection<String> targets, DataOutputStream out) throws IOException {
+			if (targets == null) {
+				writeCount(0, out);
+				return;
+			}
+			writeCount(targets.size() + 1, out);
+			for (String target : targets) {
+				writeString(target, out);
+			}
+		}
+
+		private void writeStrings(Collection<String> values, DataOutputStream out) throws IOException {
+			writeCount(values.size(), out);
+			for (String value : values) {
+				writeString(value, out);
+			}
+		}
+
+		private void writeString(String value, DataOutputStream out) throws IOException {
+			writeCount(addString(value) + 1, out);
+		}
+
+		private int addString(String value) {
+			if (value == null) {
+				return -1;
+			}
+			return stringIndexes.computeIfAbsent(value, v -> {
+				strings.add(v);
+				return strings.size() - 1;
+			});
+		}
+
+		/**
+		 * Write a non-negative number using a variable number of bytes (7 bits per byte).
+		 */
+		private static void writeCount(int value, DataOutputStream out) throws IOException {
+			while ((value & ~0x7F) != 0) {
+				out.writeByte((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			out.writeByte(value);
+		}
+
+	}
+
+}
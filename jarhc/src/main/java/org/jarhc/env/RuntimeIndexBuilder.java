@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.module.ModuleDescriptor;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jarhc.loader.ClassDefLoader;
+import org.jarhc.loader.LoaderBuilder;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.ModuleInfo;
+import org.jarhc.utils.Markdown;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates a {@link RuntimeIndex} for the runtime image of a Java installation.
+ * <p>
+ * Class files and module descriptors are read from the <code>jrt:/</code>
+ * file system of the Java installation. The Java installation must be
+ * Java 9 or greater, but it does not have to be the Java runtime used
+ * to run JarHC. No class is loaded into the running JVM.
+ */
+public class RuntimeIndexBuilder {
+
+	/**
+	 * Class definition loader used to load Java runtime classes.
+	 * This loader does not scan Java classes for references to other classes, methods or fields.
+	 */
+	private final ClassDefLoader loader = LoaderBuilder.create().forClassLoader("Runtime").scanForReferences(false).buildClassDefLoader();
+
+	private final Logger logger;
+
+	public RuntimeIndexBuilder() {
+		this(LoggerFactory.getLogger(RuntimeIndexBuilder.class));
+	}
+
+	public RuntimeIndexBuilder(Logger logger) {
+		this.logger = logger;
+	}
+
+	/**
+	 * Create an index for the given Java installation and write it to the given output stream.
+	 *
+	 * @param javaHome Path to Java installation
+	 * @param stream   Output stream
+	 * @throws IOException If the runtime image cannot be read, or the index cannot be written.
+	 */
+	public void build(File javaHome, OutputStream stream) throws IOException {
+		if (javaHome == null) throw new IllegalArgumentException("javaHome");
+		if (stream == null) throw new IllegalArgumentException("stream");
+
+		long time = System.nanoTime();
+
+		RuntimeIndex.Writer writer = new RuntimeIndex.Writer();
+		setRuntime(javaHome, writer);
+
+		// open runtime image of Java installation
+		URI uri = URI.create("jrt:/");
+		Map<String, String> env = Map.of("java.home", javaHome.getAbsolutePath());
+		try (FileSystem fileSystem = FileSystems.newFileSystem(uri, env)) {
+
+			List<Path> moduleDirs;
+			try (Stream<Path> paths = Files.list(fileSystem.getPath("/modules"))) {
+				moduleDirs = paths.sorted().collect(Collectors.toList());
+			}
+
+			Predicate<String> applicationModule = getApplicationModuleFilter(javaHome, fileSystem);
+			for (Path moduleDir : moduleDirs) {
+				String moduleName = moduleDir.getFileName().toString();
+				if (applicationModule.test(moduleName)) {
+					continue;
+				}
+				addModule(moduleDir, writer);
+			}
+		}
+
+		writer.write(stream);
+
+		if (logger.isDebugEnabled()) {
+			long duration = (System.nanoTime() - time) / 1000000;
+			logger.debug("Runtime index created: {} classes, {} modules, {} ms", writer.getClassCount(), writer.getModuleCount(), duration);
+		}
+	}
+
+	private void addModule(Path moduleDir, RuntimeIndex.Writer writer) throws IOException {
+
+		ModuleInfo moduleInfo = ModuleInfo.UNNAMED;
+		Path moduleInfoFile = moduleDir.resolve("module-info.class");
+		if (Files.isRegularFile(moduleInfoFile)) {
+			try (InputStream stream = Files.newInputStream(moduleInfoFile)) {
+				ModuleDescriptor descriptor = ModuleDescriptor.read(stream);
+				moduleInfo = createModuleInfo(descriptor);
+			}
+			writer.addModuleInfo(moduleInfo);
+		}
+
+		List<Path> classFiles;
+		try (Stream<Path> paths = Files.walk(moduleDir)) {
+			classFiles = paths.filter(RuntimeIndexBuilder::isClassFile).collect(Collectors.toList());
+		}
+
+		// parse class files in parallel
+		List<ClassDef> classDefs;
+		try {
+			classDefs = classFiles.parallelStream().map(this::loadClassDef).collect(Collectors.toList());
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		for (ClassDef classDef : classDefs) {
+			classDef.setModuleInfo(moduleInfo);
+			writer.addClassDef(classDef);
+		}
+	}
+
+	private ClassDef loadClassDef(Path classFile) {
+		try {
+			byte[] data = Files.readAllBytes(classFile);
+			return loader.load(data);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static boolean isClassFile(Path path) {
+		String fileName = path.getFileName().toString();
+		return fileName.endsWith(".class") && !fileName.equals("module-info.class") && Files.isRegularFile(path);
+	}
+
+	private static ModuleInfo createModuleInfo(ModuleDescriptor descriptor) {
+
+		ModuleInfo moduleInfo = ModuleInfo.forModuleName(descriptor.name());
+
+		// note: sort all lists so that the index does not depend on the order of hash sets
+		descriptor.packages().stream().sorted().forEach(moduleInfo::addPackage);
+		descriptor.requires().stream().map(ModuleDescriptor.Requires::name).sorted().forEach(moduleInfo::addRequires);
+		for (ModuleDescriptor.Exports exports : descriptor.exports()) {
+			moduleInfo.addExports(exports.source(), exports.targets().toArray(new String[0]));
+		}
+		for (ModuleDescriptor.Opens opens : descriptor.opens()) {
+			moduleInfo.addOpens(opens.source(), opens.targets().toArray(new String[0]));
+		}
+
+		return moduleInfo;
+	}
+
+	/**
+	 * Get a filter for modules which are defined to the application class
+	 * loader of the given Java installation (e.g., <code>jdk.compiler</code>).
+	 * Classes in these modules are excluded, because they are not visible to
+	 * {@link DefaultJavaRuntime} either.
+	 */
+	private Predicate<String> getApplicationModuleFilter(File javaHome, FileSystem fileSystem) throws IOException {
+
+		if (isCurrentJavaHome(javaHome)) {
+			// use module layer of the Java runtime used to run JarHC
+			return RuntimeIndexBuilder::isApplicationModule;
+		}
+
+		// all modules which are not defined to the boot or platform class loader
+		// are defined to the application class loader
+		Set<String> moduleNames = getBootAndPlatformModules(fileSystem);
+		if (moduleNames.isEmpty()) {
+			logger.warn("Class loaders of modules not found in Java installation: {}. Using class loaders of the Java runtime used to run JarHC.", javaHome.getAbsolutePath());
+			return RuntimeIndexBuilder::isApplicationModule;
+		}
+		return moduleName -> !moduleNames.contains(moduleName);
+	}
+
+	private static boolean isApplicationModule(String moduleName) {
+		Optional<Module> module = ModuleLayer.boot().findModule(moduleName);
+		return module.isPresent() && module.get().getClassLoader() == ClassLoader.getSystemClassLoader();
+	}
+
+	/**
+	 * Get the names of all modules which are defined to the boot or the
+	 * platform class loader of the runtime image in the given file system.
+	 * <p>
+	 * The names are generated into class <code>ModuleLoaderMap</code> (Java 9 to 15)
+	 * or <code>ModuleLoaderMap$Modules</code> (Java 16 and greater) of module
+	 * <code>java.base</code> when the runtime image is built. They are read from
+	 * the string constants of these classes, without loading them.
+	 *
+	 * @param fileSystem File system of runtime image
+	 * @return Module names, or an empty set if the classes are not found.
+	 * @throws IOException If a class file cannot be read.
+	 */
+	static Set<String> getBootAndPlatformModules(FileSystem fileSystem) throws IOException {
+		Set<String> moduleNames = new HashSet<>();
+		for (String className : new String[] { "ModuleLoaderMap", "ModuleLoaderMap$Modules" }) {
+			Path classFile = fileSystem.getPath("/modules/java.base/jdk/internal/module/" + className + ".class");
+			if (!Files.isRegularFile(classFile)) {
+				continue;
+			}
+			ClassReader classReader = new ClassReader(Files.readAllBytes(classFile));
+			classReader.accept(new ClassVisitor(Opcodes.ASM9) {
+				@Override
+				public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+					return new MethodVisitor(Opcodes.ASM9) {
+						@Override
+						public void visitLdcInsn(Object value) {
+							if (value instanceof String) {
+								moduleNames.add((String) value);
+							}
+						}
+					};
+				}
+			}, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+		}
+
+		// ignore string constants which are not names of modules in the runtime image
+		moduleNames.removeIf(moduleName -> !Files.isDirectory(fileSystem.getPath("/modules", moduleName)));
+		return moduleNames;
+	}
+
+	private static void setRuntime(File javaHome, RuntimeIndex.Writer writer) throws IOException {
+
+		if (isCurrentJavaHome(javaHome)) {
+			// use system properties of the Java runtime used to run JarHC
+			Properties properties = System.getProperties();
+			writer.setRuntime(properties.getProperty("java.runtime.name"), properties.getProperty("java.version"), properties.getProperty("java.vendor"), properties.getProperty("java.home"));
+			return;
+		}
+
+		// read "release" file of the Java installation
+		Properties properties = new Properties();
+		File releaseFile = new File(javaHome, "release");
+		if (releaseFile.isFile()) {
+			try (InputStream stream = Files.newInputStream(releaseFile.toPath())) {
+				properties.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+			}
+		}
+		String javaVersion = getReleaseProperty(properties, "JAVA_VERSION");
+		String javaVendor = getReleaseProperty(properties, "IMPLEMENTOR");
+		writer.setRuntime(Markdown.UNKNOWN, javaVersion, javaVendor, javaHome.getAbsolutePath());
+	}
+
+	private static String getReleaseProperty(Properties properties, String name) {
+		String value = properties.getProperty(name);
+		if (value == null) {
+			return Markdown.UNKNOWN;
+		}
+		// remove quotes (example: JAVA_VERSION="11.0.2")
+		if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+			value = value.substring(1, value.length() - 1);
+		}
+		return value;
+	}
+
+	static boolean isCurrentJavaHome(File javaHome) throws IOException {
+		File currentJavaHome = new File(System.getProperty("java.home"));
+		return javaHome.getCanonicalFile().equals(currentJavaHome.getCanonicalFile());
+	}
+
+}
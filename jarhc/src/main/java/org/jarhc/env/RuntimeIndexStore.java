@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.jarhc.utils.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Directory with runtime indexes, one file per Java installation.
+ * <p>
+ * An index is created the first time a Java installation is used, and
+ * re-created when the runtime image of the Java installation changes
+ * (for example, after an update of the Java installation in place).
+ * Indexes are written to a temporary file first and then moved to their
+ * final location, so that an index file is never read while it is written.
+ */
+public class RuntimeIndexStore {
+
+	private static final String FILE_EXTENSION = ".idx";
+
+	private final File indexDir;
+	private final RuntimeIndexBuilder builder;
+	private final Logger logger;
+
+	public RuntimeIndexStore(File indexDir) {
+		this(indexDir, new RuntimeIndexBuilder(), LoggerFactory.getLogger(RuntimeIndexStore.class));
+	}
+
+	public RuntimeIndexStore(File indexDir, RuntimeIndexBuilder builder, Logger logger) {
+		if (indexDir == null) throw new IllegalArgumentException("indexDir");
+		if (builder == null) throw new IllegalArgumentException("builder");
+		this.indexDir = indexDir;
+		this.builder = builder;
+		this.logger = logger;
+	}
+
+	/**
+	 * Get the index for the given Java installation.
+	 * If the index does not exist yet, it is created.
+	 *
+	 * @param javaHome Path to Java installation
+	 * @return Runtime index
+	 * @throws IOException If the index cannot be created or opened.
+	 */
+	public RuntimeIndex getRuntimeIndex(File javaHome) throws IOException {
+		if (javaHome == null) throw new IllegalArgumentException("javaHome");
+
+		File indexFile = getIndexFile(javaHome);
+		if (indexFile.isFile()) {
+			try {
+				return RuntimeIndex.open(indexFile);
+			} catch (IOException e) {
+				// index is corrupt or has been written by a different version
+				logger.debug("Failed to open runtime index: {}", indexFile.getAbsolutePath(), e);
+			}
+		}
+
+		Files.createDirectories(indexDir.toPath());
+
+		// write index into a temporary file
+		File tempFile = File.createTempFile("runtime", ".tmp", indexDir);
+		try {
+			try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+				builder.build(javaHome, stream);
+			}
+
+			// replace index file with temporary file
+			try {
+				Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile.toPath());
+		}
+
+		return RuntimeIndex.open(indexFile);
+	}
+
+	private File getIndexFile(File javaHome) throws IOException {
+
+		// identify runtime image by path, size, and last modification time,
+		// and by the content of the "release" file of the Java installation
+		File canonicalJavaHome = javaHome.getCanonicalFile();
+		File modulesFile = new File(canonicalJavaHome, "lib/modules");
+		StringBuilder key = new StringBuilder();
+		key.append(canonicalJavaHome.getPath()).append('\n');
+		key.append(modulesFile.length()).append('\n');
+		key.append(modulesFile.lastModified()).append('\n');
+		File releaseFile = new File(canonicalJavaHome, "release");
+		if (releaseFile.isFile()) {
+			key.append(new String(Files.readAllBytes(releaseFile.toPath()), StandardCharsets.UTF_8));
+		}
+
+		String fileName = DigestUtils.sha1Hex(key.toString()) + FILE_EXTENSION;
+		return new File(indexDir, fileName);
+	}
+
+}
@@ -19,6 +19,8 @@ package org.jarhc.java;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
+import org.jarhc.java.ResolutionCache.Recorder;
+import org.jarhc.java.ResolutionCache.Resolution;
 import org.jarhc.model.ClassDef;
 import org.jarhc.model.ClassRef;
 import org.jarhc.model.FieldDef;
@@ -26,6 +28,7 @@ import org.jarhc.model.FieldRef;
 import org.jarhc.model.JarFile;
 import org.jarhc.model.MethodDef;
 import org.jarhc.model.MethodRef;
+import org.jarhc.model.ResourceDef;
 import org.jarhc.utils.Pool;
 
 public abstract class ClassLoader {
@@ -39,6 +42,11 @@ public abstract class ClassLoader {
 	private final ClassLoader parent;
 	private final ClassLoaderStrategy strategy;
 
+	/**
+	 * Cache for resolved fields and methods.
+	 */
+	private final ResolutionCache resolutionCache = new ResolutionCache();
+
 	protected ClassLoader(String name, ClassLoader parent, ClassLoaderStrategy strategy) {
 		this.name = name;
 		this.parent = parent;
@@ -49,6 +57,10 @@ public abstract class ClassLoader {
 		return name;
 	}
 
+	public ResolutionCache getResolutionCache() {
+		return resolutionCache;
+	}
+
 	public ClassLoader getParent() {
 		return parent;
 	}
@@ -136,6 +148,49 @@ public abstract class ClassLoader {
 
 	protected abstract ClassDef findClassDef(String className);
 
+	public ResourceDef getResourceDef(String path) {
+
+		// if parent-first class loader strategy ...
+		ResourceDef resourceDef;
+		if (strategy == ClassLoaderStrategy.ParentFirst && parent != null) {
+			// try to find resource in parent class loader
+			resourceDef = parent.getResourceDef(path);
+			if (resourceDef != null) {
+				return resourceDef;
+			}
+		}
+
+		// try to find resource in this class loader
+		resourceDef = findResourceDef(path);
+		if (resourceDef != null) {
+			return resourceDef;
+		}
+
+		// if parent-last class loader strategy ...
+		if (strategy == ClassLoaderStrategy.ParentLast && parent != null) {
+			// try to find resource in parent class loader
+			return parent.getResourceDef(path);
+		}
+
+		// resource not found
+		return null;
+	}
+
+	/**
+	 * Find a resource in the JAR files of this class loader.
+	 * Subclasses with an index of resources should override this method.
+	 *
+	 * @param path Resource path
+	 * @return Resource, or <code>null</code> if the resource is not found.
+	 */
+	protected ResourceDef findResourceDef(String path) {
+		JarFile jarFile = findJarFile(j -> j.getResourceDef(path) != null);
+		if (jarFile == null) {
+			return null;
+		}
+		return jarFile.getResourceDef(path);
+	}
+
 	public FieldDef getFieldDef(FieldRef fieldRef) {
 		return getFieldDef(fieldRef, NoOpCallback.INSTANCE);
 	}
@@ -144,12 +199,25 @@ public abstract class ClassLoader {
 		String fieldOwner = fieldRef.getFieldOwner();
 		String fieldName = fieldRef.getFieldName();
 
-		ArrayList<String> scannedClasses = ARRAY_LIST_POOL.doBorrow();
-		try {
-			return findFieldDef(fieldOwner, fieldName, this, callback, scannedClasses);
-		} finally {
-			ARRAY_LIST_POOL.doReturn(scannedClasses);
+		// check if field has already been resolved
+		Resolution<FieldDef> resolution = resolutionCache.getFieldResolution(fieldOwner, fieldName);
+		if (resolution == null) {
+
+			// resolve field and record callback events
+			Recorder recorder = new Recorder();
+			FieldDef fieldDef;
+			ArrayList<String> scannedClasses = ARRAY_LIST_POOL.doBorrow();
+			try {
+				fieldDef = findFieldDef(fieldOwner, fieldName, this, recorder, scannedClasses);
+			} finally {
+				ARRAY_LIST_POOL.doReturn(scannedClasses);
+			}
+
+			resolution = resolutionCache.putFieldResolution(fieldOwner, fieldName, recorder.createResolution(fieldDef));
 		}
+
+		resolution.replay(callback);
+		return resolution.getMemberDef();
 	}
 
 	private FieldDef findFieldDef(String className, String fieldName, ClassLoader classLoader, Callback callback, ArrayList<String> scannedClasses) {
@@ -212,12 +280,25 @@ public abstract class ClassLoader {
 		String methodName = methodRef.getMethodName();
 		String methodDescriptor = methodRef.getMethodDescriptor();
 
-		ArrayList<String> scannedClasses = ARRAY_LIST_POOL.doBorrow();
-		try {
-			return findMethodDef(methodOwner, methodName, methodDescriptor, this, callback, scannedClasses);
-		} finally {
-			ARRAY_LIST_POOL.doReturn(scannedClasses);
+		// check if method has already been resolved
+		Resolution<MethodDef> resolution = resolutionCache.getMethodResolution(methodOwner, methodName, methodDescriptor);
+		if (resolution == null) {
+
+			// resolve method and record callback events
+			Recorder recorder = new Recorder();
+			MethodDef methodDef;
+			ArrayList<String> scannedClasses = ARRAY_LIST_POOL.doBorrow();
+			try {
+				methodDef = findMethodDef(methodOwner, methodName, methodDescriptor, this, recorder, scannedClasses);
+			} finally {
+				ARRAY_LIST_POOL.doReturn(scannedClasses);
+			}
+
+			resolution = resolutionCache.putMethodResolution(methodOwner, methodName, methodDescriptor, recorder.createResolution(methodDef));
 		}
+
+		resolution.replay(callback);
+		return resolution.getMemberDef();
 	}
 
 	private MethodDef findMethodDef(String className, String methodName, String methodDescriptor, ClassLoader classLoader, Callback callback, ArrayList<String> scannedClasses) {
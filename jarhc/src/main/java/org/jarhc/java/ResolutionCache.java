@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.MethodDef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache for field and method resolutions of a class loader.
+ * <p>
+ * A resolution contains the field or method definition which has been found
+ * (or <code>null</code> if the member has not been found), and the trace of
+ * callback events produced by the search through superclasses and interfaces.
+ * The trace is replayed to the callback of every later lookup, so callers
+ * get the same information as for an uncached lookup.
+ * <p>
+ * This class is thread-safe. Lookups do not block each other. If the same
+ * member is resolved by multiple threads at the same time, only the first
+ * stored resolution is kept.
+ */
+public class ResolutionCache {
+
+	private final ConcurrentHashMap<MemberKey, Resolution<FieldDef>> fieldResolutions = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<MemberKey, Resolution<MethodDef>> methodResolutions = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private final Logger logger;
+
+	public ResolutionCache() {
+		this(LoggerFactory.getLogger(ResolutionCache.class));
+	}
+
+	public ResolutionCache(Logger logger) {
+		this.logger = logger;
+	}
+
+	Resolution<FieldDef> getFieldResolution(String fieldOwner, String fieldName) {
+		MemberKey key = new MemberKey(fieldOwner, fieldName, null);
+		return count(fieldResolutions.get(key));
+	}
+
+	Resolution<FieldDef> putFieldResolution(String fieldOwner, String fieldName, Resolution<FieldDef> resolution) {
+		MemberKey key = new MemberKey(fieldOwner, fieldName, null);
+		Resolution<FieldDef> existingResolution = fieldResolutions.putIfAbsent(key, resolution);
+		return existingResolution != null ? existingResolution : resolution;
+	}
+
+	Resolution<MethodDef> getMethodResolution(String methodOwner, String methodName, String methodDescriptor) {
+		MemberKey key = new MemberKey(methodOwner, methodName, methodDescriptor);
+		return count(methodResolutions.get(key));
+	}
+
+	Resolution<MethodDef> putMethodResolution(String methodOwner, String methodName, String methodDescriptor, Resolution<MethodDef> resolution) {
+		MemberKey key = new MemberKey(methodOwner, methodName, methodDescriptor);
+		Resolution<MethodDef> existingResolution = methodResolutions.putIfAbsent(key, resolution);
+		return existingResolution != null ? existingResolution : resolution;
+	}
+
+	private <T> Resolution<T> count(Resolution<T> resolution) {
+		if (resolution != null) {
+			hits.increment();
+		} else {
+			misses.increment();
+		}
+		return resolution;
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Get the ratio of lookups which have been answered by the cache.
+	 *
+	 * @return Hit rate between 0.0 and 1.0, or 0.0 if there have been no lookups.
+	 */
+	public double getHitRate() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0 ? 0.0 : (double) hitCount / total;
+	}
+
+	public int size() {
+		return fieldResolutions.size() + methodResolutions.size();
+	}
+
+	/**
+	 * Log the number of cache hits and misses (debug level).
+	 */
+	public void logStatistics() {
+		if (logger.isDebugEnabled()) {
+			String hitRate = String.format("%.1f%%", getHitRate() * 100);
+			logger.debug("Resolution cache: {} hits, {} misses, {} hit rate, {} entries", getHits(), getMisses(), hitRate, size());
+		}
+	}
+
+	private static final class MemberKey {
+
+		private final String owner;
+		private final String name;
+		private final String descriptor; // null for fields
+		private final int hashCode;
+
+		private MemberKey(String owner, String name, String descriptor) {
+			this.owner = owner;
+			this.name = name;
+			this.descriptor = descriptor;
+			int result = owner.hashCode();
+			result = 31 * result + name.hashCode();
+			if (descriptor != null) {
+				result = 31 * result + descriptor.hashCode();
+			}
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (obj == null || getClass() != obj.getClass()) return false;
+			MemberKey key = (MemberKey) obj;
+			return hashCode == key.hashCode && owner.equals(key.owner) && name.equals(key.name) && (descriptor == null ? key.descriptor == null : descriptor.equals(key.descriptor));
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+	}
+
+	private enum Event {
+		CLASS_NOT_FOUND, MEMBER_NOT_FOUND, MEMBER_FOUND
+	}
+
+	/**
+	 * Result of a field or method resolution.
+	 *
+	 * @param <T> Type of member definition
+	 */
+	static final class Resolution<T> {
+
+		private final T memberDef;
+		private final Event[] events;
+		private final String[] classNames;
+
+		private Resolution(T memberDef, Event[] events, String[] classNames) {
+			this.memberDef = memberDef;
+			this.events = events;
+			this.classNames = classNames;
+		}
+
+		T getMemberDef() {
+			return memberDef;
+		}
+
+		/**
+		 * Send the recorded callback events to the given callback.
+		 *
+		 * @param callback Callback
+		 */
+		void replay(ClassLoader.Callback callback) {
+			for (int i = 0; i < events.length; i++) {
+				String className = classNames[i];
+				switch (events[i]) {
+					case CLASS_NOT_FOUND:
+						callback.classNotFound(className);
+						break;
+					case MEMBER_NOT_FOUND:
+						callback.memberNotFound(className);
+						break;
+					default:
+						callback.memberFound(className);
+						break;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Callback recording all events of a resolution.
+	 */
+	static final class Recorder implements ClassLoader.Callback {
+
+		private final List<Event> events = new ArrayList<>(4);
+		private final List<String> classNames = new ArrayList<>(4);
+
+		@Override
+		public void classNotFound(String className) {
+			record(Event.CLASS_NOT_FOUND, className);
+		}
+
+		@Override
+		public void memberNotFound(String className) {
+			record(Event.MEMBER_NOT_FOUND, className);
+		}
+
+		@Override
+		public void memberFound(String className) {
+			record(Event.MEMBER_FOUND, className);
+		}
+
+		private void record(Event event, String className) {
+			events.add(event);
+			classNames.add(className);
+		}
+
+		<T> Resolution<T> createResolution(T memberDef) {
+			return new Resolution<>(memberDef, events.toArray(new Event[0]), classNames.toArray(new String[0]));
+		}
+
+	}
+
+}
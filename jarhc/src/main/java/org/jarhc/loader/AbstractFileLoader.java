@@ -19,12 +19,24 @@ package org.jarhc.loader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.jarhc.artifacts.Artifact;
 import org.jarhc.artifacts.Repository;
 import org.jarhc.artifacts.RepositoryException;
@@ -39,6 +51,7 @@ import org.jarhc.model.ResourceDef;
 import org.jarhc.utils.ByteBuffer;
 import org.jarhc.utils.DigestUtils;
 import org.jarhc.utils.ExceptionUtils;
+import org.jarhc.utils.SymbolTable;
 import org.slf4j.Logger;
 
 /**
@@ -47,6 +60,25 @@ import org.slf4j.Logger;
  */
 abstract class AbstractFileLoader {
 
+	/**
+	 * Maximum number of entries waiting to be parsed.
+	 * Limits the memory used for decompressed entry data.
+	 */
+	private static final int MAX_PENDING_TASKS = 256;
+
+	/**
+	 * Maximum number of JAR files identified as Maven artifacts at the same time.
+	 */
+	private static final int MAX_CONCURRENT_LOOKUPS = 8;
+
+	/**
+	 * Threads used to identify JAR files as Maven artifacts.
+	 * Lookups mostly wait for network or disk I/O and must not block the
+	 * worker threads which parse the archive entries.
+	 * Further lookups wait in the queue, and idle threads are stopped.
+	 */
+	private static final Executor ARTIFACT_FINDER_EXECUTOR = createArtifactFinderExecutor();
+
 	private final String classLoader;
 	private final int maxRelease; // for multi-release JAR files
 	private final ClassDefLoader classDefLoader;
@@ -72,8 +104,25 @@ abstract class AbstractFileLoader {
 
 		ModuleInfo moduleInfo = ModuleInfo.UNNAMED;
 		Set<Integer> releases = new TreeSet<>();
-		Map<String, ClassDef> classDefs = new HashMap<>();
-		Map<String, ResourceDef> resourceDefs = new HashMap<>();
+
+		// tasks to parse class files and resources in parallel
+		// (only the task for the highest release of an entry is kept)
+		Map<String, EntryTask<ClassDef>> classDefTasks = new HashMap<>();
+		Map<String, EntryTask<ResourceDef>> resourceDefTasks = new HashMap<>();
+		List<EntryTask<List<JarFile>>> jarFileTasks = new ArrayList<>();
+
+		// all tasks, in the order of the entries in the archive
+		List<EntryTask<?>> tasks = new ArrayList<>();
+		Deque<EntryTask<?>> pendingTasks = new ArrayDeque<>();
+
+		// start to identify JAR file as Maven artifact while entries are parsed
+		// (only possible if checksum is known before the entries are read)
+		String checksum = null;
+		CompletableFuture<List<Artifact>> artifactsFuture = null;
+		if (archive.isChecksumAvailable()) {
+			checksum = archive.getFileChecksum();
+			artifactsFuture = findArtifactsAsync(fileName, coordinates, checksum);
+		}
 
 		// check if JAR is a multi-release JAR file
 		boolean multiRelease = archive.isMultiRelease();
@@ -140,6 +189,24 @@ abstract class AbstractFileLoader {
 				continue;
 			}
 
+			// ignore class definition or resource if it is for an older release
+			// note: decision is based on entry name and release only,
+			// so the result does not depend on the order in which tasks complete
+			if (name.endsWith(".class")) {
+				if (name.equals("module-info.class") && release < moduleInfo.getRelease()) {
+					continue;
+				}
+				EntryTask<ClassDef> classDefTask = classDefTasks.get(name);
+				if (classDefTask != null && release < classDefTask.release) {
+					continue;
+				}
+			} else if (!name.endsWith(".jar")) {
+				EntryTask<ResourceDef> resourceDefTask = resourceDefTasks.get(name);
+				if (resourceDefTask != null && release < resourceDefTask.release) {
+					continue;
+				}
+			}
+
 			// read file data
 			ByteBuffer data;
 			try {
@@ -148,98 +215,203 @@ abstract class AbstractFileLoader {
 				throw new IOException(String.format("Unable to parse entry: %s", name), e);
 			}
 
-			try {
-
-				if (name.endsWith(".jar")) {
+			EntryTask<?> task;
+			if (name.endsWith(".jar")) {
 
-					// load nested JAR file
-					InputStream inputStream = new ByteArrayInputStream(data.getBytes(), 0, data.getLength());
-					String jarFileName = fileName + "!/" + name;
-					try (JarStreamArchive jarStreamArchive = new JarStreamArchive(inputStream)) {
-						load(jarFileName, null, jarStreamArchive, jarFiles);
-					}
-
-				} else if (name.endsWith(".class")) {
-
-					if (name.equals("module-info.class")) {
+				// load nested JAR file
+				String jarFileName = fileName + "!/" + name;
+				EntryTask<List<JarFile>> jarFileTask = new EntryTask<>(release, () -> loadNestedJarFile(jarFileName, data));
+				jarFileTasks.add(jarFileTask);
+				task = jarFileTask;
 
-						// ignore module info if it is for an older release
-						if (release < moduleInfo.getRelease()) {
-							continue;
-						}
+			} else if (name.endsWith(".class")) {
 
-						// load module info
+				if (name.equals("module-info.class")) {
+					// load module info (in this thread, there is at most one per release)
+					try {
 						moduleInfo = moduleInfoLoader.load(data.getBytes(), 0, data.getLength());
 						moduleInfo.setRelease(release);
+					} catch (RuntimeException e) {
+						data.release();
+						throw e;
 					}
+				}
 
-					// ignore class definition if it is for an older release
-					ClassDef classDef = classDefs.get(name);
-					if (classDef != null && release < classDef.getRelease()) {
-						continue;
+				// load class file
+				int classRelease = release;
+				EntryTask<ClassDef> classDefTask = new EntryTask<>(release, () -> loadClassDef(data, classRelease));
+				classDefTasks.put(name, classDefTask);
+				task = classDefTask;
+
+				/*
+				Certificate[] certificates = entry.getCertificates();
+				if (certificates != null && certificates.length > 0) {
+					Certificate certificate = certificates[0];
+					if (certificate instanceof X509Certificate) {
+						X509Certificate x509 = (X509Certificate) certificate;
+						String subject = x509.getSubjectDN().getName();
+						// TODO: save subject
 					}
+				}
+				// TODO: verify signature
+				*/
 
-					// load class file
-					classDef = classDefLoader.load(data.getBytes(), 0, data.getLength());
-					classDef.setRelease(release);
-
-					/*
-					Certificate[] certificates = entry.getCertificates();
-					if (certificates != null && certificates.length > 0) {
-						Certificate certificate = certificates[0];
-						if (certificate instanceof X509Certificate) {
-							X509Certificate x509 = (X509Certificate) certificate;
-							String subject = x509.getSubjectDN().getName();
-							// TODO: save subject
-						}
-					}
-					// TODO: verify signature
-					*/
+			} else {
 
-					classDefs.put(name, classDef);
+				// add as resource
+				String resourceName = name;
+				int resourceRelease = release;
+				EntryTask<ResourceDef> resourceDefTask = new EntryTask<>(release, () -> loadResourceDef(resourceName, data, resourceRelease));
+				resourceDefTasks.put(name, resourceDefTask);
+				task = resourceDefTask;
 
-				} else {
+			}
 
-					// ignore resource if it is for an older release
-					ResourceDef resourceDef = resourceDefs.get(name);
-					if (resourceDef != null && release < resourceDef.getRelease()) {
-						continue;
-					}
+			// parse entry in a worker thread
+			task.fork();
+			tasks.add(task);
 
-					// calculate SHA-1 checksum
-					String checksum = DigestUtils.sha1Hex(data.getBytes(), 0, data.getLength());
+			// limit number of entries held in memory
+			pendingTasks.addLast(task);
+			if (pendingTasks.size() > MAX_PENDING_TASKS) {
+				pendingTasks.removeFirst().quietlyJoin();
+			}
 
-					// add as resource
-					resourceDef = new ResourceDef(name, checksum);
-					resourceDef.setRelease(release);
-					resourceDefs.put(name, resourceDef);
+		}
 
-				}
+		// wait for all tasks and report the first error (in archive order)
+		for (EntryTask<?> task : tasks) {
+			task.getResult();
+		}
+
+		// collect nested JAR files
+		for (EntryTask<List<JarFile>> jarFileTask : jarFileTasks) {
+			jarFiles.addAll(jarFileTask.getResult());
+		}
 
-			} finally {
-				data.release();
+		// collect class definitions and resources
+		List<ClassDef> classDefs = new ArrayList<>(classDefTasks.size());
+		for (EntryTask<ClassDef> classDefTask : classDefTasks.values()) {
+			classDefs.add(classDefTask.getResult());
+		}
+		List<ResourceDef> resourceDefs = new ArrayList<>(resourceDefTasks.size());
+		for (EntryTask<ResourceDef> resourceDefTask : resourceDefTasks.values()) {
+			resourceDefs.add(resourceDefTask.getResult());
+		}
+
+		// wait for artifact identification
+		List<Artifact> artifacts;
+		if (artifactsFuture != null) {
+			artifacts = getArtifacts(artifactsFuture);
+		} else {
+			// calculate SHA-1 checksum of JAR file
+			checksum = archive.getFileChecksum();
+			artifacts = findArtifacts(fileName, coordinates, checksum);
+		}
+
+		JarFile jarFile = createJarFile(fileName, coordinates, archive.getFileSize(), checksum, artifacts, manifestAttributes, releases, moduleInfo, osgiBundleInfo, classDefs, resourceDefs);
+		jarFiles.add(jarFile);
+	}
+
+	private List<JarFile> loadNestedJarFile(String jarFileName, ByteBuffer data) throws IOException {
+		try {
+			List<JarFile> jarFiles = new ArrayList<>();
+			InputStream inputStream = new ByteArrayInputStream(data.getBytes(), 0, data.getLength());
+			try (JarStreamArchive jarStreamArchive = new JarStreamArchive(inputStream)) {
+				load(jarFileName, null, jarStreamArchive, jarFiles);
 			}
+			return jarFiles;
+		} finally {
+			data.release();
+		}
+	}
 
+	private ClassDef loadClassDef(ByteBuffer data, int release) {
+		try {
+			ClassDef classDef = classDefLoader.load(data.getBytes(), 0, data.getLength());
+			classDef.setRelease(release);
+			return classDef;
+		} finally {
+			data.release();
 		}
+	}
 
-		// calculate SHA-1 checksum of JAR file
-		String checksum = archive.getFileChecksum();
+	private static ResourceDef loadResourceDef(String name, ByteBuffer data, int release) {
+		try {
+			// calculate SHA-1 checksum
+			String checksum = DigestUtils.sha1Hex(data.getBytes(), 0, data.getLength());
+			ResourceDef resourceDef = new ResourceDef(name, checksum);
+			resourceDef.setRelease(release);
+			return resourceDef;
+		} finally {
+			data.release();
+		}
+	}
+
+	/**
+	 * Start to identify a JAR file as Maven artifact in a background thread.
+	 *
+	 * @see #findArtifacts(String, String, String)
+	 */
+	protected CompletableFuture<List<Artifact>> findArtifactsAsync(String fileName, String coordinates, String checksum) {
+		return CompletableFuture.supplyAsync(() -> findArtifacts(fileName, coordinates, checksum), ARTIFACT_FINDER_EXECUTOR);
+	}
 
-		// try to identify JAR file as Maven artifact
+	private static Executor createArtifactFinderExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_LOOKUPS, MAX_CONCURRENT_LOOKUPS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, "jarhc-artifact-finder");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Wait for the result of {@link #findArtifactsAsync(String, String, String)}.
+	 */
+	protected static List<Artifact> getArtifacts(CompletableFuture<List<Artifact>> artifactsFuture) {
+		try {
+			return artifactsFuture.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Try to identify a JAR file as Maven artifact.
+	 *
+	 * @return List of artifacts, or <code>null</code> if the artifact finder failed.
+	 */
+	private List<Artifact> findArtifacts(String fileName, String coordinates, String checksum) {
 		String source = coordinates != null ? coordinates : fileName;
-		List<Artifact> artifacts = null;
 		try {
-			artifacts = repository.findArtifacts(checksum);
+			List<Artifact> artifacts = repository.findArtifacts(checksum);
 			if (artifacts.isEmpty()) {
 				logger.info("Artifact Finder: No artifact found for '{}' with checksum '{}'", source, checksum);
 			}
+			return artifacts;
 		} catch (RepositoryException e) {
 			if (ExceptionUtils.getRootCause(e) instanceof SocketTimeoutException) {
 				logger.warn("Artifact Finder: Timeout for artifact '{}' with checksum '{}'", source, checksum);
 			} else {
 				logger.warn("Artifact Finder: Error for artifact '{}' with checksum '{}'", source, checksum, e);
 			}
+			return null;
 		}
+	}
+
+	/**
+	 * Create a JAR file with the given content and the artifacts found for the JAR file.
+	 */
+	@SuppressWarnings("java:S107") // Methods should not have too many parameters
+	protected JarFile createJarFile(String fileName, String coordinates, long fileSize, String checksum, List<Artifact> artifacts, Map<String, String> manifestAttributes, Set<Integer> releases, ModuleInfo moduleInfo, OSGiBundleInfo osgiBundleInfo, Collection<ClassDef> classDefs, Collection<ResourceDef> resourceDefs) {
 
 		if (artifacts != null) {
 
@@ -264,8 +436,8 @@ abstract class AbstractFileLoader {
 			}
 		}
 
-		JarFile jarFile = JarFile.withName(fileName)
-				.withFileSize(archive.getFileSize())
+		return JarFile.withName(fileName)
+				.withFileSize(fileSize)
 				.withChecksum(checksum)
 				.withCoordinates(coordinates)
 				.withArtifacts(artifacts)
@@ -274,11 +446,34 @@ abstract class AbstractFileLoader {
 				.withReleases(releases)
 				.withModuleInfo(moduleInfo)
 				.withOSGiBundleInfo(osgiBundleInfo)
-				.withClassDefs(classDefs.values())
-				.withResourceDefs(resourceDefs.values())
+				.withClassDefs(classDefs)
+				.withResourceDefs(resourceDefs)
 				.build();
+	}
 
-		jarFiles.add(jarFile);
+	/**
+	 * Get the key used to cache the JAR files loaded from an archive.
+	 * The key contains the checksum of the archive and all loader settings
+	 * which have an influence on the loaded class definitions.
+	 *
+	 * @param checksum SHA-1 checksum of archive
+	 * @return Cache key
+	 */
+	protected String getCacheKey(String checksum) {
+		StringBuilder key = new StringBuilder(checksum);
+		key.append('-').append(classLoader.toLowerCase());
+		key.append('-').append(maxRelease);
+		if (!classDefLoader.isScanForReferences()) {
+			key.append("-norefs");
+		}
+		if (classDefLoader.isLazyMemberDefs()) {
+			key.append("-lazy");
+		}
+		return key.toString();
+	}
+
+	protected SymbolTable getSymbolTable() {
+		return classDefLoader.getSymbolTable();
 	}
 
 	protected String filter(String name) {
@@ -286,4 +481,45 @@ abstract class AbstractFileLoader {
 		return name;
 	}
 
+	@FunctionalInterface
+	private interface EntryParser<T> {
+		T parse() throws IOException;
+	}
+
+	/**
+	 * Task to parse the data of an archive entry in the common fork-join pool.
+	 * Work-stealing allows nested JAR files to be parsed as tasks of their own,
+	 * also if the archive itself is loaded in a worker thread of the pool.
+	 */
+	private static class EntryTask<T> extends RecursiveTask<T> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int release;
+		private final transient EntryParser<T> parser;
+
+		EntryTask(int release, EntryParser<T> parser) {
+			this.release = release;
+			this.parser = parser;
+		}
+
+		@Override
+		protected T compute() {
+			try {
+				return parser.parse();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		T getResult() throws IOException {
+			try {
+				return join();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+	}
+
 }
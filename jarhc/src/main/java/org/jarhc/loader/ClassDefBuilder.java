@@ -40,6 +40,7 @@ import org.jarhc.model.MethodRef;
 import org.jarhc.model.RecordComponentDef;
 import org.jarhc.utils.JavaUtils;
 import org.jarhc.utils.Pool;
+import org.jarhc.utils.SymbolTable;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.Attribute;
 import org.objectweb.asm.ClassVisitor;
@@ -59,6 +60,14 @@ class ClassDefBuilder extends ClassVisitor {
 	private static final Pool<Set<MethodRef>> methodRefsSetPool = new Pool<>(TreeSet::new, Set::clear);
 
 	private final boolean scanForReferences;
+	private final SymbolTable symbolTable;
+
+	/**
+	 * Table of record components, fields, and methods which are added to
+	 * the class definition on first use, or <code>null</code> if they are
+	 * added immediately.
+	 */
+	private final MemberDefsTable memberDefsTable;
 
 	private final ClassDef classDef = new ClassDef("java.lang.Object");
 
@@ -71,9 +80,34 @@ class ClassDefBuilder extends ClassVisitor {
 	private final CustomFieldVisitor fieldVisitor = new CustomFieldVisitor();
 	private final AnnotationVisitor annotationVisitor = new AnnotationBuilder();
 
-	ClassDefBuilder(boolean scanForReferences) {
+	/**
+	 * Creates a new class definition builder.
+	 * Names of members and method descriptors are interned in the given symbol table.
+	 * Class names are already shared by the caches in {@link JavaUtils}.
+	 *
+	 * @param scanForReferences Set to <code>true</code> to collect references to other classes, methods and fields
+	 * @param symbolTable       Symbol table
+	 */
+	ClassDefBuilder(boolean scanForReferences, SymbolTable symbolTable) {
+		this(scanForReferences, false, symbolTable);
+	}
+
+	/**
+	 * Creates a new class definition builder.
+	 * If record components, fields, and methods are created on first use,
+	 * annotations on them are ignored, and references to other classes,
+	 * methods and fields must not be collected.
+	 *
+	 * @param scanForReferences Set to <code>true</code> to collect references to other classes, methods and fields
+	 * @param lazyMemberDefs    Set to <code>true</code> to create record components, fields, and methods on first use
+	 * @param symbolTable       Symbol table
+	 */
+	ClassDefBuilder(boolean scanForReferences, boolean lazyMemberDefs, SymbolTable symbolTable) {
 		super(Opcodes.ASM9);
+		if (scanForReferences && lazyMemberDefs) throw new IllegalArgumentException("lazyMemberDefs");
 		this.scanForReferences = scanForReferences;
+		this.symbolTable = symbolTable;
+		this.memberDefsTable = lazyMemberDefs ? new MemberDefsTable() : null;
 	}
 
 	public ClassDef getClassDef() {
@@ -94,6 +128,11 @@ class ClassDefBuilder extends ClassVisitor {
 			}
 		}
 
+		if (memberDefsTable != null && memberDefsTable.size() > 0) {
+			memberDefsTable.trim();
+			classDef.setMemberDefsLoader(memberDefsTable);
+		}
+
 		// release sets to pools
 		classRefsSetPool.doReturn(classRefs);
 		fieldRefsSetPool.doReturn(fieldRefs);
@@ -160,7 +199,12 @@ class ClassDefBuilder extends ClassVisitor {
 
 		String recordComponentType = getRecordComponentType(descriptor);
 
-		RecordComponentDef recordComponentDef = new RecordComponentDef(name, recordComponentType);
+		if (memberDefsTable != null) {
+			memberDefsTable.addRecordComponent(symbolTable.intern(name), recordComponentType);
+			return null;
+		}
+
+		RecordComponentDef recordComponentDef = new RecordComponentDef(symbolTable.intern(name), recordComponentType);
 		classDef.addRecordComponentDef(recordComponentDef);
 
 		if (scanForReferences) {
@@ -178,7 +222,12 @@ class ClassDefBuilder extends ClassVisitor {
 
 		String fieldType = getFieldType(descriptor);
 
-		FieldDef fieldDef = new FieldDef(access, name, fieldType);
+		if (memberDefsTable != null) {
+			memberDefsTable.addField(access, symbolTable.intern(name), fieldType);
+			return null;
+		}
+
+		FieldDef fieldDef = new FieldDef(access, symbolTable.intern(name), fieldType);
 		classDef.addFieldDef(fieldDef);
 
 		if (scanForReferences) {
@@ -194,7 +243,12 @@ class ClassDefBuilder extends ClassVisitor {
 	public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
 		// TODO: what to do with signature ???
 
-		MethodDef methodDef = new MethodDef(access, name, descriptor);
+		if (memberDefsTable != null) {
+			memberDefsTable.addMethod(access, symbolTable.intern(name), symbolTable.intern(descriptor));
+			return null;
+		}
+
+		MethodDef methodDef = new MethodDef(access, symbolTable.intern(name), symbolTable.intern(descriptor));
 		// TODO: add exceptions to MethodDef
 		classDef.addMethodDef(methodDef);
 
@@ -418,7 +472,7 @@ class ClassDefBuilder extends ClassVisitor {
 			addClassRef(fieldOwner);
 			addClassRef(fieldType);
 
-			FieldRef fieldRef = new FieldRef(fieldOwner, fieldType, name, staticField, writeAccess);
+			FieldRef fieldRef = new FieldRef(fieldOwner, fieldType, symbolTable.intern(name), staticField, writeAccess);
 			fieldRefs.add(fieldRef);
 		}
 
@@ -437,7 +491,7 @@ class ClassDefBuilder extends ClassVisitor {
 			boolean staticMethod = opcode == Opcodes.INVOKESTATIC;
 			boolean interfaceMethod = opcode == Opcodes.INVOKEINTERFACE || isInterface; // TODO: what has priority?
 
-			MethodRef methodRef = new MethodRef(methodOwner, descriptor, name, interfaceMethod, staticMethod);
+			MethodRef methodRef = new MethodRef(methodOwner, symbolTable.intern(descriptor), symbolTable.intern(name), interfaceMethod, staticMethod);
 			methodRefs.add(methodRef);
 		}
 
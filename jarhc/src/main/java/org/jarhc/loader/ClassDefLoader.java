@@ -25,6 +25,7 @@ import org.jarhc.model.ClassDef;
 import org.jarhc.utils.ByteBuffer;
 import org.jarhc.utils.DigestUtils;
 import org.jarhc.utils.IOUtils;
+import org.jarhc.utils.SymbolTable;
 import org.objectweb.asm.ClassReader;
 
 /**
@@ -44,6 +45,18 @@ public class ClassDefLoader {
 	 */
 	private final boolean scanForReferences;
 
+	/**
+	 * Flag used to control whether record components, fields, and methods
+	 * are created on first use only. Always <code>false</code> if the Java
+	 * class is scanned for references.
+	 */
+	private final boolean lazyMemberDefs;
+
+	/**
+	 * Symbol table used to share names and descriptors between class definitions.
+	 */
+	private final SymbolTable symbolTable;
+
 	/**
 	 * Creates a new class definition loader.
 	 *
@@ -51,8 +64,46 @@ public class ClassDefLoader {
 	 * @param scanForReferences Set to <code>true</code> to have this loader find
 	 */
 	public ClassDefLoader(String classLoader, boolean scanForReferences) {
+		this(classLoader, scanForReferences, new SymbolTable());
+	}
+
+	/**
+	 * Creates a new class definition loader.
+	 *
+	 * @param classLoader       Name of class loader, for example "Classpath", "Provided" or "Runtime"
+	 * @param scanForReferences Set to <code>true</code> to have this loader find
+	 * @param symbolTable       Symbol table used to intern names and descriptors
+	 */
+	public ClassDefLoader(String classLoader, boolean scanForReferences, SymbolTable symbolTable) {
+		this(classLoader, scanForReferences, false, symbolTable);
+	}
+
+	/**
+	 * Creates a new class definition loader.
+	 *
+	 * @param classLoader       Name of class loader, for example "Classpath", "Provided" or "Runtime"
+	 * @param scanForReferences Set to <code>true</code> to have this loader find
+	 * @param lazyMemberDefs    Set to <code>true</code> to create record components, fields, and methods on first use (ignored if <code>scanForReferences</code> is <code>true</code>)
+	 * @param symbolTable       Symbol table used to intern names and descriptors
+	 */
+	public ClassDefLoader(String classLoader, boolean scanForReferences, boolean lazyMemberDefs, SymbolTable symbolTable) {
+		if (symbolTable == null) throw new IllegalArgumentException("symbolTable");
 		this.classLoader = classLoader;
 		this.scanForReferences = scanForReferences;
+		this.lazyMemberDefs = lazyMemberDefs && !scanForReferences;
+		this.symbolTable = symbolTable;
+	}
+
+	public boolean isScanForReferences() {
+		return scanForReferences;
+	}
+
+	public boolean isLazyMemberDefs() {
+		return lazyMemberDefs;
+	}
+
+	public SymbolTable getSymbolTable() {
+		return symbolTable;
 	}
 
 	/**
@@ -119,7 +170,7 @@ public class ClassDefLoader {
 		// calculate SHA-1 checksum
 		String classFileChecksum = DigestUtils.sha1Hex(data, offset, length);
 
-		ClassDefBuilder classDefBuilder = new ClassDefBuilder(scanForReferences);
+		ClassDefBuilder classDefBuilder = new ClassDefBuilder(scanForReferences, lazyMemberDefs, symbolTable);
 
 		ClassReader classReader = new ClassReader(data, offset, length);
 		classReader.accept(classDefBuilder, 0);
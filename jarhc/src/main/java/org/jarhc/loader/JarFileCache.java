@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.loader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jarhc.model.JarFile;
+import org.jarhc.utils.SymbolTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disk cache for JAR files loaded from an archive.
+ * <p>
+ * Entries are stored in a compact binary format (see {@link JarFileCodec}),
+ * one file per archive and loader configuration. If the total size of all
+ * entries exceeds the configured maximum size, the least recently used
+ * entries are deleted.
+ * <p>
+ * This class is thread-safe. Multiple processes can share the same cache
+ * directory because entries are written to a temporary file first and then
+ * moved to their final location.
+ */
+public class JarFileCache {
+
+	/**
+	 * Default maximum size of the cache (512 MB).
+	 */
+	public static final long DEFAULT_MAX_SIZE = 512 * 1024 * 1024L;
+
+	private static final String FILE_EXTENSION = ".bin";
+
+	private final File cacheDir;
+	private final long maxSize;
+	private final Logger logger;
+
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+	private final AtomicInteger evictions = new AtomicInteger();
+
+	/**
+	 * Total size of all entries, or -1 if it has not been calculated yet.
+	 */
+	private final AtomicLong totalSize = new AtomicLong(-1);
+
+	public JarFileCache(File cacheDir, long maxSize) {
+		this(cacheDir, maxSize, LoggerFactory.getLogger(JarFileCache.class));
+	}
+
+	public JarFileCache(File cacheDir, long maxSize, Logger logger) {
+		if (cacheDir == null) throw new IllegalArgumentException("cacheDir");
+		if (maxSize < 0) throw new IllegalArgumentException("maxSize < 0");
+		this.cacheDir = cacheDir;
+		this.maxSize = maxSize;
+		this.logger = logger;
+	}
+
+	/**
+	 * Get the JAR files stored under the given key.
+	 *
+	 * @param key      Cache key
+	 * @param fileName File name of the archive
+	 * @return JAR files, or <code>null</code> if no entry has been found.
+	 */
+	List<JarFile> get(String key, String fileName) {
+		return get(key, fileName, new SymbolTable());
+	}
+
+	/**
+	 * Get the JAR files stored under the given key.
+	 *
+	 * @param key         Cache key
+	 * @param fileName    File name of the archive
+	 * @param symbolTable Symbol table used to intern strings read from the cache
+	 * @return JAR files, or <code>null</code> if no entry has been found.
+	 */
+	List<JarFile> get(String key, String fileName, SymbolTable symbolTable) {
+
+		File cacheFile = getCacheFile(key);
+		if (!cacheFile.isFile()) {
+			misses.incrementAndGet();
+			return null;
+		}
+
+		List<JarFile> jarFiles;
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(cacheFile))) {
+			jarFiles = JarFileCodec.read(stream, fileName, symbolTable);
+		} catch (IOException e) {
+			// entry is corrupt or has been written by a different version
+			logger.debug("Failed to read cache entry: {}", cacheFile.getAbsolutePath(), e);
+			misses.incrementAndGet();
+			return null;
+		}
+
+		// update last modified timestamp (used to find least recently used entries)
+		if (!cacheFile.setLastModified(System.currentTimeMillis())) {
+			logger.debug("Failed to update last modified timestamp: {}", cacheFile.getAbsolutePath());
+		}
+
+		hits.incrementAndGet();
+		return jarFiles;
+	}
+
+	/**
+	 * Store the given JAR files under the given key.
+	 * Errors are logged, but not reported to the caller.
+	 *
+	 * @param key      Cache key
+	 * @param fileName File name of the archive
+	 * @param jarFiles JAR files loaded from the archive
+	 */
+	void put(String key, String fileName, List<JarFile> jarFiles) {
+
+		// calculate total size before adding the new entry
+		initTotalSize();
+
+		File cacheFile = getCacheFile(key);
+		long oldSize = cacheFile.length(); // 0 if file does not exist
+
+		try {
+			Files.createDirectories(cacheDir.toPath());
+
+			// write entry into a temporary file
+			File tempFile = File.createTempFile(key, ".tmp", cacheDir);
+			try {
+				try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+					JarFileCodec.write(jarFiles, fileName, stream);
+				}
+
+				// replace entry with temporary file
+				try {
+					Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(tempFile.toPath());
+			}
+
+		} catch (IOException e) {
+			logger.warn("Failed to write cache entry: {}", cacheFile.getAbsolutePath(), e);
+			return;
+		}
+
+		long size = totalSize.addAndGet(cacheFile.length() - oldSize);
+		if (size > maxSize) {
+			evict();
+		}
+	}
+
+	private File getCacheFile(String key) {
+		return new File(cacheDir, key + FILE_EXTENSION);
+	}
+
+	private File[] getCacheFiles() {
+		File[] files = cacheDir.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+		if (files == null) {
+			return new File[0];
+		}
+		return files;
+	}
+
+	private synchronized void initTotalSize() {
+		if (totalSize.get() < 0) {
+			long size = Arrays.stream(getCacheFiles()).mapToLong(File::length).sum();
+			totalSize.set(size);
+		}
+	}
+
+	/**
+	 * Delete the least recently used entries until the total size
+	 * of all remaining entries is less than 90% of the maximum size.
+	 * Deleting more than strictly necessary prevents that every
+	 * following write operation has to evict entries again.
+	 */
+	private synchronized void evict() {
+
+		File[] files = getCacheFiles();
+
+		// sort entries by last modified timestamp (oldest first)
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+
+		long size = Arrays.stream(files).mapToLong(File::length).sum();
+		long limit = maxSize / 10 * 9;
+
+		for (File file : files) {
+			if (size <= limit) break;
+			long length = file.length();
+			try {
+				// note: entry may have been deleted by another process
+				if (Files.deleteIfExists(file.toPath())) {
+					evictions.incrementAndGet();
+				}
+				size -= length;
+			} catch (IOException e) {
+				logger.warn("Failed to delete cache entry: {}", file.getAbsolutePath(), e);
+			}
+		}
+
+		totalSize.set(size);
+	}
+
+	public int getHits() {
+		return hits.get();
+	}
+
+	public int getMisses() {
+		return misses.get();
+	}
+
+	public int getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Log the number of cache hits, misses, and evictions (debug level).
+	 */
+	public void logStatistics() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("JAR file cache: {} hits, {} misses, {} evictions", hits.get(), misses.get(), evictions.get());
+		}
+	}
+
+}
@@ -0,0 +1,608 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.loader;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jarhc.model.AnnotationRef;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.ClassRef;
+import org.jarhc.model.Def;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.FieldRef;
+import org.jarhc.model.JarFile;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.MethodRef;
+import org.jarhc.model.ModuleInfo;
+import org.jarhc.model.OSGiBundleInfo;
+import org.jarhc.model.RecordComponentDef;
+import org.jarhc.model.ResourceDef;
+import org.jarhc.utils.SymbolTable;
+
+/**
+ * Binary encoding of the JAR files loaded from a single archive.
+ * <p>
+ * The encoding contains everything found by scanning the archive
+ * (class definitions, references, resources, manifest attributes,
+ * module info, and OSGi bundle info), but nothing that depends on
+ * external sources like a Maven repository.
+ * <p>
+ * Every string is written only once. Later occurrences of the same
+ * string are written as index into a table of strings seen so far.
+ */
+final class JarFileCodec {
+
+	/**
+	 * Magic number at the beginning of every encoded file ("JHCF").
+	 */
+	static final int MAGIC = 0x4A484346;
+
+	/**
+	 * Version of the binary format.
+	 * Must be incremented whenever the format or the scanned data changes.
+	 */
+	static final int FORMAT_VERSION = 2;
+
+	private static final AnnotationRef.Target[] TARGETS = AnnotationRef.Target.values();
+
+	private JarFileCodec() {
+		// utility class
+	}
+
+	/**
+	 * Write the given JAR files to the given output stream.
+	 * File names of nested JAR files are written relative to the given file name.
+	 *
+	 * @param jarFiles JAR files loaded from the same archive
+	 * @param fileName File name of the archive
+	 * @param stream   Output stream
+	 * @throws IOException If the data cannot be written.
+	 */
+	static void write(List<JarFile> jarFiles, String fileName, OutputStream stream) throws IOException {
+		Writer writer = new Writer(stream);
+		writer.writeInt(MAGIC);
+		writer.writeInt(FORMAT_VERSION);
+		writer.writeCount(jarFiles.size());
+		for (JarFile jarFile : jarFiles) {
+			writer.writeJarFile(jarFile, fileName);
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Read JAR files from the given input stream.
+	 *
+	 * @param stream      Input stream
+	 * @param fileName    File name of the archive
+	 * @param symbolTable Symbol table used to intern strings
+	 * @return JAR files
+	 * @throws IOException If the data cannot be read, or has been written with a different format version.
+	 */
+	static List<JarFile> read(InputStream stream, String fileName, SymbolTable symbolTable) throws IOException {
+		Reader reader = new Reader(stream, symbolTable);
+		int magic = reader.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("Unknown file format.");
+		}
+		int version = reader.readInt();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported format version: " + version);
+		}
+		int count = reader.readCount();
+		List<JarFile> jarFiles = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			JarFile jarFile = reader.readJarFile(fileName);
+			jarFiles.add(jarFile);
+		}
+		return jarFiles;
+	}
+
+	private static class Writer {
+
+		private final DataOutputStream stream;
+		private final Map<String, Integer> strings = new HashMap<>();
+
+		Writer(OutputStream stream) {
+			this.stream = new DataOutputStream(stream);
+		}
+
+		void writeJarFile(JarFile jarFile, String fileName) throws IOException {
+
+			// remove file name of archive from name of nested JAR files
+			String name = jarFile.getFileName();
+			if (name.startsWith(fileName)) {
+				name = name.substring(fileName.length());
+			}
+			writeString(name);
+
+			stream.writeLong(jarFile.getFileSize());
+			writeString(jarFile.getChecksum());
+			writeMap(jarFile.getManifestAttributes());
+
+			Set<Integer> releases = jarFile.getReleases();
+			writeCount(releases.size());
+			for (int release : releases) {
+				stream.writeInt(release);
+			}
+
+			writeModuleInfo(jarFile.getModuleInfo());
+
+			OSGiBundleInfo osgiBundleInfo = jarFile.getOSGiBundleInfo();
+			stream.writeBoolean(osgiBundleInfo != null);
+			if (osgiBundleInfo != null) {
+				writeMap(osgiBundleInfo.getManifestAttributes());
+			}
+
+			List<ClassDef> classDefs = jarFile.getClassDefs();
+			writeCount(classDefs.size());
+			for (ClassDef classDef : classDefs) {
+				writeClassDef(classDef);
+			}
+
+			List<ResourceDef> resourceDefs = jarFile.getResourceDefs();
+			writeCount(resourceDefs.size());
+			for (ResourceDef resourceDef : resourceDefs) {
+				writeString(resourceDef.getPath());
+				writeString(resourceDef.getChecksum());
+				stream.writeInt(resourceDef.getRelease());
+			}
+		}
+
+		private void writeModuleInfo(ModuleInfo moduleInfo) throws IOException {
+			stream.writeBoolean(moduleInfo.isNamed());
+			if (moduleInfo.isUnnamed()) {
+				return;
+			}
+
+			writeString(moduleInfo.getModuleName());
+			stream.writeInt(moduleInfo.getRelease());
+			stream.writeBoolean(moduleInfo.isAutomatic());
+			writeStrings(moduleInfo.getPackages());
+			writeStrings(moduleInfo.getRequires());
+
+			List<String> exports = moduleInfo.getExports();
+			writeCount(exports.size());
+			for (String packageName : exports) {
+				writeString(packageName);
+				writeNullableStrings(moduleInfo.getExportsTargets(packageName));
+			}
+
+			List<String> opens = moduleInfo.getOpens();
+			writeCount(opens.size());
+			for (String packageName : opens) {
+				writeString(packageName);
+				writeNullableStrings(moduleInfo.getOpensTargets(packageName));
+			}
+		}
+
+		private void writeClassDef(ClassDef classDef) throws IOException {
+			writeString(classDef.getClassName());
+			stream.writeInt(classDef.getAccess());
+			stream.writeInt(classDef.getRelease());
+			writeString(classDef.getSuperName());
+			writeStrings(classDef.getInterfaceNames());
+			writeStrings(classDef.getPermittedSubclassNames());
+			stream.writeShort(classDef.getMajorClassVersion());
+			stream.writeShort(classDef.getMinorClassVersion());
+			writeString(classDef.getClassLoader());
+			writeString(classDef.getClassFileChecksum());
+			writeAnnotationRefs(classDef);
+
+			// write table of members which have not been loaded yet
+			// note: members must not be loaded only to write them to the cache
+			ClassDef.MemberDefsLoader memberDefsLoader = classDef.getMemberDefsLoader();
+			stream.writeBoolean(memberDefsLoader instanceof MemberDefsTable);
+			if (memberDefsLoader instanceof MemberDefsTable) {
+				writeMemberDefsTable((MemberDefsTable) memberDefsLoader);
+			} else {
+				writeMemberDefs(classDef);
+			}
+
+			List<ClassRef> classRefs = classDef.getClassRefs();
+			writeCount(classRefs.size());
+			for (ClassRef classRef : classRefs) {
+				writeString(classRef.getClassName());
+			}
+
+			List<FieldRef> fieldRefs = classDef.getFieldRefs();
+			writeCount(fieldRefs.size());
+			for (FieldRef fieldRef : fieldRefs) {
+				writeString(fieldRef.getFieldOwner());
+				writeString(fieldRef.getFieldType());
+				writeString(fieldRef.getFieldName());
+				stream.writeBoolean(fieldRef.isStaticAccess());
+				stream.writeBoolean(fieldRef.isWriteAccess());
+			}
+
+			List<MethodRef> methodRefs = classDef.getMethodRefs();
+			writeCount(methodRefs.size());
+			for (MethodRef methodRef : methodRefs) {
+				writeString(methodRef.getMethodOwner());
+				writeString(methodRef.getMethodDescriptor());
+				writeString(methodRef.getMethodName());
+				stream.writeBoolean(methodRef.isInterfaceMethod());
+				stream.writeBoolean(methodRef.isStaticAccess());
+			}
+		}
+
+		private void writeMemberDefsTable(MemberDefsTable memberDefsTable) throws IOException {
+			int size = memberDefsTable.size();
+			writeCount(size);
+			for (int i = 0; i < size; i++) {
+				stream.writeByte(memberDefsTable.getKind(i));
+				stream.writeInt(memberDefsTable.getAccess(i));
+				writeString(memberDefsTable.getName(i));
+				writeString(memberDefsTable.getType(i));
+			}
+		}
+
+		private void writeMemberDefs(ClassDef classDef) throws IOException {
+			List<RecordComponentDef> recordComponentDefs = classDef.getRecordComponentDefs();
+			writeCount(recordComponentDefs.size());
+			for (RecordComponentDef recordComponentDef : recordComponentDefs) {
+				writeString(recordComponentDef.getName());
+				writeString(recordComponentDef.getType());
+				stream.writeInt(recordComponentDef.getAccess());
+				writeAnnotationRefs(recordComponentDef);
+			}
+
+			List<FieldDef> fieldDefs = classDef.getFieldDefs();
+			writeCount(fieldDefs.size());
+			for (FieldDef fieldDef : fieldDefs) {
+				stream.writeInt(fieldDef.getAccess());
+				writeString(fieldDef.getFieldName());
+				writeString(fieldDef.getFieldType());
+				writeAnnotationRefs(fieldDef);
+			}
+
+			List<MethodDef> methodDefs = classDef.getMethodDefs();
+			writeCount(methodDefs.size());
+			for (MethodDef methodDef : methodDefs) {
+				stream.writeInt(methodDef.getAccess());
+				writeString(methodDef.getMethodName());
+				writeString(methodDef.getMethodDescriptor());
+				writeAnnotationRefs(methodDef);
+			}
+		}
+
+		private void writeAnnotationRefs(Def def) throws IOException {
+			List<AnnotationRef> annotationRefs = def.getAnnotationRefs();
+			writeCount(annotationRefs.size());
+			for (AnnotationRef annotationRef : annotationRefs) {
+				writeString(annotationRef.getClassName());
+				writeCount(annotationRef.getTarget().ordinal());
+			}
+		}
+
+		private void writeMap(Map<String, String> map) throws IOException {
+			stream.writeBoolean(map != null);
+			if (map == null) {
+				return;
+			}
+			writeCount(map.size());
+			for (Map.Entry<String, String> entry : map.entrySet()) {
+				writeString(entry.getKey());
+				writeString(entry.getValue());
+			}
+		}
+
+		private void writeNullableStrings(Collection<String> values) throws IOException {
+			stream.writeBoolean(values != null);
+			if (values != null) {
+				writeStrings(values);
+			}
+		}
+
+		private void writeStrings(Collection<String> values) throws IOException {
+			writeCount(values.size());
+			for (String value : values) {
+				writeString(value);
+			}
+		}
+
+		/**
+		 * Write a string, or a reference to the same string written before.
+		 * Encoding: 0 = <code>null</code>, 1 = new string, n = (n-2)th string in table.
+		 */
+		private void writeString(String value) throws IOException {
+			if (value == null) {
+				writeCount(0);
+				return;
+			}
+
+			Integer index = strings.get(value);
+			if (index != null) {
+				writeCount(index + 2);
+				return;
+			}
+
+			strings.put(value, strings.size());
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeCount(1);
+			writeCount(bytes.length);
+			stream.write(bytes);
+		}
+
+		void writeInt(int value) throws IOException {
+			stream.writeInt(value);
+		}
+
+		/**
+		 * Write a non-negative number using a variable number of bytes (7 bits per byte).
+		 */
+		void writeCount(int value) throws IOException {
+			while ((value & ~0x7F) != 0) {
+				stream.writeByte((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			stream.writeByte(value);
+		}
+
+		void flush() throws IOException {
+			stream.flush();
+		}
+
+	}
+
+	private static class Reader {
+
+		private final DataInputStream stream;
+		private final List<String> strings = new ArrayList<>();
+		private final SymbolTable symbolTable;
+
+		Reader(InputStream stream, SymbolTable symbolTable) {
+			this.stream = new DataInputStream(stream);
+			this.symbolTable = symbolTable;
+		}
+
+		JarFile readJarFile(String fileName) throws IOException {
+
+			// add file name of archive to name of nested JAR files
+			String name = fileName + readString();
+
+			JarFile.Builder builder = JarFile.withName(name);
+			builder.withFileSize(stream.readLong());
+			builder.withChecksum(readString());
+			builder.withManifestAttributes(readMap());
+
+			int releases = readCount();
+			for (int i = 0; i < releases; i++) {
+				builder.withRelease(stream.readInt());
+			}
+
+			ModuleInfo moduleInfo = readModuleInfo();
+			builder.withModuleInfo(moduleInfo);
+
+			if (stream.readBoolean()) {
+				Map<String, String> bundleHeaders = readMap();
+				builder.withOSGiBundleInfo(new OSGiBundleInfo(bundleHeaders));
+			}
+
+			int classDefs = readCount();
+			for (int i = 0; i < classDefs; i++) {
+				ClassDef classDef = readClassDef();
+				builder.withClassDef(classDef);
+			}
+
+			int resourceDefs = readCount();
+			List<ResourceDef> list = new ArrayList<>(resourceDefs);
+			for (int i = 0; i < resourceDefs; i++) {
+				ResourceDef resourceDef = new ResourceDef(readString(), readString());
+				resourceDef.setRelease(stream.readInt());
+				list.add(resourceDef);
+			}
+			builder.withResourceDefs(list);
+
+			return builder.build();
+		}
+
+		private ModuleInfo readModuleInfo() throws IOException {
+			boolean named = stream.readBoolean();
+			if (!named) {
+				return ModuleInfo.UNNAMED;
+			}
+
+			ModuleInfo moduleInfo = ModuleInfo.forModuleName(readString());
+			moduleInfo.setRelease(stream.readInt());
+			moduleInfo.setAutomatic(stream.readBoolean());
+			readStrings().forEach(moduleInfo::addPackage);
+			readStrings().forEach(moduleInfo::addRequires);
+
+			int exports = readCount();
+			for (int i = 0; i < exports; i++) {
+				String packageName = readString();
+				moduleInfo.addExports(packageName, readNullableStrings());
+			}
+
+			int opens = readCount();
+			for (int i = 0; i < opens; i++) {
+				String packageName = readString();
+				moduleInfo.addOpens(packageName, readNullableStrings());
+			}
+
+			return moduleInfo;
+		}
+
+		private ClassDef readClassDef() throws IOException {
+			ClassDef classDef = new ClassDef(readString());
+			classDef.setAccess(stream.readInt());
+			classDef.setRelease(stream.readInt());
+			classDef.setSuperName(readString());
+			classDef.addInterfaceNames(readStrings());
+			classDef.addPermittedSubclassNames(readStrings());
+			classDef.setMajorClassVersion(stream.readUnsignedShort());
+			classDef.setMinorClassVersion(stream.readUnsignedShort());
+			classDef.setClassLoader(readString());
+			classDef.setClassFileChecksum(readString());
+			readAnnotationRefs(classDef);
+
+			if (stream.readBoolean()) {
+				readMemberDefsTable(classDef);
+			} else {
+				readMemberDefs(classDef);
+			}
+
+			int classRefs = readCount();
+			for (int i = 0; i < classRefs; i++) {
+				classDef.addClassRef(ClassRef.forClassName(readString()));
+			}
+
+			int fieldRefs = readCount();
+			for (int i = 0; i < fieldRefs; i++) {
+				FieldRef fieldRef = new FieldRef(readString(), readString(), readString(), stream.readBoolean(), stream.readBoolean());
+				classDef.addFieldRef(fieldRef);
+			}
+
+			int methodRefs = readCount();
+			for (int i = 0; i < methodRefs; i++) {
+				MethodRef methodRef = new MethodRef(readString(), readString(), readString(), stream.readBoolean(), stream.readBoolean());
+				classDef.addMethodRef(methodRef);
+			}
+
+			return classDef;
+		}
+
+		private void readMemberDefsTable(ClassDef classDef) throws IOException {
+			int size = readCount();
+			MemberDefsTable memberDefsTable = new MemberDefsTable();
+			for (int i = 0; i < size; i++) {
+				byte kind = stream.readByte();
+				if (kind < MemberDefsTable.RECORD_COMPONENT || kind > MemberDefsTable.METHOD) {
+					throw new IOException("Unknown member kind: " + kind);
+				}
+				memberDefsTable.add(kind, stream.readInt(), readString(), readString());
+			}
+			memberDefsTable.trim();
+			classDef.setMemberDefsLoader(memberDefsTable);
+		}
+
+		private void readMemberDefs(ClassDef classDef) throws IOException {
+			int recordComponentDefs = readCount();
+			for (int i = 0; i < recordComponentDefs; i++) {
+				RecordComponentDef recordComponentDef = new RecordComponentDef(readString(), readString());
+				recordComponentDef.setAccess(stream.readInt());
+				readAnnotationRefs(recordComponentDef);
+				classDef.addRecordComponentDef(recordComponentDef);
+			}
+
+			int fieldDefs = readCount();
+			for (int i = 0; i < fieldDefs; i++) {
+				FieldDef fieldDef = new FieldDef(stream.readInt(), readString(), readString());
+				readAnnotationRefs(fieldDef);
+				classDef.addFieldDef(fieldDef);
+			}
+
+			int methodDefs = readCount();
+			for (int i = 0; i < methodDefs; i++) {
+				MethodDef methodDef = new MethodDef(stream.readInt(), readString(), readString());
+				readAnnotationRefs(methodDef);
+				classDef.addMethodDef(methodDef);
+			}
+		}
+
+		private void readAnnotationRefs(Def def) throws IOException {
+			int count = readCount();
+			for (int i = 0; i < count; i++) {
+				String className = readString();
+				int target = readCount();
+				if (target >= TARGETS.length) {
+					throw new IOException("Unknown annotation target: " + target);
+				}
+				def.addAnnotationRef(new AnnotationRef(className, TARGETS[target]));
+			}
+		}
+
+		@SuppressWarnings("java:S1168") // Empty arrays and collections should be returned instead of null
+		private Map<String, String> readMap() throws IOException {
+			if (!stream.readBoolean()) {
+				return null;
+			}
+			int count = readCount();
+			Map<String, String> map = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				map.put(readString(), readString());
+			}
+			return map;
+		}
+
+		@SuppressWarnings("java:S1168") // Empty arrays and collections should be returned instead of null
+		private String[] readNullableStrings() throws IOException {
+			if (!stream.readBoolean()) {
+				return null;
+			}
+			return readStrings().toArray(new String[0]);
+		}
+
+		private List<String> readStrings() throws IOException {
+			int count = readCount();
+			List<String> values = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				values.add(readString());
+			}
+			return values;
+		}
+
+		private String readString() throws IOException {
+			int index = readCount();
+			if (index == 0) {
+				return null;
+			} else if (index > 1) {
+				index -= 2;
+				if (index >= strings.size()) {
+					throw new IOException("Invalid string reference: " + index);
+				}
+				return strings.get(index);
+			}
+
+			int length = readCount();
+			byte[] bytes = new byte[length];
+			stream.readFully(bytes);
+			String value = symbolTable.intern(new String(bytes, StandardCharsets.UTF_8));
+			strings.add(value);
+			return value;
+		}
+
+		int readInt() throws IOException {
+			return stream.readInt();
+		}
+
+		int readCount() throws IOException {
+			int value = 0;
+			for (int shift = 0; shift < 32; shift += 7) {
+				int b = stream.readUnsignedByte();
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IOException("Invalid number encoding.");
+		}
+
+	}
+
+}
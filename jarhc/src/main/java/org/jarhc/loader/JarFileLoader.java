@@ -16,6 +16,7 @@
 
 package org.jarhc.loader;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -23,10 +24,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.jarhc.app.FileSource;
 import org.jarhc.app.JarSource;
+import org.jarhc.artifacts.Artifact;
 import org.jarhc.artifacts.Repository;
+import org.jarhc.loader.archive.Archive;
 import org.jarhc.loader.archive.JarStreamArchive;
+import org.jarhc.loader.archive.MappedJarArchive;
 import org.jarhc.model.JarFile;
+import org.jarhc.utils.ByteBuffer;
+import org.jarhc.utils.DigestUtils;
+import org.jarhc.utils.IOUtils;
 import org.slf4j.Logger;
 
 /**
@@ -35,13 +44,25 @@ import org.slf4j.Logger;
  */
 class JarFileLoader extends AbstractFileLoader {
 
-	public JarFileLoader(String classLoader, int maxRelease, ClassDefLoader classDefLoader, ModuleInfoLoader moduleInfoLoader, Repository repository, Logger logger) {
+	private final JarFileCache jarFileCache;
+
+	@SuppressWarnings("java:S107") // Methods should not have too many parameters
+	public JarFileLoader(String classLoader, int maxRelease, ClassDefLoader classDefLoader, ModuleInfoLoader moduleInfoLoader, Repository repository, JarFileCache jarFileCache, Logger logger) {
 		super(classLoader, maxRelease, classDefLoader, moduleInfoLoader, repository, logger);
+		this.jarFileCache = jarFileCache;
 	}
 
 	List<JarFile> load(JarSource source) throws IOException {
 		if (source == null) throw new IllegalArgumentException("source");
 
+		// use random access for local files
+		if (source instanceof FileSource) {
+			File file = ((FileSource) source).getFile();
+			if (file.isFile()) {
+				return load(source.getFileName(), source.getCoordinates(), file);
+			}
+		}
+
 		try (InputStream inputStream = source.getInputStream()) {
 			return load(source.getFileName(), source.getCoordinates(), inputStream);
 		}
@@ -62,9 +83,32 @@ class JarFileLoader extends AbstractFileLoader {
 		if (file == null) throw new IllegalArgumentException("file");
 		if (!file.isFile()) throw new FileNotFoundException(file.getAbsolutePath());
 
-		try (InputStream inputStream = new FileInputStream(file)) {
-			return load(file.getName(), null, inputStream);
+		return load(file.getName(), null, file);
+	}
+
+	private List<JarFile> load(String fileName, String coordinates, File file) throws IOException {
+
+		// files larger than 2 GB cannot be mapped into memory
+		if (file.length() > MappedJarArchive.MAX_FILE_SIZE) {
+			try (InputStream inputStream = new FileInputStream(file)) {
+				return load(fileName, coordinates, inputStream);
+			}
+		}
+
+		List<JarFile> jarFiles = new ArrayList<>();
+		try (MappedJarArchive archive = new MappedJarArchive(file)) {
+			if (jarFileCache != null) {
+				String key = getCacheKey(archive.getFileChecksum());
+				if (!loadFromCache(key, fileName, coordinates, jarFiles)) {
+					loadAndCache(key, fileName, coordinates, archive, jarFiles);
+				}
+			} else {
+				load(fileName, coordinates, archive, jarFiles);
+			}
 		}
+
+		sort(jarFiles);
+		return jarFiles;
 	}
 
 	List<JarFile> load(String fileName, String coordinates, InputStream inputStream) throws IOException {
@@ -72,14 +116,83 @@ class JarFileLoader extends AbstractFileLoader {
 		if (inputStream == null) throw new IllegalArgumentException("inputStream");
 
 		List<JarFile> jarFiles = new ArrayList<>();
-		try (JarStreamArchive archive = new JarStreamArchive(inputStream)) {
-			load(fileName, coordinates, archive, jarFiles);
+		if (jarFileCache != null) {
+			loadWithCache(fileName, coordinates, inputStream, jarFiles);
+		} else {
+			try (JarStreamArchive archive = new JarStreamArchive(inputStream)) {
+				load(fileName, coordinates, archive, jarFiles);
+			}
 		}
 
+		sort(jarFiles);
+		return jarFiles;
+	}
+
+	private static void sort(List<JarFile> jarFiles) {
 		// sort JAR files by name
 		jarFiles.sort((f1, f2) -> String.CASE_INSENSITIVE_ORDER.compare(f1.getFileName(), f2.getFileName()));
+	}
 
-		return jarFiles;
+	private void loadWithCache(String fileName, String coordinates, InputStream inputStream, List<JarFile> jarFiles) throws IOException {
+
+		// read JAR file into memory and calculate SHA-1 checksum
+		ByteBuffer data = IOUtils.toByteBuffer(inputStream);
+		try {
+			String checksum = DigestUtils.sha1Hex(data.getBytes(), 0, data.getLength());
+			String key = getCacheKey(checksum);
+
+			// try to get JAR files from cache
+			if (loadFromCache(key, fileName, coordinates, jarFiles)) {
+				return;
+			}
+
+			// load JAR files and add them to cache
+			InputStream dataStream = new ByteArrayInputStream(data.getBytes(), 0, data.getLength());
+			try (JarStreamArchive archive = new JarStreamArchive(dataStream)) {
+				loadAndCache(key, fileName, coordinates, archive, jarFiles);
+			}
+
+		} finally {
+			data.release();
+		}
+	}
+
+	private boolean loadFromCache(String key, String fileName, String coordinates, List<JarFile> jarFiles) {
+
+		List<JarFile> cachedJarFiles = jarFileCache.get(key, fileName, getSymbolTable());
+		if (cachedJarFiles == null) {
+			return false;
+		}
+
+		// identify outer and nested JAR files as Maven artifacts in parallel
+		List<CompletableFuture<List<Artifact>>> artifactsFutures = new ArrayList<>(cachedJarFiles.size());
+		for (JarFile cachedJarFile : cachedJarFiles) {
+			String jarFileName = cachedJarFile.getFileName();
+			String jarCoordinates = getCoordinates(jarFileName, fileName, coordinates);
+			artifactsFutures.add(findArtifactsAsync(jarFileName, jarCoordinates, cachedJarFile.getChecksum()));
+		}
+
+		for (int i = 0; i < cachedJarFiles.size(); i++) {
+			JarFile cachedJarFile = cachedJarFiles.get(i);
+			String jarFileName = cachedJarFile.getFileName();
+			String jarCoordinates = getCoordinates(jarFileName, fileName, coordinates);
+			List<Artifact> artifacts = getArtifacts(artifactsFutures.get(i));
+			JarFile jarFile = createJarFile(jarFileName, jarCoordinates, cachedJarFile.getFileSize(), cachedJarFile.getChecksum(), artifacts, cachedJarFile.getManifestAttributes(), cachedJarFile.getReleases(), cachedJarFile.getModuleInfo(), cachedJarFile.getOSGiBundleInfo(), cachedJarFile.getClassDefs(), cachedJarFile.getResourceDefs());
+			jarFiles.add(jarFile);
+		}
+		return true;
+	}
+
+	private static String getCoordinates(String jarFileName, String fileName, String coordinates) {
+		// note: only the outer JAR file has coordinates
+		return jarFileName.equals(fileName) ? coordinates : null;
+	}
+
+	private void loadAndCache(String key, String fileName, String coordinates, Archive archive, List<JarFile> jarFiles) throws IOException {
+		List<JarFile> loadedJarFiles = new ArrayList<>();
+		load(fileName, coordinates, archive, loadedJarFiles);
+		jarFileCache.put(key, fileName, loadedJarFiles);
+		jarFiles.addAll(loadedJarFiles);
 	}
 
 }
@@ -27,6 +27,7 @@ import org.jarhc.java.ClassLoader;
 import org.jarhc.java.ClassLoaderStrategy;
 import org.jarhc.pom.Dependency;
 import org.jarhc.utils.JavaUtils;
+import org.jarhc.utils.SymbolTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,9 +36,12 @@ public class LoaderBuilder {
 	private String classLoader = "Classpath";
 	private int release = JavaUtils.getJavaVersion();
 	private boolean scanForReferences = true;
+	private boolean lazyMemberDefs = false;
 	private ClassLoader parentClassLoader = null;
 	private ClassLoaderStrategy strategy = ClassLoaderStrategy.ParentLast;
 	private Repository repository = new NoOpRepository();
+	private JarFileCache jarFileCache = null;
+	private SymbolTable symbolTable = null;
 
 	public static LoaderBuilder create() {
 		return new LoaderBuilder();
@@ -58,6 +62,11 @@ public class LoaderBuilder {
 		return this;
 	}
 
+	public LoaderBuilder lazyMemberDefs(boolean lazyMemberDefs) {
+		this.lazyMemberDefs = lazyMemberDefs;
+		return this;
+	}
+
 	public LoaderBuilder withParentClassLoader(ClassLoader parentClassLoader) {
 		this.parentClassLoader = parentClassLoader;
 		return this;
@@ -73,19 +82,29 @@ public class LoaderBuilder {
 		return this;
 	}
 
+	public LoaderBuilder withJarFileCache(JarFileCache jarFileCache) {
+		this.jarFileCache = jarFileCache;
+		return this;
+	}
+
+	public LoaderBuilder withSymbolTable(SymbolTable symbolTable) {
+		this.symbolTable = symbolTable;
+		return this;
+	}
+
 	public ClassDefLoader buildClassDefLoader() {
-		return new ClassDefLoader(classLoader, scanForReferences);
+		return new ClassDefLoader(classLoader, scanForReferences, lazyMemberDefs, getSymbolTable());
 	}
 
 	ModuleInfoLoader buildModuleInfoLoader() {
-		return new ModuleInfoLoader();
+		return new ModuleInfoLoader(getSymbolTable());
 	}
 
 	JarFileLoader buildJarFileLoader() {
 		ClassDefLoader classDefLoader = buildClassDefLoader();
 		ModuleInfoLoader moduleInfoLoader = buildModuleInfoLoader();
 		Logger logger = LoggerFactory.getLogger(JarFileLoader.class);
-		return new JarFileLoader(classLoader, release, classDefLoader, moduleInfoLoader, repository, logger);
+		return new JarFileLoader(classLoader, release, classDefLoader, moduleInfoLoader, repository, jarFileCache, logger);
 	}
 
 	JmodFileLoader buildJmodFileLoader() {
@@ -103,6 +122,14 @@ public class LoaderBuilder {
 		return new ClasspathLoader(jarFileLoader, jmodFileLoader, warFileLoader, parentClassLoader, strategy, logger);
 	}
 
+	private SymbolTable getSymbolTable() {
+		// all loaders created by this builder share the same symbol table
+		if (symbolTable == null) {
+			symbolTable = new SymbolTable();
+		}
+		return symbolTable;
+	}
+
 	private static class NoOpRepository implements Repository {
 
 		@Override
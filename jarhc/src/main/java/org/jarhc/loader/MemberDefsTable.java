@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.loader;
+
+import java.util.Arrays;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.RecordComponentDef;
+
+/**
+ * Compact table of record components, fields, and methods of a class.
+ * <p>
+ * For every member, only the access flags, the name, and the type (or the
+ * method descriptor) are stored. Names and types are shared with other classes
+ * through the symbol table and the caches in {@link org.jarhc.utils.JavaUtils}.
+ * The definitions are created when they are used for the first time,
+ * and the table is then released.
+ */
+class MemberDefsTable implements ClassDef.MemberDefsLoader {
+
+	static final byte RECORD_COMPONENT = 0;
+	static final byte FIELD = 1;
+	static final byte METHOD = 2;
+
+	private byte[] kinds = new byte[8];
+	private int[] accessFlags = new int[8];
+	private String[] names = new String[8];
+	private String[] types = new String[8];
+	private int size = 0;
+
+	void addRecordComponent(String name, String type) {
+		add(RECORD_COMPONENT, 0, name, type);
+	}
+
+	void addField(int access, String name, String type) {
+		add(FIELD, access, name, type);
+	}
+
+	void addMethod(int access, String name, String descriptor) {
+		add(METHOD, access, name, descriptor);
+	}
+
+	int size() {
+		return size;
+	}
+
+	byte getKind(int index) {
+		return kinds[index];
+	}
+
+	int getAccess(int index) {
+		return accessFlags[index];
+	}
+
+	String getName(int index) {
+		return names[index];
+	}
+
+	String getType(int index) {
+		return types[index];
+	}
+
+	void add(byte kind, int access, String name, String type) {
+		if (size == kinds.length) {
+			int capacity = size * 2;
+			kinds = Arrays.copyOf(kinds, capacity);
+			accessFlags = Arrays.copyOf(accessFlags, capacity);
+			names = Arrays.copyOf(names, capacity);
+			types = Arrays.copyOf(types, capacity);
+		}
+		kinds[size] = kind;
+		accessFlags[size] = access;
+		names[size] = name;
+		types[size] = type;
+		size++;
+	}
+
+	/**
+	 * Release unused capacity of the table.
+	 */
+	void trim() {
+		if (size < kinds.length) {
+			kinds = Arrays.copyOf(kinds, size);
+			accessFlags = Arrays.copyOf(accessFlags, size);
+			names = Arrays.copyOf(names, size);
+			types = Arrays.copyOf(types, size);
+		}
+	}
+
+	@Override
+	public void loadMemberDefs(ClassDef classDef) {
+		for (int i = 0; i < size; i++) {
+			switch (kinds[i]) {
+				case RECORD_COMPONENT:
+					classDef.addRecordComponentDef(new RecordComponentDef(names[i], types[i]));
+					break;
+				case FIELD:
+					classDef.addFieldDef(new FieldDef(accessFlags[i], names[i], types[i]));
+					break;
+				default:
+					classDef.addMethodDef(new MethodDef(accessFlags[i], names[i], types[i]));
+					break;
+			}
+		}
+	}
+
+}
@@ -18,6 +18,7 @@ package org.jarhc.loader;
 
 import org.jarhc.model.ModuleInfo;
 import org.jarhc.utils.JavaUtils;
+import org.jarhc.utils.SymbolTable;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ModuleVisitor;
 import org.objectweb.asm.Opcodes;
@@ -28,8 +29,11 @@ class ModuleInfoBuilder extends ClassVisitor {
 
 	private final ModuleVisitor moduleVisitor = new ModuleInfoVisitor();
 
-	ModuleInfoBuilder() {
+	private final SymbolTable symbolTable;
+
+	ModuleInfoBuilder(SymbolTable symbolTable) {
 		super(Opcodes.ASM9);
+		this.symbolTable = symbolTable;
 	}
 
 	ModuleInfo getModuleInfo() {
@@ -40,7 +44,7 @@ class ModuleInfoBuilder extends ClassVisitor {
 	public ModuleVisitor visitModule(String name, int access, String version) {
 		// TODO: add access and version ???
 
-		String moduleName = JavaUtils.toExternalName(name);
+		String moduleName = symbolTable.intern(JavaUtils.toExternalName(name));
 		moduleInfo.setModuleName(moduleName);
 
 		return moduleVisitor;
@@ -66,21 +70,21 @@ class ModuleInfoBuilder extends ClassVisitor {
 		@Override
 		public void visitRequire(String moduleName, int access, String version) {
 			// TODO: add access and version ???
-			moduleInfo.addRequires(moduleName);
+			moduleInfo.addRequires(symbolTable.intern(moduleName));
 		}
 
 		@Override
 		public void visitExport(String packageName, int access, String... modules) {
 			// TODO: add access ???
 			packageName = JavaUtils.toExternalName(packageName);
-			moduleInfo.addExports(packageName, modules);
+			moduleInfo.addExports(packageName, symbolTable.intern(modules));
 		}
 
 		@Override
 		public void visitOpen(String packageName, int access, String... modules) {
 			// TODO: add access ???
 			packageName = JavaUtils.toExternalName(packageName);
-			moduleInfo.addOpens(packageName, modules);
+			moduleInfo.addOpens(packageName, symbolTable.intern(modules));
 		}
 
 		@Override
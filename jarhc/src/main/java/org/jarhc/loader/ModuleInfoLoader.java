@@ -17,11 +17,15 @@
 package org.jarhc.loader;
 
 import org.jarhc.model.ModuleInfo;
+import org.jarhc.utils.SymbolTable;
 import org.objectweb.asm.ClassReader;
 
 public class ModuleInfoLoader {
 
-	ModuleInfoLoader() {
+	private final SymbolTable symbolTable;
+
+	ModuleInfoLoader(SymbolTable symbolTable) {
+		this.symbolTable = symbolTable;
 	}
 
 	public ModuleInfo load(byte[] data) {
@@ -31,7 +35,7 @@ public class ModuleInfoLoader {
 	public ModuleInfo load(byte[] data, int offset, int length) {
 		if (data == null) throw new IllegalArgumentException("data");
 
-		ModuleInfoBuilder classVisitor = new ModuleInfoBuilder();
+		ModuleInfoBuilder classVisitor = new ModuleInfoBuilder(symbolTable);
 
 		ClassReader classReader = new ClassReader(data, offset, length);
 		classReader.accept(classVisitor, 0);
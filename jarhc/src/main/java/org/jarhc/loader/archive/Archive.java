@@ -39,6 +39,17 @@ public abstract class Archive implements Closeable {
 
 	public abstract String getFileChecksum() throws IOException;
 
+	/**
+	 * Check if the checksum of the archive is known before the entries are
+	 * read. For archives read from a stream, the checksum is only known after
+	 * the last entry has been read.
+	 *
+	 * @return <code>true</code> if {@link #getFileChecksum()} can be called at any time.
+	 */
+	public boolean isChecksumAvailable() {
+		return false;
+	}
+
 	public boolean isMultiRelease() {
 		return false;
 	}
@@ -60,11 +71,7 @@ public abstract class Archive implements Closeable {
 	protected ByteBuffer loadData(InputStream inputStream) throws IOException {
 
 		// check if max number of files has been reached (prevent Zip Bomb attack)
-		entriesCount++;
-		if (entriesCount > MAX_ENTRY_COUNT) {
-			String message = "Maximum number of entries exceeded: " + MAX_ENTRY_COUNT;
-			throw new IOException(message);
-		}
+		countEntry();
 
 		// limit max file size (prevent Zip Bomb attack)
 		InputStream in = new LimitedInputStream(inputStream, MAX_ENTRY_SIZE);
@@ -72,13 +79,25 @@ public abstract class Archive implements Closeable {
 		ByteBuffer data = IOUtils.toByteBuffer(in);
 
 		// check if max total size has been reached (prevent Zip Bomb attack)
+		countBytes(data);
+
+		return data;
+	}
+
+	protected void countEntry() throws IOException {
+		entriesCount++;
+		if (entriesCount > MAX_ENTRY_COUNT) {
+			String message = "Maximum number of entries exceeded: " + MAX_ENTRY_COUNT;
+			throw new IOException(message);
+		}
+	}
+
+	protected void countBytes(ByteBuffer data) throws IOException {
 		totalSize += data.getLength();
 		if (totalSize > MAX_TOTAL_SIZE) {
 			data.release();
 			String message = "Maximum total size exceeded: " + MAX_TOTAL_SIZE;
 			throw new IOException(message);
 		}
-
-		return data;
 	}
 }
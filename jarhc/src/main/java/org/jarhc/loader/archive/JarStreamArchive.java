@@ -18,12 +18,9 @@ package org.jarhc.loader.archive;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
-import java.util.jar.Manifest;
 import org.jarhc.model.OSGiBundleInfo;
 import org.jarhc.utils.ByteBuffer;
 
@@ -31,54 +28,12 @@ public class JarStreamArchive extends Archive {
 
 	private final ChecksumInputStream checksumInputStream;
 	private final JarInputStream jarInputStream;
-	private final boolean multiRelease;
-	private final String automaticModuleName;
-	private final Map<String, String> manifestAttributes;
-	private final OSGiBundleInfo osgiBundleInfo;
+	private final ManifestInfo manifestInfo;
 
 	public JarStreamArchive(InputStream inputStream) throws IOException {
 		this.checksumInputStream = new ChecksumInputStream(inputStream);
 		this.jarInputStream = new JarInputStream(checksumInputStream, false);
-
-		// if JAR file contains a manifest ...
-		Manifest manifest = jarInputStream.getManifest();
-		if (manifest != null) {
-
-			// get manifest attributes
-			Attributes attributes = manifest.getMainAttributes();
-
-			// check Multi-Release and Automatic-Module-Name attributes
-			String value = attributes.getValue("Multi-Release");
-			this.multiRelease = value != null && value.equals("true");
-			this.automaticModuleName = attributes.getValue("Automatic-Module-Name");
-
-			// read other manifest attributes and separate OSGi Bundle headers
-			this.manifestAttributes = new LinkedHashMap<>();
-			Map<String, String> osgiBundleHeaders = new LinkedHashMap<>();
-			for (Object key : attributes.keySet()) {
-				String attributeName = key.toString();
-				String attributeValue = attributes.getValue(attributeName);
-				if (OSGiBundleInfo.isBundleHeader(attributeName)) {
-					osgiBundleHeaders.put(attributeName, attributeValue);
-				} else {
-					manifestAttributes.put(attributeName, attributeValue);
-				}
-			}
-
-			// create OSGi Bundle info
-			if (!osgiBundleHeaders.isEmpty()) {
-				this.osgiBundleInfo = new OSGiBundleInfo(osgiBundleHeaders);
-			} else {
-				this.osgiBundleInfo = null;
-			}
-
-		} else {
-			this.multiRelease = false;
-			this.automaticModuleName = null;
-			this.manifestAttributes = null;
-			this.osgiBundleInfo = null;
-		}
-
+		this.manifestInfo = new ManifestInfo(jarInputStream.getManifest());
 	}
 
 	@Override
@@ -93,22 +48,22 @@ public class JarStreamArchive extends Archive {
 
 	@Override
 	public boolean isMultiRelease() {
-		return multiRelease;
+		return manifestInfo.isMultiRelease();
 	}
 
 	@Override
 	public String getAutomaticModuleName() {
-		return automaticModuleName;
+		return manifestInfo.getAutomaticModuleName();
 	}
 
 	@Override
 	public Map<String, String> getManifestAttributes() {
-		return manifestAttributes;
+		return manifestInfo.getManifestAttributes();
 	}
 
 	@Override
 	public OSGiBundleInfo getOSGiBundleInfo() {
-		return osgiBundleInfo;
+		return manifestInfo.getOSGiBundleInfo();
 	}
 
 	@Override
@@ -0,0 +1,477 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.loader.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import org.jarhc.model.OSGiBundleInfo;
+import org.jarhc.utils.ByteBuffer;
+import org.jarhc.utils.DigestUtils;
+import org.jarhc.utils.IOUtils;
+
+/**
+ * Archive for a JAR file on the local file system.
+ * <p>
+ * The file is mapped into memory (or read into a pooled buffer, if it is small)
+ * and entries are located using the central directory at the end of the file. Entries are only decompressed if their
+ * data is requested, so entries ignored by the caller do not cost more than
+ * reading their central directory record.
+ * <p>
+ * Entries are returned in the order of their local headers, which is the same
+ * order as returned by {@link JarStreamArchive}. Like {@link JarStreamArchive},
+ * directories and the manifest file are not returned as entries.
+ */
+public class MappedJarArchive extends Archive {
+
+	/**
+	 * Maximum size of a file which can be mapped into memory.
+	 * Larger files have to be loaded with {@link JarStreamArchive}.
+	 */
+	public static final long MAX_FILE_SIZE = Integer.MAX_VALUE;
+
+	/**
+	 * Maximum size of a file which is read into a pooled buffer instead of
+	 * being mapped into memory. Mapping a small file costs more than reading
+	 * it, and a mapping is only released when it is garbage collected.
+	 */
+	static final int MAX_READ_FILE_SIZE = 1024 * 1024;
+
+	private static final String MANIFEST_NAME = "META-INF/MANIFEST.MF";
+
+	// signatures of ZIP file records
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+	// sizes of fixed parts of ZIP file records
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+	private static final int END_SIZE = 22;
+	private static final int ZIP64_LOCATOR_SIZE = 20;
+
+	// compression methods
+	private static final int METHOD_STORED = 0;
+	private static final int METHOD_DEFLATED = 8;
+
+	private final long fileSize;
+	private java.nio.ByteBuffer buffer;
+	private ByteBuffer fileData; // pooled buffer with content of a small file, or null if file is mapped
+	private List<Entry> entries;
+	private final ManifestInfo manifestInfo;
+	private final Inflater inflater = new Inflater(true);
+	private final CRC32 crc = new CRC32();
+
+	private int nextEntry = 0;
+	private String checksum = null;
+
+	public MappedJarArchive(File file) throws IOException {
+		if (file == null) throw new IllegalArgumentException("file");
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			this.fileSize = channel.size();
+			if (fileSize > MAX_FILE_SIZE) {
+				throw new IOException("File too large: " + file.getAbsolutePath());
+			}
+			if (fileSize <= MAX_READ_FILE_SIZE) {
+				this.buffer = readFile(channel);
+			} else {
+				// note: mapping stays valid after the channel has been closed
+				MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+				mappedBuffer.order(ByteOrder.LITTLE_ENDIAN);
+				this.buffer = mappedBuffer;
+			}
+		}
+
+		try {
+			List<Entry> list = readCentralDirectory();
+
+			// find and parse manifest file
+			Manifest manifest = null;
+			for (Entry entry : list) {
+				if (entry.name.equalsIgnoreCase(MANIFEST_NAME)) {
+					ByteBuffer manifestData = readData(entry);
+					try {
+						manifest = new Manifest(new ByteArrayInputStream(manifestData.getBytes(), 0, manifestData.getLength()));
+					} finally {
+						manifestData.release();
+					}
+					break;
+				}
+			}
+			this.manifestInfo = new ManifestInfo(manifest);
+
+			// ignore directories and manifest file
+			list.removeIf(entry -> entry.name.endsWith("/") || entry.name.equalsIgnoreCase(MANIFEST_NAME));
+
+			// return entries in the same order as they appear in the file
+			list.sort(Comparator.comparingLong(entry -> entry.localHeaderOffset));
+			this.entries = list;
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	private java.nio.ByteBuffer readFile(FileChannel channel) throws IOException {
+		int size = (int) fileSize;
+		fileData = IOUtils.allocateByteBuffer(size);
+		java.nio.ByteBuffer data = java.nio.ByteBuffer.wrap(fileData.getBytes(), 0, size).slice();
+		java.nio.ByteBuffer target = data.duplicate();
+		while (target.hasRemaining()) {
+			if (channel.read(target) < 0) {
+				fileData.release();
+				fileData = null;
+				throw new EOFException("Unexpected end of file");
+			}
+		}
+		data.order(ByteOrder.LITTLE_ENDIAN);
+		return data;
+	}
+
+	@Override
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	@Override
+	public synchronized String getFileChecksum() {
+		if (checksum == null) {
+			if (buffer == null) throw new IllegalStateException("Archive has been closed");
+			// calculate checksum over the complete mapped file in one pass
+			MessageDigest digest = DigestUtils.getDigest();
+			digest.update(buffer.duplicate());
+			checksum = DigestUtils.hex(digest.digest());
+			DigestUtils.returnDigest(digest);
+		}
+		return checksum;
+	}
+
+	@Override
+	public boolean isChecksumAvailable() {
+		return true;
+	}
+
+	@Override
+	public boolean isMultiRelease() {
+		return manifestInfo.isMultiRelease();
+	}
+
+	@Override
+	public String getAutomaticModuleName() {
+		return manifestInfo.getAutomaticModuleName();
+	}
+
+	@Override
+	public Map<String, String> getManifestAttributes() {
+		return manifestInfo.getManifestAttributes();
+	}
+
+	@Override
+	public OSGiBundleInfo getOSGiBundleInfo() {
+		return manifestInfo.getOSGiBundleInfo();
+	}
+
+	@Override
+	public ArchiveEntry getNextEntry() {
+		if (nextEntry >= entries.size()) {
+			return null;
+		}
+		Entry entry = entries.get(nextEntry++);
+		return new MappedArchiveEntry(entry);
+	}
+
+	@Override
+	public void close() {
+		// drop all references to the file content, so that a mapping can be
+		// garbage collected (there is no API to unmap a file explicitly)
+		buffer = null;
+		entries = List.of();
+		if (fileData != null) {
+			fileData.release();
+			fileData = null;
+		}
+		inflater.end();
+	}
+
+	private List<Entry> readCentralDirectory() throws IOException {
+
+		// find "end of central directory" record
+		int endPos = findEndRecord();
+		long entriesCount = getUnsignedShort(endPos + 10);
+		long directorySize = getUnsignedInt(endPos + 12);
+		long directoryOffset = getUnsignedInt(endPos + 16);
+
+		// check for Zip64 "end of central directory" record
+		int locatorPos = endPos - ZIP64_LOCATOR_SIZE;
+		if (locatorPos >= 0 && buffer.getInt(locatorPos) == ZIP64_LOCATOR_SIGNATURE) {
+			long zip64EndPos = buffer.getLong(locatorPos + 8);
+			if (zip64EndPos >= 0 && zip64EndPos < locatorPos && buffer.getInt((int) zip64EndPos) == ZIP64_END_SIGNATURE) {
+				entriesCount = buffer.getLong((int) zip64EndPos + 32);
+				directorySize = buffer.getLong((int) zip64EndPos + 40);
+				directoryOffset = buffer.getLong((int) zip64EndPos + 48);
+				endPos = (int) zip64EndPos;
+			}
+		}
+
+		// calculate position of central directory
+		// (offsets are relative to the start of the ZIP file,
+		// which may be preceded by other data, e.g., a launch script)
+		long directoryPos = endPos - directorySize;
+		long base = directoryPos - directoryOffset;
+		if (directoryPos < 0 || base < 0) {
+			throw new ZipException("Invalid central directory");
+		}
+
+		// note: number of entries is not trusted, but every entry needs at least 46 bytes
+		List<Entry> list = new ArrayList<>((int) Math.min(entriesCount, directorySize / CENTRAL_HEADER_SIZE));
+		int pos = (int) directoryPos;
+		for (long i = 0; i < entriesCount; i++) {
+			if (pos + CENTRAL_HEADER_SIZE > endPos || buffer.getInt(pos) != CENTRAL_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid central directory header");
+			}
+
+			int flags = getUnsignedShort(pos + 8);
+			int method = getUnsignedShort(pos + 10);
+			long entryCrc = getUnsignedInt(pos + 16);
+			long compressedSize = getUnsignedInt(pos + 20);
+			long size = getUnsignedInt(pos + 24);
+			int nameLength = getUnsignedShort(pos + 28);
+			int extraLength = getUnsignedShort(pos + 30);
+			int commentLength = getUnsignedShort(pos + 32);
+			long localHeaderOffset = getUnsignedInt(pos + 42);
+
+			String name = getString(pos + CENTRAL_HEADER_SIZE, nameLength);
+
+			// read values from Zip64 extended information extra field
+			int extraPos = pos + CENTRAL_HEADER_SIZE + nameLength;
+			int extraEnd = extraPos + extraLength;
+			while (extraPos + 4 <= extraEnd) {
+				int tag = getUnsignedShort(extraPos);
+				int length = getUnsignedShort(extraPos + 2);
+				if (tag == 0x0001) {
+					int valuePos = extraPos + 4;
+					if (size == 0xFFFFFFFFL) {
+						size = buffer.getLong(valuePos);
+						valuePos += 8;
+					}
+					if (compressedSize == 0xFFFFFFFFL) {
+						compressedSize = buffer.getLong(valuePos);
+						valuePos += 8;
+					}
+					if (localHeaderOffset == 0xFFFFFFFFL) {
+						localHeaderOffset = buffer.getLong(valuePos);
+					}
+					break;
+				}
+				extraPos += 4 + length;
+			}
+
+			list.add(new Entry(name, flags, method, entryCrc, compressedSize, size, base + localHeaderOffset));
+
+			pos += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+
+		return list;
+	}
+
+	private int findEndRecord() throws IOException {
+		// "end of central directory" record is followed by a comment of up to 64 KB
+		int minPos = (int) Math.max(0, fileSize - END_SIZE - 0xFFFF);
+		for (int pos = (int) fileSize - END_SIZE; pos >= minPos; pos--) {
+			if (buffer.getInt(pos) == END_SIGNATURE) {
+				return pos;
+			}
+		}
+		throw new ZipException("End of central directory not found");
+	}
+
+	private ByteBuffer readData(Entry entry) throws IOException {
+
+		if (buffer == null) {
+			throw new IOException("Archive has been closed");
+		}
+		if ((entry.flags & 1) != 0) {
+			throw new ZipException("Encrypted ZIP entry not supported: " + entry.name);
+		}
+
+		// limit max file size (prevent Zip Bomb attack)
+		if (entry.size > MAX_ENTRY_SIZE) {
+			String message = "Maximum length of stream exceeded: " + MAX_ENTRY_SIZE;
+			throw new IOException(message);
+		}
+
+		// find start of compressed data
+		long localHeaderOffset = entry.localHeaderOffset;
+		if (localHeaderOffset < 0 || localHeaderOffset + LOCAL_HEADER_SIZE > fileSize || buffer.getInt((int) localHeaderOffset) != LOCAL_HEADER_SIGNATURE) {
+			throw new ZipException("Invalid local header: " + entry.name);
+		}
+		int nameLength = getUnsignedShort((int) localHeaderOffset + 26);
+		int extraLength = getUnsignedShort((int) localHeaderOffset + 28);
+		long dataPos = localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+		if (dataPos + entry.compressedSize > fileSize) {
+			throw new ZipException("Invalid compressed size: " + entry.name);
+		}
+
+		java.nio.ByteBuffer input = buffer.duplicate();
+		input.limit((int) (dataPos + entry.compressedSize));
+		input.position((int) dataPos);
+
+		// decompress data directly into a pooled buffer
+		int size = (int) entry.size;
+		ByteBuffer data = IOUtils.allocateByteBuffer(size);
+		try {
+			if (entry.method == METHOD_STORED) {
+				if (entry.compressedSize != entry.size) {
+					throw new ZipException("Invalid size of stored entry: " + entry.name);
+				}
+				input.get(data.getBytes(), 0, size);
+			} else if (entry.method == METHOD_DEFLATED) {
+				inflate(entry, input, data.getBytes(), size);
+			} else {
+				throw new ZipException("Unsupported compression method " + entry.method + ": " + entry.name);
+			}
+
+			// verify CRC-32 checksum
+			crc.reset();
+			crc.update(data.getBytes(), 0, size);
+			if (crc.getValue() != entry.crc) {
+				throw new ZipException("Invalid CRC-32 checksum: " + entry.name);
+			}
+
+		} catch (IOException e) {
+			data.release();
+			throw e;
+		}
+
+		return data;
+	}
+
+	private void inflate(Entry entry, java.nio.ByteBuffer input, byte[] output, int size) throws IOException {
+		inflater.reset();
+		inflater.setInput(input);
+		int length = 0;
+		try {
+			while (length < size) {
+				int count = inflater.inflate(output, length, size - length);
+				if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += count;
+			}
+			// make sure that entry does not contain more data than declared
+			if (length == size && !inflater.finished()) {
+				byte[] remaining = new byte[1];
+				if (inflater.inflate(remaining) > 0) {
+					length++;
+				}
+			}
+		} catch (DataFormatException e) {
+			throw new ZipException("Invalid compressed data: " + entry.name);
+		}
+		if (length != size) {
+			throw new ZipException("Invalid size: " + entry.name);
+		}
+	}
+
+	private int getUnsignedShort(int pos) {
+		return buffer.getShort(pos) & 0xFFFF;
+	}
+
+	private long getUnsignedInt(int pos) {
+		return buffer.getInt(pos) & 0xFFFFFFFFL;
+	}
+
+	private String getString(int pos, int length) {
+		byte[] bytes = new byte[length];
+		java.nio.ByteBuffer input = buffer.duplicate();
+		input.position(pos);
+		input.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static class Entry {
+
+		private final String name;
+		private final int flags;
+		private final int method;
+		private final long crc;
+		private final long compressedSize;
+		private final long size;
+		private final long localHeaderOffset;
+
+		@SuppressWarnings("java:S107") // Methods should not have too many parameters
+		private Entry(String name, int flags, int method, long crc, long compressedSize, long size, long localHeaderOffset) {
+			this.name = name;
+			this.flags = flags;
+			this.method = method;
+			this.crc = crc;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.localHeaderOffset = localHeaderOffset;
+		}
+
+	}
+
+	private class MappedArchiveEntry implements ArchiveEntry {
+
+		private final Entry entry;
+
+		private MappedArchiveEntry(Entry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public String getName() {
+			return entry.name;
+		}
+
+		@Override
+		public ByteBuffer getData() throws IOException {
+
+			// check if max number of files has been reached (prevent Zip Bomb attack)
+			countEntry();
+
+			ByteBuffer data = readData(entry);
+
+			// check if max total size has been reached (prevent Zip Bomb attack)
+			countBytes(data);
+
+			return data;
+		}
+
+	}
+
+}
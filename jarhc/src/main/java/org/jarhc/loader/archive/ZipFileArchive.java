@@ -47,6 +47,11 @@ public class ZipFileArchive extends Archive {
 		return FileUtils.sha1Hex(file);
 	}
 
+	@Override
+	public boolean isChecksumAvailable() {
+		return true;
+	}
+
 	@Override
 	public ArchiveEntry getNextEntry() {
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.model;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.jarhc.utils.DigestUtils;
+
+/**
+ * Fingerprint of the non-private API of a class.
+ * <p>
+ * The fingerprint contains a checksum over the complete API description and
+ * a 64-bit hash for every line of the API description (modifiers and class
+ * name, superclass, interfaces, permitted subclasses, record components,
+ * fields, and methods). Member hashes are sorted, so that the common lines
+ * of two fingerprints can be found with a single merge of both arrays.
+ *
+ * @see ClassDef#getApiFingerprint()
+ */
+public final class ApiFingerprint {
+
+	/**
+	 * SHA-1 checksum of the API description.
+	 */
+	private final String checksum;
+
+	/**
+	 * Hashes of all lines of the API description (sorted).
+	 */
+	private final long[] memberHashes;
+
+	/**
+	 * Line numbers in the API description, in the same order as the hashes.
+	 */
+	private final int[] memberPositions;
+
+	ApiFingerprint(List<String> lines) {
+		this.checksum = DigestUtils.sha1Hex(String.join("\n", lines));
+
+		long[] hashes = new long[lines.size()];
+		for (int i = 0; i < hashes.length; i++) {
+			hashes[i] = hash(lines.get(i));
+		}
+
+		this.memberPositions = IntStream.range(0, hashes.length)
+				.boxed()
+				.sorted(Comparator.comparingLong(i -> hashes[i]))
+				.mapToInt(Integer::intValue)
+				.toArray();
+
+		this.memberHashes = new long[hashes.length];
+		for (int i = 0; i < hashes.length; i++) {
+			this.memberHashes[i] = hashes[memberPositions[i]];
+		}
+	}
+
+	/**
+	 * Get the SHA-1 checksum of the API description.
+	 *
+	 * @return SHA-1 checksum
+	 * @see ClassDef#getApiChecksum()
+	 */
+	public String getChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * Get the number of lines in the API description.
+	 *
+	 * @return Number of lines
+	 */
+	public int getSize() {
+		return memberHashes.length;
+	}
+
+	/**
+	 * Get the hashes of all lines of the API description, in ascending order.
+	 * The returned array must not be modified.
+	 *
+	 * @return Hashes
+	 */
+	public long[] getMemberHashes() {
+		return memberHashes;
+	}
+
+	/**
+	 * Get the line numbers in the API description for all hashes returned by
+	 * {@link #getMemberHashes()}. The returned array must not be modified.
+	 *
+	 * @return Line numbers
+	 */
+	public int[] getMemberPositions() {
+		return memberPositions;
+	}
+
+	/**
+	 * Calculate a 64-bit FNV-1a hash of the given text,
+	 * followed by the finalization step of MurmurHash3.
+	 */
+	private static long hash(String text) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < text.length(); i++) {
+			hash ^= text.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
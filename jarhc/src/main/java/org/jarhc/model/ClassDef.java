@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.jarhc.utils.DigestUtils;
 import org.jarhc.utils.JavaUtils;
 import org.jarhc.utils.JavaVersion;
 
@@ -167,6 +166,18 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 	 */
 	private ModuleInfo moduleInfo = ModuleInfo.UNNAMED;
 
+	/**
+	 * Fingerprint of the non-private API (calculated on first use).
+	 */
+	private volatile ApiFingerprint apiFingerprint;
+
+	/**
+	 * Loader for record component, field, and method definitions
+	 * which have not been loaded yet, or <code>null</code> if all
+	 * definitions have been loaded.
+	 */
+	private volatile MemberDefsLoader memberDefsLoader;
+
 	/**
 	 * Create a class definition for the given class name.
 	 *
@@ -319,8 +330,23 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 	 * @return SHA-1 checksum
 	 */
 	public String getApiChecksum() {
-		String code = getApiDescription();
-		return DigestUtils.sha1Hex(code);
+		return getApiFingerprint().getChecksum();
+	}
+
+	/**
+	 * Get a fingerprint of the non-private API of this class.
+	 * The fingerprint is calculated on first use and then cached.
+	 * It is not updated if this class definition is changed later.
+	 *
+	 * @return API fingerprint
+	 */
+	public ApiFingerprint getApiFingerprint() {
+		ApiFingerprint fingerprint = apiFingerprint;
+		if (fingerprint == null) {
+			fingerprint = new ApiFingerprint(getApiLines());
+			apiFingerprint = fingerprint;
+		}
+		return fingerprint;
 	}
 
 	/**
@@ -329,25 +355,30 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 	 * @return API description
 	 */
 	public String getApiDescription() {
-		StringBuilder api = new StringBuilder();
-		api.append(getModifiers()).append(" ").append(className);
+		return String.join("\n", getApiLines());
+	}
+
+	private List<String> getApiLines() {
+		loadMemberDefs();
+		List<String> api = new ArrayList<>();
+		api.add(getModifiers() + " " + className);
 		// add superclass and interfaces
-		api.append("\nextends: ").append(superName);
-		api.append("\nimplements: ").append(interfaceNames);
-		api.append("\npermits: ").append(permittedSubclassNames);
+		api.add("extends: " + superName);
+		api.add("implements: " + interfaceNames);
+		api.add("permits: " + permittedSubclassNames);
 		// TODO: add annotations for class, record components, fields, and methods?
 		// add all record components
 		recordComponentDefs.stream()
 				.map(RecordComponentDef::getDisplayName) // get component description
 				.sorted() // sort components
-				.forEach(f -> api.append("\nrecord component: ").append(f));
+				.forEach(f -> api.add("record component: " + f));
 		// add all fields
 		fieldDefs.stream()
 				.filter(f -> !f.isPrivate()) // ignore private fields
 				.filter(f -> !f.isSynthetic()) // ignore synthetic fields
 				.map(FieldDef::getDisplayName) // get field description
 				.sorted() // sort fields
-				.forEach(f -> api.append("\nfield: ").append(f));
+				.forEach(f -> api.add("field: " + f));
 		// add all methods (including constructors)
 		methodDefs.stream()
 				.filter(m -> !m.isPrivate()) // ignore private methods
@@ -355,11 +386,12 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 				.map(MethodDef::getDisplayName) // get method description
 				// TODO: add throws exceptions?
 				.sorted() // sort methods
-				.forEach(m -> api.append("\nmethod: ").append(m));
-		return api.toString();
+				.forEach(m -> api.add("method: " + m));
+		return api;
 	}
 
 	public List<RecordComponentDef> getRecordComponentDefs() {
+		loadMemberDefs();
 		return recordComponentDefs;
 	}
 
@@ -370,10 +402,12 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 	}
 
 	public List<FieldDef> getFieldDefs() {
+		loadMemberDefs();
 		return fieldDefs;
 	}
 
 	public FieldDef getFieldDef(String fieldName) {
+		loadMemberDefs();
 		return fieldDefsMap.get(fieldName);
 	}
 
@@ -385,10 +419,12 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 	}
 
 	public List<MethodDef> getMethodDefs() {
+		loadMemberDefs();
 		return methodDefs;
 	}
 
 	public MethodDef getMethodDef(String methodName, String methodDescriptor) {
+		loadMemberDefs();
 		Map<String, MethodDef> map = methodDefsMap.get(methodName);
 		if (map == null) {
 			return null;
@@ -409,6 +445,50 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 		return this;
 	}
 
+	/**
+	 * Set a loader for the record component, field, and method definitions
+	 * of this class. The loader is called on first access to any of these
+	 * definitions, and is then released. This allows to create these
+	 * definitions only for classes where they are actually needed.
+	 *
+	 * @param memberDefsLoader Loader, or <code>null</code> if all definitions have been added
+	 * @return This class definition
+	 */
+	public ClassDef setMemberDefsLoader(MemberDefsLoader memberDefsLoader) {
+		this.memberDefsLoader = memberDefsLoader;
+		return this;
+	}
+
+	/**
+	 * Get the loader for the record component, field, and method definitions
+	 * of this class, without calling it.
+	 *
+	 * @return Loader, or <code>null</code> if all definitions have been loaded
+	 */
+	public MemberDefsLoader getMemberDefsLoader() {
+		return memberDefsLoader;
+	}
+
+	/**
+	 * Check if the record component, field, and method definitions of this class have been loaded.
+	 *
+	 * @return <code>true</code> if all definitions have been loaded, <code>false</code> otherwise
+	 */
+	public boolean isMemberDefsLoaded() {
+		return memberDefsLoader == null;
+	}
+
+	private void loadMemberDefs() {
+		if (memberDefsLoader == null) return; // fast path
+		synchronized (this) {
+			MemberDefsLoader loader = memberDefsLoader;
+			if (loader == null) return; // loaded by other thread
+			loader.loadMemberDefs(this);
+			// note: volatile write publishes all added definitions
+			memberDefsLoader = null;
+		}
+	}
+
 	public List<ClassRef> getClassRefs() {
 		return classRefs;
 	}
@@ -526,4 +606,20 @@ public class ClassDef extends Def implements Comparable<ClassDef> {
 		return System.identityHashCode(this) - System.identityHashCode(classDef);
 	}
 
+	/**
+	 * Loader for record component, field, and method definitions of a class.
+	 */
+	public interface MemberDefsLoader {
+
+		/**
+		 * Add all record component, field, and method definitions to the given class definition.
+		 * This method is called at most once per class definition, and must not call any
+		 * getter for record component, field, or method definitions of the class definition.
+		 *
+		 * @param classDef Class definition
+		 */
+		void loadMemberDefs(ClassDef classDef);
+
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.jarhc.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,16 @@ public class Classpath extends ClassLoader {
 	 */
 	private final Map<String, List<ClassDef>> classDefsMap = new HashMap<>();
 
+	/**
+	 * Fast lookup map for resources given the resource path (first resource only).
+	 */
+	private final Map<String, ResourceDef> resourceDefsMap = new HashMap<>();
+
+	/**
+	 * Fast lookup map for JAR files given a package name.
+	 */
+	private final Map<String, List<JarFile>> packageJarFilesMap = new HashMap<>();
+
 	/**
 	 * Create a new classpath with the given JAR files.
 	 *
@@ -73,6 +84,21 @@ public class Classpath extends ClassLoader {
 				List<ClassDef> classDefs = classDefsMap.computeIfAbsent(classDef.getClassName(), className -> new ArrayList<>(1));
 				classDefs.add(classDef);
 			});
+
+			// for every resource in this JAR file ...
+			jarFile.getResourceDefs().forEach(resourceDef -> {
+
+				// add first resource to fast lookup map
+				resourceDefsMap.putIfAbsent(resourceDef.getPath(), resourceDef);
+			});
+
+			// for every package in this JAR file ...
+			jarFile.getPackageNames().forEach(packageName -> {
+
+				// add JAR file to fast lookup map
+				List<JarFile> packageJarFiles = packageJarFilesMap.computeIfAbsent(packageName, name -> new ArrayList<>(1));
+				packageJarFiles.add(jarFile);
+			});
 		});
 	}
 
@@ -123,9 +149,20 @@ public class Classpath extends ClassLoader {
 		return jarFiles.stream().filter(predicate).findFirst().orElse(null);
 	}
 
+	/**
+	 * Get the JAR files with classes in the given package.
+	 * More than one JAR file is returned for a split package.
+	 *
+	 * @param packageName Package name
+	 * @return JAR files, or an empty list if the package is not found in any JAR file.
+	 */
+	public List<JarFile> getJarFilesByPackageName(String packageName) {
+		return packageJarFilesMap.getOrDefault(packageName, Collections.emptyList());
+	}
+
 	@Override
 	protected boolean findPackage(String packageName) {
-		return jarFiles.stream().anyMatch(f -> f.containsPackage(packageName));
+		return packageJarFilesMap.containsKey(packageName);
 	}
 
 	/**
@@ -149,6 +186,11 @@ public class Classpath extends ClassLoader {
 		return classDefs.get(0);
 	}
 
+	@Override
+	protected ResourceDef findResourceDef(String path) {
+		return resourceDefsMap.get(path);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("Classpath[%d]", jarFiles.size());
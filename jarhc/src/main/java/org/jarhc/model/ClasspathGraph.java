@@ -0,0 +1,713 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Dependency graph of the JAR files and classes in a classpath.
+ * <p>
+ * Every JAR file gets an ID given by its position in the classpath, and every
+ * class name defined in the classpath gets an ID in the order in which it is
+ * first found. Dependencies between classes are stored in compressed sparse
+ * row (CSR) arrays, and dependencies between JAR files in one bit set per JAR
+ * file. References to unknown classes (e.g. Java runtime classes) are ignored.
+ * References of a class to itself are not part of the class graph, and
+ * references between classes in the same JAR file are not part of the JAR
+ * file graph.
+ * <p>
+ * A class uses another class if it references the class directly or through
+ * annotations on the class, its fields, or its methods. A JAR file uses another
+ * JAR file if a class in the JAR file uses a class defined in the other JAR file.
+ * If a class is defined in more than one JAR file, all of these JAR files are used.
+ * <p>
+ * The graph is built once when it is created. Afterwards it is immutable and thread-safe.
+ */
+public class ClasspathGraph {
+
+	private static final int[] NO_IDS = new int[0];
+
+	/**
+	 * JAR files by JAR file ID.
+	 */
+	private final JarFile[] jarFiles;
+
+	/**
+	 * Fast lookup map for JAR file IDs given the JAR file.
+	 */
+	private final Map<JarFile, Integer> jarIds;
+
+	/**
+	 * Class names by class ID.
+	 */
+	private final String[] classNames;
+
+	/**
+	 * Fast lookup map for class IDs given the class name.
+	 */
+	private final Map<String, Integer> classIds;
+
+	/**
+	 * Used class IDs of class <code>c</code> are stored in
+	 * <code>classUses[classUsesOffsets[c]]</code> to
+	 * <code>classUses[classUsesOffsets[c + 1] - 1]</code>, in ascending order.
+	 */
+	private final int[] classUsesOffsets;
+	private final int[] classUses;
+
+	/**
+	 * Using class IDs of class <code>c</code>, stored like {@link #classUses}.
+	 */
+	private final int[] classUsedByOffsets;
+	private final int[] classUsedBy;
+
+	/**
+	 * IDs of the JAR files used by every JAR file.
+	 */
+	private final BitSet[] jarUses;
+
+	/**
+	 * IDs of the JAR files using every JAR file.
+	 */
+	private final BitSet[] jarUsedBy;
+
+	/**
+	 * ID of the strongly connected component of every JAR file.
+	 * Components are numbered in reverse topological order:
+	 * JAR files only use JAR files in components with the same or a smaller ID.
+	 */
+	private final int[] componentIds;
+	private final int componentCount;
+
+	/**
+	 * IDs of the JAR files used directly or indirectly by every JAR file.
+	 * JAR files in the same component share the same bit set.
+	 * Calculated on first use.
+	 */
+	private volatile BitSet[] transitiveUses;
+
+	/**
+	 * IDs of the JAR files using every JAR file directly or indirectly.
+	 * Calculated on first use.
+	 */
+	private volatile BitSet[] transitiveUsedBy;
+
+	/**
+	 * Build the dependency graph for the given classpath.
+	 * Classes in the JAR files are analyzed in parallel.
+	 *
+	 * @param classpath Classpath
+	 * @throws IllegalArgumentException If <code>classpath</code> is <code>null</code>.
+	 */
+	public ClasspathGraph(Classpath classpath) {
+		if (classpath == null) throw new IllegalArgumentException("classpath");
+
+		List<JarFile> jarFilesList = classpath.getJarFiles();
+		int jarCount = jarFilesList.size();
+		this.jarFiles = jarFilesList.toArray(new JarFile[0]);
+		this.jarIds = new IdentityHashMap<>(jarCount);
+		for (int j = 0; j < jarCount; j++) {
+			jarIds.putIfAbsent(jarFiles[j], j);
+		}
+
+		// assign class IDs and remember the class ID of every class definition
+		this.classIds = new HashMap<>();
+		List<String> classNamesList = new ArrayList<>();
+		int[][] defClassIds = new int[jarCount][];
+		for (int j = 0; j < jarCount; j++) {
+			List<ClassDef> classDefs = jarFiles[j].getClassDefs();
+			int[] ids = new int[classDefs.size()];
+			for (int i = 0; i < ids.length; i++) {
+				String className = classDefs.get(i).getClassName();
+				Integer classId = classIds.get(className);
+				if (classId == null) {
+					classId = classNamesList.size();
+					classIds.put(className, classId);
+					classNamesList.add(className);
+				}
+				ids[i] = classId;
+			}
+			defClassIds[j] = ids;
+		}
+		this.classNames = classNamesList.toArray(new String[0]);
+		int classCount = classNames.length;
+
+		// map every class ID to the IDs of the JAR files defining the class (CSR)
+		int[] classJarsOffsets = new int[classCount + 1];
+		for (int j = 0; j < jarCount; j++) {
+			for (int classId : defClassIds[j]) {
+				classJarsOffsets[classId + 1]++;
+			}
+		}
+		for (int c = 0; c < classCount; c++) {
+			classJarsOffsets[c + 1] += classJarsOffsets[c];
+		}
+		int[] classJars = new int[classJarsOffsets[classCount]];
+		int[] positions = Arrays.copyOf(classJarsOffsets, classCount);
+		for (int j = 0; j < jarCount; j++) {
+			for (int classId : defClassIds[j]) {
+				classJars[positions[classId]++] = j;
+			}
+		}
+
+		// for every JAR file (in parallel) ...
+		int[][][] defUses = new int[jarCount][][];
+		this.jarUses = new BitSet[jarCount];
+		IntStream.range(0, jarCount).parallel().forEach(j -> {
+			List<ClassDef> classDefs = jarFiles[j].getClassDefs();
+			int[][] classUsedClassIds = new int[classDefs.size()][];
+			BitSet targetJars = new BitSet(jarCount);
+
+			// for every class definition ...
+			Set<String> usedClassNames = new HashSet<>();
+			for (int i = 0; i < classUsedClassIds.length; i++) {
+				usedClassNames.clear();
+				collectUsedClasses(classDefs.get(i), usedClassNames);
+				int[] usedClassIds = getClassIds(usedClassNames);
+
+				// add JAR files defining the used classes
+				for (int classId : usedClassIds) {
+					for (int k = classJarsOffsets[classId]; k < classJarsOffsets[classId + 1]; k++) {
+						targetJars.set(classJars[k]);
+					}
+				}
+
+				// ignore references of a class to itself
+				classUsedClassIds[i] = remove(usedClassIds, defClassIds[j][i]);
+			}
+
+			// ignore references to classes in same JAR file
+			targetJars.clear(j);
+
+			defUses[j] = classUsedClassIds;
+			jarUses[j] = targetJars;
+		});
+
+		// merge used classes of all definitions of a class
+		int[][] uses = new int[classCount][];
+		for (int j = 0; j < jarCount; j++) {
+			int[] ids = defClassIds[j];
+			for (int i = 0; i < ids.length; i++) {
+				int classId = ids[i];
+				uses[classId] = uses[classId] == null ? defUses[j][i] : union(uses[classId], defUses[j][i]);
+			}
+		}
+
+		// store class dependencies in CSR arrays
+		this.classUsesOffsets = new int[classCount + 1];
+		for (int c = 0; c < classCount; c++) {
+			classUsesOffsets[c + 1] = classUsesOffsets[c] + uses[c].length;
+		}
+		this.classUses = new int[classUsesOffsets[classCount]];
+		for (int c = 0; c < classCount; c++) {
+			System.arraycopy(uses[c], 0, classUses, classUsesOffsets[c], uses[c].length);
+		}
+
+		// transpose class dependencies (sources are added in ascending order)
+		this.classUsedByOffsets = new int[classCount + 1];
+		for (int classId : classUses) {
+			classUsedByOffsets[classId + 1]++;
+		}
+		for (int c = 0; c < classCount; c++) {
+			classUsedByOffsets[c + 1] += classUsedByOffsets[c];
+		}
+		this.classUsedBy = new int[classUses.length];
+		positions = Arrays.copyOf(classUsedByOffsets, classCount);
+		for (int c = 0; c < classCount; c++) {
+			for (int k = classUsesOffsets[c]; k < classUsesOffsets[c + 1]; k++) {
+				classUsedBy[positions[classUses[k]]++] = c;
+			}
+		}
+
+		// transpose JAR file dependencies
+		this.jarUsedBy = new BitSet[jarCount];
+		for (int j = 0; j < jarCount; j++) {
+			jarUsedBy[j] = new BitSet(jarCount);
+		}
+		for (int j = 0; j < jarCount; j++) {
+			BitSet targetJars = jarUses[j];
+			for (int k = targetJars.nextSetBit(0); k >= 0; k = targetJars.nextSetBit(k + 1)) {
+				jarUsedBy[k].set(j);
+			}
+		}
+
+		// find cyclic dependencies between JAR files
+		this.componentIds = new int[jarCount];
+		this.componentCount = findComponents(jarUses, componentIds);
+	}
+
+	/**
+	 * Returns the JAR files in the graph, in classpath order.
+	 * The position of a JAR file in this list is its JAR file ID.
+	 *
+	 * @return JAR files
+	 */
+	public List<JarFile> getJarFiles() {
+		return Collections.unmodifiableList(Arrays.asList(jarFiles));
+	}
+
+	/**
+	 * Get the ID of the given JAR file,
+	 * or <code>-1</code> if the JAR file is not part of the graph.
+	 *
+	 * @param jarFile JAR file
+	 * @return JAR file ID, or <code>-1</code>
+	 */
+	public int getJarId(JarFile jarFile) {
+		Integer jarId = jarIds.get(jarFile);
+		return jarId != null ? jarId : -1;
+	}
+
+	/**
+	 * Get the number of class names in the graph.
+	 *
+	 * @return Number of class names
+	 */
+	public int getClassCount() {
+		return classNames.length;
+	}
+
+	/**
+	 * Get the ID of the given class name,
+	 * or <code>-1</code> if the class is not defined in the classpath.
+	 *
+	 * @param className Class name
+	 * @return Class ID, or <code>-1</code>
+	 */
+	public int getClassId(String className) {
+		Integer classId = classIds.get(className);
+		return classId != null ? classId : -1;
+	}
+
+	/**
+	 * Get the classes used by the class with the given name.
+	 *
+	 * @param className Class name
+	 * @return Class names, in class ID order, or an empty list if the class is not defined in the classpath.
+	 */
+	public List<String> getUsedClasses(String className) {
+		int classId = getClassId(className);
+		if (classId < 0) return Collections.emptyList();
+		return getClassNames(classUses, classUsesOffsets[classId], classUsesOffsets[classId + 1]);
+	}
+
+	/**
+	 * Get the classes using the class with the given name.
+	 *
+	 * @param className Class name
+	 * @return Class names, in class ID order, or an empty list if the class is not defined in the classpath.
+	 */
+	public List<String> getUsingClasses(String className) {
+		int classId = getClassId(className);
+		if (classId < 0) return Collections.emptyList();
+		return getClassNames(classUsedBy, classUsedByOffsets[classId], classUsedByOffsets[classId + 1]);
+	}
+
+	/**
+	 * Get the JAR files used by the given JAR file.
+	 *
+	 * @param jarFile JAR file
+	 * @return JAR files, in classpath order
+	 * @throws IllegalArgumentException If the JAR file is not part of the graph.
+	 */
+	public List<JarFile> getUses(JarFile jarFile) {
+		return getJarFiles(jarUses[getJarIdOrFail(jarFile)]);
+	}
+
+	/**
+	 * Get the JAR files using the given JAR file.
+	 *
+	 * @param jarFile JAR file
+	 * @return JAR files, in classpath order
+	 * @throws IllegalArgumentException If the JAR file is not part of the graph.
+	 */
+	public List<JarFile> getUsedBy(JarFile jarFile) {
+		return getJarFiles(jarUsedBy[getJarIdOrFail(jarFile)]);
+	}
+
+	/**
+	 * Get the JAR files used directly or indirectly by the given JAR file.
+	 * The JAR file itself is not included, even if it is part of a cycle.
+	 *
+	 * @param jarFile JAR file
+	 * @return JAR files, in classpath order
+	 * @throws IllegalArgumentException If the JAR file is not part of the graph.
+	 */
+	public List<JarFile> getTransitiveUses(JarFile jarFile) {
+		int jarId = getJarIdOrFail(jarFile);
+		BitSet jarIds = (BitSet) getTransitiveUses()[jarId].clone();
+		jarIds.clear(jarId);
+		return getJarFiles(jarIds);
+	}
+
+	/**
+	 * Get the JAR files using the given JAR file directly or indirectly.
+	 * The JAR file itself is not included, even if it is part of a cycle.
+	 *
+	 * @param jarFile JAR file
+	 * @return JAR files, in classpath order
+	 * @throws IllegalArgumentException If the JAR file is not part of the graph.
+	 */
+	public List<JarFile> getTransitiveUsedBy(JarFile jarFile) {
+		int jarId = getJarIdOrFail(jarFile);
+		BitSet jarIds = (BitSet) getTransitiveUsedBy()[jarId].clone();
+		jarIds.clear(jarId);
+		return getJarFiles(jarIds);
+	}
+
+	/**
+	 * Get the JAR files which are not used by any other JAR file.
+	 *
+	 * @return JAR files, in classpath order
+	 */
+	public List<JarFile> getUnusedJarFiles() {
+		List<JarFile> result = new ArrayList<>();
+		for (int j = 0; j < jarFiles.length; j++) {
+			if (jarUsedBy[j].isEmpty()) {
+				result.add(jarFiles[j]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get all groups of JAR files with cyclic dependencies.
+	 * Every group is a strongly connected component of the JAR file graph
+	 * with at least two JAR files. All JAR files in a group use each other
+	 * directly or indirectly.
+	 *
+	 * @return Groups of JAR files, every group in classpath order,
+	 * and groups ordered by the position of their first JAR file.
+	 */
+	public List<List<JarFile>> getCycles() {
+
+		// count JAR files per component
+		int[] componentSizes = new int[componentCount];
+		for (int componentId : componentIds) {
+			componentSizes[componentId]++;
+		}
+
+		// collect JAR files of components with more than one JAR file
+		List<List<JarFile>> cycles = new ArrayList<>();
+		int[] cycleIndexes = new int[componentCount];
+		Arrays.fill(cycleIndexes, -1);
+		for (int j = 0; j < jarFiles.length; j++) {
+			int componentId = componentIds[j];
+			if (componentSizes[componentId] < 2) continue;
+			if (cycleIndexes[componentId] < 0) {
+				cycleIndexes[componentId] = cycles.size();
+				cycles.add(new ArrayList<>(componentSizes[componentId]));
+			}
+			cycles.get(cycleIndexes[componentId]).add(jarFiles[j]);
+		}
+		return cycles;
+	}
+
+	private BitSet[] getTransitiveUses() {
+		BitSet[] result = transitiveUses;
+		if (result == null) {
+			result = calculateTransitiveUses();
+			transitiveUses = result;
+		}
+		return result;
+	}
+
+	private BitSet[] getTransitiveUsedBy() {
+		BitSet[] result = transitiveUsedBy;
+		if (result == null) {
+			BitSet[] uses = getTransitiveUses();
+			int jarCount = jarFiles.length;
+			result = new BitSet[jarCount];
+			for (int j = 0; j < jarCount; j++) {
+				result[j] = new BitSet(jarCount);
+			}
+			for (int j = 0; j < jarCount; j++) {
+				BitSet targetJars = uses[j];
+				for (int k = targetJars.nextSetBit(0); k >= 0; k = targetJars.nextSetBit(k + 1)) {
+					result[k].set(j);
+				}
+			}
+			transitiveUsedBy = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Calculate the transitive closure of the JAR file dependencies.
+	 * Components are processed in reverse topological order, so the closure
+	 * of a component is the union of the closures of all used components.
+	 */
+	private BitSet[] calculateTransitiveUses() {
+		int jarCount = jarFiles.length;
+
+		// group JAR files by component (CSR)
+		int[] offsets = new int[componentCount + 1];
+		for (int componentId : componentIds) {
+			offsets[componentId + 1]++;
+		}
+		for (int c = 0; c < componentCount; c++) {
+			offsets[c + 1] += offsets[c];
+		}
+		int[] members = new int[jarCount];
+		int[] positions = Arrays.copyOf(offsets, componentCount);
+		for (int j = 0; j < jarCount; j++) {
+			members[positions[componentIds[j]]++] = j;
+		}
+
+		BitSet[] componentClosures = new BitSet[componentCount];
+		int[] merged = new int[componentCount];
+		Arrays.fill(merged, -1);
+		for (int c = 0; c < componentCount; c++) {
+			BitSet closure = new BitSet(jarCount);
+			for (int m = offsets[c]; m < offsets[c + 1]; m++) {
+				BitSet targetJars = jarUses[members[m]];
+				closure.or(targetJars);
+				for (int k = targetJars.nextSetBit(0); k >= 0; k = targetJars.nextSetBit(k + 1)) {
+					int componentId = componentIds[k];
+					if (componentId != c && merged[componentId] != c) {
+						// add closure of used component (only once)
+						merged[componentId] = c;
+						closure.or(componentClosures[componentId]);
+					}
+				}
+			}
+			componentClosures[c] = closure;
+		}
+
+		BitSet[] result = new BitSet[jarCount];
+		for (int j = 0; j < jarCount; j++) {
+			result[j] = componentClosures[componentIds[j]];
+		}
+		return result;
+	}
+
+	/**
+	 * Find the strongly connected components of a graph with Tarjan's algorithm,
+	 * using an explicit stack instead of recursion. Components are numbered in
+	 * the order in which they are completed, which is a reverse topological order.
+	 *
+	 * @param edges        Target node IDs for every node ID
+	 * @param componentIds Array to store the component ID of every node
+	 * @return Number of components
+	 */
+	private static int findComponents(BitSet[] edges, int[] componentIds) {
+		int count = edges.length;
+		int[] index = new int[count];
+		Arrays.fill(index, -1);
+		int[] lowLink = new int[count];
+		int[] nextTarget = new int[count];
+		boolean[] onStack = new boolean[count];
+		int[] stack = new int[count];
+		int[] path = new int[count];
+		int stackSize = 0;
+		int counter = 0;
+		int componentCount = 0;
+
+		for (int root = 0; root < count; root++) {
+			if (index[root] >= 0) continue;
+
+			int depth = 0;
+			path[0] = root;
+			index[root] = lowLink[root] = counter++;
+			stack[stackSize++] = root;
+			onStack[root] = true;
+
+			while (depth >= 0) {
+				int source = path[depth];
+				int target = edges[source].nextSetBit(nextTarget[source]);
+				if (target >= 0) {
+					nextTarget[source] = target + 1;
+					if (index[target] < 0) {
+						// visit target
+						index[target] = lowLink[target] = counter++;
+						stack[stackSize++] = target;
+						onStack[target] = true;
+						path[++depth] = target;
+					} else if (onStack[target]) {
+						lowLink[source] = Math.min(lowLink[source], index[target]);
+					}
+					continue;
+				}
+
+				// all targets visited
+				if (lowLink[source] == index[source]) {
+					// pop strongly connected component
+					int node;
+					do {
+						node = stack[--stackSize];
+						onStack[node] = false;
+						componentIds[node] = componentCount;
+					} while (node != source);
+					componentCount++;
+				}
+
+				depth--;
+				if (depth >= 0) {
+					int parent = path[depth];
+					lowLink[parent] = Math.min(lowLink[parent], lowLink[source]);
+				}
+			}
+		}
+
+		return componentCount;
+	}
+
+	private int getJarIdOrFail(JarFile jarFile) {
+		int jarId = getJarId(jarFile);
+		if (jarId < 0) throw new IllegalArgumentException("jarFile");
+		return jarId;
+	}
+
+	private List<JarFile> getJarFiles(BitSet jarIds) {
+		List<JarFile> result = new ArrayList<>(jarIds.cardinality());
+		for (int j = jarIds.nextSetBit(0); j >= 0; j = jarIds.nextSetBit(j + 1)) {
+			result.add(jarFiles[j]);
+		}
+		return result;
+	}
+
+	private List<String> getClassNames(int[] ids, int start, int end) {
+		List<String> result = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			result.add(classNames[ids[i]]);
+		}
+		return result;
+	}
+
+	/**
+	 * Get the IDs of the given class names, in ascending order.
+	 * Unknown class names are ignored.
+	 */
+	private int[] getClassIds(Set<String> classNames) {
+		if (classNames.isEmpty()) return NO_IDS;
+		int[] ids = new int[classNames.size()];
+		int count = 0;
+		for (String className : classNames) {
+			Integer classId = classIds.get(className);
+			if (classId != null) {
+				ids[count++] = classId;
+			}
+		}
+		if (count == 0) return NO_IDS;
+		ids = Arrays.copyOf(ids, count);
+		Arrays.sort(ids);
+		return ids;
+	}
+
+	/**
+	 * Remove an ID from a sorted array of IDs.
+	 */
+	private static int[] remove(int[] ids, int id) {
+		int index = Arrays.binarySearch(ids, id);
+		if (index < 0) return ids;
+		int[] result = new int[ids.length - 1];
+		System.arraycopy(ids, 0, result, 0, index);
+		System.arraycopy(ids, index + 1, result, index, result.length - index);
+		return result;
+	}
+
+	/**
+	 * Merge two sorted arrays of IDs without duplicates.
+	 */
+	private static int[] union(int[] ids1, int[] ids2) {
+		int[] result = new int[ids1.length + ids2.length];
+		int i = 0, j = 0, count = 0;
+		while (i < ids1.length && j < ids2.length) {
+			if (ids1[i] < ids2[j]) {
+				result[count++] = ids1[i++];
+			} else if (ids1[i] > ids2[j]) {
+				result[count++] = ids2[j++];
+			} else {
+				result[count++] = ids1[i++];
+				j++;
+			}
+		}
+		while (i < ids1.length) result[count++] = ids1[i++];
+		while (j < ids2.length) result[count++] = ids2[j++];
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Collect all classes used by a given class definition.
+	 *
+	 * @param classDef   Class definition.
+	 * @param classNames Set of class names.
+	 */
+	private static void collectUsedClasses(ClassDef classDef, Set<String> classNames) {
+
+		// add all class references
+		// this SHOULD include the super class and all interfaces,
+		// classes used as field types, return types, parameter types,
+		// thrown exceptions, local variables, etc.
+		List<ClassRef> classRefs = classDef.getClassRefs();
+		//noinspection ForLoopReplaceableByForEach (performance)
+		for (int i = 0; i < classRefs.size(); i++) {
+			ClassRef classRef = classRefs.get(i);
+			String className = classRef.getClassName();
+			classNames.add(className);
+		}
+
+		// add all class names of annotations on the class
+		List<AnnotationRef> annotationRefs = classDef.getAnnotationRefs();
+		//noinspection ForLoopReplaceableByForEach (performance)
+		for (int i = 0; i < annotationRefs.size(); i++) {
+			AnnotationRef annotationRef = annotationRefs.get(i);
+			String className = annotationRef.getClassName();
+			classNames.add(className);
+		}
+
+		// add all class names of annotations on fields
+		List<FieldDef> fieldDefs = classDef.getFieldDefs();
+		//noinspection ForLoopReplaceableByForEach (performance)
+		for (int i = 0; i < fieldDefs.size(); i++) {
+			FieldDef fieldDef = fieldDefs.get(i);
+			List<AnnotationRef> refs = fieldDef.getAnnotationRefs();
+			//noinspection ForLoopReplaceableByForEach (performance)
+			for (int j = 0; j < refs.size(); j++) {
+				AnnotationRef annotationRef = refs.get(j);
+				String className = annotationRef.getClassName();
+				classNames.add(className);
+			}
+		}
+
+		// add all class names of annotations on methods
+		List<MethodDef> methodDefs = classDef.getMethodDefs();
+		//noinspection ForLoopReplaceableByForEach (performance)
+		for (int i = 0; i < methodDefs.size(); i++) {
+			MethodDef methodDef = methodDefs.get(i);
+			List<AnnotationRef> refs = methodDef.getAnnotationRefs();
+			//noinspection ForLoopReplaceableByForEach (performance)
+			for (int j = 0; j < refs.size(); j++) {
+				AnnotationRef annotationRef = refs.get(j);
+				String className = annotationRef.getClassName();
+				classNames.add(className);
+			}
+		}
+
+	}
+
+}
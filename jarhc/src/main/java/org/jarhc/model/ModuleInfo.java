@@ -109,6 +109,16 @@ public class ModuleInfo {
 		return new ArrayList<>(exports.keySet());
 	}
 
+	/**
+	 * Get the names of the modules the given package is exported to.
+	 *
+	 * @param packageName Package name
+	 * @return Module names, or <code>null</code> if the package is exported to all modules (or not exported at all).
+	 */
+	public Set<String> getExportsTargets(String packageName) {
+		return exports.get(packageName);
+	}
+
 	public boolean isExported(String packageName, String moduleName) {
 		return mapContainsEntry(exports, packageName, moduleName);
 	}
@@ -122,6 +132,16 @@ public class ModuleInfo {
 		return new ArrayList<>(opens.keySet());
 	}
 
+	/**
+	 * Get the names of the modules the given package is open to.
+	 *
+	 * @param packageName Package name
+	 * @return Module names, or <code>null</code> if the package is open to all modules (or not open at all).
+	 */
+	public Set<String> getOpensTargets(String packageName) {
+		return opens.get(packageName);
+	}
+
 	public boolean isOpen(String packageName, String moduleName) {
 		return mapContainsEntry(opens, packageName, moduleName);
 	}
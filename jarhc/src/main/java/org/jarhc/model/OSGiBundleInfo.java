@@ -138,7 +138,13 @@ public class OSGiBundleInfo {
 	private String webDispatcherServletUrlPatterns;
 	private String webFilterMappings;
 
+	/**
+	 * Manifest attributes used to create this bundle information.
+	 */
+	private final Map<String, String> manifestAttributes;
+
 	public OSGiBundleInfo(Map<String, String> manifestAttributes) {
+		this.manifestAttributes = manifestAttributes;
 		if (manifestAttributes == null) {
 			return;
 		}
@@ -185,6 +191,10 @@ public class OSGiBundleInfo {
 		this.webFilterMappings = manifestAttributes.get("Web-FilterMappings");
 	}
 
+	public Map<String, String> getManifestAttributes() {
+		return manifestAttributes;
+	}
+
 	public String getBundleName() {
 		return bundleName;
 	}
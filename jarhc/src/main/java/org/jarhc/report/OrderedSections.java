@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report;
+
+/**
+ * Passes sections on to a report container in a fixed order,
+ * even if the sections are completed in a different order.
+ * <p>
+ * A section is passed on as soon as all sections before it have been passed on,
+ * and is not referenced by this class anymore afterwards.
+ */
+public class OrderedSections {
+
+	private final ReportContainer container;
+	private final ReportSection[] sections;
+	private int next = 0;
+
+	/**
+	 * Create a new sequence of sections.
+	 *
+	 * @param container Report container to pass the sections on to
+	 * @param size      Number of sections
+	 */
+	public OrderedSections(ReportContainer container, int size) {
+		if (container == null) throw new IllegalArgumentException("container");
+		if (size < 0) throw new IllegalArgumentException("size < 0");
+		this.container = container;
+		this.sections = new ReportSection[size];
+	}
+
+	/**
+	 * Set the completed section at the given position in the sequence.
+	 *
+	 * @param index   Position of section
+	 * @param section Completed section
+	 */
+	public synchronized void set(int index, ReportSection section) {
+		if (index < next || index >= sections.length || sections[index] != null) throw new IllegalArgumentException("index");
+		if (section == null) throw new IllegalArgumentException("section");
+		sections[index] = section;
+
+		// pass on all sections which are next in order
+		while (next < sections.length && sections[next] != null) {
+			container.addSection(sections[next]);
+			sections[next] = null;
+			next++;
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Report container which prepares every added section for output and
+ * passes it on to report sinks, so that every section can be written
+ * as soon as it is complete, and does not have to be kept in memory
+ * until the end of the analysis.
+ * <p>
+ * Sections are also added to the report if a report format needs
+ * the complete report (see {@link #setKeepSections(boolean)}).
+ */
+public class ReportPipeline implements ReportContainer {
+
+	private final Report report;
+	private final boolean skipEmpty;
+	private final List<ReportSink> sinks = new ArrayList<>();
+	private boolean keepSections = false;
+
+	/**
+	 * Create a new pipeline.
+	 *
+	 * @param report    Report to add sections to, if sections are kept
+	 * @param skipEmpty <code>true</code> to remove empty sections
+	 */
+	public ReportPipeline(Report report, boolean skipEmpty) {
+		if (report == null) throw new IllegalArgumentException("report");
+		this.report = report;
+		this.skipEmpty = skipEmpty;
+	}
+
+	public void addSink(ReportSink sink) {
+		if (sink == null) throw new IllegalArgumentException("sink");
+		sinks.add(sink);
+	}
+
+	public void setKeepSections(boolean keepSections) {
+		this.keepSections = keepSections;
+	}
+
+	@Override
+	public void addSection(ReportSection section) {
+
+		if (skipEmpty) {
+			// remove empty subsections, and skip section if it is empty
+			section.removeEmptySections();
+			if (section.isEmpty()) {
+				return;
+			}
+		}
+
+		sortRows(section);
+
+		if (keepSections) {
+			report.addSection(section);
+		}
+		for (ReportSink sink : sinks) {
+			sink.addSection(section);
+		}
+	}
+
+	/**
+	 * Complete the report in all sinks after the last section has been added.
+	 */
+	public void finish() {
+		for (ReportSink sink : sinks) {
+			sink.finish();
+		}
+	}
+
+	/**
+	 * Sort rows in all tables of the given section and its subsections.
+	 */
+	private static void sortRows(ReportSection section) {
+		LinkedList<ReportSection> queue = new LinkedList<>();
+		queue.add(section);
+		while (!queue.isEmpty()) {
+			ReportSection current = queue.poll();
+			for (Object item : current.getContent()) {
+				if (item instanceof ReportSection) {
+					ReportSection subsection = (ReportSection) item;
+					queue.add(subsection);
+				} else if (item instanceof ReportTable) {
+					ReportTable table = (ReportTable) item;
+					table.sortRows();
+				}
+			}
+		}
+	}
+
+}
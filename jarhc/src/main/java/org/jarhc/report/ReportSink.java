@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report;
+
+/**
+ * Receives the sections of a report one after the other
+ * and writes every section as soon as it has been added.
+ * <p>
+ * Sections are not kept in memory after they have been written.
+ */
+public interface ReportSink extends ReportContainer {
+
+	/**
+	 * Complete the report after the last section has been added.
+	 */
+	void finish();
+
+}
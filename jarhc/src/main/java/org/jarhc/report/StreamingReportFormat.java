@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report;
+
+import org.jarhc.report.writer.ReportWriter;
+
+/**
+ * Report format which can write a report section by section,
+ * without having to wait for the complete report.
+ */
+public interface StreamingReportFormat extends ReportFormat {
+
+	/**
+	 * Write the header of the given report and return a sink for its sections.
+	 * Sections already contained in the report are ignored.
+	 *
+	 * @param report Report with title, type, version, and timestamp
+	 * @param writer Report writer
+	 * @return Sink for the report sections
+	 */
+	ReportSink start(Report report, ReportWriter writer);
+
+	@Override
+	default void format(Report report, ReportWriter writer) {
+		ReportSink sink = start(report, writer);
+		for (ReportSection section : report.getSections()) {
+			sink.addSection(section);
+		}
+		sink.finish();
+	}
+
+}
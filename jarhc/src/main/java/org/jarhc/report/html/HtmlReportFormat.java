@@ -17,12 +17,19 @@
 package org.jarhc.report.html;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 import org.jarhc.report.Report;
 import org.jarhc.report.ReportFormat;
 import org.jarhc.report.ReportSection;
 import org.jarhc.report.ReportTable;
+import org.jarhc.report.json.JsonReportSerializer;
 import org.jarhc.report.writer.ReportWriter;
 import org.jarhc.utils.CompressUtils;
 import org.jarhc.utils.JarHcException;
@@ -78,15 +85,13 @@ public class HtmlReportFormat implements ReportFormat {
 			writer.println();
 		}
 
-		// generate JSON data (if report is not a diff report)
-		String jsonData = "";
+		// add second part of template, with JSON data (if report is not a diff report)
+		pos = part2.indexOf("{JSONDATA}");
+		writer.print(part2.substring(0, pos));
 		if (report.getType() != Report.Type.DIFF) {
-			jsonData = generateJsonData(report);
+			writeJsonData(report, writer);
 		}
-		part2 = part2.replace("{JSONDATA}", jsonData);
-
-		// add second part of template
-		writer.print(part2);
+		writer.print(part2.substring(pos + 10));
 	}
 
 	private void formatToC(Report report, ReportWriter writer) {
@@ -259,20 +264,32 @@ public class HtmlReportFormat implements ReportFormat {
 		writer.println("\t\t</td>");
 	}
 
-	private static String generateJsonData(Report report) {
-
-		// get report data in JSON format
-		String json = report.toJSON().toString();
-
-		// compress and Base64-encode JSON data
-		String data = CompressUtils.compressString(json);
-
-		// split Base64 code into lines of max. 200 characters
-		data = data.replaceAll("(.{200})", "$1\n");
+	private static void writeJsonData(Report report, ReportWriter writer) {
+
+		writer.println(JSON_DATA_MARKER_START);
+
+		// write report data in JSON format into a stream which
+		// compresses and Base64-encodes the data, and splits the
+		// Base64 code into lines of max. 200 characters
+		// note: JSON data is never kept in memory as a whole
+		LineOutputStream lineStream = new LineOutputStream(writer, 200);
+		try (Writer jsonWriter = new OutputStreamWriter(new GZIPOutputStream(Base64.getEncoder().wrap(lineStream)), StandardCharsets.UTF_8)) {
+			ReportWriter jsonReportWriter = text -> {
+				try {
+					jsonWriter.write(text);
+				} catch (IOException e) {
+					throw new JarHcException(e);
+				}
+			};
+			JsonReportSerializer serializer = new JsonReportSerializer(jsonReportWriter, 0);
+			serializer.write(report);
+		} catch (IOException e) {
+			throw new JarHcException(e);
+		}
+		lineStream.flushLine();
 
-		return JSON_DATA_MARKER_START + "\n" +
-				data + "\n" +
-				JSON_DATA_MARKER_END;
+		writer.println();
+		writer.print(JSON_DATA_MARKER_END);
 	}
 
 	public static String extractJsonData(String text) {
@@ -299,6 +316,40 @@ public class HtmlReportFormat implements ReportFormat {
 		return CompressUtils.decompressString(text);
 	}
 
+	/**
+	 * Output stream writing ASCII characters to a report writer,
+	 * with a line break after every given number of characters.
+	 */
+	private static class LineOutputStream extends OutputStream {
+
+		private final ReportWriter writer;
+		private final int lineLength;
+		private final StringBuilder line;
+
+		private LineOutputStream(ReportWriter writer, int lineLength) {
+			this.writer = writer;
+			this.lineLength = lineLength;
+			this.line = new StringBuilder(lineLength + 1);
+		}
+
+		@Override
+		public void write(int b) {
+			line.append((char) b);
+			if (line.length() == lineLength) {
+				line.append('\n');
+				flushLine();
+			}
+		}
+
+		private void flushLine() {
+			if (line.length() > 0) {
+				writer.print(line.toString());
+				line.setLength(0);
+			}
+		}
+
+	}
+
 	private static String escape(String text) {
 		text = text.replace("<", "&lt;");
 		text = text.replace(">", "&gt;");
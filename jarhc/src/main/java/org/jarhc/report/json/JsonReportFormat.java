@@ -17,17 +17,16 @@
 package org.jarhc.report.json;
 
 import org.jarhc.report.Report;
-import org.jarhc.report.ReportFormat;
+import org.jarhc.report.ReportSink;
+import org.jarhc.report.StreamingReportFormat;
 import org.jarhc.report.writer.ReportWriter;
-import org.json.JSONObject;
 
-public class JsonReportFormat implements ReportFormat {
+public class JsonReportFormat implements StreamingReportFormat {
 
 	@Override
-	public void format(Report report, ReportWriter writer) {
-		JSONObject json = report.toJSON();
-		String text = json.toString(3);
-		writer.print(text);
+	public ReportSink start(Report report, ReportWriter writer) {
+		JsonReportSerializer serializer = new JsonReportSerializer(writer, 3);
+		return serializer.start(report);
 	}
 
 }
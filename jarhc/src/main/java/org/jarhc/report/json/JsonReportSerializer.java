@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jarhc.report.Report;
+import org.jarhc.report.ReportSection;
+import org.jarhc.report.ReportSink;
+import org.jarhc.report.ReportTable;
+import org.jarhc.report.writer.ReportWriter;
+
+/**
+ * Writes a report in JSON format directly to a report writer,
+ * without creating a JSON object tree or the complete JSON text in memory.
+ * <p>
+ * The output is the same as the output of <code>Report.toJSON().toString(indentFactor)</code>:
+ * keys are written in the same order, objects and arrays with a single
+ * element are written on one line, and strings are escaped the same way.
+ */
+public class JsonReportSerializer {
+
+	/**
+	 * Size of buffer. Buffered text is written to the report writer
+	 * as soon as the buffer contains more characters than this.
+	 */
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	private final ReportWriter writer;
+	private final int indentFactor;
+	private final StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 1024);
+
+	/**
+	 * Create a new serializer.
+	 *
+	 * @param writer       Report writer
+	 * @param indentFactor Number of spaces to add to each level of indentation, or 0 for compact output.
+	 */
+	public JsonReportSerializer(ReportWriter writer, int indentFactor) {
+		if (writer == null) throw new IllegalArgumentException("writer");
+		if (indentFactor < 0) throw new IllegalArgumentException("indentFactor < 0");
+		this.writer = writer;
+		this.indentFactor = indentFactor;
+	}
+
+	public void write(Report report) {
+		ReportSink sink = start(report);
+		for (ReportSection section : report.getSections()) {
+			sink.addSection(section);
+		}
+		sink.finish();
+	}
+
+	/**
+	 * Write the beginning of the given report, up to the start of the
+	 * "sections" array. Sections added to the returned sink are written
+	 * immediately, and the sink writes the end of the report when it is finished.
+	 *
+	 * @param report Report with title, type, version, and timestamp
+	 * @return Sink for the report sections
+	 */
+	public ReportSink start(Report report) {
+		List<Property> properties = new ArrayList<>(3);
+		addProperty(properties, "title", report.getTitle());
+		addProperty(properties, "type", report.getType().name());
+		addProperty(properties, "version", report.getVersion());
+
+		// note: report object always has at least two properties ("sections" and "timestamp")
+		buffer.append('{');
+		for (Property property : properties) {
+			newLine(indentFactor);
+			writeProperty(property, indentFactor);
+			buffer.append(',');
+		}
+		newLine(indentFactor);
+		writeString("sections");
+		buffer.append(':');
+		if (indentFactor > 0) buffer.append(' ');
+		flush();
+
+		return new SectionsSink(report.getTimestamp());
+	}
+
+	private void writeSection(ReportSection section, int indent) {
+		List<Property> properties = new ArrayList<>(3);
+		addProperty(properties, "description", section.getDescription());
+		addProperty(properties, "title", section.getTitle());
+		properties.add(new Property("content", section.getContent()));
+		writeObject(properties, indent);
+	}
+
+	private void writeTable(ReportTable table, int indent) {
+		List<Property> properties = new ArrayList<>(2);
+		properties.add(new Property("columns", List.of(table.getColumns())));
+		properties.add(new Property("rows", table.getRows()));
+		writeObject(properties, indent);
+	}
+
+	private static void addProperty(List<Property> properties, String key, Object value) {
+		// note: JSONObject.put() removes the key if the value is null
+		if (value != null) {
+			properties.add(new Property(key, value));
+		}
+	}
+
+	private void writeObject(List<Property> properties, int indent) {
+		int size = properties.size();
+		if (size == 0) {
+			buffer.append("{}");
+		} else if (size == 1) {
+			// single property is written on the same line
+			buffer.append('{');
+			writeProperty(properties.get(0), indent);
+			buffer.append('}');
+		} else {
+			int newIndent = indent + indentFactor;
+			buffer.append('{');
+			for (int i = 0; i < size; i++) {
+				if (i > 0) buffer.append(',');
+				newLine(newIndent);
+				writeProperty(properties.get(i), newIndent);
+			}
+			newLine(indent);
+			buffer.append('}');
+		}
+	}
+
+	private void writeProperty(Property property, int indent) {
+		writeString(property.key);
+		buffer.append(':');
+		if (indentFactor > 0) buffer.append(' ');
+		writeValue(property.value, indent);
+	}
+
+	private void writeArray(List<?> values, int indent) {
+		int size = values.size();
+		if (size == 0) {
+			buffer.append("[]");
+		} else if (size == 1) {
+			// single value is written on the same line
+			buffer.append('[');
+			writeValue(values.get(0), indent);
+			buffer.append(']');
+		} else {
+			int newIndent = indent + indentFactor;
+			buffer.append('[');
+			for (int i = 0; i < size; i++) {
+				if (i > 0) buffer.append(',');
+				newLine(newIndent);
+				writeValue(values.get(i), newIndent);
+			}
+			newLine(indent);
+			buffer.append(']');
+		}
+	}
+
+	private void writeValue(Object value, int indent) {
+		if (value == null) {
+			buffer.append("null");
+		} else if (value instanceof String) {
+			writeString((String) value);
+		} else if (value instanceof Long) {
+			buffer.append((long) value);
+		} else if (value instanceof ReportSection) {
+			writeSection((ReportSection) value, indent);
+		} else if (value instanceof ReportTable) {
+			writeTable((ReportTable) value, indent);
+		} else if (value instanceof String[]) {
+			writeArray(List.of((Object[]) value), indent);
+		} else if (value instanceof List) {
+			writeArray((List<?>) value, indent);
+		} else {
+			writeString(value.toString());
+		}
+		if (buffer.length() > BUFFER_SIZE) {
+			flush();
+		}
+	}
+
+	/**
+	 * Write a quoted and escaped string (same escaping as <code>JSONObject.quote(String)</code>).
+	 */
+	private void writeString(String text) {
+		buffer.append('"');
+		char previous;
+		char current = 0;
+		for (int i = 0; i < text.length(); i++) {
+			previous = current;
+			current = text.charAt(i);
+			switch (current) {
+				case '\\':
+				case '"':
+					buffer.append('\\').append(current);
+					break;
+				case '/':
+					if (previous == '<') {
+						buffer.append('\\');
+					}
+					buffer.append(current);
+					break;
+				case '\b':
+					buffer.append("\\b");
+					break;
+				case '\t':
+					buffer.append("\\t");
+					break;
+				case '\n':
+					buffer.append("\\n");
+					break;
+				case '\f':
+					buffer.append("\\f");
+					break;
+				case '\r':
+					buffer.append("\\r");
+					break;
+				default:
+					if (current < ' ' || (current >= '\u0080' && current < '\u00a0') || (current >= '\u2000' && current < '\u2100')) {
+						String hex = Integer.toHexString(current);
+						buffer.append("\\u").append("0000", 0, 4 - hex.length()).append(hex);
+					} else {
+						buffer.append(current);
+					}
+			}
+		}
+		buffer.append('"');
+	}
+
+	private void newLine(int indent) {
+		if (indentFactor > 0) {
+			buffer.append('\n');
+			for (int i = 0; i < indent; i++) {
+				buffer.append(' ');
+			}
+		}
+	}
+
+	private void flush() {
+		writer.print(buffer.toString());
+		buffer.setLength(0);
+	}
+
+	/**
+	 * Writes the "sections" array of a report one section after the other.
+	 * The first section is held back until a second section is added or the
+	 * report is finished, because an array with a single element is written
+	 * on the same line.
+	 */
+	private class SectionsSink implements ReportSink {
+
+		private final long timestamp;
+		private ReportSection firstSection;
+		private int count = 0;
+
+		private SectionsSink(long timestamp) {
+			this.timestamp = timestamp;
+		}
+
+		@Override
+		public void addSection(ReportSection section) {
+			int newIndent = indentFactor * 2;
+			if (count == 0) {
+				firstSection = section;
+			} else {
+				if (count == 1) {
+					buffer.append('[');
+					newLine(newIndent);
+					writeSection(firstSection, newIndent);
+					firstSection = null;
+				}
+				buffer.append(',');
+				newLine(newIndent);
+				writeSection(section, newIndent);
+				flush();
+			}
+			count++;
+		}
+
+		@Override
+		public void finish() {
+			if (count == 0) {
+				buffer.append("[]");
+			} else if (count == 1) {
+				buffer.append('[');
+				writeSection(firstSection, indentFactor);
+				buffer.append(']');
+				firstSection = null;
+			} else {
+				newLine(indentFactor);
+				buffer.append(']');
+			}
+			buffer.append(',');
+			newLine(indentFactor);
+			writeProperty(new Property("timestamp", timestamp), indentFactor);
+			newLine(0);
+			buffer.append('}');
+			flush();
+		}
+
+	}
+
+	private static class Property {
+
+		private final String key;
+		private final Object value;
+
+		private Property(String key, Object value) {
+			this.key = key;
+			this.value = value;
+		}
+
+	}
+
+}
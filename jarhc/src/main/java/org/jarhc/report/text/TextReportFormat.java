@@ -19,17 +19,18 @@ package org.jarhc.report.text;
 import java.util.List;
 import java.util.regex.Pattern;
 import org.jarhc.report.Report;
-import org.jarhc.report.ReportFormat;
 import org.jarhc.report.ReportSection;
+import org.jarhc.report.ReportSink;
 import org.jarhc.report.ReportTable;
+import org.jarhc.report.StreamingReportFormat;
 import org.jarhc.report.writer.ReportWriter;
 import org.jarhc.utils.Markdown;
 import org.jarhc.utils.StringUtils;
 
-public class TextReportFormat implements ReportFormat {
+public class TextReportFormat implements StreamingReportFormat {
 
 	@Override
-	public void format(Report report, ReportWriter writer) {
+	public ReportSink start(Report report, ReportWriter writer) {
 
 		// add optional report title
 		String title = report.getTitle();
@@ -39,11 +40,20 @@ public class TextReportFormat implements ReportFormat {
 			writer.println();
 		}
 
-		List<ReportSection> sections = report.getSections();
-		for (ReportSection section : sections) {
-			formatSection(section, writer);
-			writer.println();
-		}
+		return new ReportSink() {
+
+			@Override
+			public void addSection(ReportSection section) {
+				formatSection(section, writer);
+				writer.println();
+			}
+
+			@Override
+			public void finish() {
+				// nothing to add after the last section
+			}
+
+		};
 	}
 
 	private void formatSection(ReportSection section, ReportWriter writer) {
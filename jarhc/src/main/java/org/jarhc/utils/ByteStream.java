@@ -35,4 +35,15 @@ class ByteStream extends ByteArrayOutputStream {
 		return count;
 	}
 
+	/**
+	 * Set the number of valid bytes in the buffer, growing the buffer if needed.
+	 * The content of the buffer is undefined after this call.
+	 */
+	void resize(int size) {
+		if (buf.length < size) {
+			buf = new byte[size];
+		}
+		count = size;
+	}
+
 }
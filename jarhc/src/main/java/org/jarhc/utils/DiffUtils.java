@@ -20,17 +20,211 @@ import static org.jarhc.utils.Markdown.deleted;
 import static org.jarhc.utils.Markdown.inserted;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Utility methods to compare two lists of lines.
+ * <p>
+ * The lines which are equal in both lists are found with the linear-space
+ * variant of the diff algorithm by Eugene W. Myers ("An O(ND) Difference
+ * Algorithm and Its Variations", 1986). Time and memory depend on the number
+ * of lines and the number of differences, and not on the product of the
+ * number of lines in both lists.
+ * <p>
+ * Within every block of changed lines, deleted and inserted lines with a
+ * similar prefix are kept close together.
+ */
 public class DiffUtils {
 
+	// maximum number of line pairs compared by prefix in a block of changed lines
+	// (larger blocks list all deleted lines before all inserted lines)
+	private static final long MAX_HUNK_SIZE = 1024 * 1024;
+
 	private DiffUtils() {
 		throw new IllegalStateException("utility class");
 	}
 
 	public static List<String> diff(List<String> lines1, List<String> lines2) {
 
+		// map every distinct line to a number
+		Map<String, Integer> lineIds = new HashMap<>();
+		int[] ids1 = getLineIds(lines1, lineIds);
+		int[] ids2 = getLineIds(lines2, lineIds);
+
+		// find lines which are equal in both lists
+		int[] matches = new int[ids1.length];
+		Arrays.fill(matches, -1);
+		int max = (ids1.length + ids2.length + 1) / 2 + 1;
+		int[] forward = new int[2 * max + 1];
+		int[] backward = new int[2 * max + 1];
+		findMatches(ids1, 0, ids1.length, ids2, 0, ids2.length, matches, forward, backward);
+
+		// collect equal lines and changes
+		List<String> result = new ArrayList<>(lines1.size() + lines2.size());
+		int i = 0;
+		int j = 0;
+		while (i < lines1.size() || j < lines2.size()) {
+
+			// find next pair of equal lines
+			int nextI = i;
+			while (nextI < lines1.size() && matches[nextI] < 0) {
+				nextI++;
+			}
+			int nextJ = nextI < lines1.size() ? matches[nextI] : lines2.size();
+
+			// add changes before next pair of equal lines
+			List<String> hunk1 = lines1.subList(i, nextI);
+			List<String> hunk2 = lines2.subList(j, nextJ);
+			collectChanges(hunk1, hunk2, result);
+
+			// add equal line
+			if (nextI < lines1.size()) {
+				result.add(lines1.get(nextI));
+			}
+			i = nextI + 1;
+			j = nextJ + 1;
+		}
+
+		return result;
+	}
+
+	private static int[] getLineIds(List<String> lines, Map<String, Integer> lineIds) {
+		int[] ids = new int[lines.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = lineIds.computeIfAbsent(lines.get(i), line -> lineIds.size());
+		}
+		return ids;
+	}
+
+	/**
+	 * Find a longest common subsequence of the given ranges of both arrays,
+	 * and store the index of the matching element of <code>b</code> for every
+	 * element of <code>a</code> which is part of the subsequence.
+	 */
+	@SuppressWarnings("java:S107") // Methods should not have too many parameters
+	private static void findMatches(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd, int[] matches, int[] forward, int[] backward) {
+
+		// skip common prefix
+		while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+			matches[aStart] = bStart;
+			aStart++;
+			bStart++;
+		}
+
+		// skip common suffix
+		while (aStart < aEnd && bStart < bEnd && a[aEnd - 1] == b[bEnd - 1]) {
+			aEnd--;
+			bEnd--;
+			matches[aEnd] = bEnd;
+		}
+
+		// only insertions or only deletions left
+		if (aStart == aEnd || bStart == bEnd) {
+			return;
+		}
+
+		// divide and conquer: split at the middle snake of an optimal edit path
+		int[] snake = findMiddleSnake(a, aStart, aEnd, b, bStart, bEnd, forward, backward);
+		int x = snake[0];
+		int y = snake[1];
+		int u = snake[2];
+		int v = snake[3];
+		findMatches(a, aStart, x, b, bStart, y, matches, forward, backward);
+		for (int k = 0; k < u - x; k++) {
+			matches[x + k] = y + k;
+		}
+		findMatches(a, u, aEnd, b, v, bEnd, matches, forward, backward);
+	}
+
+	/**
+	 * Find the middle snake of an optimal edit path by searching forward from
+	 * the start and backward from the end at the same time, until both paths
+	 * overlap. The arrays <code>forward</code> and <code>backward</code> store
+	 * the furthest reaching x position for every diagonal.
+	 *
+	 * @return Start and end of the snake: x, y, u, v
+	 */
+	@SuppressWarnings("java:S107") // Methods should not have too many parameters
+	private static int[] findMiddleSnake(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd, int[] forward, int[] backward) {
+
+		int n = aEnd - aStart;
+		int m = bEnd - bStart;
+		int delta = n - m;
+		boolean odd = (delta & 1) != 0;
+		int max = (n + m + 1) / 2;
+
+		// diagonal k is stored at index k + offset
+		int offset = max + 1;
+		forward[offset + 1] = 0;
+		backward[offset + 1] = 0;
+
+		for (int d = 0; d <= max; d++) {
+
+			// forward search
+			for (int k = -d; k <= d; k += 2) {
+				int x;
+				if (k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])) {
+					x = forward[offset + k + 1]; // move down
+				} else {
+					x = forward[offset + k - 1] + 1; // move right
+				}
+				int y = x - k;
+				int x0 = x;
+				int y0 = y;
+				while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+					x++;
+					y++;
+				}
+				forward[offset + k] = x;
+				int c = delta - k;
+				if (odd && c >= -(d - 1) && c <= d - 1 && x + backward[offset + c] >= n) {
+					return new int[] { aStart + x0, bStart + y0, aStart + x, bStart + y };
+				}
+			}
+
+			// backward search (x and y are measured from the end)
+			for (int k = -d; k <= d; k += 2) {
+				int x;
+				if (k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])) {
+					x = backward[offset + k + 1];
+				} else {
+					x = backward[offset + k - 1] + 1;
+				}
+				int y = x - k;
+				int x0 = x;
+				int y0 = y;
+				while (x < n && y < m && a[aEnd - x - 1] == b[bEnd - y - 1]) {
+					x++;
+					y++;
+				}
+				backward[offset + k] = x;
+				int c = delta - k;
+				if (!odd && c >= -d && c <= d && x + forward[offset + c] >= n) {
+					return new int[] { aEnd - x, bEnd - y, aEnd - x0, bEnd - y0 };
+				}
+			}
+		}
+
+		// not reachable for sequences with at least one difference
+		throw new IllegalStateException("middle snake not found");
+	}
+
+	/**
+	 * Add deleted and inserted lines of a block of changed lines.
+	 * Lines in both lists are never equal.
+	 */
+	private static void collectChanges(List<String> lines1, List<String> lines2, List<String> result) {
+
+		if (lines1.isEmpty() || lines2.isEmpty() || (long) lines1.size() * lines2.size() > MAX_HUNK_SIZE) {
+			lines1.forEach(line -> result.add(deleted(line)));
+			lines2.forEach(line -> result.add(inserted(line)));
+			return;
+		}
+
 		int n = lines1.size();
 		int m = lines2.size();
 
@@ -40,21 +234,15 @@ public class DiffUtils {
 			for (int j = 1; j <= m; j++) {
 				String line1 = lines1.get(i - 1);
 				String line2 = lines2.get(j - 1);
-
-				if (line1.equals(line2)) {
-					table[i][j] = table[i - 1][j - 1] + 1;
-				} else {
-					double similarity = getSimilarityByPrefix(line1, line2);
-
-					table[i][j] = Math.max(
-							table[i][j - 1],
-							table[i - 1][j]
-					) + similarity;
-				}
+				double similarity = getSimilarityByPrefix(line1, line2);
+				table[i][j] = Math.max(
+						table[i][j - 1],
+						table[i - 1][j]
+				) + similarity;
 			}
 		}
 
-		return collectChanges(table, lines1, lines2);
+		result.addAll(collectChanges(table, lines1, lines2));
 	}
 
 	private static double getSimilarityByPrefix(String line1, String line2) {
@@ -82,17 +270,11 @@ public class DiffUtils {
 
 		// backtrack through table and collect changes (end to start)
 		while (i > 0 || j > 0) {
-			String line1 = i > 0 ? lines1.get(i - 1) : "\u0000";
-			String line2 = j > 0 ? lines2.get(j - 1) : "\u0001";
-			if (i >= 0 && j >= 0 && line1.equals(line2)) {
-				result.add(line1);
-				i = i - 1;
-				j = j - 1;
-			} else if (j > 0 && (i == 0 || table[i][j - 1] >= table[i - 1][j])) {
-				result.add(inserted(line2));
+			if (j > 0 && (i == 0 || table[i][j - 1] >= table[i - 1][j])) {
+				result.add(inserted(lines2.get(j - 1)));
 				j = j - 1;
-			} else if (i > 0 && (j == 0 || table[i][j - 1] < table[i - 1][j])) {
-				result.add(deleted(line1));
+			} else {
+				result.add(deleted(lines1.get(i - 1)));
 				i = i - 1;
 			}
 		}
@@ -38,6 +38,21 @@ public class IOUtils {
 		return new ByteBuffer(out);
 	}
 
+	/**
+	 * Get a pooled buffer with the given length.
+	 * The content of the buffer is undefined and has to be filled by the caller.
+	 * The buffer should be released once it is no longer needed.
+	 *
+	 * @param length Length of buffer
+	 * @return Buffer
+	 */
+	public static ByteBuffer allocateByteBuffer(int length) {
+		if (length < 0) throw new IllegalArgumentException("length < 0");
+		ByteStream out = BYTE_STREAM_POOL.doBorrow();
+		out.resize(length);
+		return new ByteBuffer(out);
+	}
+
 	static void returnToPool(ByteStream stream) {
 		if (stream.getBuf().length <= IOUtils.MAX_BUFFER_SIZE) {
 			BYTE_STREAM_POOL.doReturn(stream);
@@ -18,41 +18,197 @@ package org.jarhc.utils;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * Pool of reusable objects.
+ * <p>
+ * Idle objects are kept in multiple stripes. Every thread returns objects to
+ * the stripe selected by a random per-thread probe, and borrows objects from
+ * the same stripe first, so that threads borrowing and returning objects in
+ * parallel (for example, workers of a parallel stream) rarely compete for the
+ * same lock. If the stripe of a thread is empty, an object is taken from one
+ * of the other stripes, so that objects borrowed in one thread and returned in
+ * another thread are reused as well. Only if the whole pool is empty, a new
+ * object is created. If the stripe of a thread is full, a returned object is
+ * discarded. Every stripe holds at most <code>maxIdle / stripes</code> (at
+ * least one) idle objects, so there is no counter shared by all threads.
+ * <p>
+ * This class is thread-safe.
+ */
 public class Pool<T> {
 
-	private final Deque<T> cache = new ArrayDeque<>();
+	/**
+	 * Default maximum number of idle objects in a pool.
+	 */
+	public static final int DEFAULT_MAX_IDLE = 64;
+
+	/**
+	 * Number of stripes (power of two).
+	 */
+	private static final int STRIPES = getStripeCount(Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Random probe of the current thread, used to select a stripe.
+	 */
+	private static final ThreadLocal<Integer> PROBE = ThreadLocal.withInitial(() -> ThreadLocalRandom.current().nextInt());
+
+	private final Stripe<T>[] stripes;
 	private final Supplier<T> factory;
 	private final Consumer<T> onReturn;
+	private final int maxIdlePerStripe;
+
+	// usage statistics
+	private final LongAdder borrowed = new LongAdder();
+	private final LongAdder created = new LongAdder();
+	private final LongAdder discarded = new LongAdder();
 
 	public Pool(Supplier<T> factory) {
 		this(factory, null);
 	}
 
 	public Pool(Supplier<T> factory, Consumer<T> onReturn) {
+		this(factory, onReturn, DEFAULT_MAX_IDLE);
+	}
+
+	/**
+	 * Create a new pool.
+	 *
+	 * @param factory  Factory for new objects
+	 * @param onReturn Action called for every returned object (for example, to clear a collection), or <code>null</code>
+	 * @param maxIdle  Maximum number of idle objects in the pool (divided among all stripes)
+	 */
+	public Pool(Supplier<T> factory, Consumer<T> onReturn, int maxIdle) {
+		this(factory, onReturn, maxIdle, STRIPES);
+	}
+
+	// note: number of stripes must be a power of two
+	Pool(Supplier<T> factory, Consumer<T> onReturn, int maxIdle, int stripeCount) {
+		if (factory == null) throw new IllegalArgumentException("factory");
+		if (maxIdle < 1) throw new IllegalArgumentException("maxIdle");
+		if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) throw new IllegalArgumentException("stripeCount");
 		this.factory = factory;
 		this.onReturn = onReturn;
+		this.maxIdlePerStripe = Math.max(1, maxIdle / stripeCount);
+		this.stripes = createStripes(stripeCount);
 	}
 
 	public T doBorrow() {
-		synchronized (cache) {
-			if (cache.isEmpty()) {
-				return factory.get();
-			} else {
-				return cache.removeLast();
+		borrowed.increment();
+		int index = getStripeIndex();
+		T obj = poll(stripes[index]);
+		if (obj == null) {
+			// take an object returned by another thread
+			for (int i = 1; i < stripes.length && obj == null; i++) {
+				obj = poll(stripes[(index + i) & (stripes.length - 1)]);
 			}
 		}
+		if (obj == null) {
+			created.increment();
+			obj = factory.get();
+		}
+		return obj;
 	}
 
 	public void doReturn(T obj) {
 		if (onReturn != null) {
 			onReturn.accept(obj);
 		}
-		synchronized (cache) {
-			cache.add(obj);
+		Stripe<T> stripe = stripes[getStripeIndex()];
+		synchronized (stripe) {
+			if (stripe.cache.size() < maxIdlePerStripe) {
+				stripe.cache.addLast(obj);
+				stripe.size = stripe.cache.size();
+				return;
+			}
+		}
+		// stripe is full -> let garbage collector reclaim the object
+		discarded.increment();
+	}
+
+	private T poll(Stripe<T> stripe) {
+		// note: check size without lock to skip empty stripes
+		if (stripe.size == 0) return null;
+		synchronized (stripe) {
+			T obj = stripe.cache.pollLast();
+			stripe.size = stripe.cache.size();
+			return obj;
+		}
+	}
+
+	/**
+	 * Get the number of objects which have been borrowed from this pool.
+	 *
+	 * @return Number of borrowed objects
+	 */
+	public long getBorrowed() {
+		return borrowed.sum();
+	}
+
+	/**
+	 * Get the number of objects which have been created by this pool,
+	 * because no idle object has been available.
+	 *
+	 * @return Number of created objects
+	 */
+	public long getCreated() {
+		return created.sum();
+	}
+
+	/**
+	 * Get the number of returned objects which have been discarded,
+	 * because the maximum number of idle objects has been reached.
+	 *
+	 * @return Number of discarded objects
+	 */
+	public long getDiscarded() {
+		return discarded.sum();
+	}
+
+	/**
+	 * Get the current number of idle objects in this pool.
+	 *
+	 * @return Number of idle objects
+	 */
+	public int getIdle() {
+		int count = 0;
+		for (Stripe<T> stripe : stripes) {
+			synchronized (stripe) {
+				count += stripe.cache.size();
+			}
+		}
+		return count;
+	}
+
+	private int getStripeIndex() {
+		return PROBE.get() & (stripes.length - 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Stripe<T>[] createStripes(int count) {
+		Stripe<T>[] stripes = (Stripe<T>[]) new Stripe<?>[count];
+		for (int i = 0; i < count; i++) {
+			stripes[i] = new Stripe<>();
+		}
+		return stripes;
+	}
+
+	static int getStripeCount(int processors) {
+		// use at least twice as many stripes as processors
+		int count = 1;
+		while (count < processors * 2 && count < 256) {
+			count <<= 1;
 		}
+		return count;
+	}
+
+	private static final class Stripe<T> {
+		private final Deque<T> cache = new ArrayDeque<>();
+		// number of idle objects, updated while holding the lock
+		private volatile int size = 0;
 	}
 
 }
@@ -70,6 +70,14 @@ public class StringPattern {
 
 	public boolean matches(String text) {
 		String input = caseInsensitive ? text.toLowerCase() : text;
+		return test(input);
+	}
+
+	/**
+	 * Test the given input, which has already been converted to lower case
+	 * if this pattern is case-insensitive.
+	 */
+	boolean test(String input) {
 		//noinspection ForLoopReplaceableByForEach (performance)
 		for (int i = 0; i < tests.length; i++) {
 			Test test = tests[i];
@@ -80,6 +88,33 @@ public class StringPattern {
 		return true;
 	}
 
+	/**
+	 * Get the text every matching input must start with.
+	 *
+	 * @return Text at start of pattern, or <code>null</code> if the pattern starts with a wildcard.
+	 */
+	String getPrefix() {
+		if (tests.length > 0 && (tests[0] instanceof StartsWith || tests[0] instanceof Equals)) {
+			return tests[0].pattern;
+		}
+		return null;
+	}
+
+	/**
+	 * Get the longest text every matching input must contain.
+	 *
+	 * @return Longest text in pattern, or <code>null</code> if the pattern contains only wildcards.
+	 */
+	String getLongestPart() {
+		String result = null;
+		for (Test test : tests) {
+			if (result == null || test.pattern.length() > result.length()) {
+				result = test.pattern;
+			}
+		}
+		return result;
+	}
+
 	abstract static class Test {
 
 		protected final String pattern;
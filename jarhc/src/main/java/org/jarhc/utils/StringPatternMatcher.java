@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Compiled set of {@link StringPattern}s which checks if a text matches any
+ * of the patterns. The time to check a text depends on the length of the text
+ * and the number of candidate patterns, but not on the total number of
+ * patterns.
+ * <p>
+ * Patterns starting with text (e.g. "java.lang.*" or "java.lang.Object") are
+ * stored in a prefix tree. Patterns starting with a wildcard (e.g. "*.dll") are
+ * found with an Aho-Corasick automaton over their longest text part. Every
+ * candidate pattern found this way is then tested with
+ * {@link StringPattern#matches(String)}, so results are always the same as
+ * if all patterns are tested one by one.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public class StringPatternMatcher {
+
+	private final boolean caseInsensitive;
+
+	/**
+	 * Prefix tree for patterns starting with text.
+	 */
+	private final Node prefixTree = new Node();
+
+	/**
+	 * Aho-Corasick automaton for patterns starting with a wildcard.
+	 */
+	private final Node keywordTree = new Node();
+
+	/**
+	 * Patterns without any text (e.g. "*").
+	 */
+	private final List<StringPattern> wildcardPatterns = new ArrayList<>();
+
+	private final int size;
+
+	public StringPatternMatcher(Collection<String> patterns, boolean caseInsensitive) {
+		if (patterns == null) throw new IllegalArgumentException("patterns");
+		this.caseInsensitive = caseInsensitive;
+		this.size = patterns.size();
+
+		for (String text : patterns) {
+			StringPattern pattern = new StringPattern(text, caseInsensitive);
+			String prefix = pattern.getPrefix();
+			if (prefix != null) {
+				prefixTree.add(prefix, pattern);
+				continue;
+			}
+			String keyword = pattern.getLongestPart();
+			if (keyword != null && !keyword.isEmpty()) {
+				keywordTree.add(keyword, pattern);
+			} else {
+				wildcardPatterns.add(pattern);
+			}
+		}
+
+		keywordTree.buildFailureLinks();
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Check if the given text matches any pattern.
+	 *
+	 * @param text Text
+	 * @return <code>true</code> if at least one pattern matches, <code>false</code> otherwise.
+	 */
+	public boolean matches(String text) {
+		String input = caseInsensitive ? text.toLowerCase() : text;
+
+		if (test(wildcardPatterns, input)) {
+			return true;
+		}
+
+		// follow prefix tree from start of input
+		Node node = prefixTree;
+		if (test(node.patterns, input)) {
+			return true; // empty pattern
+		}
+		for (int i = 0; i < input.length(); i++) {
+			node = node.children.get(input.charAt(i));
+			if (node == null) break;
+			if (test(node.patterns, input)) {
+				return true;
+			}
+		}
+
+		// find all keywords in input
+		node = keywordTree;
+		for (int i = 0; i < input.length(); i++) {
+			char c = input.charAt(i);
+			Node next = node.children.get(c);
+			while (next == null && node != keywordTree) {
+				node = node.failure;
+				next = node.children.get(c);
+			}
+			node = next != null ? next : keywordTree;
+			for (Node output = node; output != null; output = output.output) {
+				if (test(output.patterns, input)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean test(List<StringPattern> patterns, String input) {
+		//noinspection ForLoopReplaceableByForEach (performance)
+		for (int i = 0; i < patterns.size(); i++) {
+			if (patterns.get(i).test(input)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class Node {
+
+		private final Map<Character, Node> children = new HashMap<>(4);
+		private final List<StringPattern> patterns = new ArrayList<>(1);
+
+		/**
+		 * Node for the longest proper suffix of this node's text (Aho-Corasick only).
+		 */
+		private Node failure;
+
+		/**
+		 * Next node with patterns on the chain of failure links (Aho-Corasick only).
+		 */
+		private Node output;
+
+		private void add(String text, StringPattern pattern) {
+			Node node = this;
+			for (int i = 0; i < text.length(); i++) {
+				node = node.children.computeIfAbsent(text.charAt(i), c -> new Node());
+			}
+			node.patterns.add(pattern);
+		}
+
+		/**
+		 * Calculate failure and output links of all nodes below this root node
+		 * (breadth-first).
+		 */
+		private void buildFailureLinks() {
+			Queue<Node> queue = new ArrayDeque<>();
+			for (Node child : children.values()) {
+				child.failure = this;
+				queue.add(child);
+			}
+			while (!queue.isEmpty()) {
+				Node node = queue.remove();
+				for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+					char c = entry.getKey();
+					Node child = entry.getValue();
+					Node failure = node.failure;
+					Node next = failure.children.get(c);
+					while (next == null && failure != this) {
+						failure = failure.failure;
+						next = failure.children.get(c);
+					}
+					child.failure = next != null ? next : this;
+					child.output = child.failure.patterns.isEmpty() ? child.failure.output : child.failure;
+					queue.add(child);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table of shared string instances for names and descriptors.
+ * <p>
+ * Every class file contains its own copy of the names and descriptors
+ * of all referenced classes, methods, and fields. Interning them in a
+ * symbol table reduces memory usage, and lookups in hash maps keyed by
+ * interned strings are resolved by an identity check instead of
+ * comparing characters.
+ * <p>
+ * A symbol table is meant to be used for a single scan and is discarded
+ * together with the loaded model. This class is thread-safe.
+ */
+public class SymbolTable {
+
+	private final ConcurrentHashMap<String, String> symbols = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the shared instance of the given string.
+	 *
+	 * @param value String
+	 * @return Shared instance equal to the given string,
+	 * or <code>null</code> if the given string is <code>null</code>.
+	 */
+	public String intern(String value) {
+		if (value == null) return null;
+		String symbol = symbols.get(value);
+		if (symbol != null) {
+			return symbol;
+		}
+		symbol = symbols.putIfAbsent(value, value);
+		return symbol != null ? symbol : value;
+	}
+
+	/**
+	 * Intern all strings in the given array (in place).
+	 *
+	 * @param values Array of strings, or <code>null</code>
+	 * @return Same array
+	 */
+	public String[] intern(String[] values) {
+		if (values != null) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = intern(values[i]);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Get the number of symbols in this table.
+	 *
+	 * @return Number of symbols
+	 */
+	public int size() {
+		return symbols.size();
+	}
+
+}
@@ -22,11 +22,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.lang.reflect.Modifier;
 import java.util.List;
 import org.jarhc.Main;
 import org.jarhc.app.Options;
 import org.jarhc.env.JavaRuntime;
+import org.jarhc.model.ClassDef;
 import org.jarhc.model.Classpath;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.MethodDef;
 import org.jarhc.report.ReportSection;
 import org.jarhc.report.ReportTable;
 import org.jarhc.test.ClasspathBuilder;
@@ -71,11 +75,12 @@ class DuplicateClassesAnalyzerTest {
 		assertValuesEquals(columns, "Class/Resource", "Sources", "Similarity");
 
 		List<String[]> rows = table.getRows();
-		assertEquals(4, rows.size());
+		assertEquals(5, rows.size());
 		assertValuesEquals(rows.get(0), "`a.A`", joinLines("a (Classpath)", "a (Provided)"), "Exact copy");
 		assertValuesEquals(rows.get(1), "`java.lang.String`", joinLines("r (Classpath)", "Runtime"), "Different API\n(2/94 = 2% similar)");
 		assertValuesEquals(rows.get(2), "`z.Z`", joinLines("x (Classpath)", "y (Classpath)"), "Exact copy");
-		assertValuesEquals(rows.get(3), "`z/Z.txt`", joinLines("x", "y"), "Different content");
+		assertValuesEquals(rows.get(3), "`a/A.txt`", joinLines("a (Classpath)", "a (Provided)"), "Exact copy");
+		assertValuesEquals(rows.get(4), "`z/Z.txt`", joinLines("x", "y"), "Different content");
 	}
 
 	@Test
@@ -169,6 +174,52 @@ class DuplicateClassesAnalyzerTest {
 		assertValuesEquals(rows.get(0), "`java.lang.String`", joinLines("a (Classpath)", "Runtime"), "Different API\n(2/94 = 2% similar)");
 	}
 
+	@Test
+	void test_analyze_shadowed_resources() {
+
+		// prepare
+		Classpath provided = ClasspathBuilder.create("Provided", null)
+				.addJarFile("p.jar").addResourceDef("a/A.txt").addResourceDef("b/B.txt", "checksum1")
+				.build();
+		Classpath classpath = ClasspathBuilder.create(provided)
+				.addJarFile("a.jar").addResourceDef("a/A.txt").addResourceDef("a/X.txt")
+				.addJarFile("b.jar").addResourceDef("b/B.txt", "checksum2")
+				.build();
+
+		// test
+		ReportSection section = analyzer.analyze(classpath);
+
+		// assert
+		assertNotNull(section);
+		ReportTable table = (ReportTable) section.getContent().get(0);
+		List<String[]> rows = table.getRows();
+		assertEquals(2, rows.size());
+		assertValuesEquals(rows.get(0), "`a/A.txt`", joinLines("a (Classpath)", "p (Provided)"), "Exact copy");
+		assertValuesEquals(rows.get(1), "`b/B.txt`", joinLines("b (Classpath)", "p (Provided)"), "Different content");
+	}
+
+	@Test
+	void test_analyze_ignoreExactCopy() {
+
+		// prepare
+		options.setIgnoreExactCopy(true);
+		DuplicateClassesAnalyzer ignoringAnalyzer = new DuplicateClassesAnalyzer(options);
+		Classpath classpath = ClasspathBuilder.create(null)
+				.addJarFile("a.jar").addClassDef("a.A").addClassDef("z.Z").addResourceDef("a/A.txt").addResourceDef("z/Z.txt", "checksum1")
+				.addJarFile("b.jar").addClassDef("a.A").addClassDef("z.Z").addResourceDef("a/A.txt").addResourceDef("z/Z.txt", "checksum2")
+				.addJarFile("c.jar").addClassDef("z.Z")
+				.build();
+
+		// test
+		ReportSection section = ignoringAnalyzer.analyze(classpath);
+
+		// assert
+		ReportTable table = (ReportTable) section.getContent().get(0);
+		List<String[]> rows = table.getRows();
+		assertEquals(1, rows.size());
+		assertValuesEquals(rows.get(0), "`z/Z.txt`", joinLines("a", "b"), "Different content");
+	}
+
 	@Test
 	void calculateApiDiff() {
 
@@ -221,4 +272,38 @@ class DuplicateClassesAnalyzerTest {
 		assertEquals(3, result);
 
 	}
+
+	@Test
+	void calculateApiDiff_fingerprint() {
+
+		// prepare: changes in opposite directions (field removed, method added)
+		ClassDef classDef1 = ClassDef.forClassName("a.A")
+				.addFieldDef(new FieldDef(Modifier.PUBLIC, "f1", "I"))
+				.addFieldDef(new FieldDef(Modifier.PUBLIC, "f2", "I"))
+				.addMethodDef(new MethodDef(Modifier.PUBLIC, "m1", "()V"));
+		ClassDef classDef2 = ClassDef.forClassName("a.A")
+				.addFieldDef(new FieldDef(Modifier.PUBLIC, "f1", "I"))
+				.addMethodDef(new MethodDef(Modifier.PUBLIC, "m1", "()V"))
+				.addMethodDef(new MethodDef(Modifier.PUBLIC, "m2", "()V"))
+				.addMethodDef(new MethodDef(Modifier.PRIVATE, "m3", "()V"));
+
+		// test
+		int result = DuplicateClassesAnalyzer.calculateApiDiff(classDef1.getApiFingerprint(), classDef2.getApiFingerprint());
+
+		// assert
+		String[] api1 = classDef1.getApiDescription().split("\n");
+		String[] api2 = classDef2.getApiDescription().split("\n");
+		assertEquals(DuplicateClassesAnalyzer.calculateApiDiff(api1, api2), result);
+		assertEquals(2, result);
+
+		// test and assert: same API
+		assertEquals(0, DuplicateClassesAnalyzer.calculateApiDiff(classDef1.getApiFingerprint(), classDef1.getApiFingerprint()));
+
+		// test and assert: different class name, modifiers, and members
+		ClassDef classDef3 = ClassDef.forClassName("b.B").withAccess(Modifier.PUBLIC);
+		String[] api3 = classDef3.getApiDescription().split("\n");
+		assertEquals(4, DuplicateClassesAnalyzer.calculateApiDiff(api1, api3));
+		assertEquals(4, DuplicateClassesAnalyzer.calculateApiDiff(classDef1.getApiFingerprint(), classDef3.getApiFingerprint()));
+	}
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import org.jarhc.env.JavaRuntime;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.Classpath;
+import org.jarhc.report.ReportSection;
+import org.jarhc.report.ReportTable;
+import org.jarhc.test.ClasspathBuilder;
+import org.jarhc.test.JavaRuntimeMock;
+import org.junit.jupiter.api.Test;
+
+class IncrementalScanTest {
+
+	private static final String SETTINGS = "1.0\n11\nParentLast";
+
+	private final JavaRuntime javaRuntime = JavaRuntimeMock.getOracleRuntime();
+	private final BinaryCompatibilityAnalyzer analyzer = new BinaryCompatibilityAnalyzer(false, false);
+
+	@Test
+	void test_noPreviousState() {
+
+		// prepare
+		Classpath classpath = createClasspath(1024, true);
+
+		// test
+		IncrementalScan scan = new IncrementalScan(classpath, null, SETTINGS);
+
+		// assert
+		assertFalse(scan.isIncremental());
+		assertEquals(3, scan.getChangedJarFiles());
+		assertFalse(scan.isReusable("Test", getClassDef(classpath, "c.C")));
+	}
+
+	@Test
+	void test_unchanged() {
+
+		// prepare
+		IncrementalState state = scan(createClasspath(1024, true), null);
+		Classpath classpath = createClasspath(1024, true);
+
+		// test
+		IncrementalScan scan = new IncrementalScan(classpath, state, SETTINGS);
+
+		// assert
+		assertTrue(scan.isIncremental());
+		assertEquals(0, scan.getChangedJarFiles());
+		assertEquals(0, scan.getAffectedClasses());
+		String stateName = "BinaryCompatibility:false:false";
+		assertTrue(scan.isReusable(stateName, getClassDef(classpath, "a.A")));
+		assertTrue(scan.isReusable(stateName, getClassDef(classpath, "c.C")));
+		assertFalse(scan.isReusable("Other", getClassDef(classpath, "c.C")));
+		assertNull(scan.getPreviousIssue(stateName, getClassDef(classpath, "a.A")));
+		assertEquals("`c.C`\n\u2022 Class not found: `x.X` (package not found)\n", scan.getPreviousIssue(stateName, getClassDef(classpath, "c.C")));
+	}
+
+	@Test
+	void test_changedJarFile() {
+
+		// prepare
+		IncrementalState state = scan(createClasspath(1024, true), null);
+		Classpath classpath = createClasspath(2048, true);
+
+		// test
+		IncrementalScan scan = new IncrementalScan(classpath, state, SETTINGS);
+
+		// assert
+		assertTrue(scan.isIncremental());
+		assertEquals(2, scan.getChangedJarFiles()); // old and new version of b.jar
+		String stateName = "BinaryCompatibility:false:false";
+		assertFalse(scan.isReusable(stateName, getClassDef(classpath, "a.A"))); // references b.B
+		assertFalse(scan.isReusable(stateName, getClassDef(classpath, "a.S"))); // subclass of b.B
+		assertFalse(scan.isReusable(stateName, getClassDef(classpath, "a.U"))); // references subclass of b.B
+		assertFalse(scan.isReusable(stateName, getClassDef(classpath, "b.B"))); // in changed JAR file
+		assertTrue(scan.isReusable(stateName, getClassDef(classpath, "c.C")));
+		assertEquals(3, scan.getAffectedClasses());
+	}
+
+	@Test
+	void test_removedJarFile() {
+
+		// prepare
+		IncrementalState state = scan(createClasspath(1024, true), null);
+		Classpath classpath = createClasspath(1024, false);
+
+		// test
+		IncrementalScan scan = new IncrementalScan(classpath, state, SETTINGS);
+
+		// assert
+		assertTrue(scan.isIncremental());
+		assertEquals(1, scan.getChangedJarFiles());
+		String stateName = "BinaryCompatibility:false:false";
+		assertFalse(scan.isReusable(stateName, getClassDef(classpath, "a.A")));
+		assertTrue(scan.isReusable(stateName, getClassDef(classpath, "c.C")));
+	}
+
+	@Test
+	void test_differentSettings() {
+
+		// prepare
+		IncrementalState state = scan(createClasspath(1024, true), null);
+		Classpath classpath = createClasspath(1024, true);
+
+		// test
+		IncrementalScan scan = new IncrementalScan(classpath, state, "1.0\n17\nParentLast");
+
+		// assert
+		assertFalse(scan.isIncremental());
+		assertFalse(scan.isReusable("BinaryCompatibility:false:false", getClassDef(classpath, "c.C")));
+	}
+
+	@Test
+	void test_differentOrder() {
+
+		// prepare
+		IncrementalState state = scan(createClasspath(1024, true), null);
+		Classpath classpath = ClasspathBuilder.create(javaRuntime)
+				.addJarFile("c.jar").addClassDef("c.C").addClassRef("x.X")
+				.addJarFile("b.jar").addClassDef(ClassDef.forClassName("b.B").withAccess(Modifier.PUBLIC).setSuperName("java.lang.Object"))
+				.addJarFile("a.jar").addClassDef("a.A").addClassRef("b.B")
+				.build();
+
+		// test
+		IncrementalScan scan = new IncrementalScan(classpath, state, SETTINGS);
+
+		// assert
+		assertFalse(scan.isIncremental());
+	}
+
+	@Test
+	void test_sameReportAsFullScan() {
+
+		// prepare
+		IncrementalState state = scan(createClasspath(1024, true), null);
+		Classpath classpath = createClasspath(1024, false);
+
+		// test
+		IncrementalScan scan = new IncrementalScan(classpath, state, SETTINGS);
+		ReportSection section = analyzer.analyze(classpath, scan);
+
+		// assert
+		List<String[]> expectedRows = getRows(analyzer.analyze(classpath));
+		List<String[]> rows = getRows(section);
+		assertEquals(2, rows.size());
+		assertEquals(expectedRows.size(), rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertArrayEquals(expectedRows.get(i), rows.get(i));
+		}
+
+		// issues of reused classes are kept in new state
+		IncrementalState newState = scan.getState();
+		String jarKey = newState.getJarKeys().get(1); // c.jar
+		assertEquals(state.getIssue(jarKey, "BinaryCompatibility:false:false", "c.C"), newState.getIssue(jarKey, "BinaryCompatibility:false:false", "c.C"));
+	}
+
+	private IncrementalState scan(Classpath classpath, IncrementalState previousState) {
+		IncrementalScan scan = new IncrementalScan(classpath, previousState, SETTINGS);
+		analyzer.analyze(classpath, scan);
+		return scan.getState();
+	}
+
+	private Classpath createClasspath(long sizeOfJarFileB, boolean withJarFileB) {
+		ClasspathBuilder builder = ClasspathBuilder.create(javaRuntime)
+				.addJarFile("a.jar")
+				.addClassDef("a.A").addClassRef("b.B")
+				.addClassDef(ClassDef.forClassName("a.S").setSuperName("b.B"))
+				.addClassDef("a.U").addClassRef("a.S");
+		if (withJarFileB) {
+			// note: checksum is based on file name and size
+			builder.addJarFile("b.jar", null, sizeOfJarFileB).addClassDef(ClassDef.forClassName("b.B").withAccess(Modifier.PUBLIC).setSuperName("java.lang.Object"));
+		}
+		return builder.addJarFile("c.jar").addClassDef("c.C").addClassRef("x.X").build();
+	}
+
+	private static ClassDef getClassDef(Classpath classpath, String className) {
+		return classpath.getClassDefs(className).get(0);
+	}
+
+	private static List<String[]> getRows(ReportSection section) {
+		ReportTable table = (ReportTable) section.getContent().get(0);
+		return table.getRows();
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.jarhc.test.log.LoggerBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalStateStoreTest {
+
+	@Test
+	void test_saveAndLoad(@TempDir Path tempDir) {
+
+		// prepare
+		File stateDir = tempDir.resolve("incremental").toFile();
+		IncrementalStateStore store = new IncrementalStateStore(stateDir, LoggerBuilder.noop());
+		IncrementalState state = new IncrementalState("settings");
+		state.addJarFile("1234#1", List.of("a.A"));
+
+		// test
+		store.save("a.jar", state);
+		IncrementalState result = store.load("a.jar");
+
+		// assert
+		assertNotNull(result);
+		assertEquals("settings", result.getFingerprint());
+		assertEquals(List.of("1234#1"), result.getJarKeys());
+		assertNull(store.load("b.jar"));
+		assertEquals(1, stateDir.listFiles().length);
+	}
+
+	@Test
+	void test_load_corruptFile(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		IncrementalStateStore store = new IncrementalStateStore(tempDir.toFile(), LoggerBuilder.noop());
+		store.save("a.jar", new IncrementalState("settings"));
+		File[] files = tempDir.toFile().listFiles();
+		assertNotNull(files);
+		Files.write(files[0].toPath(), "corrupt".getBytes(StandardCharsets.UTF_8));
+
+		// test
+		IncrementalState result = store.load("a.jar");
+
+		// assert
+		assertNull(result);
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IncrementalStateTest {
+
+	@Test
+	void test_writeAndRead() throws IOException {
+
+		// prepare
+		IncrementalState state = new IncrementalState("settings");
+		state.addJarFile("1234#1", List.of("a.A", "a.B"));
+		state.addJarFile("5678#1", List.of("b.\u00C4"));
+		state.putIssue("1234#1", "Test", "a.B", "`a.B`\n\u2022 Class not found: `x.X`\n");
+		state.addAnalyzer("Test");
+
+		// test
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		state.write(stream);
+		IncrementalState result = IncrementalState.read(new ByteArrayInputStream(stream.toByteArray()));
+
+		// assert
+		assertEquals("settings", result.getFingerprint());
+		assertEquals(List.of("1234#1", "5678#1"), result.getJarKeys());
+		assertEquals(List.of("a.A", "a.B"), result.getClassNames("1234#1"));
+		assertEquals(List.of("b.\u00C4"), result.getClassNames("5678#1"));
+		assertTrue(result.hasAnalyzer("Test"));
+		assertFalse(result.hasAnalyzer("Other"));
+		assertEquals("`a.B`\n\u2022 Class not found: `x.X`\n", result.getIssue("1234#1", "Test", "a.B"));
+		assertNull(result.getIssue("1234#1", "Test", "a.A"));
+		assertNull(result.getIssue("5678#1", "Test", "b.\u00C4"));
+		assertNull(result.getIssue("9999#1", "Test", "a.B"));
+	}
+
+	@Test
+	void test_read_unknownFormat() {
+
+		// prepare
+		byte[] data = "not a state file".getBytes(StandardCharsets.UTF_8);
+
+		// test and assert
+		IOException exception = assertThrows(IOException.class, () -> IncrementalState.read(new ByteArrayInputStream(data)));
+		assertEquals("Unknown file format.", exception.getMessage());
+	}
+
+	@Test
+	void test_putIssue_unknownJarFile() {
+
+		// prepare
+		IncrementalState state = new IncrementalState("settings");
+
+		// test and assert
+		assertThrows(IllegalArgumentException.class, () -> state.putIssue("1234#1", "Test", "a.A", "issue"));
+	}
+
+}
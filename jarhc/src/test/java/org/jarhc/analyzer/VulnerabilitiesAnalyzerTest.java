@@ -17,6 +17,7 @@
 package org.jarhc.analyzer;
 
 import static org.jarhc.TestUtils.assertValuesEquals;
+import static org.jarhc.test.log.LoggerAssertions.assertLogger;
 import static org.jarhc.utils.StringUtils.joinLines;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -26,7 +27,10 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.jarhc.artifacts.Artifact;
 import org.jarhc.artifacts.RepositoryException;
 import org.jarhc.artifacts.Vulnerability;
@@ -158,6 +162,72 @@ class VulnerabilitiesAnalyzerTest {
 		assertEquals(0, rows.size());
 	}
 
+	@Test
+	void analyze_looksUpArtifactsConcurrently() {
+
+		// prepare: every lookup waits until all 3 lookups are running
+		CountDownLatch latch = new CountDownLatch(3);
+		VulnerabilityFinder blockingFinder = artifact -> {
+			latch.countDown();
+			try {
+				if (!latch.await(10, TimeUnit.SECONDS)) {
+					throw new RepositoryException("Lookups are not concurrent.");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RepositoryException("Interrupted.");
+			}
+			return List.of(SHARED);
+		};
+		VulnerabilitiesAnalyzer analyzer = new VulnerabilitiesAnalyzer(blockingFinder, 3, logger);
+
+		Classpath classpath = classpath(
+				JarFile.withName("libA.jar").withArtifact("group:libA:1.0:jar").build(),
+				JarFile.withName("libB.jar").withArtifact("group:libB:1.0:jar").build(),
+				JarFile.withName("libC.jar").withArtifact("group:libC:1.0:jar").build()
+		);
+
+		// test
+		ReportSection section = analyzer.analyze(classpath);
+
+		// assert
+		List<String[]> rows = assertTable(section);
+		assertEquals(1, rows.size());
+		assertEquals(joinLines("libA", "libB", "libC"), rows.get(0)[1]);
+		assertLogger(logger).isEmpty();
+	}
+
+	@Test
+	void analyze_looksUpDuplicateArtifactsOnlyOnce() {
+
+		// prepare: two JAR files with the same coordinates
+		JarFile copy = JarFile.withName("libA-copy.jar").withArtifact("group:libA:1.0:jar").build();
+		copy.setDisplayName("libA-copy");
+		List<String> lookups = Collections.synchronizedList(new ArrayList<>());
+		VulnerabilityFinder countingFinder = artifact -> {
+			lookups.add(artifact.toCoordinates());
+			return artifact.getArtifactId().equals("libA") ? List.of(LOG4SHELL, SHARED) : List.of(SHARED);
+		};
+		VulnerabilitiesAnalyzer analyzer = new VulnerabilitiesAnalyzer(countingFinder, 4, logger);
+
+		Classpath classpath = classpath(
+				copy,
+				JarFile.withName("libB.jar").withArtifact("group:libB:1.0:jar").build(),
+				JarFile.withName("libA.jar").withArtifact("group:libA:1.0:jar").build()
+		);
+
+		// test
+		ReportSection section = analyzer.analyze(classpath);
+
+		// assert
+		lookups.sort(null);
+		assertEquals(List.of("group:libA:1.0", "group:libB:1.0"), lookups);
+		List<String[]> rows = assertTable(section);
+		assertEquals(2, rows.size());
+		assertEquals(joinLines("libA", "libA-copy"), rows.get(0)[1]);
+		assertEquals(joinLines("libA", "libA-copy", "libB"), rows.get(1)[1]);
+	}
+
 	private static Classpath classpath(JarFile... jarFiles) {
 		List<JarFile> list = new ArrayList<>(List.of(jarFiles));
 		return new Classpath(list, null, ClassLoaderStrategy.ParentLast);
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.app;
+
+import static org.jarhc.test.log.LoggerAssertions.assertLogger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.jarhc.artifacts.Artifact;
+import org.jarhc.artifacts.ArtifactVersion;
+import org.jarhc.artifacts.Repository;
+import org.jarhc.artifacts.RepositoryException;
+import org.jarhc.pom.Dependency;
+import org.jarhc.test.log.LoggerBuilder;
+import org.jarhc.utils.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class ArtifactDownloaderTest {
+
+	private final Logger logger = LoggerBuilder.collect(ArtifactDownloader.class);
+	private final TestRepository repository = new TestRepository();
+
+	@Test
+	void test_startDownloads() throws IOException {
+
+		// prepare: every download waits until all 3 downloads are running
+		repository.latch = new CountDownLatch(3);
+		List<JarSource> sources = List.of(
+				new ArtifactSource("org.test:a:1.0", repository),
+				new FileSource(new File("b.jar")),
+				new ArtifactSource("org.test:c:1.0", repository),
+				new ArtifactSource("org.test:d:1.0", repository)
+		);
+		ArtifactDownloader downloader = new ArtifactDownloader(3, logger);
+
+		// test
+		CompletableFuture<Void> future = downloader.startDownloads(sources);
+
+		// assert
+		future.join();
+		assertEquals("content-of-a-1.0.jar", getContent(sources.get(0)));
+		assertEquals("content-of-c-1.0.jar", getContent(sources.get(2)));
+		assertEquals("content-of-d-1.0.jar", getContent(sources.get(3)));
+
+		// every artifact is downloaded only once
+		List<String> downloads = new ArrayList<>(repository.downloads);
+		Collections.sort(downloads);
+		assertEquals(List.of("org.test:a:1.0", "org.test:c:1.0", "org.test:d:1.0"), downloads);
+
+		assertLogger(logger)
+				.inAnyOrder()
+				.hasDebug("Download finished: org.test:a:1.0 (*")
+				.hasDebug("Download finished: org.test:c:1.0 (*")
+				.hasDebug("Download finished: org.test:d:1.0 (*")
+				.isEmpty();
+	}
+
+	@Test
+	void test_startDownloads_withErrors() {
+
+		// prepare
+		List<JarSource> sources = List.of(
+				new ArtifactSource("org.test:unknown:1.0", repository),
+				new ArtifactSource("org.test:error:1.0", repository)
+		);
+		ArtifactDownloader downloader = new ArtifactDownloader(2, logger);
+
+		// test
+		downloader.startDownloads(sources).join();
+
+		// assert
+		IOException exception = assertThrows(IOException.class, () -> sources.get(0).getInputStream());
+		assertEquals("Artifact not found: org.test:unknown:1.0", exception.getMessage());
+		exception = assertThrows(IOException.class, () -> sources.get(1).getInputStream());
+		assertInstanceOf(RepositoryException.class, exception.getCause());
+
+		assertLogger(logger)
+				.inAnyOrder()
+				.hasDebug("Download finished: org.test:unknown:1.0 (*")
+				.hasDebug("Download failed: org.test:error:1.0 (*")
+				.isEmpty();
+	}
+
+	@Test
+	void test_startDownloads_withoutArtifacts() {
+
+		// prepare
+		List<JarSource> sources = List.of(new FileSource(new File("a.jar")));
+		ArtifactDownloader downloader = new ArtifactDownloader(2, logger);
+
+		// test
+		CompletableFuture<Void> future = downloader.startDownloads(sources);
+
+		// assert
+		assertTrue(future.isDone());
+		assertTrue(repository.downloads.isEmpty());
+		assertLogger(logger).isEmpty();
+	}
+
+	private static String getContent(JarSource source) throws IOException {
+		try (InputStream stream = source.getInputStream()) {
+			return new String(IOUtils.toByteArray(stream), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static class TestRepository implements Repository {
+
+		private final List<String> downloads = Collections.synchronizedList(new ArrayList<>());
+		private CountDownLatch latch = new CountDownLatch(0);
+
+		@Override
+		public List<Artifact> findArtifacts(String checksum) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Optional<InputStream> downloadArtifact(Artifact artifact) throws RepositoryException {
+			downloads.add(artifact.toCoordinates());
+
+			// wait for concurrent downloads
+			latch.countDown();
+			try {
+				if (!latch.await(10, TimeUnit.SECONDS)) {
+					throw new RepositoryException("Downloads are not concurrent.");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RepositoryException("Interrupted.");
+			}
+
+			if (artifact.getArtifactId().equals("unknown")) {
+				return Optional.empty();
+			} else if (artifact.getArtifactId().equals("error")) {
+				throw new RepositoryException("internal error");
+			}
+
+			byte[] data = ("content-of-" + artifact.getFileName()).getBytes(StandardCharsets.UTF_8);
+			return Optional.of(new ByteArrayInputStream(data));
+		}
+
+		@Override
+		public List<ArtifactVersion> getVersions(String groupId, String artifactId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<Dependency> getDependencies(Artifact artifact) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
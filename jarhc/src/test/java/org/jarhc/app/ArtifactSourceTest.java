@@ -17,9 +17,12 @@
 package org.jarhc.app;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
@@ -137,6 +140,36 @@ class ArtifactSourceTest {
 
 	}
 
+	@Test
+	void getData_withDownloadStartedInAdvance() throws IOException, RepositoryException {
+
+		// prepare
+		artifactSource.startDownload(Runnable::run).join();
+
+		// test
+		InputStream result1 = artifactSource.getInputStream();
+		InputStream result2 = artifactSource.getInputStream();
+
+		// assert
+		assertEquals("content-of-test-1.0.jar", new String(IOUtils.toByteArray(result1), StandardCharsets.UTF_8));
+		assertEquals("content-of-test-1.0.jar", new String(IOUtils.toByteArray(result2), StandardCharsets.UTF_8));
+		verify(repository, times(2)).downloadArtifact(any(Artifact.class));
+
+	}
+
+	@Test
+	void getData_withDownloadStartedInAdvance_throwsIOException_onRepositoryException() {
+
+		// prepare
+		artifactSource = new ArtifactSource("error:error:0.0.1", repository);
+		artifactSource.startDownload(Runnable::run);
+
+		// test & assert
+		IOException exception = assertThrows(IOException.class, () -> artifactSource.getInputStream());
+		assertInstanceOf(RepositoryException.class, exception.getCause());
+
+	}
+
 	@Test
 	void testEquals() {
 
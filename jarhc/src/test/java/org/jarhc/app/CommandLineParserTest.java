@@ -34,6 +34,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import org.jarhc.TestUtils;
+import org.jarhc.artifacts.CacheFileArtifactFinder;
+import org.jarhc.artifacts.CacheFileVulnerabilityFinder;
 import org.jarhc.java.ClassLoaderStrategy;
 import org.jarhc.test.PrintStreamBuffer;
 import org.jarhc.utils.JavaUtils;
@@ -80,6 +82,8 @@ class CommandLineParserTest {
 		assertEquals("JAR Health Check Report", options.getReportTitle());
 		assertEquals(Collections.emptyList(), options.getReportFiles());
 		assertNull(options.getDataPath());
+		assertFalse(options.isOffline());
+		assertEquals("default", options.getIncrementalScope());
 		assertFalse(options.isDebug());
 		assertFalse(options.isTrace());
 
@@ -470,6 +474,98 @@ class CommandLineParserTest {
 
 	}
 
+	@Test
+	void test_incremental(@TempDir Path tempDir) throws IOException, CommandLineException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/app/CommandLineParserTest/a.jar", tempDir);
+
+		// test
+		Options options = parser.parse(new String[] { "--incremental", file.getAbsolutePath() });
+
+		// assert
+		assertTrue(options.isIncremental());
+
+	}
+
+	@Test
+	void test_incrementalScope() throws CommandLineException {
+
+		// test
+		Options options = parser.parse(new String[] { "--incremental", "--incremental-scope", "myapp", "com.test:test:1.0" });
+
+		// assert
+		assertTrue(options.isIncremental());
+		assertEquals("myapp", options.getIncrementalScope());
+
+	}
+
+	@Test
+	void test_incrementalScope_NotSpecified() {
+
+		// test
+		CommandLineException e = assertThrows(CommandLineException.class, () -> parser.parse(new String[] { "com.test:test:1.0", "--incremental-scope" }));
+
+		// assert
+		assertEquals("Incremental scope not specified.", e.getMessage());
+		assertEquals(-37, e.getExitCode());
+
+	}
+
+	@Test
+	void test_offline(@TempDir Path tempDir) throws IOException, CommandLineException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/app/CommandLineParserTest/a.jar", tempDir);
+
+		// test
+		Options options = parser.parse(new String[] { "--offline", file.getAbsolutePath() });
+
+		// assert
+		assertTrue(options.isOffline());
+
+	}
+
+	@Test
+	void test_ttl() throws CommandLineException {
+
+		// test
+		Options options = parser.parse(new String[] { "--artifacts-ttl", "90d", "--artifacts-negative-ttl", "12h", "--vulnerabilities-ttl", "30m", "--vulnerabilities-negative-ttl", "unlimited", "com.test:test:1.0" });
+
+		// assert
+		assertEquals(90 * 24 * 60 * 60 * 1000L, options.getArtifactsTtlMillis());
+		assertEquals(12 * 60 * 60 * 1000L, options.getArtifactsNegativeTtlMillis());
+		assertEquals(30 * 60 * 1000L, options.getVulnerabilitiesTtlMillis());
+		assertEquals(Long.MAX_VALUE, options.getVulnerabilitiesNegativeTtlMillis());
+
+	}
+
+	@Test
+	void test_ttl_Default() throws CommandLineException {
+
+		// test
+		Options options = parser.parse(new String[] { "com.test:test:1.0" });
+
+		// assert
+		assertEquals(CacheFileArtifactFinder.DEFAULT_POSITIVE_TTL_MILLIS, options.getArtifactsTtlMillis());
+		assertEquals(CacheFileArtifactFinder.DEFAULT_NEGATIVE_TTL_MILLIS, options.getArtifactsNegativeTtlMillis());
+		assertEquals(CacheFileVulnerabilityFinder.DEFAULT_POSITIVE_TTL_MILLIS, options.getVulnerabilitiesTtlMillis());
+		assertEquals(CacheFileVulnerabilityFinder.DEFAULT_NEGATIVE_TTL_MILLIS, options.getVulnerabilitiesNegativeTtlMillis());
+
+	}
+
+	@Test
+	void test_ttl_Invalid() {
+
+		// test
+		CommandLineException e = assertThrows(CommandLineException.class, () -> parser.parse(new String[] { "--artifacts-ttl", "1w", "com.test:test:1.0" }));
+
+		// assert
+		assertEquals("Time-to-live '1w' is not valid.", e.getMessage());
+		assertEquals(-36, e.getExitCode());
+
+	}
+
 	@Test
 	void test_isolated_scan(@TempDir Path tempDir) throws IOException, CommandLineException {
 
@@ -484,6 +580,41 @@ class CommandLineParserTest {
 
 	}
 
+	@Test
+	void test_parallelism() throws CommandLineException {
+
+		// test
+		Options options = parser.parse(new String[] { "--parallelism", "4", "com.test:test:1.0" });
+
+		// assert
+		assertEquals(4, options.getParallelism());
+
+	}
+
+	@Test
+	void test_parallelism_Invalid() {
+
+		// test
+		CommandLineException e = assertThrows(CommandLineException.class, () -> parser.parse(new String[] { "--parallelism", "max", "com.test:test:1.0" }));
+
+		// assert
+		assertEquals("Parallelism 'max' is not valid.", e.getMessage());
+		assertEquals(-31, e.getExitCode());
+
+	}
+
+	@Test
+	void test_parallelism_Unsupported() {
+
+		// test
+		CommandLineException e = assertThrows(CommandLineException.class, () -> parser.parse(new String[] { "--parallelism", "0", "com.test:test:1.0" }));
+
+		// assert
+		assertEquals("Parallelism 0 is not supported.", e.getMessage());
+		assertEquals(-32, e.getExitCode());
+
+	}
+
 	@Test
 	void test_skip_empty(@TempDir Path tempDir) throws IOException, CommandLineException {
 
@@ -582,6 +713,46 @@ class CommandLineParserTest {
 
 	}
 
+	@Test
+	void test_javaHome() throws CommandLineException {
+
+		// prepare
+		String javaHome = System.getProperty("java.home");
+
+		// test
+		Options options = parser.parse(new String[] { "--java-home", javaHome, "com.test:test:1.0" });
+
+		// assert
+		assertEquals(javaHome, options.getJavaHome());
+
+	}
+
+	@Test
+	void test_javaHome_NotFound(@TempDir Path tempDir) {
+
+		// prepare
+		String path = tempDir.toFile().getAbsolutePath();
+
+		// test
+		CommandLineException e = assertThrows(CommandLineException.class, () -> parser.parse(new String[] { "--java-home", path, "com.test:test:1.0" }));
+
+		// assert
+		assertEquals("Java runtime image not found: " + path, e.getMessage());
+		assertEquals(-34, e.getExitCode());
+
+	}
+
+	@Test
+	void test_javaHome_Default() throws CommandLineException {
+
+		// test
+		Options options = parser.parse(new String[] { "com.test:test:1.0" });
+
+		// assert
+		assertNull(options.getJavaHome());
+
+	}
+
 	@Test
 	void test_strategy_ParentFirst() throws CommandLineException {
 
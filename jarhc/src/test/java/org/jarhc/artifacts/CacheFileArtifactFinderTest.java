@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import static org.jarhc.test.log.LoggerAssertions.assertLogger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.jarhc.test.log.LoggerBuilder;
+import org.jarhc.utils.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+class CacheFileArtifactFinderTest {
+
+	private static final long DAY = 24 * 60 * 60 * 1000L;
+
+	private final Logger logger = LoggerBuilder.collect(CacheFileArtifactFinder.class);
+	private final List<String> requests = new ArrayList<>();
+	private final List<Artifact> artifacts = new ArrayList<>();
+	private final ArtifactFinder delegate = checksum -> {
+		requests.add(checksum);
+		return new ArrayList<>(artifacts);
+	};
+
+	private File legacyCacheDir;
+	private CacheFile cacheFile;
+
+	@BeforeEach
+	void setUp(@TempDir Path tempDir) {
+		legacyCacheDir = tempDir.resolve("checksums").toFile();
+		cacheFile = new CacheFile(tempDir.resolve("checksums.cache").toFile());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		cacheFile.close();
+	}
+
+	@Test
+	void test_findArtifacts_withDelegateHit_updatesCacheFile() throws RepositoryException, IOException {
+
+		// prepare
+		artifacts.add(new Artifact("commons-codec", "commons-codec", "1.11", "jar"));
+		CacheFileArtifactFinder artifactFinder = new CacheFileArtifactFinder(cacheFile, legacyCacheDir, delegate, false, Long.MAX_VALUE, DAY, logger);
+
+		// test
+		List<Artifact> result1 = artifactFinder.findArtifacts("abcd");
+		List<Artifact> result2 = artifactFinder.findArtifacts("abcd");
+
+		// assert
+		assertEquals(artifacts, result1);
+		assertEquals(artifacts, result2);
+		assertEquals(List.of("abcd"), requests);
+
+		CacheFile.Entry entry = cacheFile.get("abcd");
+		assertNotNull(entry);
+		assertEquals("commons-codec:commons-codec:1.11:jar", entry.getValue());
+		assertEquals(Long.MAX_VALUE, entry.getExpires());
+		assertFalse(legacyCacheDir.exists());
+
+		assertLogger(logger)
+				.hasDebug("Artifact found: abcd -> [commons-codec:commons-codec:1.11:jar] (cache file)")
+				.isEmpty();
+	}
+
+	@Test
+	void test_findArtifacts_withDelegateMiss_cachesEmptyResult() throws RepositoryException, IOException {
+
+		// prepare
+		CacheFileArtifactFinder artifactFinder = new CacheFileArtifactFinder(cacheFile, legacyCacheDir, delegate, false, Long.MAX_VALUE, DAY, logger);
+
+		// test
+		long time = System.currentTimeMillis();
+		List<Artifact> result1 = artifactFinder.findArtifacts("abcd");
+		List<Artifact> result2 = artifactFinder.findArtifacts("abcd");
+
+		// assert
+		assertTrue(result1.isEmpty());
+		assertTrue(result2.isEmpty());
+		assertEquals(List.of("abcd"), requests);
+
+		CacheFile.Entry entry = cacheFile.get("abcd");
+		assertNotNull(entry);
+		assertEquals("", entry.getValue());
+		assertTrue(entry.getExpires() >= time + DAY);
+
+		assertLogger(logger)
+				.hasDebug("Artifact found: abcd -> [] (cache file)")
+				.isEmpty();
+	}
+
+	@Test
+	void test_findArtifacts_withExpiredEmptyResult() throws RepositoryException {
+
+		// prepare: empty results expire immediately
+		CacheFileArtifactFinder artifactFinder = new CacheFileArtifactFinder(cacheFile, legacyCacheDir, delegate, false, Long.MAX_VALUE, 0, logger);
+		artifactFinder.findArtifacts("abcd");
+		artifacts.add(new Artifact("commons-codec", "commons-codec", "1.11", "jar"));
+
+		// test
+		List<Artifact> result = artifactFinder.findArtifacts("abcd");
+
+		// assert
+		assertEquals(artifacts, result);
+		assertEquals(List.of("abcd", "abcd"), requests);
+
+		assertLogger(logger)
+				.hasDebug("Artifact cache expired: abcd")
+				.isEmpty();
+	}
+
+	@Test
+	void test_findArtifacts_withLegacyCacheHit_importsEntry() throws RepositoryException, IOException {
+
+		// prepare
+		File legacyCacheFile = new File(legacyCacheDir, "1234.txt");
+		FileUtils.writeStringToFile("commons-io:commons-io:2.6:jar", legacyCacheFile);
+		CacheFileArtifactFinder artifactFinder = new CacheFileArtifactFinder(cacheFile, legacyCacheDir, delegate, false, Long.MAX_VALUE, DAY, logger);
+
+		// test
+		List<Artifact> result1 = artifactFinder.findArtifacts("1234");
+		List<Artifact> result2 = artifactFinder.findArtifacts("1234");
+
+		// assert
+		List<Artifact> expected = List.of(new Artifact("commons-io", "commons-io", "2.6", "jar"));
+		assertEquals(expected, result1);
+		assertEquals(expected, result2);
+		assertTrue(requests.isEmpty());
+		assertEquals("commons-io:commons-io:2.6:jar", cacheFile.get("1234").getValue());
+
+		assertLogger(logger)
+				.hasDebug("Artifact found: 1234 -> [commons-io:commons-io:2.6:jar] (disk cache)")
+				.hasDebug("Artifact found: 1234 -> [commons-io:commons-io:2.6:jar] (cache file)")
+				.isEmpty();
+	}
+
+	@Test
+	void test_findArtifacts_withoutLegacyCache() throws RepositoryException {
+
+		// prepare
+		CacheFileArtifactFinder artifactFinder = new CacheFileArtifactFinder(cacheFile, null, delegate, false, Long.MAX_VALUE, DAY, logger);
+
+		// test
+		List<Artifact> result = artifactFinder.findArtifacts("abcd");
+
+		// assert
+		assertTrue(result.isEmpty());
+		assertEquals(List.of("abcd"), requests);
+	}
+
+	@Test
+	void test_findArtifacts_offline() throws RepositoryException, IOException {
+
+		// prepare: expired entry
+		artifacts.add(new Artifact("commons-codec", "commons-codec", "1.11", "jar"));
+		new CacheFileArtifactFinder(cacheFile, legacyCacheDir, delegate, false, 0, 0, logger).findArtifacts("abcd");
+		CacheFileArtifactFinder artifactFinder = new CacheFileArtifactFinder(cacheFile, legacyCacheDir, delegate, true, 0, 0, logger);
+
+		// test
+		List<Artifact> result1 = artifactFinder.findArtifacts("abcd");
+		List<Artifact> result2 = artifactFinder.findArtifacts("1234");
+
+		// assert
+		assertEquals(artifacts, result1);
+		assertTrue(result2.isEmpty());
+		assertEquals(List.of("abcd"), requests);
+		assertNull(cacheFile.get("1234"));
+
+		assertLogger(logger)
+				.hasDebug("Artifact found: abcd -> [commons-codec:commons-codec:1.11:jar] (cache file)")
+				.hasDebug("Artifact not found: 1234 (offline)")
+				.isEmpty();
+	}
+
+	@Test
+	void test_findArtifacts_withInvalidChecksum() {
+
+		// prepare
+		CacheFileArtifactFinder artifactFinder = new CacheFileArtifactFinder(cacheFile, legacyCacheDir, delegate, false, Long.MAX_VALUE, DAY, logger);
+
+		// test
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> artifactFinder.findArtifacts("../abc"));
+
+		// assert
+		assertEquals("checksum: ../abc", exception.getMessage());
+		assertTrue(requests.isEmpty());
+	}
+
+}
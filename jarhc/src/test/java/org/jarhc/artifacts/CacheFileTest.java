@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import static org.jarhc.test.log.LoggerAssertions.assertLogger;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.jarhc.test.log.LoggerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+class CacheFileTest {
+
+	private static final long NEVER = Long.MAX_VALUE;
+
+	private final Logger logger = LoggerBuilder.collect(CacheFile.class);
+	private File file;
+
+	@BeforeEach
+	void setUp(@TempDir Path tempDir) {
+		file = tempDir.resolve("data").resolve("test.cache").toFile();
+	}
+
+	@Test
+	void test_putAndGet() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+
+			assertNull(cacheFile.get("a"));
+
+			cacheFile.put("a", "Hello", NEVER);
+			cacheFile.put("b", "", NEVER);
+			cacheFile.put("ü", "Wörld", NEVER);
+
+			assertTrue(file.isFile());
+			assertEquals(3, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", "Hello");
+			assertEntry(cacheFile.get("b"), "b", "");
+			assertEntry(cacheFile.get("ü"), "ü", "Wörld");
+			assertNull(cacheFile.get("c"));
+		}
+
+		assertLogger(logger).isEmpty();
+	}
+
+	@Test
+	void test_put_overwrite() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+
+			cacheFile.put("a", "1", NEVER);
+			cacheFile.put("a", "2", NEVER);
+
+			assertEquals(1, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", "2");
+		}
+	}
+
+	@Test
+	void test_get_expired() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+
+			long expires = System.currentTimeMillis() - 1000;
+			cacheFile.put("a", "Hello", expires);
+
+			CacheFile.Entry entry = cacheFile.get("a");
+			assertNotNull(entry);
+			assertTrue(entry.isExpired());
+			assertEquals(expires, entry.getExpires());
+			assertEquals("Hello", entry.getValue());
+		}
+	}
+
+	@Test
+	void test_reopen() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			cacheFile.put("a", "1", NEVER);
+			cacheFile.put("b", "2", NEVER);
+			cacheFile.put("a", "3", NEVER);
+		}
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			assertEquals(2, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", "3");
+			assertEntry(cacheFile.get("b"), "b", "2");
+		}
+	}
+
+	@Test
+	void test_sharedFile() throws IOException {
+
+		try (CacheFile cacheFile1 = new CacheFile(file, logger); CacheFile cacheFile2 = new CacheFile(file, logger)) {
+
+			cacheFile1.put("a", "1", NEVER);
+			assertEntry(cacheFile2.get("a"), "a", "1");
+
+			cacheFile2.put("b", "2", NEVER);
+			cacheFile1.put("c", "3", NEVER);
+			assertEntry(cacheFile1.get("b"), "b", "2");
+			assertEntry(cacheFile2.get("c"), "c", "3");
+
+			cacheFile2.put("a", "4", NEVER);
+			cacheFile1.put("d", "5", NEVER);
+			assertEntry(cacheFile1.get("a"), "a", "4");
+		}
+	}
+
+	@Test
+	void test_incompleteRecord() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			cacheFile.put("a", "1", NEVER);
+			cacheFile.put("b", "2", NEVER);
+		}
+
+		// simulate a crash while the last record was written
+		long length = file.length();
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(length - 3);
+		}
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			assertEntry(cacheFile.get("a"), "a", "1");
+			assertNull(cacheFile.get("b"));
+
+			// new record replaces incomplete record
+			cacheFile.put("c", "3", NEVER);
+		}
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			assertEquals(2, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", "1");
+			assertNull(cacheFile.get("b"));
+			assertEntry(cacheFile.get("c"), "c", "3");
+		}
+	}
+
+	@Test
+	void test_corruptedRecord() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			cacheFile.put("a", "1", NEVER);
+			cacheFile.put("b", "2", NEVER);
+		}
+
+		// modify last byte of value of last record
+		byte[] data = Files.readAllBytes(file.toPath());
+		data[data.length - 1] = 'X';
+		Files.write(file.toPath(), data);
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			assertEquals(1, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", "1");
+			assertNull(cacheFile.get("b"));
+		}
+	}
+
+	@Test
+	void test_invalidHeader() throws IOException {
+
+		Files.createDirectories(file.getParentFile().toPath());
+		Files.write(file.toPath(), "not a cache file".getBytes(StandardCharsets.UTF_8));
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			assertEquals(0, cacheFile.size());
+			cacheFile.put("a", "1", NEVER);
+		}
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			assertEquals(1, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", "1");
+		}
+	}
+
+	@Test
+	void test_compact() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+
+			cacheFile.put("a", "1", NEVER);
+			cacheFile.put("b", "2", System.currentTimeMillis() - 1000);
+			cacheFile.put("c", "3", NEVER);
+			cacheFile.put("a", "4", NEVER);
+			long length = file.length();
+
+			cacheFile.compact();
+
+			assertTrue(file.length() < length);
+			assertEquals(2, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", "4");
+			assertNull(cacheFile.get("b"));
+			assertEntry(cacheFile.get("c"), "c", "3");
+		}
+
+		assertLogger(logger)
+				.hasDebug("Cache file compacted: " + file.getAbsolutePath() + " (2 entries, " + file.length() + " bytes)")
+				.isEmpty();
+	}
+
+	@Test
+	void test_compact_sharedFile() throws IOException {
+
+		try (CacheFile cacheFile1 = new CacheFile(file, logger); CacheFile cacheFile2 = new CacheFile(file, logger)) {
+
+			cacheFile1.put("a", "1", NEVER);
+			cacheFile1.put("a", "2", NEVER);
+			assertEntry(cacheFile2.get("a"), "a", "2");
+
+			cacheFile1.compact();
+
+			// second instance detects replaced file
+			cacheFile2.put("b", "3", NEVER);
+			assertEntry(cacheFile1.get("b"), "b", "3");
+			assertEntry(cacheFile2.get("a"), "a", "2");
+			assertEquals(2, cacheFile1.size());
+			assertEquals(2, cacheFile2.size());
+		}
+	}
+
+	@Test
+	void test_put_compactsAutomatically() throws IOException {
+
+		String value = "x".repeat(100 * 1024);
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			for (int i = 0; i < 30; i++) {
+				cacheFile.put("a", value + i, NEVER);
+			}
+
+			assertTrue(file.length() < 2 * 1024 * 1024, "file.length() = " + file.length());
+			assertEquals(1, cacheFile.size());
+			assertEntry(cacheFile.get("a"), "a", value + 29);
+		}
+	}
+
+	@Test
+	void test_close() throws IOException {
+
+		CacheFile cacheFile = new CacheFile(file, logger);
+		cacheFile.put("a", "1", NEVER);
+		cacheFile.close();
+		cacheFile.close();
+
+		// cache file is opened again on next access
+		assertEntry(cacheFile.get("a"), "a", "1");
+		cacheFile.close();
+	}
+
+	@Test
+	void test_compact_noTempFiles() throws IOException {
+
+		try (CacheFile cacheFile = new CacheFile(file, logger)) {
+			cacheFile.put("a", "1", NEVER);
+			cacheFile.compact();
+		}
+
+		assertArrayEquals(new String[] { "test.cache" }, file.getParentFile().list());
+	}
+
+	private static void assertEntry(CacheFile.Entry entry, String expectedKey, String expectedValue) {
+		assertNotNull(entry);
+		assertEquals(expectedKey, entry.getKey());
+		assertEquals(expectedValue, entry.getValue());
+		assertFalse(entry.isExpired());
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.jarhc.test.log.LoggerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+class CacheFileVulnerabilityFinderTest {
+
+	private static final long TTL = DiskCacheVulnerabilityFinder.DEFAULT_TTL_MILLIS;
+
+	private final Logger logger = LoggerBuilder.collect(CacheFileVulnerabilityFinder.class);
+	private final VulnerabilityFinder delegate = Mockito.mock(VulnerabilityFinder.class);
+
+	private final Artifact artifact = new Artifact("org.example", "lib", "1.0", "jar");
+	private final Vulnerability vulnerability = new Vulnerability("GHSA-1", List.of("CVE-2021-44228"), 10.0, "CVSS:3.1/AV:N", "Remote code injection", "https://osv.dev/GHSA-1");
+
+	private File legacyCacheDir;
+	private CacheFile cacheFile;
+
+	@BeforeEach
+	void setUp(@TempDir Path tempDir) {
+		legacyCacheDir = tempDir.resolve("vulnerabilities").toFile();
+		cacheFile = new CacheFile(tempDir.resolve("vulnerabilities.cache").toFile());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		cacheFile.close();
+	}
+
+	@Test
+	void writesResultToCacheFileAndReadsItBack() throws RepositoryException, IOException {
+
+		CacheFileVulnerabilityFinder finder = new CacheFileVulnerabilityFinder(cacheFile, legacyCacheDir, delegate, false, TTL, TTL, logger);
+		doReturn(List.of(vulnerability)).when(delegate).findVulnerabilities(artifact);
+
+		// first call goes to the delegate and writes the cache entry
+		List<Vulnerability> result1 = finder.findVulnerabilities(artifact);
+		assertThat(result1).containsExactly(vulnerability);
+		assertThat(cacheFile.get("org.example:lib:1.0:jar")).isNotNull();
+		assertThat(legacyCacheDir).doesNotExist();
+
+		// second call is served from the cache file
+		List<Vulnerability> result2 = finder.findVulnerabilities(artifact);
+		assertThat(result2).containsExactly(vulnerability);
+
+		// round-tripped vulnerability retains its data
+		Vulnerability cached = result2.get(0);
+		assertThat(cached.getAdvisoryId()).isEqualTo("GHSA-1");
+		assertThat(cached.getAliases()).containsExactly("CVE-2021-44228");
+		assertThat(cached.getCvss3Score()).isEqualTo(10.0);
+		assertThat(cached.getTitle()).isEqualTo("Remote code injection");
+		assertThat(cached.getUrl()).isEqualTo("https://osv.dev/GHSA-1");
+
+		verify(delegate, times(1)).findVulnerabilities(artifact);
+	}
+
+	@Test
+	void emptyResultIsCachedWithNegativeTtl() throws RepositoryException {
+
+		// empty results expire immediately
+		CacheFileVulnerabilityFinder finder = new CacheFileVulnerabilityFinder(cacheFile, legacyCacheDir, delegate, false, TTL, 0L, logger);
+		doReturn(List.of()).when(delegate).findVulnerabilities(artifact);
+
+		finder.findVulnerabilities(artifact);
+		finder.findVulnerabilities(artifact);
+
+		verify(delegate, times(2)).findVulnerabilities(artifact);
+	}
+
+	@Test
+	void freshEmptyResultIsNotRefreshed() throws RepositoryException {
+
+		CacheFileVulnerabilityFinder finder = new CacheFileVulnerabilityFinder(cacheFile, legacyCacheDir, delegate, false, TTL, TTL, logger);
+		doReturn(List.of()).when(delegate).findVulnerabilities(artifact);
+
+		finder.findVulnerabilities(artifact);
+		finder.findVulnerabilities(artifact);
+
+		// "no vulnerabilities" is cached too
+		verify(delegate, times(1)).findVulnerabilities(artifact);
+	}
+
+	@Test
+	void offlineUsesExpiredEntriesAndDoesNotCacheMisses() throws RepositoryException, IOException {
+
+		// expired entry
+		doReturn(List.of(vulnerability)).when(delegate).findVulnerabilities(artifact);
+		new CacheFileVulnerabilityFinder(cacheFile, legacyCacheDir, delegate, false, 0L, 0L, logger).findVulnerabilities(artifact);
+		Artifact otherArtifact = new Artifact("org.example", "other", "1.0", "jar");
+
+		CacheFileVulnerabilityFinder finder = new CacheFileVulnerabilityFinder(cacheFile, legacyCacheDir, delegate, true, 0L, 0L, logger);
+
+		assertThat(finder.findVulnerabilities(artifact)).containsExactly(vulnerability);
+		assertThat(finder.findVulnerabilities(otherArtifact)).isEmpty();
+		assertThat(cacheFile.get("org.example:other:1.0:jar")).isNull();
+
+		verify(delegate, times(1)).findVulnerabilities(artifact);
+		verify(delegate, never()).findVulnerabilities(otherArtifact);
+	}
+
+	@Test
+	void importsFreshLegacyCacheFile() throws RepositoryException, IOException {
+
+		File legacyCacheFile = new File(legacyCacheDir, "org.example/lib/1.0.json");
+		VulnerabilityCacheFiles.writeToFile(List.of(vulnerability), legacyCacheFile);
+
+		CacheFileVulnerabilityFinder finder = new CacheFileVulnerabilityFinder(cacheFile, legacyCacheDir, delegate, false, TTL, TTL, logger);
+
+		List<Vulnerability> result = finder.findVulnerabilities(artifact);
+		assertThat(result).containsExactly(vulnerability);
+		assertThat(cacheFile.get("org.example:lib:1.0:jar")).isNotNull();
+
+		verify(delegate, never()).findVulnerabilities(artifact);
+	}
+
+	@Test
+	void ignoresExpiredLegacyCacheFile() throws RepositoryException, IOException {
+
+		File legacyCacheFile = new File(legacyCacheDir, "org.example/lib/1.0.json");
+		VulnerabilityCacheFiles.writeToFile(List.of(vulnerability), legacyCacheFile);
+		assertThat(legacyCacheFile.setLastModified(System.currentTimeMillis() - 2 * TTL)).isTrue();
+
+		CacheFileVulnerabilityFinder finder = new CacheFileVulnerabilityFinder(cacheFile, legacyCacheDir, delegate, false, TTL, TTL, logger);
+		doReturn(List.of()).when(delegate).findVulnerabilities(artifact);
+
+		List<Vulnerability> result = finder.findVulnerabilities(artifact);
+		assertThat(result).isEmpty();
+
+		verify(delegate, times(1)).findVulnerabilities(artifact);
+	}
+
+}
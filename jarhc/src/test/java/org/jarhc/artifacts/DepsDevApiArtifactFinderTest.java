@@ -23,7 +23,10 @@ import static org.mockito.Mockito.doReturn;
 
 import java.net.MalformedURLException;
 import java.net.UnknownHostException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.jarhc.test.log.LoggerBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -98,4 +101,24 @@ class DepsDevApiArtifactFinderTest {
 				.isEmpty();
 	}
 
+	@Test
+	void test_findArtifactsAsync_withUnknownURL() {
+
+		// prepare
+		doReturn("http://unknown").when(settings).getBaseUrl();
+
+		// test
+		CompletableFuture<List<Artifact>> future = artifactFinder.findArtifactsAsync("1234");
+		Exception result = assertThrows(ExecutionException.class, future::get);
+
+		// assert
+		assertThat(result.getCause())
+				.isInstanceOf(RepositoryException.class)
+				.hasMessageStartingWith("Unexpected I/O error for URL: http://unknown/query?")
+				.hasCause(new UnknownHostException("unknown"));
+		assertLogger(logger)
+				.hasWarn("Problem with api.deps.dev. Visit https://deps.dev to check the status of the deps.dev API.")
+				.isEmpty();
+	}
+
 }
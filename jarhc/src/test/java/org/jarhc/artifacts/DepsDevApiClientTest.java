@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import static org.jarhc.test.log.LoggerAssertions.assertLogger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jarhc.test.log.LoggerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class DepsDevApiClientTest {
+
+	private final Logger logger = LoggerBuilder.collect(DepsDevApiClient.class);
+
+	// status codes returned by the stub server, one per request (default: 200)
+	private final Queue<Integer> statusCodes = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger runningRequests = new AtomicInteger();
+	private final AtomicInteger maxRunningRequests = new AtomicInteger();
+	private volatile CountDownLatch responseLatch = new CountDownLatch(0);
+
+	private ExecutorService executor;
+	private HttpServer server;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		executor = Executors.newCachedThreadPool();
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		responseLatch.countDown();
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	@Test
+	void test_downloadText() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(8, 3);
+
+		// test
+		Optional<String> result = client.downloadText(getURL("/text"));
+
+		// assert
+		assertEquals(Optional.of("/text"), result);
+		assertEquals(1, requests.get());
+		assertLogger(logger).isEmpty();
+	}
+
+	@Test
+	void test_downloadText_notFound() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(8, 3);
+		statusCodes.add(404);
+
+		// test
+		Optional<String> result = client.downloadText(getURL("/text"));
+
+		// assert
+		assertEquals(Optional.empty(), result);
+		assertLogger(logger).isEmpty();
+	}
+
+	@Test
+	void test_downloadText_retry() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(8, 3);
+		statusCodes.add(429);
+		statusCodes.add(503);
+
+		// test
+		Optional<String> result = client.downloadText(getURL("/text"));
+
+		// assert
+		assertEquals(Optional.of("/text"), result);
+		assertEquals(3, requests.get());
+		assertLogger(logger)
+				.hasDebug("Retry in 0 ms (status code: 429): " + getURL("/text"))
+				.hasDebug("Retry in 0 ms (status code: 503): " + getURL("/text"))
+				.isEmpty();
+	}
+
+	@Test
+	void test_downloadText_noRetry() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(8, 3);
+		statusCodes.add(400);
+		URL url = getURL("/text");
+
+		// test
+		RepositoryException result = assertThrows(RepositoryException.class, () -> client.downloadText(url));
+
+		// assert
+		assertEquals("Unexpected I/O error for URL: " + url, result.getMessage());
+		assertEquals("Unexpected status code '400' for URL: " + url, result.getCause().getMessage());
+		assertEquals(1, requests.get());
+		assertLogger(logger)
+				.hasWarn("Problem with api.deps.dev. Visit https://deps.dev to check the status of the deps.dev API.")
+				.isEmpty();
+	}
+
+	@Test
+	void test_downloadText_retriesExhausted() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(8, 1);
+		statusCodes.add(500);
+		statusCodes.add(502);
+		URL url = getURL("/text");
+
+		// test
+		RepositoryException result = assertThrows(RepositoryException.class, () -> client.downloadText(url));
+
+		// assert
+		assertEquals("Unexpected status code '502' for URL: " + url, result.getCause().getMessage());
+		assertEquals(2, requests.get());
+		assertLogger(logger)
+				.hasDebug("Retry in 0 ms (status code: 500): " + url)
+				.hasWarn("Problem with api.deps.dev. Visit https://deps.dev to check the status of the deps.dev API.")
+				.isEmpty();
+	}
+
+	@Test
+	void test_downloadText_unknownHost() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(8, 3);
+		URL url = new URL("http://unknown/text");
+
+		// test
+		RepositoryException result = assertThrows(RepositoryException.class, () -> client.downloadText(url));
+
+		// assert
+		assertEquals("Unexpected I/O error for URL: " + url, result.getMessage());
+		assertInstanceOf(UnknownHostException.class, result.getCause());
+		assertEquals("unknown", result.getCause().getMessage());
+	}
+
+	@Test
+	void test_downloadTextAsync_coalescing() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(8, 3);
+		responseLatch = new CountDownLatch(1);
+		URL url = getURL("/text");
+
+		// test
+		CompletableFuture<Optional<String>> future1 = client.downloadTextAsync(url);
+		CompletableFuture<Optional<String>> future2 = client.downloadTextAsync(url);
+		responseLatch.countDown();
+
+		// assert
+		assertEquals(Optional.of("/text"), future1.get(10, TimeUnit.SECONDS));
+		assertEquals(Optional.of("/text"), future2.get(10, TimeUnit.SECONDS));
+		assertEquals(1, requests.get());
+
+		// test: request is sent again after the first one has completed
+		Optional<String> result = client.downloadText(url);
+
+		// assert
+		assertEquals(Optional.of("/text"), result);
+		assertEquals(2, requests.get());
+	}
+
+	@Test
+	void test_downloadTextAsync_maxRequests() throws Exception {
+
+		// prepare
+		DepsDevApiClient client = createClient(2, 3);
+		responseLatch = new CountDownLatch(1);
+
+		// test
+		List<CompletableFuture<Optional<String>>> futures = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			futures.add(client.downloadTextAsync(getURL("/text/" + i)));
+		}
+
+		// assert: only two requests are sent before the first response
+		Thread.sleep(200);
+		assertEquals(2, requests.get());
+		assertFalse(futures.get(0).isDone());
+
+		// test
+		responseLatch.countDown();
+
+		// assert
+		for (int i = 0; i < futures.size(); i++) {
+			assertEquals(Optional.of("/text/" + i), futures.get(i).get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(6, requests.get());
+		assertTrue(maxRunningRequests.get() <= 2);
+	}
+
+	private DepsDevApiClient createClient(int maxRequests, int retries) {
+		DepsDevApiSettings settings = new DepsDevApiSettings("http://localhost:" + server.getAddress().getPort(), 10, Map.of(), maxRequests, retries, 0);
+		return new DepsDevApiClient(logger, settings);
+	}
+
+	private URL getURL(String path) throws IOException {
+		return new URL("http://localhost:" + server.getAddress().getPort() + path);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		int running = runningRequests.incrementAndGet();
+		maxRunningRequests.accumulateAndGet(running, Math::max);
+		try {
+			responseLatch.await(10, TimeUnit.SECONDS);
+			Integer status = statusCodes.poll();
+			if (status != null && status != 200) {
+				exchange.sendResponseHeaders(status, -1);
+				return;
+			}
+			// echo the request path
+			byte[] data = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, data.length);
+			try (OutputStream stream = exchange.getResponseBody()) {
+				stream.write(data);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			runningRequests.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+}
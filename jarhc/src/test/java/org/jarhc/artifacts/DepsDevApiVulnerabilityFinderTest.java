@@ -21,9 +21,20 @@ import static org.jarhc.test.log.LoggerAssertions.assertLogger;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import org.jarhc.test.log.LoggerBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -79,4 +90,68 @@ class DepsDevApiVulnerabilityFinderTest {
 				.isEmpty();
 	}
 
+	@Test
+	void findVulnerabilitiesAsync_withUnknownHost() {
+
+		doReturn("http://unknown").when(settings).getBaseUrl();
+
+		CompletableFuture<List<Vulnerability>> future = finder.findVulnerabilitiesAsync(artifact);
+		Exception result = assertThrows(ExecutionException.class, future::get);
+
+		assertThat(result.getCause())
+				.isInstanceOf(RepositoryException.class)
+				.hasMessageStartingWith("Unexpected I/O error for URL: http://unknown/systems/MAVEN/packages/")
+				.hasCauseInstanceOf(UnknownHostException.class);
+		assertLogger(logger)
+				.hasWarn("Problem with api.deps.dev. Visit https://deps.dev to check the status of the deps.dev API.")
+				.isEmpty();
+	}
+
+	@Test
+	void findVulnerabilitiesAsync_requestsSharedAdvisoryOnlyOnce() throws Exception {
+
+		// prepare: two artifacts affected by the same advisory
+		Queue<String> requests = new ConcurrentLinkedQueue<>();
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			String path = exchange.getRequestURI().getPath();
+			requests.add(path);
+			if (path.startsWith("/advisories/")) {
+				respond(exchange, "{\"title\":\"Shared issue\",\"aliases\":[\"CVE-2020-1234\"]}");
+			} else {
+				respond(exchange, "{\"advisoryKeys\":[{\"id\":\"GHSA-shared\"}]}");
+			}
+		});
+		server.start();
+		try {
+			doReturn("http://localhost:" + server.getAddress().getPort()).when(settings).getBaseUrl();
+			Artifact artifact2 = new Artifact("org.example", "lib2", "2.0", "jar");
+
+			// test
+			CompletableFuture<List<Vulnerability>> future1 = finder.findVulnerabilitiesAsync(artifact);
+			CompletableFuture<List<Vulnerability>> future2 = finder.findVulnerabilitiesAsync(artifact2);
+			List<Vulnerability> result1 = future1.get();
+			List<Vulnerability> result2 = future2.get();
+
+			// assert
+			assertThat(result1).extracting(Vulnerability::getAdvisoryId).containsExactly("GHSA-shared");
+			assertThat(result2).extracting(Vulnerability::getAdvisoryId).containsExactly("GHSA-shared");
+			assertThat(result1.get(0).getTitle()).isEqualTo("Shared issue");
+			assertThat(requests).filteredOn(path -> path.startsWith("/advisories/")).containsExactly("/advisories/GHSA-shared");
+			assertThat(requests).hasSize(3);
+			assertLogger(logger).isEmpty();
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	private static void respond(HttpExchange exchange, String text) throws IOException {
+		byte[] data = text.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, data.length);
+		try (OutputStream stream = exchange.getResponseBody()) {
+			stream.write(data);
+		}
+	}
+
 }
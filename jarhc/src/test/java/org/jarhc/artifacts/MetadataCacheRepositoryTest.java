@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.artifacts;
+
+import static org.jarhc.test.log.LoggerAssertions.assertLogger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.jarhc.pom.Dependency;
+import org.jarhc.pom.Scope;
+import org.jarhc.test.log.LoggerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+class MetadataCacheRepositoryTest {
+
+	private static final long DAY = 24 * 60 * 60 * 1000L;
+
+	private final Logger logger = LoggerBuilder.collect(MetadataCacheRepository.class);
+	private final TestRepository delegate = new TestRepository();
+	private final Artifact artifact = new Artifact("org.example", "lib", "1.0", "jar");
+
+	private CacheFile cacheFile;
+
+	@BeforeEach
+	void setUp(@TempDir Path tempDir) {
+		cacheFile = new CacheFile(tempDir.resolve("metadata.cache").toFile());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		cacheFile.close();
+	}
+
+	@Test
+	void test_getVersions() throws RepositoryException {
+
+		// prepare
+		delegate.versions = List.of(ArtifactVersion.of("1.0"), ArtifactVersion.of("1.1-beta"), ArtifactVersion.of("2.0"));
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, false, DAY, DAY, logger);
+
+		// test
+		List<ArtifactVersion> result1 = repository.getVersions("org.example", "lib");
+		List<ArtifactVersion> result2 = repository.getVersions("org.example", "lib");
+
+		// assert
+		assertEquals(delegate.versions, result1);
+		assertEquals(delegate.versions, result2);
+		assertEquals(List.of("versions:org.example:lib"), delegate.requests);
+		assertLogger(logger)
+				.hasDebug("Metadata found: versions:org.example:lib (cache file)")
+				.isEmpty();
+	}
+
+	@Test
+	void test_getVersions_empty() throws RepositoryException {
+
+		// prepare
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, false, DAY, DAY, logger);
+
+		// test
+		List<ArtifactVersion> result1 = repository.getVersions("org.example", "lib");
+		List<ArtifactVersion> result2 = repository.getVersions("org.example", "lib");
+
+		// assert
+		assertTrue(result1.isEmpty());
+		assertTrue(result2.isEmpty());
+		assertEquals(1, delegate.requests.size());
+	}
+
+	@Test
+	void test_getVersions_expired() throws RepositoryException {
+
+		// prepare
+		delegate.versions = List.of(ArtifactVersion.of("1.0"));
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, false, 0, DAY, logger);
+		repository.getVersions("org.example", "lib");
+		delegate.versions = List.of(ArtifactVersion.of("1.0"), ArtifactVersion.of("1.1"));
+
+		// test
+		List<ArtifactVersion> result = repository.getVersions("org.example", "lib");
+
+		// assert
+		assertEquals(delegate.versions, result);
+		assertEquals(2, delegate.requests.size());
+		assertLogger(logger)
+				.hasDebug("Metadata cache expired: versions:org.example:lib")
+				.isEmpty();
+	}
+
+	@Test
+	void test_getVersions_expired_offline() throws RepositoryException {
+
+		// prepare
+		delegate.versions = List.of(ArtifactVersion.of("1.0"));
+		new MetadataCacheRepository(delegate, cacheFile, false, 0, DAY, logger).getVersions("org.example", "lib");
+		delegate.versions = List.of(ArtifactVersion.of("1.0"), ArtifactVersion.of("1.1"));
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, true, 0, DAY, logger);
+
+		// test
+		List<ArtifactVersion> result = repository.getVersions("org.example", "lib");
+
+		// assert
+		assertEquals(List.of(ArtifactVersion.of("1.0")), result);
+		assertEquals(1, delegate.requests.size());
+	}
+
+	@Test
+	void test_getVersions_offline_notCached() throws RepositoryException {
+
+		// prepare: offline repository finds no versions
+		new MetadataCacheRepository(delegate, cacheFile, true, DAY, DAY, logger).getVersions("org.example", "lib");
+		delegate.versions = List.of(ArtifactVersion.of("1.0"));
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, false, DAY, DAY, logger);
+
+		// test
+		List<ArtifactVersion> result = repository.getVersions("org.example", "lib");
+
+		// assert
+		assertEquals(delegate.versions, result);
+		assertEquals(2, delegate.requests.size());
+		assertLogger(logger).isEmpty();
+	}
+
+	@Test
+	void test_getDependencies() throws RepositoryException {
+
+		// prepare
+		delegate.dependencies = List.of(
+				new Dependency("org.example", "api", "1.0", Scope.COMPILE, false),
+				new Dependency("org.example", "impl", "1.0.1", Scope.RUNTIME, true),
+				new Dependency("javax.servlet", "servlet-api", "2.5", Scope.PROVIDED, false)
+		);
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, false, DAY, DAY, logger);
+
+		// test
+		List<Dependency> result1 = repository.getDependencies(artifact);
+		List<Dependency> result2 = repository.getDependencies(artifact);
+
+		// assert
+		assertEquals(delegate.dependencies, result1);
+		assertEquals(delegate.dependencies, result2);
+		assertEquals(Scope.RUNTIME, result2.get(1).getScope());
+		assertTrue(result2.get(1).isOptional());
+		assertEquals(List.of("dependencies:org.example:lib:1.0"), delegate.requests);
+
+		// list is mutable
+		result2.removeIf(dependency -> dependency.getScope() == Scope.PROVIDED);
+		assertEquals(2, result2.size());
+	}
+
+	@Test
+	void test_getDependencies_error() throws RepositoryException {
+
+		// prepare
+		delegate.exception = new RepositoryException("test");
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, false, DAY, DAY, logger);
+
+		// test
+		assertThrows(RepositoryException.class, () -> repository.getDependencies(artifact));
+		delegate.exception = null;
+		List<Dependency> result = repository.getDependencies(artifact);
+
+		// assert: errors are not cached
+		assertTrue(result.isEmpty());
+		assertEquals(2, delegate.requests.size());
+		assertLogger(logger).isEmpty();
+	}
+
+	@Test
+	void test_getDependencies_offline_notCached() throws RepositoryException {
+
+		// prepare: offline repository finds no dependencies
+		new MetadataCacheRepository(delegate, cacheFile, true, DAY, DAY, logger).getDependencies(artifact);
+		delegate.dependencies = List.of(new Dependency("org.example", "api", "1.0", Scope.COMPILE, false));
+		MetadataCacheRepository repository = new MetadataCacheRepository(delegate, cacheFile, false, DAY, DAY, logger);
+
+		// test
+		List<Dependency> result = repository.getDependencies(artifact);
+
+		// assert
+		assertEquals(delegate.dependencies, result);
+		assertEquals(2, delegate.requests.size());
+	}
+
+	private static class TestRepository implements Repository {
+
+		private final List<String> requests = new ArrayList<>();
+		private List<ArtifactVersion> versions = List.of();
+		private List<Dependency> dependencies = List.of();
+		private RepositoryException exception;
+
+		@Override
+		public List<Artifact> findArtifacts(String checksum) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Optional<InputStream> downloadArtifact(Artifact artifact) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<ArtifactVersion> getVersions(String groupId, String artifactId) throws RepositoryException {
+			requests.add("versions:" + groupId + ":" + artifactId);
+			if (exception != null) throw exception;
+			return new ArrayList<>(versions);
+		}
+
+		@Override
+		public List<Dependency> getDependencies(Artifact artifact) throws RepositoryException {
+			requests.add("dependencies:" + artifact.toCoordinates());
+			if (exception != null) throw exception;
+			return new ArrayList<>(dependencies);
+		}
+
+	}
+
+}
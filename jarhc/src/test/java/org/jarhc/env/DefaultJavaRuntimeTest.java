@@ -17,9 +17,11 @@
 package org.jarhc.env;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.jarhc.Main;
 import org.jarhc.model.ClassDef;
@@ -182,4 +184,34 @@ class DefaultJavaRuntimeTest {
 
 	}
 
+	@Test
+	void test_getClassDef_moduleInfo() {
+
+		// prepare
+		JavaRuntime javaRuntime = new DefaultJavaRuntime(logger);
+
+		// test
+		ClassDef result = javaRuntime.getClassDef("java.sql.Connection");
+
+		// assert
+		assertNotNull(result);
+		assertEquals("java.sql", result.getModuleInfo().getModuleName());
+		assertTrue(result.getModuleInfo().isExported("java.sql", "UNNAMED"));
+
+	}
+
+	@Test
+	void test_containsPackage() {
+
+		// prepare
+		JavaRuntime javaRuntime = new DefaultJavaRuntime(logger);
+
+		// test and assert
+		assertTrue(javaRuntime.containsPackage("java.lang"));
+		assertTrue(javaRuntime.containsPackage("sun.misc"));
+		assertFalse(javaRuntime.containsPackage("u"));
+		assertFalse(javaRuntime.containsPackage("org.jarhc"));
+
+	}
+
 }
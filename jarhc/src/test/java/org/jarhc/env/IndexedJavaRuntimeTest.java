@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.jarhc.Main;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.ModuleInfo;
+import org.jarhc.test.log.LoggerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+class IndexedJavaRuntimeTest {
+
+	@TempDir
+	static Path tempDir;
+
+	private static RuntimeIndex runtimeIndex;
+
+	private final Logger logger = LoggerBuilder.reject(DefaultJavaRuntime.class);
+
+	@BeforeAll
+	static void setUp() throws IOException {
+		// create index for Java runtime used to run the tests
+		File indexDir = tempDir.resolve("runtime").toFile();
+		RuntimeIndexStore store = new RuntimeIndexStore(indexDir, new RuntimeIndexBuilder(LoggerBuilder.collect(RuntimeIndexBuilder.class)), LoggerBuilder.reject(RuntimeIndexStore.class));
+		runtimeIndex = store.getRuntimeIndex(new File(System.getProperty("java.home")));
+	}
+
+	@Test
+	void test_runtime() {
+
+		// prepare
+		JavaRuntime javaRuntime = new IndexedJavaRuntime(runtimeIndex);
+
+		// test and assert
+		assertEquals(System.getProperty("java.runtime.name"), javaRuntime.getName());
+		assertEquals(System.getProperty("java.version"), javaRuntime.getJavaVersion());
+		assertEquals(System.getProperty("java.vendor"), javaRuntime.getJavaVendor());
+		assertEquals(System.getProperty("java.home"), javaRuntime.getJavaHome());
+	}
+
+	@Test
+	void test_getClassDef_sameAsDefaultJavaRuntime() {
+
+		// prepare
+		JavaRuntime javaRuntime = new IndexedJavaRuntime(runtimeIndex);
+		JavaRuntime defaultJavaRuntime = new DefaultJavaRuntime(logger);
+
+		for (String className : new String[] { "java.lang.String", "java.util.ArrayList", "java.lang.Deprecated", "jdk.internal.misc.Unsafe", "sun.misc.Unsafe", "java.sql.Connection" }) {
+
+			// test
+			ClassDef result = javaRuntime.getClassDef(className);
+
+			// assert
+			ClassDef expected = defaultJavaRuntime.getClassDef(className);
+			assertNotNull(result, className);
+			assertEquals(expected.getAccess(), result.getAccess(), className);
+			assertEquals(expected.getSuperName(), result.getSuperName(), className);
+			assertEquals(expected.getInterfaceNames(), result.getInterfaceNames(), className);
+			assertEquals(expected.getClassFileChecksum(), result.getClassFileChecksum(), className);
+			assertEquals(expected.getClassLoader(), result.getClassLoader(), className);
+			assertEquals(expected.getApiDescription(), result.getApiDescription(), className);
+			assertEquals(expected.getMethodDefs().size(), result.getMethodDefs().size(), className);
+			for (MethodDef methodDef : expected.getMethodDefs()) {
+				MethodDef resultMethodDef = result.getMethodDef(methodDef.getMethodName(), methodDef.getMethodDescriptor());
+				assertNotNull(resultMethodDef, methodDef.getDisplayName());
+				assertEquals(methodDef.getAccess(), resultMethodDef.getAccess(), methodDef.getDisplayName());
+			}
+
+			ModuleInfo expectedModuleInfo = expected.getModuleInfo();
+			ModuleInfo moduleInfo = result.getModuleInfo();
+			assertEquals(expectedModuleInfo.getModuleName(), moduleInfo.getModuleName(), className);
+			assertEquals(expectedModuleInfo.getPackages().size(), moduleInfo.getPackages().size(), className);
+			for (String packageName : expectedModuleInfo.getExports()) {
+				assertEquals(expectedModuleInfo.getExportsTargets(packageName), moduleInfo.getExportsTargets(packageName), packageName);
+			}
+		}
+	}
+
+	@Test
+	void test_getClassDef_Unknown() {
+
+		// prepare
+		JavaRuntime javaRuntime = new IndexedJavaRuntime(runtimeIndex);
+
+		// test
+		ClassDef result = javaRuntime.getClassDef("u.Unknown");
+
+		// assert
+		assertNull(result);
+	}
+
+	@Test
+	void test_getClassDef_Main() {
+
+		// prepare
+		JavaRuntime javaRuntime = new IndexedJavaRuntime(runtimeIndex);
+
+		// test
+		ClassDef result = javaRuntime.getClassDef(Main.class.getName());
+
+		// assert
+		assertNull(result);
+	}
+
+	@Test
+	void test_getClassDef_Integer_cached() {
+
+		// prepare
+		JavaRuntime javaRuntime = new IndexedJavaRuntime(runtimeIndex);
+
+		// test
+		ClassDef result = javaRuntime.getClassDef("java.lang.Integer");
+		ClassDef result2 = javaRuntime.getClassDef("java.lang.Integer");
+
+		// assert
+		assertNotNull(result);
+		assertEquals("java.lang.Integer", result.getClassName());
+		assertSame(result, result2);
+	}
+
+	@Test
+	void test_containsPackage() {
+
+		// prepare
+		JavaRuntime javaRuntime = new IndexedJavaRuntime(runtimeIndex);
+
+		// test and assert
+		assertTrue(javaRuntime.containsPackage("java.lang"));
+		assertTrue(javaRuntime.containsPackage("jdk.internal.misc"));
+		assertFalse(javaRuntime.containsPackage("org.jarhc"));
+		assertFalse(javaRuntime.containsPackage("u"));
+	}
+
+}
@@ -17,7 +17,9 @@
 package org.jarhc.env;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
@@ -70,4 +72,36 @@ class ModuleSystemRuntimeTest {
 		assertTrue(result.isOpen("sun.misc", "UNNAMED"));
 	}
 
+	@Test
+	void findModuleInfo_unknownClass() {
+
+		// test
+		ModuleInfo result = runtime.findModuleInfo("u.Unknown");
+
+		// assert
+		assertSame(ModuleInfo.UNNAMED, result);
+	}
+
+	@Test
+	void findModuleInfo_applicationModule() {
+
+		// test: jdk.compiler is defined to the application class loader
+		ModuleInfo result = runtime.findModuleInfo("com.sun.tools.javac.Main");
+
+		// assert
+		assertSame(ModuleInfo.UNNAMED, result);
+	}
+
+	@Test
+	void containsPackage() {
+
+		// test and assert
+		assertTrue(runtime.containsPackage("java.lang"));
+		assertTrue(runtime.containsPackage("java.sql"));
+		assertTrue(runtime.containsPackage("jdk.internal.misc"));
+		assertFalse(runtime.containsPackage("com.sun.tools.javac"));
+		assertFalse(runtime.containsPackage("org.jarhc"));
+		assertFalse(runtime.containsPackage(""));
+	}
+
 }
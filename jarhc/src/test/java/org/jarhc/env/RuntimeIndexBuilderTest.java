@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RuntimeIndexBuilderTest {
+
+	@Test
+	void getBootAndPlatformModules() throws IOException {
+
+		// prepare: runtime image of Java runtime used to run the tests
+		URI uri = URI.create("jrt:/");
+		Map<String, String> env = Map.of("java.home", System.getProperty("java.home"));
+		try (FileSystem fileSystem = FileSystems.newFileSystem(uri, env)) {
+
+			// test
+			Set<String> moduleNames = RuntimeIndexBuilder.getBootAndPlatformModules(fileSystem);
+
+			// assert: same class loaders as in the running JVM
+			assertTrue(moduleNames.contains("java.base"));
+			assertTrue(moduleNames.contains("java.sql"));
+			assertFalse(moduleNames.contains("jdk.compiler"));
+			for (Module module : ModuleLayer.boot().modules()) {
+				boolean applicationModule = module.getClassLoader() == ClassLoader.getSystemClassLoader();
+				assertEquals(!applicationModule, moduleNames.contains(module.getName()), module.getName());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.jarhc.test.log.LoggerBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+class RuntimeIndexStoreTest {
+
+	private final Logger logger = LoggerBuilder.collect(RuntimeIndexStore.class);
+
+	@Test
+	void test_getRuntimeIndex(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File indexDir = tempDir.resolve("runtime").toFile();
+		File javaHome = createJavaHome(tempDir);
+		TestBuilder builder = new TestBuilder();
+		RuntimeIndexStore store = new RuntimeIndexStore(indexDir, builder, logger);
+
+		// test
+		RuntimeIndex runtimeIndex1 = store.getRuntimeIndex(javaHome);
+		RuntimeIndex runtimeIndex2 = store.getRuntimeIndex(javaHome);
+
+		// assert
+		assertEquals("Test Runtime", runtimeIndex1.getName());
+		assertNotNull(runtimeIndex2.findClassDef("a.A"));
+		assertEquals(1, builder.count);
+		assertEquals(1, countFiles(indexDir));
+	}
+
+	@Test
+	void test_getRuntimeIndex_releaseChanged(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File indexDir = tempDir.resolve("runtime").toFile();
+		File javaHome = createJavaHome(tempDir);
+		TestBuilder builder = new TestBuilder();
+		RuntimeIndexStore store = new RuntimeIndexStore(indexDir, builder, logger);
+		store.getRuntimeIndex(javaHome);
+
+		// simulate update of Java installation
+		Files.write(javaHome.toPath().resolve("release"), "JAVA_VERSION=\"11.0.3\"".getBytes(StandardCharsets.UTF_8));
+
+		// test
+		store.getRuntimeIndex(javaHome);
+
+		// assert
+		assertEquals(2, builder.count);
+		assertEquals(2, countFiles(indexDir));
+	}
+
+	@Test
+	void test_getRuntimeIndex_corruptFile(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File indexDir = tempDir.resolve("runtime").toFile();
+		File javaHome = createJavaHome(tempDir);
+		TestBuilder builder = new TestBuilder();
+		RuntimeIndexStore store = new RuntimeIndexStore(indexDir, builder, logger);
+		store.getRuntimeIndex(javaHome);
+		File[] files = indexDir.listFiles();
+		assertNotNull(files);
+		Files.write(files[0].toPath(), "corrupt".getBytes(StandardCharsets.UTF_8));
+
+		// test
+		RuntimeIndex runtimeIndex = store.getRuntimeIndex(javaHome);
+
+		// assert
+		assertEquals("Test Runtime", runtimeIndex.getName());
+		assertEquals(2, builder.count);
+		assertEquals(1, countFiles(indexDir));
+	}
+
+	@Test
+	void test_getRuntimeIndex_buildFailed(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File indexDir = tempDir.resolve("runtime").toFile();
+		File javaHome = createJavaHome(tempDir);
+		RuntimeIndexBuilder builder = new RuntimeIndexBuilder() {
+			@Override
+			public void build(File javaHome, OutputStream stream) throws IOException {
+				throw new IOException("test");
+			}
+		};
+		RuntimeIndexStore store = new RuntimeIndexStore(indexDir, builder, logger);
+
+		// test
+		IOException exception = assertThrows(IOException.class, () -> store.getRuntimeIndex(javaHome));
+
+		// assert
+		assertEquals("test", exception.getMessage());
+		assertEquals(0, countFiles(indexDir));
+	}
+
+	private static File createJavaHome(Path tempDir) throws IOException {
+		Path javaHome = tempDir.resolve("java");
+		Files.createDirectories(javaHome.resolve("lib"));
+		Files.write(javaHome.resolve("lib/modules"), new byte[100]);
+		Files.write(javaHome.resolve("release"), "JAVA_VERSION=\"11.0.2\"".getBytes(StandardCharsets.UTF_8));
+		return javaHome.toFile();
+	}
+
+	private static int countFiles(File directory) {
+		File[] files = directory.listFiles();
+		return files == null ? 0 : files.length;
+	}
+
+	private static class TestBuilder extends RuntimeIndexBuilder {
+
+		private int count = 0;
+
+		@Override
+		public void build(File javaHome, OutputStream stream) throws IOException {
+			count++;
+			stream.write(RuntimeIndexTest.createIndex());
+		}
+
+	}
+
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.env;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.jarhc.model.AnnotationRef;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.ModuleInfo;
+import org.jarhc.model.RecordComponentDef;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RuntimeIndexTest {
+
+	@Test
+	void test_findClassDef() throws IOException {
+
+		// prepare
+		RuntimeIndex runtimeIndex = new RuntimeIndex(ByteBuffer.wrap(createIndex()));
+
+		// test
+		ClassDef classDef = runtimeIndex.findClassDef("a.A");
+
+		// assert
+		assertNotNull(classDef);
+		assertEquals("a.A", classDef.getClassName());
+		assertEquals(0x0021, classDef.getAccess());
+		assertEquals("a.B", classDef.getSuperName());
+		assertEquals(List.of("a.I", "a.J"), classDef.getInterfaceNames());
+		assertEquals(55, classDef.getMajorClassVersion());
+		assertEquals("Runtime", classDef.getClassLoader());
+		assertEquals("1234567890abcdef1234567890abcdef12345678", classDef.getClassFileChecksum());
+		assertEquals(1, classDef.getAnnotationRefs().size());
+		assertEquals("java.lang.Deprecated", classDef.getAnnotationRefs().get(0).getClassName());
+
+		assertEquals(1, classDef.getFieldDefs().size());
+		FieldDef fieldDef = classDef.getFieldDef("value");
+		assertEquals(0x0002, fieldDef.getAccess());
+		assertEquals("int", fieldDef.getFieldType());
+		assertSame(classDef, fieldDef.getClassDef());
+
+		assertEquals(2, classDef.getMethodDefs().size());
+		MethodDef methodDef = classDef.getMethodDef("run", "(Ljava/lang/String;)V");
+		assertNotNull(methodDef);
+		assertEquals(0x0009, methodDef.getAccess());
+		assertEquals(AnnotationRef.Target.METHOD, methodDef.getAnnotationRefs().get(0).getTarget());
+
+		assertEquals(1, classDef.getRecordComponentDefs().size());
+		assertEquals("value", classDef.getRecordComponentDefs().get(0).getName());
+
+		ModuleInfo moduleInfo = classDef.getModuleInfo();
+		assertEquals("a.module", moduleInfo.getModuleName());
+		assertSame(moduleInfo, runtimeIndex.findClassDef("a.B").getModuleInfo());
+	}
+
+	@Test
+	void test_findClassDef_newInstance() throws IOException {
+
+		// prepare
+		RuntimeIndex runtimeIndex = new RuntimeIndex(ByteBuffer.wrap(createIndex()));
+
+		// test
+		ClassDef classDef1 = runtimeIndex.findClassDef("a.B");
+		ClassDef classDef2 = runtimeIndex.findClassDef("a.B");
+
+		// assert
+		assertNotSame(classDef1, classDef2);
+		assertEquals(classDef1.getClassFileChecksum(), classDef2.getClassFileChecksum());
+	}
+
+	@Test
+	void test_findClassDef_unnamedModule() throws IOException {
+
+		// prepare
+		RuntimeIndex runtimeIndex = new RuntimeIndex(ByteBuffer.wrap(createIndex()));
+
+		// test
+		ClassDef classDef = runtimeIndex.findClassDef("x.X");
+
+		// assert
+		assertNotNull(classDef);
+		assertTrue(classDef.getModuleInfo().isUnnamed());
+		assertNull(classDef.getSuperName());
+	}
+
+	@Test
+	void test_findClassDef_notFound() throws IOException {
+
+		// prepare
+		RuntimeIndex runtimeIndex = new RuntimeIndex(ByteBuffer.wrap(createIndex()));
+
+		// test and assert
+		assertNull(runtimeIndex.findClassDef("a.C"));
+		assertNull(runtimeIndex.findClassDef("0.First"));
+		assertNull(runtimeIndex.findClassDef("z.Last"));
+		assertNull(runtimeIndex.findClassDef(""));
+	}
+
+	@Test
+	void test_runtime() throws IOException {
+
+		// prepare
+		RuntimeIndex runtimeIndex = new RuntimeIndex(ByteBuffer.wrap(createIndex()));
+
+		// test and assert
+		assertEquals("Test Runtime", runtimeIndex.getName());
+		assertEquals("11.0.2", runtimeIndex.getJavaVersion());
+		assertEquals("Test Vendor", runtimeIndex.getJavaVendor());
+		assertEquals("/path/to/java", runtimeIndex.getJavaHome());
+		assertEquals(4, runtimeIndex.getClassCount());
+	}
+
+	@Test
+	void test_moduleInfos() throws IOException {
+
+		// prepare
+		RuntimeIndex runtimeIndex = new RuntimeIndex(ByteBuffer.wrap(createIndex()));
+
+		// test
+		List<ModuleInfo> moduleInfos = runtimeIndex.getModuleInfos();
+
+		// assert
+		assertEquals(1, moduleInfos.size());
+		ModuleInfo moduleInfo = moduleInfos.get(0);
+		assertEquals("a.module", moduleInfo.getModuleName());
+		assertEquals(List.of("a", "a.internal"), moduleInfo.getPackages());
+		assertEquals(List.of("java.base"), moduleInfo.getRequires());
+		assertTrue(moduleInfo.isExported("a", "any.module"));
+		assertNull(moduleInfo.getExportsTargets("a"));
+		assertEquals(Set.of("b.module"), moduleInfo.getExportsTargets("a.internal"));
+		assertTrue(moduleInfo.isExported("a.internal", "b.module"));
+		assertFalse(moduleInfo.isExported("a.internal", "c.module"));
+		assertEquals(List.of("a"), moduleInfo.getOpens());
+
+		assertTrue(runtimeIndex.containsPackage("a"));
+		assertTrue(runtimeIndex.containsPackage("a.internal"));
+		assertFalse(runtimeIndex.containsPackage("x"));
+	}
+
+	@Test
+	void test_open(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = tempDir.resolve("runtime.idx").toFile();
+		Files.write(file.toPath(), createIndex());
+
+		// test
+		RuntimeIndex runtimeIndex = RuntimeIndex.open(file);
+
+		// assert
+		assertEquals("Test Runtime", runtimeIndex.getName());
+		assertNotNull(runtimeIndex.findClassDef("a.I"));
+	}
+
+	@Test
+	void test_unknownFormat() {
+
+		// prepare
+		byte[] data = createIndex();
+		data[0] = 'X';
+
+		// test
+		IOException exception = assertThrows(IOException.class, () -> new RuntimeIndex(ByteBuffer.wrap(data)));
+
+		// assert
+		assertEquals("Unknown file format.", exception.getMessage());
+	}
+
+	@Test
+	void test_unsupportedFormatVersion() {
+
+		// prepare
+		byte[] data = createIndex();
+		data[7] = 99;
+
+		// test
+		IOException exception = assertThrows(IOException.class, () -> new RuntimeIndex(ByteBuffer.wrap(data)));
+
+		// assert
+		assertEquals("Unsupported format version: 99", exception.getMessage());
+	}
+
+	static byte[] createIndex() {
+
+		ModuleInfo moduleInfo = ModuleInfo.forModuleName("a.module")
+				.addPackage("a")
+				.addPackage("a.internal")
+				.addRequires("java.base")
+				.addExports("a")
+				.addExports("a.internal", "b.module")
+				.addOpens("a");
+
+		ClassDef classDefA = ClassDef.forClassName("a.A")
+				.setSuperName("a.B")
+				.addInterfaceName("a.I")
+				.addInterfaceName("a.J")
+				.setMajorClassVersion(55)
+				.setClassLoader("Runtime")
+				.setClassFileChecksum("1234567890abcdef1234567890abcdef12345678")
+				.withAccess(0x0021);
+		classDefA.addAnnotationRef(new AnnotationRef("java.lang.Deprecated", AnnotationRef.Target.TYPE));
+		classDefA.addFieldDef(new FieldDef(0x0002, "value", "int"));
+		classDefA.addMethodDef(new MethodDef(0x0001, "<init>", "()V"));
+		MethodDef methodDef = new MethodDef(0x0009, "run", "(Ljava/lang/String;)V");
+		methodDef.addAnnotationRef(new AnnotationRef("a.Test", AnnotationRef.Target.METHOD));
+		classDefA.addMethodDef(methodDef);
+		classDefA.addRecordComponentDef(new RecordComponentDef("value", "int"));
+		classDefA.setModuleInfo(moduleInfo);
+
+		ClassDef classDefB = ClassDef.forClassName("a.B");
+		classDefB.setModuleInfo(moduleInfo);
+		ClassDef classDefI = ClassDef.forClassName("a.I");
+		classDefI.setModuleInfo(moduleInfo);
+		ClassDef classDefX = ClassDef.forClassName("x.X").setSuperName(null);
+
+		RuntimeIndex.Writer writer = new RuntimeIndex.Writer();
+		writer.setRuntime("Test Runtime", "11.0.2", "Test Vendor", "/path/to/java");
+		writer.addModuleInfo(moduleInfo);
+		writer.addClassDef(classDefX);
+		writer.addClassDef(classDefI);
+		writer.addClassDef(classDefA);
+		writer.addClassDef(classDefB);
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try {
+			writer.write(stream);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		return stream.toByteArray();
+	}
+
+}
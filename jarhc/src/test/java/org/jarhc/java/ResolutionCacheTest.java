@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.Classpath;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.FieldRef;
+import org.jarhc.model.JarFile;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.MethodRef;
+import org.junit.jupiter.api.Test;
+
+class ResolutionCacheTest {
+
+	private final Classpath classpath = createClasspath();
+
+	@Test
+	void test_getMethodDef() {
+
+		// prepare
+		MethodRef methodRef = new MethodRef("a.A", "()V", "run", false, false);
+		TraceCallback callback1 = new TraceCallback();
+		TraceCallback callback2 = new TraceCallback();
+
+		// test
+		MethodDef methodDef1 = classpath.getMethodDef(methodRef, callback1);
+		MethodDef methodDef2 = classpath.getMethodDef(methodRef, callback2);
+
+		// assert
+		assertNotNull(methodDef1);
+		assertSame(methodDef1, methodDef2);
+		assertEquals("[member not found: a.A, member not found: a.I, class not found: java.lang.Object, member found: a.B]", callback1.trace.toString());
+		assertEquals(callback1.trace, callback2.trace);
+
+		ResolutionCache cache = classpath.getResolutionCache();
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(0.5, cache.getHitRate());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void test_getMethodDef_notFound() {
+
+		// prepare
+		MethodRef methodRef = new MethodRef("a.A", "()V", "unknown", false, false);
+		TraceCallback callback1 = new TraceCallback();
+		TraceCallback callback2 = new TraceCallback();
+
+		// test
+		MethodDef methodDef1 = classpath.getMethodDef(methodRef, callback1);
+		MethodDef methodDef2 = classpath.getMethodDef(methodRef, callback2);
+
+		// assert
+		assertNull(methodDef1);
+		assertNull(methodDef2);
+		assertEquals("[member not found: a.A, member not found: a.I, class not found: java.lang.Object, member not found: a.B]", callback1.trace.toString());
+		assertEquals(callback1.trace, callback2.trace);
+		assertEquals(1, classpath.getResolutionCache().getHits());
+	}
+
+	@Test
+	void test_getMethodDef_differentDescriptor() {
+
+		// prepare
+		MethodRef methodRef1 = new MethodRef("a.A", "()V", "run", false, false);
+		MethodRef methodRef2 = new MethodRef("a.A", "(I)V", "run", false, false);
+
+		// test
+		MethodDef methodDef1 = classpath.getMethodDef(methodRef1);
+		MethodDef methodDef2 = classpath.getMethodDef(methodRef2);
+
+		// assert
+		assertNotNull(methodDef1);
+		assertNull(methodDef2);
+		assertEquals(0, classpath.getResolutionCache().getHits());
+		assertEquals(2, classpath.getResolutionCache().getMisses());
+	}
+
+	@Test
+	void test_getFieldDef() {
+
+		// prepare
+		FieldRef fieldRef = new FieldRef("a.A", "I", "value", false, false);
+		TraceCallback callback1 = new TraceCallback();
+		TraceCallback callback2 = new TraceCallback();
+
+		// test
+		FieldDef fieldDef1 = classpath.getFieldDef(fieldRef, callback1);
+		FieldDef fieldDef2 = classpath.getFieldDef(fieldRef, callback2);
+
+		// assert
+		assertNotNull(fieldDef1);
+		assertSame(fieldDef1, fieldDef2);
+		assertEquals("[member not found: a.A, member found: a.I]", callback1.trace.toString());
+		assertEquals(callback1.trace, callback2.trace);
+		assertEquals(1, classpath.getResolutionCache().getHits());
+	}
+
+	@Test
+	void test_getHitRate_noLookups() {
+		ResolutionCache cache = new ResolutionCache();
+		assertEquals(0.0, cache.getHitRate());
+	}
+
+	private static Classpath createClasspath() {
+		ClassDef classDefA = ClassDef.forClassName("a.A").setSuperName("a.B").addInterfaceName("a.I");
+		ClassDef classDefB = ClassDef.forClassName("a.B").setSuperName("java.lang.Object");
+		classDefB.addMethodDef(new MethodDef(1, "run", "()V"));
+		ClassDef classDefI = ClassDef.forClassName("a.I");
+		classDefI.addFieldDef(new FieldDef(9, "value", "I"));
+		JarFile jarFile = JarFile.withName("a.jar").withClassDef(classDefA).withClassDef(classDefB).withClassDef(classDefI).build();
+		return new Classpath(List.of(jarFile), null, ClassLoaderStrategy.ParentLast);
+	}
+
+	private static class TraceCallback implements ClassLoader.Callback {
+
+		private final List<String> trace = new ArrayList<>();
+
+		@Override
+		public void classNotFound(String className) {
+			trace.add("class not found: " + className);
+		}
+
+		@Override
+		public void memberNotFound(String className) {
+			trace.add("member not found: " + className);
+		}
+
+		@Override
+		public void memberFound(String className) {
+			trace.add("member found: " + className);
+		}
+
+	}
+
+}
@@ -18,7 +18,9 @@ package org.jarhc.loader;
 
 import static org.jarhc.model.AnnotationRef.Target;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -28,6 +30,8 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.jarhc.TestUtils;
 import org.jarhc.model.ClassDef;
 import org.jarhc.model.ClassRef;
@@ -296,7 +300,119 @@ class ClassDefLoaderTest {
 		assertEquals("Java 8", classDef.getJavaVersion());
 	}
 
+	@Test
+	void test_load_lazyMemberDefs() throws IOException {
+
+		// prepare
+		ClassDefLoader eagerLoader = LoaderBuilder.create().scanForReferences(false).buildClassDefLoader();
+		ClassDefLoader lazyLoader = LoaderBuilder.create().scanForReferences(false).lazyMemberDefs(true).buildClassDefLoader();
+		assertFalse(eagerLoader.isLazyMemberDefs());
+		assertTrue(lazyLoader.isLazyMemberDefs());
+
+		String[] resources = {
+				"/org/jarhc/loader/ClassDefLoaderTest/java6/ClassRefs.class",
+				"/org/jarhc/loader/ClassDefLoaderTest/java9/AnnotationRefs.class",
+				"/org/jarhc/loader/ClassDefLoaderTest/java9/AnnotationRefs$MyAnnotation.class",
+				"/org/jarhc/loader/ClassDefLoaderTest/java16/Record.class",
+				"/org/jarhc/loader/ClassDefLoaderTest/java17/SealedParent.class",
+				"/org/jarhc/loader/ClassDefLoaderTest/java17/FinalChild.class",
+				"/java/lang/String.class",
+				"/java/util/HashMap.class",
+				"/java/util/concurrent/ConcurrentHashMap.class"
+		};
+
+		for (String resource : resources) {
+
+			// test
+			ClassDef expectedClassDef = loadClass(eagerLoader, resource);
+			ClassDef classDef = loadClass(lazyLoader, resource);
+
+			// assert: header
+			boolean hasMemberDefs = !expectedClassDef.getMethodDefs().isEmpty() || !expectedClassDef.getFieldDefs().isEmpty();
+			assertEquals(!hasMemberDefs, classDef.isMemberDefsLoaded(), resource);
+			assertEquals(expectedClassDef.getClassName(), classDef.getClassName(), resource);
+			assertEquals(expectedClassDef.getModifiers(), classDef.getModifiers(), resource);
+			assertEquals(expectedClassDef.getSuperName(), classDef.getSuperName(), resource);
+			assertEquals(expectedClassDef.getInterfaceNames(), classDef.getInterfaceNames(), resource);
+			assertEquals(expectedClassDef.getPermittedSubclassNames(), classDef.getPermittedSubclassNames(), resource);
+			assertEquals(expectedClassDef.getMajorClassVersion(), classDef.getMajorClassVersion(), resource);
+			assertEquals(expectedClassDef.getClassFileChecksum(), classDef.getClassFileChecksum(), resource);
+			assertEquals(expectedClassDef.getAnnotationRefs(), classDef.getAnnotationRefs(), resource);
+			assertEquals(expectedClassDef.getClassRefs(), classDef.getClassRefs(), resource);
+			assertEquals(!hasMemberDefs, classDef.isMemberDefsLoaded(), resource);
+
+			// assert: record components, fields, and methods
+			assertEquals(expectedClassDef.getApiDescription(), classDef.getApiDescription(), resource);
+			assertTrue(classDef.isMemberDefsLoaded(), resource);
+			assertEquals(expectedClassDef.getFieldDefs().size(), classDef.getFieldDefs().size(), resource);
+			assertEquals(expectedClassDef.getMethodDefs().size(), classDef.getMethodDefs().size(), resource);
+			for (MethodDef methodDef : classDef.getMethodDefs()) {
+				assertSame(classDef, methodDef.getClassDef(), resource);
+				assertSame(methodDef, classDef.getMethodDef(methodDef.getMethodName(), methodDef.getMethodDescriptor()), resource);
+			}
+			for (FieldDef fieldDef : classDef.getFieldDefs()) {
+				assertSame(classDef, fieldDef.getClassDef(), resource);
+				assertSame(fieldDef, classDef.getFieldDef(fieldDef.getFieldName()), resource);
+			}
+		}
+	}
+
+	@Test
+	void test_load_lazyMemberDefs_getMethodDef() throws IOException {
+
+		// prepare
+		ClassDefLoader lazyLoader = LoaderBuilder.create().scanForReferences(false).lazyMemberDefs(true).buildClassDefLoader();
+		ClassDef classDef = loadClass(lazyLoader, "/org/jarhc/loader/ClassDefLoaderTest/java16/Record.class");
+
+		// test
+		MethodDef methodDef = classDef.getMethodDef("name", "()Ljava/lang/String;");
+
+		// assert
+		assertNotNull(methodDef);
+		assertTrue(classDef.isMemberDefsLoaded());
+		assertEquals(3, classDef.getRecordComponentDefs().size());
+		assertEquals(3, classDef.getFieldDefs().size());
+		assertEquals(7, classDef.getMethodDefs().size());
+	}
+
+	@Test
+	void test_load_lazyMemberDefs_concurrentAccess() throws Exception {
+
+		// prepare
+		ClassDefLoader lazyLoader = LoaderBuilder.create().scanForReferences(false).lazyMemberDefs(true).buildClassDefLoader();
+		int expectedMethodsCount = loadClass(lazyLoader, "/java/util/HashMap.class").getMethodDefs().size();
+
+		for (int i = 0; i < 20; i++) {
+			ClassDef classDef = loadClass(lazyLoader, "/java/util/HashMap.class");
+
+			// test
+			List<Integer> counts = IntStream.range(0, 8).parallel()
+					.mapToObj(t -> classDef.getMethodDefs().size())
+					.collect(Collectors.toList());
+
+			// assert
+			for (int count : counts) {
+				assertEquals(expectedMethodsCount, count);
+			}
+			assertNotNull(classDef.getMethodDef("get", "(Ljava/lang/Object;)Ljava/lang/Object;"));
+		}
+	}
+
+	@Test
+	void test_load_lazyMemberDefs_scanForReferences() {
+
+		// test
+		ClassDefLoader loader = LoaderBuilder.create().scanForReferences(true).lazyMemberDefs(true).buildClassDefLoader();
+
+		// assert
+		assertFalse(loader.isLazyMemberDefs());
+	}
+
 	private ClassDef loadClass(String resource) throws IOException {
+		return loadClass(classDefLoader, resource);
+	}
+
+	private static ClassDef loadClass(ClassDefLoader classDefLoader, String resource) throws IOException {
 		try (InputStream stream = TestUtils.getResourceAsStream(resource)) {
 			return classDefLoader.load(stream);
 		}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.jarhc.TestUtils;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.JarFile;
+import org.jarhc.model.ModuleInfo;
+import org.jarhc.utils.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JarFileCacheTest {
+
+	private final JarFileLoader jarFileLoader = LoaderBuilder.create().buildJarFileLoader();
+
+	@Test
+	void test_get_notFound(@TempDir Path tempDir) {
+
+		// prepare
+		JarFileCache cache = new JarFileCache(tempDir.toFile(), JarFileCache.DEFAULT_MAX_SIZE);
+
+		// test
+		List<JarFile> jarFiles = cache.get("unknown", "unknown.jar");
+
+		// assert
+		assertNull(jarFiles);
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	void test_put_and_get(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/loader/JarFileLoaderTest/c.jar", tempDir);
+		List<JarFile> expectedJarFiles = jarFileLoader.load(file);
+		File cacheDir = new File(tempDir.toFile(), "cache");
+		JarFileCache cache = new JarFileCache(cacheDir, JarFileCache.DEFAULT_MAX_SIZE);
+
+		// test
+		cache.put("key", "c.jar", expectedJarFiles);
+		List<JarFile> jarFiles = cache.get("key", "c.jar");
+
+		// assert
+		assertTrue(new File(cacheDir, "key.bin").isFile());
+		assertNotNull(jarFiles);
+		assertEquals(1, jarFiles.size());
+		assertJarFile(expectedJarFiles.get(0), jarFiles.get(0));
+		assertEquals(1, cache.getHits());
+		assertEquals(0, cache.getMisses());
+	}
+
+	@Test
+	void test_put_and_get_jar_in_jar(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/loader/JarFileLoaderTest/x.jar", tempDir);
+		List<JarFile> expectedJarFiles = jarFileLoader.load(file);
+		JarFileCache cache = new JarFileCache(tempDir.toFile(), JarFileCache.DEFAULT_MAX_SIZE);
+
+		// test
+		cache.put("key", "x.jar", expectedJarFiles);
+		List<JarFile> jarFiles = cache.get("key", "renamed.jar");
+
+		// assert
+		assertNotNull(jarFiles);
+		assertEquals(3, jarFiles.size());
+		assertEquals("renamed.jar", jarFiles.get(0).getFileName());
+		assertEquals("renamed.jar!/a.jar", jarFiles.get(1).getFileName());
+		assertEquals("renamed.jar!/b.jar", jarFiles.get(2).getFileName());
+		assertTrue(jarFiles.get(2).isMultiRelease());
+	}
+
+	@Test
+	void test_get_invalidFormat(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File cacheFile = new File(tempDir.toFile(), "key.bin");
+		FileUtils.writeStringToFile("not a cache entry", cacheFile);
+		JarFileCache cache = new JarFileCache(tempDir.toFile(), JarFileCache.DEFAULT_MAX_SIZE);
+
+		// test
+		List<JarFile> jarFiles = cache.get("key", "a.jar");
+
+		// assert
+		assertNull(jarFiles);
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	void test_put_evictsLeastRecentlyUsed(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/loader/JarFileLoaderTest/a.jar", tempDir);
+		List<JarFile> jarFiles = jarFileLoader.load(file);
+		File cacheDir = new File(tempDir.toFile(), "cache");
+
+		// calculate size of a single entry
+		JarFileCache cache = new JarFileCache(cacheDir, JarFileCache.DEFAULT_MAX_SIZE);
+		cache.put("size", "a.jar", jarFiles);
+		File sizeFile = new File(cacheDir, "size.bin");
+		long size = sizeFile.length();
+		FileUtils.delete(sizeFile);
+
+		// create a cache which can hold two entries, but not three
+		cache = new JarFileCache(cacheDir, size * 2 + size / 2);
+		cache.put("key1", "a.jar", jarFiles);
+		cache.put("key2", "a.jar", jarFiles);
+		File file1 = new File(cacheDir, "key1.bin");
+		File file2 = new File(cacheDir, "key2.bin");
+		assertTrue(file1.setLastModified(System.currentTimeMillis() - 20000));
+		assertTrue(file2.setLastModified(System.currentTimeMillis() - 10000));
+
+		// use first entry
+		cache.get("key1", "a.jar");
+
+		// test
+		cache.put("key3", "a.jar", jarFiles);
+
+		// assert
+		assertTrue(file1.isFile());
+		assertFalse(file2.isFile());
+		assertTrue(new File(cacheDir, "key3.bin").isFile());
+		assertEquals(1, cache.getEvictions());
+	}
+
+	@Test
+	void test_JarFileLoader(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/loader/JarFileLoaderTest/c.jar", tempDir);
+		File cacheDir = new File(tempDir.toFile(), "cache");
+		JarFileCache cache = new JarFileCache(cacheDir, JarFileCache.DEFAULT_MAX_SIZE);
+		JarFileLoader loader = LoaderBuilder.create().withJarFileCache(cache).buildJarFileLoader();
+		List<JarFile> expectedJarFiles = loader.load(file);
+
+		// test
+		List<JarFile> jarFiles = loader.load(file);
+
+		// assert
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.getHits());
+		assertEquals(1, jarFiles.size());
+		assertJarFile(expectedJarFiles.get(0), jarFiles.get(0));
+		assertEquals("c.jar", jarFiles.get(0).getFileName());
+		assertEquals("Classpath", jarFiles.get(0).getClassLoader());
+
+		// different loader settings must not use the same cache entry
+		loader = LoaderBuilder.create().forClassLoader("Runtime").scanForReferences(false).withJarFileCache(cache).buildJarFileLoader();
+		jarFiles = loader.load(file);
+		assertEquals(2, cache.getMisses());
+		assertEquals(1, cache.getHits());
+		assertEquals("Runtime", jarFiles.get(0).getClassDefs().get(0).getClassLoader());
+		assertTrue(jarFiles.get(0).getClassDefs().get(0).getClassRefs().isEmpty());
+	}
+
+	@Test
+	void test_put_and_get_lazyMemberDefs(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/loader/JarFileLoaderTest/c.jar", tempDir);
+		JarFileLoader loader = LoaderBuilder.create().scanForReferences(false).lazyMemberDefs(true).buildJarFileLoader();
+		List<JarFile> expectedJarFiles = loader.load(file);
+		JarFileCache cache = new JarFileCache(tempDir.toFile(), JarFileCache.DEFAULT_MAX_SIZE);
+
+		// test
+		cache.put("key", "c.jar", expectedJarFiles);
+		List<JarFile> jarFiles = cache.get("key", "c.jar");
+
+		// assert
+		assertNotNull(jarFiles);
+		List<ClassDef> expectedClassDefs = expectedJarFiles.get(0).getClassDefs();
+		List<ClassDef> classDefs = jarFiles.get(0).getClassDefs();
+		assertEquals(expectedClassDefs.size(), classDefs.size());
+		int unloaded = 0;
+		for (int i = 0; i < expectedClassDefs.size(); i++) {
+			ClassDef expectedClassDef = expectedClassDefs.get(i);
+			ClassDef classDef = classDefs.get(i);
+
+			// members are neither loaded to encode nor to decode the class definition
+			// note: classes without members (like module-info) are always loaded
+			assertEquals(expectedClassDef.isMemberDefsLoaded(), classDef.isMemberDefsLoaded(), classDef.getClassName());
+			if (!classDef.isMemberDefsLoaded()) {
+				unloaded++;
+			}
+
+			assertEquals(expectedClassDef.getFieldDefs().toString(), classDef.getFieldDefs().toString());
+			assertEquals(expectedClassDef.getMethodDefs().toString(), classDef.getMethodDefs().toString());
+			assertTrue(classDef.isMemberDefsLoaded());
+		}
+		assertTrue(unloaded > 0);
+	}
+
+	@Test
+	void test_JarFileLoader_lazyMemberDefs(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = TestUtils.getResourceAsFile("/org/jarhc/loader/JarFileLoaderTest/c.jar", tempDir);
+		JarFileCache cache = new JarFileCache(tempDir.toFile(), JarFileCache.DEFAULT_MAX_SIZE);
+		LoaderBuilder.create().scanForReferences(false).withJarFileCache(cache).buildJarFileLoader().load(file);
+		JarFileLoader loader = LoaderBuilder.create().scanForReferences(false).lazyMemberDefs(true).withJarFileCache(cache).buildJarFileLoader();
+
+		// test
+		List<JarFile> jarFiles1 = loader.load(file); // cache miss
+		List<JarFile> jarFiles2 = loader.load(file); // cache hit
+
+		// assert
+		assertEquals(2, cache.getMisses());
+		assertEquals(1, cache.getHits());
+		assertFalse(jarFiles1.get(0).getClassDefs().get(0).isMemberDefsLoaded());
+		assertFalse(jarFiles2.get(0).getClassDefs().get(0).isMemberDefsLoaded());
+	}
+
+	private static void assertJarFile(JarFile expectedJarFile, JarFile jarFile) {
+		assertEquals(expectedJarFile.getFileSize(), jarFile.getFileSize());
+		assertEquals(expectedJarFile.getChecksum(), jarFile.getChecksum());
+		assertEquals(expectedJarFile.getManifestAttributes(), jarFile.getManifestAttributes());
+		assertEquals(expectedJarFile.getReleases(), jarFile.getReleases());
+		assertEquals(expectedJarFile.getPackageNames(), jarFile.getPackageNames());
+
+		ModuleInfo expectedModuleInfo = expectedJarFile.getModuleInfo();
+		ModuleInfo moduleInfo = jarFile.getModuleInfo();
+		assertEquals(expectedModuleInfo.toString(), moduleInfo.toString());
+		assertEquals(expectedModuleInfo.getPackages(), moduleInfo.getPackages());
+
+		List<ClassDef> expectedClassDefs = expectedJarFile.getClassDefs();
+		List<ClassDef> classDefs = jarFile.getClassDefs();
+		assertEquals(expectedClassDefs.size(), classDefs.size());
+		for (int i = 0; i < expectedClassDefs.size(); i++) {
+			ClassDef expectedClassDef = expectedClassDefs.get(i);
+			ClassDef classDef = classDefs.get(i);
+			assertEquals(expectedClassDef.toString(), classDef.toString());
+			assertEquals(expectedClassDef.getApiDescription(), classDef.getApiDescription());
+			assertEquals(expectedClassDef.getClassFileChecksum(), classDef.getClassFileChecksum());
+			assertEquals(expectedClassDef.getClassLoader(), classDef.getClassLoader());
+			assertEquals(expectedClassDef.getRelease(), classDef.getRelease());
+			assertEquals(expectedClassDef.getAnnotationRefs(), classDef.getAnnotationRefs());
+			assertEquals(expectedClassDef.getClassRefs(), classDef.getClassRefs());
+			assertEquals(expectedClassDef.getFieldRefs(), classDef.getFieldRefs());
+			assertEquals(expectedClassDef.getMethodRefs(), classDef.getMethodRefs());
+			assertEquals(jarFile, classDef.getJarFile());
+		}
+	}
+
+}
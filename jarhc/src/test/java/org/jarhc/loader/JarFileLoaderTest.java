@@ -22,13 +22,31 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import org.jarhc.TestUtils;
+import org.jarhc.artifacts.Artifact;
+import org.jarhc.artifacts.ArtifactVersion;
+import org.jarhc.artifacts.Repository;
 import org.jarhc.model.JarFile;
 import org.jarhc.model.ModuleInfo;
+import org.jarhc.model.ResourceDef;
+import org.jarhc.pom.Dependency;
+import org.jarhc.utils.DigestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -192,4 +210,95 @@ class JarFileLoaderTest {
 
 	}
 
+	@Test
+	void test_load_multi_release_manyEntries(@TempDir Path tempDir) throws IOException {
+
+		// prepare: entries for newer releases are stored before the entries for Java 8
+		File file = tempDir.resolve("test.jar").toFile();
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(new Attributes.Name("Multi-Release"), "true");
+		try (JarOutputStream stream = new JarOutputStream(new FileOutputStream(file), manifest)) {
+			for (int i = 0; i < 1000; i++) {
+				stream.putNextEntry(new JarEntry("META-INF/versions/11/r" + i + ".txt"));
+				stream.write(("Java 11: " + i).getBytes(StandardCharsets.UTF_8));
+				stream.putNextEntry(new JarEntry("r" + i + ".txt"));
+				stream.write(("Java 8: " + i).getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		// test
+		List<JarFile> jarFiles = jarFileLoader.load(file);
+
+		// assert
+		assertEquals(1, jarFiles.size());
+		JarFile jarFile = jarFiles.get(0);
+		assertEquals(1000, jarFile.getResourceDefs().size());
+		for (ResourceDef resourceDef : jarFile.getResourceDefs()) {
+			String name = resourceDef.getPath();
+			String content = "Java 11: " + name.substring(1, name.indexOf('.'));
+			assertEquals(11, resourceDef.getRelease(), name);
+			assertEquals(DigestUtils.sha1Hex(content), resourceDef.getChecksum(), name);
+		}
+	}
+
+	@Test
+	void test_load_findArtifacts(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		String resource = "/org/jarhc/loader/JarFileLoaderTest/a.jar";
+		File file = TestUtils.getResourceAsFile(resource, tempDir);
+		String checksum = DigestUtils.sha1Hex(Files.readAllBytes(file.toPath()));
+		ThreadRepository repository = new ThreadRepository();
+		JarFileLoader loader = LoaderBuilder.create().withRepository(repository).buildJarFileLoader();
+
+		// test
+		List<JarFile> jarFiles = loader.load(file);
+
+		// assert: checksum of a file is known before entries are parsed,
+		// artifact is identified in a background thread
+		assertEquals(1, jarFiles.size());
+		assertEquals(List.of(new Artifact("org.example", "a", "1.0", "jar")), jarFiles.get(0).getArtifacts());
+		assertEquals(List.of(checksum + " @ jarhc-artifact-finder"), repository.calls);
+
+		// test
+		repository.calls.clear();
+		try (InputStream stream = new FileInputStream(file)) {
+			jarFiles = loader.load("a.jar", null, stream);
+		}
+
+		// assert: checksum of a stream is known after entries have been parsed,
+		// artifact is identified in the current thread
+		assertEquals(1, jarFiles.size());
+		assertEquals(List.of(new Artifact("org.example", "a", "1.0", "jar")), jarFiles.get(0).getArtifacts());
+		assertEquals(List.of(checksum + " @ " + Thread.currentThread().getName()), repository.calls);
+	}
+
+	private static class ThreadRepository implements Repository {
+
+		private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public List<Artifact> findArtifacts(String checksum) {
+			calls.add(checksum + " @ " + Thread.currentThread().getName());
+			return new ArrayList<>(List.of(new Artifact("org.example", "a", "1.0", "jar")));
+		}
+
+		@Override
+		public Optional<InputStream> downloadArtifact(Artifact artifact) {
+			return Optional.empty();
+		}
+
+		@Override
+		public List<ArtifactVersion> getVersions(String groupId, String artifactId) {
+			return List.of();
+		}
+
+		@Override
+		public List<Dependency> getDependencies(Artifact artifact) {
+			return List.of();
+		}
+
+	}
+
 }
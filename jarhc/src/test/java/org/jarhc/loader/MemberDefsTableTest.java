@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.jarhc.model.ClassDef;
+import org.jarhc.model.FieldDef;
+import org.jarhc.model.MethodDef;
+import org.jarhc.model.RecordComponentDef;
+import org.junit.jupiter.api.Test;
+
+class MemberDefsTableTest {
+
+	@Test
+	void test_loadMemberDefs() {
+
+		// prepare
+		MemberDefsTable table = new MemberDefsTable();
+		table.addRecordComponent("id", "int");
+		table.addField(0x12, "id", "int");
+		table.addMethod(0x1, "<init>", "(I)V");
+		for (int i = 0; i < 20; i++) {
+			table.addField(0x2, "field" + i, "java.lang.String");
+			table.addMethod(0x1, "method" + i, "()Ljava/lang/String;");
+		}
+		table.trim();
+		assertEquals(43, table.size());
+
+		ClassDef classDef = ClassDef.forClassName("a.A").setMemberDefsLoader(table);
+		assertFalse(classDef.isMemberDefsLoaded());
+
+		// test
+		MethodDef methodDef = classDef.getMethodDef("method7", "()Ljava/lang/String;");
+
+		// assert
+		assertNotNull(methodDef);
+		assertSame(classDef, methodDef.getClassDef());
+		assertTrue(classDef.isMemberDefsLoaded());
+
+		List<RecordComponentDef> recordComponentDefs = classDef.getRecordComponentDefs();
+		assertEquals(1, recordComponentDefs.size());
+		assertEquals("int", recordComponentDefs.get(0).getType());
+
+		List<FieldDef> fieldDefs = classDef.getFieldDefs();
+		assertEquals(21, fieldDefs.size());
+		assertEquals("private final int a.A.id", fieldDefs.get(0).getDisplayName());
+		assertEquals("field0", fieldDefs.get(1).getFieldName());
+		assertEquals("field19", fieldDefs.get(20).getFieldName());
+
+		List<String> methodNames = classDef.getMethodDefs().stream().map(MethodDef::getMethodName).collect(Collectors.toList());
+		assertEquals(21, methodNames.size());
+		assertEquals("<init>", methodNames.get(0));
+		assertEquals("method19", methodNames.get(20));
+	}
+
+	@Test
+	void test_loadMemberDefs_empty() {
+
+		// prepare
+		MemberDefsTable table = new MemberDefsTable();
+		table.trim();
+		ClassDef classDef = ClassDef.forClassName("a.A").setMemberDefsLoader(table);
+
+		// test
+		List<MethodDef> methodDefs = classDef.getMethodDefs();
+
+		// assert
+		assertEquals(0, methodDefs.size());
+		assertEquals(0, classDef.getFieldDefs().size());
+		assertTrue(classDef.isMemberDefsLoaded());
+	}
+
+}
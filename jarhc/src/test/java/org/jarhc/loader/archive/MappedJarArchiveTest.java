@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.loader.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.jarhc.TestUtils;
+import org.jarhc.utils.ByteBuffer;
+import org.jarhc.utils.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedJarArchiveTest {
+
+	@Test
+	void test() throws IOException {
+
+		File file = new File("src/test/resources/org/jarhc/loader/archive/a.jar");
+		try (Archive archive = new MappedJarArchive(file)) {
+
+			List<String> files = new ArrayList<>();
+			while (true) {
+				ArchiveEntry entry = archive.getNextEntry();
+				if (entry == null) break;
+				ByteBuffer data = entry.getData();
+				files.add(entry.getName() + " : " + data.getLength());
+			}
+
+			assertEquals("b2de6f7c6eff51a28729be9c4f6555354f16a1ca", archive.getFileChecksum());
+			assertEquals(678, archive.getFileSize());
+			assertEquals(Collections.singletonList("a/A.class : 178"), files);
+		}
+	}
+
+	@Test
+	void test_sameAsJarStreamArchive(@TempDir Path tempDir) throws IOException {
+
+		for (String name : new String[] { "a.jar", "b.jar", "c.jar", "x.jar" }) {
+
+			File file = TestUtils.getResourceAsFile("/org/jarhc/loader/JarFileLoaderTest/" + name, tempDir);
+			try (Archive expectedArchive = new JarStreamArchive(new FileInputStream(file)); Archive archive = new MappedJarArchive(file)) {
+
+				assertEquals(expectedArchive.isMultiRelease(), archive.isMultiRelease());
+				assertEquals(expectedArchive.getAutomaticModuleName(), archive.getAutomaticModuleName());
+				assertEquals(expectedArchive.getManifestAttributes(), archive.getManifestAttributes());
+				assertEquals(getEntries(expectedArchive), getEntries(archive));
+				assertEquals(expectedArchive.getFileChecksum(), archive.getFileChecksum());
+				assertEquals(expectedArchive.getFileSize(), archive.getFileSize());
+			}
+		}
+	}
+
+	@Test
+	void test_storedEntries_withPrefix(@TempDir Path tempDir) throws IOException {
+
+		// prepare: ZIP file with uncompressed entries, preceded by a launch script
+		File file = tempDir.resolve("test.jar").toFile();
+		try (OutputStream stream = new FileOutputStream(file)) {
+			stream.write("#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes(StandardCharsets.UTF_8));
+			ZipOutputStream zip = new ZipOutputStream(stream);
+			addStoredEntry(zip, "a/");
+			addStoredEntry(zip, "a/test.txt", "Hello World");
+			addStoredEntry(zip, "a/empty.txt", "");
+			zip.finish();
+		}
+
+		// test
+		try (Archive archive = new MappedJarArchive(file)) {
+
+			// assert
+			assertNull(archive.getManifestAttributes());
+			assertEquals(DigestUtils.sha1Hex(Files.readAllBytes(file.toPath())), archive.getFileChecksum());
+
+			ArchiveEntry entry = archive.getNextEntry();
+			assertEquals("a/test.txt", entry.getName());
+			ByteBuffer data = entry.getData();
+			assertEquals("Hello World", new String(data.getBytes(), 0, data.getLength(), StandardCharsets.UTF_8));
+			data.release();
+
+			entry = archive.getNextEntry();
+			assertEquals("a/empty.txt", entry.getName());
+			assertEquals(0, entry.getData().getLength());
+
+			assertNull(archive.getNextEntry());
+		}
+	}
+
+	@Test
+	void test_invalidFile(@TempDir Path tempDir) throws IOException {
+
+		// prepare
+		File file = tempDir.resolve("test.jar").toFile();
+		Files.write(file.toPath(), "not a ZIP file".getBytes(StandardCharsets.UTF_8));
+
+		// test and assert
+		IOException exception = assertThrows(IOException.class, () -> new MappedJarArchive(file));
+		assertTrue(exception.getMessage().contains("End of central directory not found"));
+	}
+
+	@Test
+	void test_invalidCrc(@TempDir Path tempDir) throws IOException {
+
+		// prepare: ZIP file with a modified byte in the entry data
+		File file = tempDir.resolve("test.jar").toFile();
+		try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+			addStoredEntry(zip, "test.txt", "Hello World");
+		}
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		bytes[30 + "test.txt".length()] = 'X';
+		Files.write(file.toPath(), bytes);
+
+		// test
+		try (Archive archive = new MappedJarArchive(file)) {
+			ArchiveEntry entry = archive.getNextEntry();
+
+			// assert
+			IOException exception = assertThrows(IOException.class, entry::getData);
+			assertEquals("Invalid CRC-32 checksum: test.txt", exception.getMessage());
+		}
+	}
+
+	@Test
+	void test_largeFile_sameAsJarStreamArchive(@TempDir Path tempDir) throws IOException {
+
+		// prepare: file larger than the maximum size of a file which is read into a buffer
+		File file = tempDir.resolve("test.jar").toFile();
+		Random random = new Random(42);
+		try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+			for (int i = 0; i < 3; i++) {
+				byte[] data = new byte[MappedJarArchive.MAX_READ_FILE_SIZE / 2];
+				random.nextBytes(data);
+				zip.putNextEntry(new ZipEntry("data-" + i + ".bin"));
+				zip.write(data);
+				zip.closeEntry();
+			}
+		}
+		assertTrue(file.length() > MappedJarArchive.MAX_READ_FILE_SIZE);
+
+		// test
+		try (Archive expectedArchive = new JarStreamArchive(new FileInputStream(file)); Archive archive = new MappedJarArchive(file)) {
+
+			// assert
+			assertEquals(getEntries(expectedArchive), getEntries(archive));
+			assertEquals(expectedArchive.getFileChecksum(), archive.getFileChecksum());
+		}
+	}
+
+	@Test
+	void test_close() throws IOException {
+
+		// prepare
+		File file = new File("src/test/resources/org/jarhc/loader/archive/a.jar");
+		Archive archive = new MappedJarArchive(file);
+		ArchiveEntry entry = archive.getNextEntry();
+
+		// test
+		archive.close();
+
+		// assert: file content is not accessible anymore
+		IOException exception = assertThrows(IOException.class, entry::getData);
+		assertEquals("Archive has been closed", exception.getMessage());
+		assertNull(archive.getNextEntry());
+	}
+
+	private static List<String> getEntries(Archive archive) throws IOException {
+		List<String> entries = new ArrayList<>();
+		while (true) {
+			ArchiveEntry entry = archive.getNextEntry();
+			if (entry == null) break;
+			ByteBuffer data = entry.getData();
+			entries.add(entry.getName() + " : " + DigestUtils.sha1Hex(data.getBytes(), 0, data.getLength()));
+			data.release();
+		}
+		return entries;
+	}
+
+	private static void addStoredEntry(ZipOutputStream zip, String name) throws IOException {
+		addStoredEntry(zip, name, "");
+	}
+
+	private static void addStoredEntry(ZipOutputStream zip, String name, String content) throws IOException {
+		byte[] data = content.getBytes(StandardCharsets.UTF_8);
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		ZipEntry entry = new ZipEntry(name);
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(data.length);
+		entry.setCompressedSize(data.length);
+		entry.setCrc(crc.getValue());
+		zip.putNextEntry(entry);
+		zip.write(data);
+		zip.closeEntry();
+	}
+
+}
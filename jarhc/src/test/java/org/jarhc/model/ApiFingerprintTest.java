@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.jarhc.utils.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+class ApiFingerprintTest {
+
+	@Test
+	void test() {
+
+		// prepare
+		List<String> lines = List.of("public class a.A", "extends: java.lang.Object", "implements: []", "permits: []", "method: public void a.A.run()");
+
+		// test
+		ApiFingerprint fingerprint = new ApiFingerprint(lines);
+
+		// assert
+		assertEquals(DigestUtils.sha1Hex(String.join("\n", lines)), fingerprint.getChecksum());
+		assertEquals(5, fingerprint.getSize());
+
+		long[] hashes = fingerprint.getMemberHashes();
+		int[] positions = fingerprint.getMemberPositions();
+		assertEquals(5, hashes.length);
+		assertEquals(5, positions.length);
+		for (int i = 1; i < hashes.length; i++) {
+			assertTrue(hashes[i - 1] < hashes[i]);
+		}
+		assertEquals(0 + 1 + 2 + 3 + 4, positions[0] + positions[1] + positions[2] + positions[3] + positions[4]);
+	}
+
+	@Test
+	void test_sameLines() {
+
+		// prepare
+		ApiFingerprint fingerprint1 = new ApiFingerprint(List.of("public class a.A", "extends: java.lang.Object", "field: public int a.A.value"));
+		ApiFingerprint fingerprint2 = new ApiFingerprint(List.of("public class b.B", "extends: java.lang.Object", "field: public long a.A.value"));
+
+		// assert
+		assertNotEquals(fingerprint1.getChecksum(), fingerprint2.getChecksum());
+		assertEquals(getHash(fingerprint1, 1), getHash(fingerprint2, 1));
+		assertNotEquals(getHash(fingerprint1, 0), getHash(fingerprint2, 0));
+		assertNotEquals(getHash(fingerprint1, 2), getHash(fingerprint2, 2));
+	}
+
+	@Test
+	void test_classDef() {
+
+		// prepare
+		ClassDef classDef = ClassDef.forClassName("a.A").addMethodDef(new MethodDef(1, "run", "()V"));
+
+		// test
+		ApiFingerprint fingerprint = classDef.getApiFingerprint();
+
+		// assert
+		assertEquals(classDef.getApiChecksum(), fingerprint.getChecksum());
+		assertEquals(DigestUtils.sha1Hex(classDef.getApiDescription()), fingerprint.getChecksum());
+		assertEquals(5, fingerprint.getSize());
+		assertSame(fingerprint, classDef.getApiFingerprint());
+	}
+
+	private static long getHash(ApiFingerprint fingerprint, int position) {
+		int[] positions = fingerprint.getMemberPositions();
+		for (int i = 0; i < positions.length; i++) {
+			if (positions[i] == position) {
+				return fingerprint.getMemberHashes()[i];
+			}
+		}
+		throw new AssertionError("position not found: " + position);
+	}
+
+}
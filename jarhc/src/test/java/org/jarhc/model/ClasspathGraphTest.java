@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jarhc.test.ClasspathBuilder;
+import org.junit.jupiter.api.Test;
+
+class ClasspathGraphTest {
+
+	private final Classpath classpath = ClasspathBuilder.create(null)
+			.addJarFile("a.jar")
+			.addClassDef("a.A").addClassRef("a.A").addClassRef("a.A2").addClassRef("b.B").addClassRef("c.C").addClassRef("x.X")
+			.addClassDef("a.A2")
+			.addJarFile("b.jar")
+			.addClassDef("b.B").addClassRef("c.C")
+			.addJarFile("c.jar")
+			.addClassDef("c.C").addClassRef("b.B")
+			.addJarFile("d.jar")
+			.addClassDef("d.D").addClassRef("java.lang.Object")
+			.addJarFile("e.jar")
+			.addClassDef("e.E").addClassRef("d.D")
+			.addJarFile("f.jar")
+			.addClassDef("c.C").addClassRef("d.D")
+			.build();
+
+	private final ClasspathGraph graph = new ClasspathGraph(classpath);
+
+	@Test
+	void test_getJarId() {
+
+		// test and assert
+		assertEquals(0, graph.getJarId(classpath.getJarFileByFileName("a.jar")));
+		assertEquals(5, graph.getJarId(classpath.getJarFileByFileName("f.jar")));
+		assertEquals(-1, graph.getJarId(JarFile.withName("x.jar").build()));
+		assertEquals(classpath.getJarFiles(), graph.getJarFiles());
+	}
+
+	@Test
+	void test_getClassId() {
+
+		// test and assert
+		assertEquals(6, graph.getClassCount());
+		assertEquals(0, graph.getClassId("a.A"));
+		assertEquals(3, graph.getClassId("c.C"));
+		assertEquals(5, graph.getClassId("e.E"));
+		assertEquals(-1, graph.getClassId("x.X"));
+	}
+
+	@Test
+	void test_getUsedClasses() {
+
+		// test and assert
+		assertEquals(List.of("a.A2", "b.B", "c.C"), graph.getUsedClasses("a.A"));
+		assertEquals(List.of(), graph.getUsedClasses("a.A2"));
+		assertEquals(List.of("b.B", "d.D"), graph.getUsedClasses("c.C"));
+		assertEquals(List.of(), graph.getUsedClasses("d.D"));
+		assertEquals(List.of(), graph.getUsedClasses("x.X"));
+	}
+
+	@Test
+	void test_getUsingClasses() {
+
+		// test and assert
+		assertEquals(List.of(), graph.getUsingClasses("a.A"));
+		assertEquals(List.of("a.A"), graph.getUsingClasses("a.A2"));
+		assertEquals(List.of("a.A", "c.C"), graph.getUsingClasses("b.B"));
+		assertEquals(List.of("a.A", "b.B"), graph.getUsingClasses("c.C"));
+		assertEquals(List.of("c.C", "e.E"), graph.getUsingClasses("d.D"));
+		assertEquals(List.of(), graph.getUsingClasses("x.X"));
+	}
+
+	@Test
+	void test_getUses() {
+
+		// test and assert
+		assertEquals("b.jar, c.jar, f.jar", getUses("a.jar"));
+		assertEquals("c.jar, f.jar", getUses("b.jar"));
+		assertEquals("b.jar", getUses("c.jar"));
+		assertEquals("", getUses("d.jar"));
+		assertEquals("d.jar", getUses("e.jar"));
+		assertEquals("d.jar", getUses("f.jar"));
+	}
+
+	@Test
+	void test_getUsedBy() {
+
+		// test and assert
+		assertEquals("", getUsedBy("a.jar"));
+		assertEquals("a.jar, c.jar", getUsedBy("b.jar"));
+		assertEquals("a.jar, b.jar", getUsedBy("c.jar"));
+		assertEquals("e.jar, f.jar", getUsedBy("d.jar"));
+		assertEquals("", getUsedBy("e.jar"));
+		assertEquals("a.jar, b.jar", getUsedBy("f.jar"));
+	}
+
+	@Test
+	void test_getTransitiveUses() {
+
+		// test and assert
+		assertEquals("b.jar, c.jar, d.jar, f.jar", toString(graph.getTransitiveUses(getJarFile("a.jar"))));
+		assertEquals("c.jar, d.jar, f.jar", toString(graph.getTransitiveUses(getJarFile("b.jar"))));
+		assertEquals("", toString(graph.getTransitiveUses(getJarFile("d.jar"))));
+		assertEquals("d.jar", toString(graph.getTransitiveUses(getJarFile("e.jar"))));
+	}
+
+	@Test
+	void test_getTransitiveUsedBy() {
+
+		// test and assert
+		assertEquals("", toString(graph.getTransitiveUsedBy(getJarFile("a.jar"))));
+		assertEquals("a.jar, c.jar", toString(graph.getTransitiveUsedBy(getJarFile("b.jar"))));
+		assertEquals("a.jar, b.jar, c.jar, e.jar, f.jar", toString(graph.getTransitiveUsedBy(getJarFile("d.jar"))));
+	}
+
+	@Test
+	void test_getUnusedJarFiles() {
+
+		// test
+		List<JarFile> result = graph.getUnusedJarFiles();
+
+		// assert
+		assertEquals("a.jar, e.jar", toString(result));
+	}
+
+	@Test
+	void test_getCycles() {
+
+		// test
+		List<List<JarFile>> result = graph.getCycles();
+
+		// assert
+		assertEquals(1, result.size());
+		assertEquals("b.jar, c.jar", toString(result.get(0)));
+	}
+
+	@Test
+	void test_getCycles_multipleCycles() {
+
+		// prepare: a -> b -> c -> a, d <-> e, f -> a, g -> g
+		Classpath classpath = ClasspathBuilder.create(null)
+				.addJarFile("f.jar").addClassDef("f.F").addClassRef("a.A")
+				.addJarFile("a.jar").addClassDef("a.A").addClassRef("b.B")
+				.addJarFile("d.jar").addClassDef("d.D").addClassRef("e.E")
+				.addJarFile("b.jar").addClassDef("b.B").addClassRef("c.C")
+				.addJarFile("e.jar").addClassDef("e.E").addClassRef("d.D")
+				.addJarFile("c.jar").addClassDef("c.C").addClassRef("a.A")
+				.addJarFile("g.jar").addClassDef("g.G").addClassRef("g.G")
+				.build();
+		ClasspathGraph graph = new ClasspathGraph(classpath);
+
+		// test
+		List<List<JarFile>> result = graph.getCycles();
+
+		// assert
+		assertEquals(2, result.size());
+		assertEquals("a.jar, b.jar, c.jar", toString(result.get(0)));
+		assertEquals("d.jar, e.jar", toString(result.get(1)));
+		assertEquals("b.jar, c.jar", toString(graph.getTransitiveUses(classpath.getJarFileByFileName("a.jar"))));
+		assertEquals("f.jar, g.jar", toString(graph.getUnusedJarFiles()));
+	}
+
+	@Test
+	void test_getCycles_longChain() {
+
+		// prepare: chain of 10'000 JAR files, last JAR file uses first JAR file
+		int count = 10000;
+		ClasspathBuilder builder = ClasspathBuilder.create(null);
+		for (int i = 0; i < count; i++) {
+			builder.addJarFile("j" + i + ".jar").addClassDef("p" + i + ".C").addClassRef("p" + ((i + 1) % count) + ".C");
+		}
+		ClasspathGraph graph = new ClasspathGraph(builder.build());
+
+		// test
+		List<List<JarFile>> result = graph.getCycles();
+
+		// assert
+		assertEquals(1, result.size());
+		assertEquals(count, result.get(0).size());
+		assertEquals(count - 1, graph.getTransitiveUses(graph.getJarFiles().get(0)).size());
+	}
+
+	@Test
+	void test_getTransitiveUses_random() {
+
+		// prepare: 200 JAR files with random references
+		Random random = new Random(12345);
+		int count = 200;
+		ClasspathBuilder builder = ClasspathBuilder.create(null);
+		for (int i = 0; i < count; i++) {
+			builder.addJarFile("j" + i + ".jar").addClassDef("p" + i + ".C");
+			for (int r = random.nextInt(3); r > 0; r--) {
+				builder.addClassRef("p" + random.nextInt(count) + ".C");
+			}
+		}
+		ClasspathGraph graph = new ClasspathGraph(builder.build());
+		List<JarFile> jarFiles = graph.getJarFiles();
+
+		// assert: compare with depth-first search over direct dependencies
+		for (JarFile jarFile : jarFiles) {
+			Set<JarFile> expected = new LinkedHashSet<>();
+			Deque<JarFile> stack = new ArrayDeque<>(graph.getUses(jarFile));
+			while (!stack.isEmpty()) {
+				JarFile next = stack.pop();
+				if (expected.add(next)) {
+					stack.addAll(graph.getUses(next));
+				}
+			}
+			expected.remove(jarFile);
+			List<JarFile> result = graph.getTransitiveUses(jarFile);
+			assertEquals(expected.size(), result.size(), jarFile.getFileName());
+			assertTrue(expected.containsAll(result), jarFile.getFileName());
+			for (JarFile target : result) {
+				assertTrue(graph.getTransitiveUsedBy(target).contains(jarFile), jarFile.getFileName());
+			}
+		}
+
+		// assert: JAR files in the same cycle use each other
+		for (List<JarFile> cycle : graph.getCycles()) {
+			for (JarFile jarFile : cycle) {
+				List<JarFile> result = graph.getTransitiveUses(jarFile);
+				for (JarFile target : cycle) {
+					assertEquals(target != jarFile, result.contains(target), jarFile.getFileName());
+				}
+			}
+		}
+	}
+
+	@Test
+	void test_getUses_unknownJarFile() {
+
+		// prepare
+		JarFile jarFile = JarFile.withName("x.jar").build();
+
+		// test and assert
+		assertThrows(IllegalArgumentException.class, () -> graph.getUses(jarFile));
+	}
+
+	private String getUses(String fileName) {
+		return toString(graph.getUses(getJarFile(fileName)));
+	}
+
+	private String getUsedBy(String fileName) {
+		return toString(graph.getUsedBy(getJarFile(fileName)));
+	}
+
+	private JarFile getJarFile(String fileName) {
+		return classpath.getJarFileByFileName(fileName);
+	}
+
+	private static String toString(List<JarFile> jarFiles) {
+		return jarFiles.stream().map(JarFile::getFileName).collect(Collectors.joining(", "));
+	}
+
+}
@@ -17,9 +17,11 @@
 package org.jarhc.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import org.jarhc.test.ClasspathBuilder;
@@ -138,4 +140,73 @@ class ClasspathTest {
 
 	}
 
+	@Test
+	void test_getJarFilesByPackageName() {
+
+		// prepare
+		Classpath classpath = ClasspathBuilder.create(null)
+				.addJarFile("a.jar").addClassDef("a.A").addClassDef("x.X")
+				.addJarFile("b.jar").addClassDef("b.B").addClassDef("x.Y")
+				.build();
+
+		// test
+		List<JarFile> result1 = classpath.getJarFilesByPackageName("a");
+		List<JarFile> result2 = classpath.getJarFilesByPackageName("x");
+		List<JarFile> result3 = classpath.getJarFilesByPackageName("c");
+
+		// assert
+		assertEquals(1, result1.size());
+		assertEquals("a.jar", result1.get(0).getFileName());
+		assertEquals(2, result2.size());
+		assertEquals("a.jar", result2.get(0).getFileName());
+		assertEquals("b.jar", result2.get(1).getFileName());
+		assertTrue(result3.isEmpty());
+
+	}
+
+	@Test
+	void test_containsPackage() {
+
+		// prepare
+		Classpath parent = ClasspathBuilder.create(null)
+				.addJarFile("p.jar").addClassDef("p.P")
+				.build();
+		Classpath classpath = ClasspathBuilder.create(parent)
+				.addJarFile("a.jar").addClassDef("a.A").addClassDef("a.b.B")
+				.build();
+
+		// test and assert
+		assertTrue(classpath.containsPackage("a"));
+		assertTrue(classpath.containsPackage("a.b"));
+		assertTrue(classpath.containsPackage("p"));
+		assertFalse(classpath.containsPackage("b"));
+		assertFalse(parent.containsPackage("a"));
+
+	}
+
+	@Test
+	void test_getResourceDef() {
+
+		// prepare
+		Classpath parent = ClasspathBuilder.create(null)
+				.addJarFile("p.jar").addResourceDef("p/P.txt").addResourceDef("a/A.txt", "checksum-p")
+				.build();
+		Classpath classpath = ClasspathBuilder.create(parent)
+				.addJarFile("a.jar").addResourceDef("a/A.txt", "checksum-a")
+				.addJarFile("b.jar").addResourceDef("a/A.txt", "checksum-b")
+				.build();
+
+		// test and assert
+		ResourceDef resourceDef = classpath.getResourceDef("a/A.txt");
+		assertNotNull(resourceDef);
+		assertEquals("checksum-a", resourceDef.getChecksum());
+		assertEquals("a.jar", resourceDef.getJarFile().getFileName());
+		resourceDef = classpath.getResourceDef("p/P.txt");
+		assertNotNull(resourceDef);
+		assertEquals("p.jar", resourceDef.getJarFile().getFileName());
+		assertNull(classpath.getResourceDef("b/B.txt"));
+		assertEquals("checksum-p", parent.getResourceDef("a/A.txt").getChecksum());
+
+	}
+
 }
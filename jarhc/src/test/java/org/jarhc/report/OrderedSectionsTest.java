@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OrderedSectionsTest {
+
+	@Test
+	void set_inOrder() {
+		// prepare
+		Report report = new Report();
+		OrderedSections sections = new OrderedSections(report, 2);
+		ReportSection section1 = new ReportSection("Section 1", null);
+		ReportSection section2 = new ReportSection("Section 2", null);
+		// test
+		sections.set(0, section1);
+		sections.set(1, section2);
+		// assert
+		assertEquals(List.of(section1, section2), report.getSections());
+	}
+
+	@Test
+	void set_outOfOrder() {
+		// prepare
+		Report report = new Report();
+		OrderedSections sections = new OrderedSections(report, 3);
+		ReportSection section1 = new ReportSection("Section 1", null);
+		ReportSection section2 = new ReportSection("Section 2", null);
+		ReportSection section3 = new ReportSection("Section 3", null);
+		// test + assert: sections are added as soon as all sections before them are set
+		sections.set(2, section3);
+		assertEquals(List.of(), report.getSections());
+		sections.set(1, section2);
+		assertEquals(List.of(), report.getSections());
+		sections.set(0, section1);
+		assertEquals(List.of(section1, section2, section3), report.getSections());
+	}
+
+	@Test
+	void set_twice() {
+		// prepare
+		Report report = new Report();
+		OrderedSections sections = new OrderedSections(report, 2);
+		ReportSection section = new ReportSection("Section", null);
+		sections.set(0, section);
+		// test
+		assertThrows(IllegalArgumentException.class, () -> sections.set(0, section));
+	}
+
+}
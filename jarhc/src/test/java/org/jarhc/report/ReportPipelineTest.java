@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReportPipelineTest {
+
+	@Test
+	void addSection() {
+		// prepare
+		Report report = new Report();
+		ReportPipeline pipeline = new ReportPipeline(report, false);
+		TestSink sink = new TestSink();
+		pipeline.addSink(sink);
+		ReportSection section = new ReportSection("Section", null);
+		ReportTable table = new ReportTable("Artifact");
+		table.addRow("b.jar");
+		table.addRow("a.jar");
+		section.addTable(table);
+		// test
+		pipeline.addSection(section);
+		pipeline.finish();
+		// assert: section has been passed on with sorted rows, but not kept in report
+		assertEquals(List.of(section), sink.sections);
+		assertEquals("a.jar", table.getRows().get(0)[0]);
+		assertTrue(sink.finished);
+		assertTrue(report.getSections().isEmpty());
+	}
+
+	@Test
+	void addSection_keepSections() {
+		// prepare
+		Report report = new Report();
+		ReportPipeline pipeline = new ReportPipeline(report, false);
+		pipeline.setKeepSections(true);
+		ReportSection section = new ReportSection("Section", null);
+		// test
+		pipeline.addSection(section);
+		// assert
+		assertEquals(List.of(section), report.getSections());
+	}
+
+	@Test
+	void addSection_skipEmpty() {
+		// prepare
+		Report report = new Report();
+		ReportPipeline pipeline = new ReportPipeline(report, true);
+		TestSink sink = new TestSink();
+		pipeline.addSink(sink);
+		ReportSection section1 = new ReportSection("Section 1", null);
+		section1.addTable(new ReportTable("Artifact"));
+		ReportSection section2 = new ReportSection("Section 2", null);
+		ReportSection subsection = new ReportSection("Subsection", null);
+		subsection.addTable(new ReportTable("Artifact"));
+		section2.addSection(subsection);
+		section2.addText("Text");
+		// test
+		pipeline.addSection(section1);
+		pipeline.addSection(section2);
+		// assert
+		assertEquals(List.of(section2), sink.sections);
+		assertEquals(List.of("Text"), section2.getContent());
+	}
+
+	private static class TestSink implements ReportSink {
+
+		private final List<ReportSection> sections = new ArrayList<>();
+		private boolean finished = false;
+
+		@Override
+		public void addSection(ReportSection section) {
+			sections.add(section);
+		}
+
+		@Override
+		public void finish() {
+			finished = true;
+		}
+
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.report.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jarhc.report.Report;
+import org.jarhc.report.ReportSection;
+import org.jarhc.report.ReportSink;
+import org.jarhc.report.ReportTable;
+import org.jarhc.report.writer.impl.MemoryReportWriter;
+import org.junit.jupiter.api.Test;
+
+class JsonReportSerializerTest {
+
+	@Test
+	void test_write_compact() {
+
+		// prepare
+		Report report = new Report();
+		report.setTitle(null);
+		report.setVersion("1.0");
+		report.setTimestamp(1234L);
+		ReportSection section = new ReportSection("Section", null);
+		section.addText("Quote: \"\\ Tab: \t Tag: </a> Bullet: \u2022 Control: \u0001 NEL: \u0085");
+		ReportTable table = new ReportTable("Column");
+		section.addTable(table);
+		report.addSection(section);
+		MemoryReportWriter writer = new MemoryReportWriter();
+
+		// test
+		new JsonReportSerializer(writer, 0).write(report);
+
+		// assert
+		String expected = "{\"type\":\"SCAN\",\"version\":\"1.0\",\"sections\":[{\"title\":\"Section\",\"content\":["
+				+ "\"Quote: \\\"\\\\ Tab: \\t Tag: <\\/a> Bullet: \\u2022 Control: \\u0001 NEL: \\u0085\","
+				+ "{\"columns\":[\"Column\"],\"rows\":[]}"
+				+ "]}],\"timestamp\":1234}";
+		assertEquals(expected, writer.getText());
+	}
+
+	@Test
+	void test_write_largeReport() {
+
+		// prepare
+		Report report = new Report();
+		ReportSection section = new ReportSection("Section", "Description");
+		ReportTable table = new ReportTable("Artifact", "Issues");
+		List<String> expectedRows = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			table.addRow("a" + i + ".jar", "Issue " + i);
+			expectedRows.add("[\n" +
+					"               \"a" + i + ".jar\",\n" +
+					"               \"Issue " + i + "\"\n" +
+					"            ]");
+		}
+		section.addTable(table);
+		report.addSection(section);
+		MemoryReportWriter writer = new MemoryReportWriter();
+
+		// test
+		new JsonReportSerializer(writer, 3).write(report);
+
+		// assert
+		String text = writer.getText();
+		assertTrue(text.contains("\"rows\": [\n            " + String.join(",\n            ", expectedRows) + "\n         ]"));
+		assertTrue(text.endsWith("\n}"));
+	}
+
+	@Test
+	void test_start_noSections() {
+
+		// prepare
+		Report report = new Report();
+		report.setTitle("Title");
+		report.setVersion("1.0");
+		report.setTimestamp(1234L);
+		MemoryReportWriter writer = new MemoryReportWriter();
+
+		// test
+		ReportSink sink = new JsonReportSerializer(writer, 0).start(report);
+		sink.finish();
+
+		// assert
+		assertEquals("{\"title\":\"Title\",\"type\":\"SCAN\",\"version\":\"1.0\",\"sections\":[],\"timestamp\":1234}", writer.getText());
+	}
+
+	@Test
+	void test_start_sectionsAreWrittenImmediately() {
+
+		// prepare
+		Report report = new Report();
+		report.setTitle(null);
+		report.setVersion("1.0");
+		report.setTimestamp(1234L);
+		MemoryReportWriter writer = new MemoryReportWriter();
+		ReportSink sink = new JsonReportSerializer(writer, 0).start(report);
+
+		// test: first section is held back until the second section is added
+		sink.addSection(new ReportSection("Section 1", null));
+		assertFalse(writer.getText().contains("Section 1"));
+		sink.addSection(new ReportSection("Section 2", null));
+		assertTrue(writer.getText().contains("Section 2"));
+		sink.addSection(new ReportSection("Section 3", null));
+		assertTrue(writer.getText().contains("Section 3"));
+		sink.finish();
+
+		// assert
+		String expected = "{\"type\":\"SCAN\",\"version\":\"1.0\",\"sections\":["
+				+ "{\"title\":\"Section 1\",\"content\":[]},"
+				+ "{\"title\":\"Section 2\",\"content\":[]},"
+				+ "{\"title\":\"Section 3\",\"content\":[]}"
+				+ "],\"timestamp\":1234}";
+		assertEquals(expected, writer.getText());
+	}
+
+}
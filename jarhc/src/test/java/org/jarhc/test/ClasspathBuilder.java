@@ -186,6 +186,7 @@ public class ClasspathBuilder {
 					.withChecksum(checksum)
 					.withCoordinates(coordinates)
 					.withArtifacts(coordinates != null ? List.of(new Artifact(coordinates)) : List.of())
+					.withClassLoader(classLoader)
 					.withManifestAttributes(manifestAttributes)
 					.withReleases(releases)
 					.withModuleInfo(moduleInfo)
@@ -19,6 +19,7 @@ package org.jarhc.utils;
 import static org.jarhc.utils.Markdown.deleted;
 import static org.jarhc.utils.Markdown.inserted;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -51,9 +52,7 @@ class DiffUtilsTest {
 		List<String> lines = DiffUtils.diff(lines1, lines2);
 
 		// assert
-		List<String> expectedLines = List.of(deleted("a"), "a", "a", inserted("x"));
-		// TODO: changes should stay together:
-		// List<String> expectedLines = List.of("a", "a", deleted("a"), inserted("x"));
+		List<String> expectedLines = List.of("a", "a", deleted("a"), inserted("x"));
 		Assertions.assertEquals(expectedLines, lines);
 	}
 
@@ -325,4 +324,77 @@ class DiffUtilsTest {
 
 	}
 
+	@Test
+	void diff_similarValuesBetweenEqualValues() {
+
+		// prepare
+		List<String> lines1 = List.of("a", "org.ow2.asm:asm:9.2", "b", "org.json:json:20211205", "c");
+		List<String> lines2 = List.of("a", "x", "org.ow2.asm:asm:9.7", "b", "c", "org.json:json:20240303");
+
+		// test
+		List<String> lines = DiffUtils.diff(lines1, lines2);
+
+		// assert
+		List<String> expectedLines = List.of(
+				"a",
+				deleted("org.ow2.asm:asm:9.2"),
+				inserted("x"),
+				inserted("org.ow2.asm:asm:9.7"),
+				"b",
+				deleted("org.json:json:20211205"),
+				"c",
+				inserted("org.json:json:20240303")
+		);
+		Assertions.assertEquals(expectedLines, lines);
+	}
+
+	@Test
+	void diff_largeLists() {
+
+		// prepare: lists with 100'000 lines and a few changes
+		List<String> lines1 = new ArrayList<>();
+		List<String> lines2 = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			lines1.add("line " + i);
+			if (i % 10000 == 5000) {
+				lines2.add("changed " + i);
+			} else if (i % 20000 != 0) {
+				lines2.add("line " + i);
+			}
+		}
+
+		// test
+		List<String> lines = DiffUtils.diff(lines1, lines2);
+
+		// assert
+		Assertions.assertEquals(100010, lines.size());
+		Assertions.assertEquals(deleted("line 0"), lines.get(0));
+		Assertions.assertEquals("line 4999", lines.get(4999));
+		Assertions.assertEquals(deleted("line 5000"), lines.get(5000));
+		Assertions.assertEquals(inserted("changed 5000"), lines.get(5001));
+		Assertions.assertEquals("line 99999", lines.get(100009));
+	}
+
+	@Test
+	void diff_largeChange() {
+
+		// prepare: lists without any equal lines
+		List<String> lines1 = new ArrayList<>();
+		List<String> lines2 = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			lines1.add("old " + i);
+			lines2.add("new " + i);
+		}
+
+		// test
+		List<String> lines = DiffUtils.diff(lines1, lines2);
+
+		// assert: all deleted lines before all inserted lines
+		Assertions.assertEquals(10000, lines.size());
+		Assertions.assertEquals(deleted("old 0"), lines.get(0));
+		Assertions.assertEquals(deleted("old 4999"), lines.get(4999));
+		Assertions.assertEquals(inserted("new 0"), lines.get(5000));
+		Assertions.assertEquals(inserted("new 4999"), lines.get(9999));
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.jarhc.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -58,4 +59,16 @@ class IOUtilsTest {
 		assertEquals("Hello World", new String(result.getBytes(), 0, result.getLength()));
 	}
 
+	@Test
+	void test_allocateByteBuffer() {
+
+		// test
+		ByteBuffer result = IOUtils.allocateByteBuffer(1024 * 1024);
+
+		// assert
+		assertEquals(1024 * 1024, result.getLength());
+		assertTrue(result.getBytes().length >= 1024 * 1024);
+		result.release();
+	}
+
 }
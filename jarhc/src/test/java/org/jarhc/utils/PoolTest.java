@@ -16,12 +16,19 @@
 
 package org.jarhc.utils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.Test;
 
 class PoolTest {
@@ -90,4 +97,166 @@ class PoolTest {
 
 	}
 
-}
\ No newline at end of file
+	@Test
+	void doReturn_maxIdle() {
+
+		// prepare
+		Pool<HashSet<String>> pool = new Pool<>(HashSet::new, HashSet::clear, 2, 1);
+		HashSet<String> set1 = pool.doBorrow();
+		HashSet<String> set2 = pool.doBorrow();
+		HashSet<String> set3 = pool.doBorrow();
+
+		// test
+		pool.doReturn(set1);
+		pool.doReturn(set2);
+		pool.doReturn(set3);
+
+		// assert
+		assertEquals(2, pool.getIdle());
+		assertEquals(1, pool.getDiscarded());
+		assertSame(set2, pool.doBorrow());
+		assertSame(set1, pool.doBorrow());
+
+	}
+
+	@Test
+	void statistics() {
+
+		// prepare
+		Pool<HashSet<String>> pool = new Pool<>(HashSet::new, null, Pool.DEFAULT_MAX_IDLE, 1);
+
+		// test
+		HashSet<String> set1 = pool.doBorrow();
+		HashSet<String> set2 = pool.doBorrow();
+		pool.doReturn(set1);
+		pool.doReturn(set2);
+		pool.doBorrow();
+
+		// assert
+		assertEquals(3, pool.getBorrowed());
+		assertEquals(2, pool.getCreated());
+		assertEquals(0, pool.getDiscarded());
+		assertEquals(1, pool.getIdle());
+
+	}
+
+	@Test
+	void doBorrow_parallel() throws InterruptedException {
+
+		// prepare
+		Pool<HashSet<String>> pool = new Pool<>(HashSet::new, HashSet::clear);
+		int threadCount = 8;
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		Set<HashSet<String>> sets = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < 1000; j++) {
+					HashSet<String> set = pool.doBorrow();
+					set.add("test");
+					pool.doReturn(set);
+				}
+				// keep an object borrowed until all threads are done
+				HashSet<String> set = pool.doBorrow();
+				sets.add(set);
+				latch.countDown();
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+		}
+
+		// test
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// assert: every thread has borrowed a different object
+		assertEquals(threadCount, sets.size());
+		assertEquals(threadCount * 1001, pool.getBorrowed());
+		for (HashSet<String> set : sets) {
+			assertTrue(set.isEmpty());
+		}
+
+	}
+
+	@Test
+	void doReturn_otherThread() throws InterruptedException {
+
+		// prepare
+		Pool<HashSet<String>> pool = new Pool<>(HashSet::new, HashSet::clear);
+		HashSet<String> set1 = pool.doBorrow();
+
+		// test: object is returned by another thread
+		Thread thread = new Thread(() -> pool.doReturn(set1));
+		thread.start();
+		thread.join();
+		HashSet<String> set2 = pool.doBorrow();
+
+		// assert
+		assertSame(set1, set2);
+		assertEquals(1, pool.getCreated());
+		assertEquals(0, pool.getIdle());
+
+	}
+
+	@Test
+	void doReturn_maxIdle_parallel() throws InterruptedException {
+
+		// prepare
+		Pool<HashSet<String>> pool = new Pool<>(HashSet::new, HashSet::clear, 4, 4);
+		List<HashSet<String>> sets = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			sets.add(pool.doBorrow());
+		}
+
+		// test: objects are returned by different threads
+		List<Thread> threads = new ArrayList<>();
+		for (HashSet<String> set : sets) {
+			threads.add(new Thread(() -> pool.doReturn(set)));
+		}
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// assert: every stripe keeps at most one idle object
+		int idle = pool.getIdle();
+		assertTrue(idle >= 1 && idle <= 4);
+		assertEquals(16 - idle, pool.getDiscarded());
+
+	}
+
+	@Test
+	void doReturn_maxIdlePerStripe() {
+
+		// prepare: 4 stripes with 2 idle objects each
+		Pool<HashSet<String>> pool = new Pool<>(HashSet::new, HashSet::clear, 8, 4);
+		HashSet<String> set1 = pool.doBorrow();
+		HashSet<String> set2 = pool.doBorrow();
+		HashSet<String> set3 = pool.doBorrow();
+
+		// test: objects are returned to the stripe of the current thread
+		pool.doReturn(set1);
+		pool.doReturn(set2);
+		pool.doReturn(set3);
+
+		// assert
+		assertEquals(2, pool.getIdle());
+		assertEquals(1, pool.getDiscarded());
+
+	}
+
+	@Test
+	void getStripeCount() {
+		assertEquals(2, Pool.getStripeCount(1));
+		assertEquals(8, Pool.getStripeCount(4));
+		assertEquals(16, Pool.getStripeCount(6));
+		assertEquals(64, Pool.getStripeCount(32));
+		assertEquals(256, Pool.getStripeCount(1024));
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class StringPatternMatcherTest {
+
+	@Test
+	void matches() {
+
+		// prepare
+		List<String> patterns = List.of("java.lang.Deprecated", "com.google.*", "*.Beta", "*Visible*", "te*st");
+		StringPatternMatcher matcher = new StringPatternMatcher(patterns, false);
+
+		// assert
+		assertEquals(5, matcher.size());
+		assertFalse(matcher.isEmpty());
+		assertTrue(matcher.matches("java.lang.Deprecated"));
+		assertFalse(matcher.matches("java.lang.Deprecated2"));
+		assertFalse(matcher.matches("java.lang"));
+		assertTrue(matcher.matches("com.google.common.Beta"));
+		assertTrue(matcher.matches("com.google."));
+		assertFalse(matcher.matches("com.google"));
+		assertTrue(matcher.matches("org.example.Beta"));
+		assertFalse(matcher.matches("org.example.Beta2"));
+		assertTrue(matcher.matches("org.example.VisibleForTesting"));
+		assertFalse(matcher.matches("org.example.visibleForTesting"));
+		assertTrue(matcher.matches("test"));
+		assertTrue(matcher.matches("test test"));
+		assertFalse(matcher.matches("tes"));
+		assertFalse(matcher.matches(""));
+	}
+
+	@Test
+	void matches_caseInsensitive() {
+
+		// prepare
+		StringPatternMatcher matcher = new StringPatternMatcher(List.of("*.dll", "*.EXE", "bin/*"), true);
+
+		// assert
+		assertTrue(matcher.matches("lib/native.dll"));
+		assertTrue(matcher.matches("lib/NATIVE.DLL"));
+		assertTrue(matcher.matches("setup.exe"));
+		assertTrue(matcher.matches("BIN/start"));
+		assertFalse(matcher.matches("lib/native.dll.txt"));
+		assertFalse(matcher.matches("lib/bin/start"));
+	}
+
+	@Test
+	void matches_wildcardOnly() {
+
+		// prepare
+		StringPatternMatcher matcher = new StringPatternMatcher(List.of("*"), false);
+
+		// assert
+		assertTrue(matcher.matches(""));
+		assertTrue(matcher.matches("anything"));
+	}
+
+	@Test
+	void matches_noPatterns() {
+
+		// prepare
+		StringPatternMatcher matcher = new StringPatternMatcher(List.of(), false);
+
+		// assert
+		assertTrue(matcher.isEmpty());
+		assertFalse(matcher.matches("anything"));
+	}
+
+	@Test
+	void matches_sameAsStringPattern() {
+
+		// prepare: random patterns and inputs over a small alphabet
+		Random random = new Random(42);
+		for (int n = 0; n < 200; n++) {
+
+			List<String> patterns = new ArrayList<>();
+			for (int i = 0; i < 1 + random.nextInt(20); i++) {
+				patterns.add(randomText(random, "ab*", 6));
+			}
+			StringPatternMatcher matcher = new StringPatternMatcher(patterns, false);
+
+			for (int i = 0; i < 50; i++) {
+				String text = randomText(random, "abc", 8);
+
+				// test
+				boolean result = matcher.matches(text);
+
+				// assert
+				boolean expected = patterns.stream().anyMatch(p -> new StringPattern(p, false).matches(text));
+				assertEquals(expected, result, patterns + " : " + text);
+			}
+		}
+	}
+
+	private static String randomText(Random random, String alphabet, int maxLength) {
+		int length = random.nextInt(maxLength + 1);
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return text.toString();
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 Stephan Markwalder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jarhc.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class SymbolTableTest {
+
+	@Test
+	void intern() {
+
+		// prepare
+		SymbolTable symbolTable = new SymbolTable();
+		String value1 = new String("toString");
+		String value2 = new String("toString");
+		assertNotSame(value1, value2);
+
+		// test
+		String symbol1 = symbolTable.intern(value1);
+		String symbol2 = symbolTable.intern(value2);
+
+		// assert
+		assertSame(value1, symbol1);
+		assertSame(value1, symbol2);
+		assertEquals(1, symbolTable.size());
+
+	}
+
+	@Test
+	void intern_null() {
+
+		// prepare
+		SymbolTable symbolTable = new SymbolTable();
+
+		// test
+		String symbol = symbolTable.intern((String) null);
+
+		// assert
+		assertNull(symbol);
+		assertEquals(0, symbolTable.size());
+
+	}
+
+	@Test
+	void intern_array() {
+
+		// prepare
+		SymbolTable symbolTable = new SymbolTable();
+		String value = symbolTable.intern("java.base");
+		String[] values = new String[] { new String("java.base"), new String("java.sql") };
+
+		// test
+		String[] symbols = symbolTable.intern(values);
+
+		// assert
+		assertSame(values, symbols);
+		assertArrayEquals(new String[] { "java.base", "java.sql" }, symbols);
+		assertSame(value, symbols[0]);
+		assertEquals(2, symbolTable.size());
+
+	}
+
+}
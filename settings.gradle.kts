@@ -19,3 +19,4 @@ rootProject.name = "jarhc"
 include("jarhc")
 include("jarhc-release-tests")
 include("jarhc-docs-tasks")
+include("jarhc-benchmarks")